@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * An adaptive window of the append requests which may be in flight to a member, in the spirit of
+ * TCP Vegas. The window is sized from the measured round-trip times of the append requests:
+ *
+ * <ul>
+ *   <li>the minimum round-trip time is the time to replicate a request without any queueing, i.e.
+ *       the network round trip plus the time of the member to flush the entries to disk
+ *   <li>the difference between the smoothed and the minimum round-trip time is the time a request
+ *       spent queued, e.g. in the network or behind other requests to flush on the member
+ * </ul>
+ *
+ * From these, the window estimates how many of its requests are queued. If fewer than {@link
+ * #MIN_QUEUED_REQUESTS} are queued, the member can take more requests and the window grows by one
+ * request per round trip; if more than {@link #MAX_QUEUED_REQUESTS} are queued, the window shrinks
+ * by one request per round trip. A failed request halves the window. Starting from one request, the
+ * window grows by one request per acknowledged request until requests start to queue. Besides the
+ * number of requests, the size of their entries in flight is bounded, such that the window may hold
+ * many small requests, but only a few large ones.
+ *
+ * <p>Heartbeats carry no entries and are not flushed by the member, so their round-trip time is
+ * the network round trip alone. The difference to the minimum round-trip time of the append
+ * requests is the flush latency of the member. As the member can't flush requests faster than
+ * that, the requests are paced to be sent at most once per flush latency, or evenly spread over a
+ * round trip if that is longer.
+ *
+ * <p>A member whose requests queue, e.g. because of a slow disk, thus keeps a small window, while a
+ * far member whose requests don't queue grows its window to keep enough requests in flight to
+ * cover its round trip. The window is not thread safe.
+ */
+final class AppendWindow {
+
+  static final double MIN_QUEUED_REQUESTS = 1;
+  static final double MAX_QUEUED_REQUESTS = 3;
+  // the minimum round-trip time is renewed periodically, to adapt to changes of the network
+  static final long MIN_RTT_EXPIRY_MS = 10_000;
+  private static final double SMOOTHING_FACTOR = 0.125;
+
+  private final int maxWindow;
+  private final long maxInFlightBytes;
+
+  private double window;
+  private boolean slowStart;
+  private long minRtt;
+  private long minRttTimestamp;
+  private double smoothedRtt;
+  private double smoothedHeartbeatRtt;
+
+  /**
+   * @param maxWindow the maximum number of append requests which may be in flight to the member
+   * @param maxInFlightBytes the maximum size of the entries of the append requests which may be in
+   *     flight to the member
+   */
+  AppendWindow(final int maxWindow, final long maxInFlightBytes) {
+    if (maxWindow < 1) {
+      throw new IllegalArgumentException(
+          "Expected the maximum append window to be at least 1, but was " + maxWindow);
+    }
+    if (maxInFlightBytes < 1) {
+      throw new IllegalArgumentException(
+          "Expected the maximum bytes in flight to be at least 1, but was " + maxInFlightBytes);
+    }
+
+    this.maxWindow = maxWindow;
+    this.maxInFlightBytes = maxInFlightBytes;
+    window = 1;
+    slowStart = true;
+    minRtt = Long.MAX_VALUE;
+  }
+
+  /**
+   * Returns whether another append request may be sent.
+   *
+   * @param inFlightRequests the number of append requests which are in flight
+   * @param inFlightBytes the size of the entries of the append requests which are in flight
+   * @param lastRequestTime the time in milliseconds at which the last request was sent
+   * @param now the current time in milliseconds
+   * @return {@code true} if neither the window nor its bytes are full, and the last request was
+   *     sent at least one {@link #getPacingInterval() pacing interval} ago
+   */
+  boolean canAppend(
+      final int inFlightRequests,
+      final long inFlightBytes,
+      final long lastRequestTime,
+      final long now) {
+    return inFlightRequests < size()
+        && inFlightBytes < maxInFlightBytes
+        && now - getPacingInterval() >= lastRequestTime;
+  }
+
+  /**
+   * Adjusts the window to the round-trip time of an acknowledged append request.
+   *
+   * @param rtt the round-trip time of the request in milliseconds
+   * @param inFlightRequests the number of requests which are still in flight
+   * @param now the current time in milliseconds
+   */
+  void onAppendAcknowledged(final long rtt, final int inFlightRequests, final long now) {
+    // round-trip times below the resolution of the clock are counted as one millisecond
+    final long sample = Math.max(rtt, 1);
+    if (sample <= minRtt || now - minRttTimestamp >= MIN_RTT_EXPIRY_MS) {
+      minRtt = sample;
+      minRttTimestamp = now;
+    }
+    smoothedRtt = smooth(smoothedRtt, sample);
+
+    final double queuedRequests = window * (1 - minRtt / smoothedRtt);
+    // only grow the window if it is used, otherwise its size tells nothing about the member
+    final boolean windowUsed = inFlightRequests + 1 >= size();
+    if (slowStart) {
+      if (queuedRequests > MIN_QUEUED_REQUESTS) {
+        slowStart = false;
+      } else if (windowUsed) {
+        window++;
+      }
+    } else if (queuedRequests < MIN_QUEUED_REQUESTS) {
+      if (windowUsed) {
+        window += 1 / window;
+      }
+    } else if (queuedRequests > MAX_QUEUED_REQUESTS) {
+      window -= 1 / window;
+    }
+
+    window = Math.max(1, Math.min(maxWindow, window));
+  }
+
+  /**
+   * Measures the network round-trip time to the member from an acknowledged heartbeat.
+   *
+   * @param rtt the round-trip time of the heartbeat in milliseconds
+   */
+  void onHeartbeatAcknowledged(final long rtt) {
+    smoothedHeartbeatRtt = smooth(smoothedHeartbeatRtt, Math.max(rtt, 1));
+  }
+
+  /** Halves the window after an append request failed, e.g. because it timed out. */
+  void onAppendFailed() {
+    slowStart = false;
+    window = Math.max(1, window / 2);
+  }
+
+  /**
+   * @return the number of append requests which may be in flight
+   */
+  int size() {
+    return (int) window;
+  }
+
+  /**
+   * @return the smoothed round-trip time of the append requests in milliseconds, or 0 if none was
+   *     measured yet
+   */
+  long getSmoothedRtt() {
+    return Math.round(smoothedRtt);
+  }
+
+  /**
+   * @return the estimated time of the member to flush the entries of an append request in
+   *     milliseconds, or 0 if it can't be estimated yet
+   */
+  long getFlushLatency() {
+    if (minRtt == Long.MAX_VALUE || smoothedHeartbeatRtt == 0) {
+      return 0;
+    }
+    return Math.max(0, Math.round(minRtt - smoothedHeartbeatRtt));
+  }
+
+  /**
+   * @return the minimum time in milliseconds between two append requests
+   */
+  long getPacingInterval() {
+    return Math.max(getFlushLatency(), Math.round(smoothedRtt / size()));
+  }
+
+  private static double smooth(final double smoothed, final long sample) {
+    return smoothed == 0 ? sample : smoothed + SMOOTHING_FACTOR * (sample - smoothed);
+  }
+}
@@ -25,16 +25,17 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
 /** Cluster member state. */
 public final class RaftMemberContext {
 
-  private static final int APPEND_WINDOW_SIZE = 8;
+  // the window may hold more requests than maxAppendsPerFollower if they are smaller than a full
+  // batch, as their entries are bounded to the bytes of maxAppendsPerFollower full batches
+  private static final int MAX_APPEND_WINDOW = 64;
+
   private final DefaultRaftMember member;
-  private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
   private long term;
   private long configIndex;
   private long snapshotIndex;
@@ -44,10 +45,14 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
   private boolean appendSucceeded;
   private long appendTime;
+  private long caughtUpTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private int installEpoch;
+  private long installStartTime;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -57,12 +62,19 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAppendBatchSize) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    appendWindow =
+        new AppendWindow(
+            Math.max(maxAppendsPerMember, MAX_APPEND_WINDOW),
+            (long) maxAppendsPerMember * maxAppendBatchSize);
   }
 
-  /** Resets the member state. */
+  /**
+   * Resets the member state. The append window and the measured round-trip times are kept, as they
+   * describe the member and the network to it rather than the current term.
+   */
   public void resetState(final RaftLog log) {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
@@ -71,9 +83,12 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
-    timeStats.clear();
+    inFlightAppendBytes = 0;
+    caughtUpTime = System.currentTimeMillis();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    installEpoch++;
+    installStartTime = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -137,9 +152,11 @@ public final class RaftMemberContext {
   public boolean canAppend() {
     return inFlightAppendCount == 0
         || (appendSucceeded
-            && inFlightAppendCount < maxAppendsPerMember
-            && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                >= appendTime);
+            && appendWindow.canAppend(
+                inFlightAppendCount,
+                inFlightAppendBytes,
+                appendTime,
+                System.currentTimeMillis()));
   }
 
   /**
@@ -170,25 +187,97 @@ public final class RaftMemberContext {
     appendSucceeded(false);
   }
 
-  /** Starts an append request to the member. */
-  public void startAppend() {
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes the size of the entries of the request, which is 0 for a heartbeat
+   */
+  public void startAppend(final int bytes) {
     inFlightAppendCount++;
+    inFlightAppendBytes += bytes;
     appendTime = System.currentTimeMillis();
   }
 
-  /** Completes an append request to the member. */
-  public void completeAppend() {
+  /**
+   * Completes an append request to the member, which was answered by the member. The time of the
+   * request adjusts the window of the append requests which may be in flight.
+   *
+   * @param bytes the size of the entries of the request, which is 0 for a heartbeat
+   * @param time The time in milliseconds for the append.
+   */
+  public void completeAppend(final int bytes, final long time) {
     inFlightAppendCount--;
+    inFlightAppendBytes -= bytes;
+    if (bytes > 0) {
+      appendWindow.onAppendAcknowledged(time, inFlightAppendCount, System.currentTimeMillis());
+    } else {
+      appendWindow.onHeartbeatAcknowledged(time);
+    }
   }
 
   /**
-   * Completes an append request to the member.
+   * Completes an append request to the member, which was not answered, e.g. because it timed out.
+   * This shrinks the window of the append requests which may be in flight.
    *
-   * @param time The time in milliseconds for the append.
+   * @param bytes the size of the entries of the request, which is 0 for a heartbeat
    */
-  public void completeAppend(final long time) {
+  public void abortAppend(final int bytes) {
     inFlightAppendCount--;
-    timeStats.addValue(time);
+    inFlightAppendBytes -= bytes;
+    if (bytes > 0) {
+      appendWindow.onAppendFailed();
+    }
+  }
+
+  /**
+   * Returns the number of append requests which may currently be in flight to the member.
+   *
+   * @return the size of the append window
+   */
+  public int getAppendWindowSize() {
+    return appendWindow.size();
+  }
+
+  /**
+   * Returns the size of the entries of the append requests which are in flight to the member.
+   *
+   * @return the bytes in flight
+   */
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
+  }
+
+  /**
+   * Returns the smoothed round-trip time of the append requests to the member.
+   *
+   * @return the round-trip time in milliseconds
+   */
+  public long getAppendRoundTripTime() {
+    return appendWindow.getSmoothedRtt();
+  }
+
+  /**
+   * Returns the estimated time of the member to flush the entries of an append request.
+   *
+   * @return the flush latency in milliseconds
+   */
+  public long getFlushLatency() {
+    return appendWindow.getFlushLatency();
+  }
+
+  /**
+   * Updates and returns the time for which the member has been lagging behind the leader, i.e. the
+   * time since the member was last known to have all entries of the leader's log.
+   *
+   * @param lastIndex the index of the last entry of the leader's log
+   * @return the replication lag in milliseconds, or 0 if the member has all entries
+   */
+  public long updateReplicationLag(final long lastIndex) {
+    final long now = System.currentTimeMillis();
+    if (matchIndex >= lastIndex) {
+      caughtUpTime = now;
+    }
+    return now - caughtUpTime;
   }
 
   /**
@@ -213,20 +302,55 @@ public final class RaftMemberContext {
   /**
    * Returns a boolean indicating whether an install request can be sent to the member.
    *
+   * @param maxInFlightInstalls the maximum number of install requests which may be in flight
    * @return Indicates whether an install request can be sent to the member.
    */
-  public boolean canInstall() {
-    return !installing;
+  public boolean canInstall(final int maxInFlightInstalls) {
+    return inFlightInstallCount < maxInFlightInstalls;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount = Math.max(0, inFlightInstallCount - 1);
+  }
+
+  /**
+   * Returns the epoch of the snapshot installation to the member. The epoch changes whenever the
+   * installation is restarted or resumed from an earlier chunk, so that responses to install
+   * requests which were still in flight at that time can be ignored.
+   *
+   * @return the current install epoch
+   */
+  public int getInstallEpoch() {
+    return installEpoch;
+  }
+
+  /** Starts a new install epoch, invalidating all install requests which are in flight. */
+  public void incrementInstallEpoch() {
+    installEpoch++;
+  }
+
+  /**
+   * Returns the time at which the installation of the current snapshot to the member started.
+   *
+   * @return the start time in milliseconds
+   */
+  public long getInstallStartTime() {
+    return installStartTime;
+  }
+
+  /**
+   * Sets the time at which the installation of the current snapshot to the member started.
+   *
+   * @param installStartTime the start time in milliseconds
+   */
+  public void setInstallStartTime(final long installStartTime) {
+    this.installStartTime = installStartTime;
   }
 
   /**
@@ -259,10 +383,12 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingBytes", inFlightAppendBytes)
+        .add("appendWindow", appendWindow.size())
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
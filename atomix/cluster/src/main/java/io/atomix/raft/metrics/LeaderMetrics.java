@@ -54,6 +54,23 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Counter SNAPSHOT_INSTALL_DATA_RATE =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("snapshot_install_data_rate")
+          .help("The count of snapshot data installed on a follower in KiB")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Histogram SNAPSHOT_INSTALL_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("snapshot_install_duration")
+          .help("Time it takes to install a snapshot on a follower, in seconds")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(0.1, 0.5, 1, 5, 10, 30, 60, 120, 300, 600, 1200)
+          .register();
+
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +105,18 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeSnapshotChunkInstalled(final String memberId, final int chunkBytes) {
+    SNAPSHOT_INSTALL_DATA_RATE
+        .labels(memberId, partitionGroupName, partition)
+        .inc(chunkBytes / 1024f);
+  }
+
+  public void observeSnapshotInstalled(final String memberId, final long durationMs) {
+    SNAPSHOT_INSTALL_DURATION
+        .labels(memberId, partitionGroupName, partition)
+        .observe(durationMs / 1000f);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
@@ -19,6 +19,8 @@ import io.prometheus.client.Gauge;
 
 public class RaftReplicationMetrics extends RaftMetrics {
 
+  private static final String FOLLOWER_LABEL = "follower";
+
   private static final Gauge COMMIT_INDEX =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -35,6 +37,46 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Gauge FOLLOWER_APPEND_WINDOW =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The number of append requests which may be in flight to a follower")
+          .name("partition_raft_follower_append_window")
+          .register();
+
+  private static final Gauge FOLLOWER_APPEND_BYTES_IN_FLIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The size of the entries of the append requests in flight to a follower in bytes")
+          .name("partition_raft_follower_append_bytes_in_flight")
+          .register();
+
+  private static final Gauge FOLLOWER_APPEND_ROUND_TRIP_TIME =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The smoothed round-trip time of the append requests to a follower in ms")
+          .name("partition_raft_follower_append_rtt")
+          .register();
+
+  private static final Gauge FOLLOWER_FLUSH_LATENCY =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The estimated time of a follower to flush the entries of an append in ms")
+          .name("partition_raft_follower_flush_latency")
+          .register();
+
+  private static final Gauge FOLLOWER_REPLICATION_LAG =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The time since a follower was last known to have all entries of the leader in ms")
+          .name("partition_raft_follower_replication_lag")
+          .register();
+
   private final Gauge.Child commitIndex;
   private final Gauge.Child appendIndex;
 
@@ -52,4 +94,24 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     appendIndex.set(value);
   }
+
+  public void observeFollowerAppendWindow(
+      final String memberId,
+      final int windowSize,
+      final long bytesInFlight,
+      final long roundTripTime,
+      final long flushLatency) {
+    FOLLOWER_APPEND_WINDOW.labels(memberId, partitionGroupName, partition).set(windowSize);
+    FOLLOWER_APPEND_BYTES_IN_FLIGHT
+        .labels(memberId, partitionGroupName, partition)
+        .set(bytesInFlight);
+    FOLLOWER_APPEND_ROUND_TRIP_TIME
+        .labels(memberId, partitionGroupName, partition)
+        .set(roundTripTime);
+    FOLLOWER_FLUSH_LATENCY.labels(memberId, partitionGroupName, partition).set(flushLatency);
+  }
+
+  public void observeFollowerReplicationLag(final String memberId, final long lagMs) {
+    FOLLOWER_REPLICATION_LAG.labels(memberId, partitionGroupName, partition).set(lagMs);
+  }
 }
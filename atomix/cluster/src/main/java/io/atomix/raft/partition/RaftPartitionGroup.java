@@ -394,6 +394,35 @@ public final class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum size of a snapshot chunk, which is sent per install request. Snapshot files
+     * which are bigger are split into multiple chunks. By default, each chunk contains a whole
+     * file.
+     *
+     * @param maxSnapshotChunkSize the maximum snapshot chunk size in bytes
+     * @return this builder for chaining
+     */
+    public Builder withMaxSnapshotChunkSize(final int maxSnapshotChunkSize) {
+      checkArgument(maxSnapshotChunkSize > 0, "maxSnapshotChunkSize must be positive");
+      config.getPartitionConfig().setMaxSnapshotChunkSize(maxSnapshotChunkSize);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of snapshot chunks which the leader sends to a follower without
+     * waiting for their responses. By default, the leader waits for the response to a chunk before
+     * sending the next one.
+     *
+     * @param maxSnapshotChunksInFlight the maximum number of install requests in flight per
+     *     follower
+     * @return this builder for chaining
+     */
+    public Builder withMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+      checkArgument(maxSnapshotChunksInFlight > 0, "maxSnapshotChunksInFlight must be positive");
+      config.getPartitionConfig().setMaxSnapshotChunksInFlight(maxSnapshotChunksInFlight);
+      return this;
+    }
+
     /**
      * Sets whether segment files are pre-allocated at creation. If true, segment files are
      * pre-allocated to the maximum segment size (see {@link #withSegmentSize(long)}) at creation
@@ -25,6 +25,7 @@ import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
@@ -63,11 +64,13 @@ final class LeaderAppender {
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
 
   private final int maxBatchSizePerAppend;
+  private final int maxSnapshotChunkSize;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
 
   private final LeaderMetrics metrics;
+  private final RaftReplicationMetrics replicationMetrics;
   private final long leaderTime;
   private final long leaderIndex;
   private final long electionTimeout;
@@ -83,7 +86,9 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
+    replicationMetrics = raft.getReplicationMetrics();
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
+    maxSnapshotChunkSize = raft.getMaxSnapshotChunkSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -203,7 +208,8 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final int requestBytes = getEntriesSize(request);
+    member.startAppend(requestBytes);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -216,11 +222,12 @@ final class LeaderAppender {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-                if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
+                if (error == null) {
+                  member.completeAppend(requestBytes, appendLatency);
                 } else {
-                  member.completeAppend();
+                  member.abortAppend(requestBytes);
                 }
+                observeAppendWindow(member);
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
@@ -228,6 +235,8 @@ final class LeaderAppender {
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
+                // heartbeats and timeouts update the lag too, as the match index may not change
+                observeReplicationLag(member);
               }
             },
             raft.getThreadContext());
@@ -237,6 +246,23 @@ final class LeaderAppender {
     }
   }
 
+  private int getEntriesSize(final VersionedAppendRequest request) {
+    int size = 0;
+    for (final ReplicatableJournalRecord entry : request.entries()) {
+      size += entry.approximateSize();
+    }
+    return size;
+  }
+
+  private void observeAppendWindow(final RaftMemberContext member) {
+    replicationMetrics.observeFollowerAppendWindow(
+        member.getMember().memberId().id(),
+        member.getAppendWindowSize(),
+        member.getInFlightAppendBytes(),
+        member.getAppendRoundTripTime(),
+        member.getFlushLatency());
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -264,6 +290,12 @@ final class LeaderAppender {
         member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
   }
 
+  private void observeReplicationLag(final RaftMemberContext member) {
+    replicationMetrics.observeFollowerReplicationLag(
+        member.getMember().memberId().id(),
+        member.updateReplicationLag(raft.getLog().getLastIndex()));
+  }
+
   /** Resets the next index when a response fails. */
   private void resetNextIndex(final RaftMemberContext member, final AppendResponse response) {
     final long nextIndex = response.lastLogIndex() + 1;
@@ -364,6 +396,7 @@ final class LeaderAppender {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        snapshotChunkReader.setMaximumChunkSize(maxSnapshotChunkSize);
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -374,6 +407,9 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunk(null);
+      member.setInstallStartTime(System.currentTimeMillis());
+      // responses to chunks of a previously installed snapshot are not relevant anymore
+      member.incrementInstallEpoch();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -382,6 +418,7 @@ final class LeaderAppender {
     }
 
     try {
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
@@ -396,11 +433,14 @@ final class LeaderAppender {
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
+      // several chunks may be in flight, so the next chunk is tracked when sending, not when
+      // receiving the response
+      member.setNextSnapshotChunk(request.nextChunkId());
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
       log.warn(
@@ -420,6 +460,7 @@ final class LeaderAppender {
     member.startInstall();
 
     final long timestamp = System.currentTimeMillis();
+    final int installEpoch = member.getInstallEpoch();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -430,7 +471,14 @@ final class LeaderAppender {
                 // Complete the install to the member.
                 member.completeInstall();
 
-                if (error == null) {
+                if (installEpoch != member.getInstallEpoch()) {
+                  // the installation was restarted or resumed from an earlier chunk after this
+                  // request was sent, so it will be sent again if necessary
+                  log.trace(
+                      "Ignoring response to {} from {}, as the snapshot installation was restarted",
+                      request,
+                      member.getMember().memberId());
+                } else if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
                 } else {
@@ -445,10 +493,23 @@ final class LeaderAppender {
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunk(null);
+    final var reader = member.getSnapshotChunkReader();
+    if (reader != null && member.getNextSnapshotIndex() == request.index()) {
+      // Resend the failed chunk once a connection to the member is re-established, such that the
+      // snapshot can be resumed instead of being sent again from the start. The member ignores the
+      // chunk if it was received before the request failed, and responds with an error if it
+      // dropped its pending snapshot in the meantime, in which case we start over.
+      reader.seek(request.chunkId());
+      member.setNextSnapshotChunk(request.isInitial() ? null : request.chunkId());
+    } else {
+      // Reset the member's snapshot index and offset to resend the snapshot from the start
+      // once a connection to the member is re-established.
+      member.setNextSnapshotIndex(0);
+      member.setNextSnapshotChunk(null);
+    }
+
+    // the chunks sent after the failed one are sent again, so their responses can be ignored
+    member.incrementInstallEpoch();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -460,18 +521,19 @@ final class LeaderAppender {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    final String memberId = member.getMember().memberId().id();
+    metrics.observeSnapshotChunkInstalled(memberId, request.data().remaining());
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
+      metrics.observeSnapshotInstalled(
+          memberId, System.currentTimeMillis() - member.getInstallStartTime());
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunk(request.nextChunkId());
-    }
 
     // Recursively append entries to the member.
     appendEntries(member);
@@ -491,6 +553,7 @@ final class LeaderAppender {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
+    member.incrementInstallEpoch();
   }
 
   /**
@@ -644,9 +707,7 @@ final class LeaderAppender {
       member.appendSucceeded();
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), getEntriesSize(request));
 
       commitEntries();
 
@@ -813,7 +874,7 @@ final class LeaderAppender {
 
   private void tryToReplicate(final RaftMemberContext member) {
     if (shouldReplicateSnapshot(member)) {
-      if (!member.canInstall()) {
+      if (!member.canInstall(raft.getMaxSnapshotChunksInFlight())) {
         return;
       }
       replicateSnapshot(member);
@@ -849,8 +910,17 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // send chunks until the window of in-flight install requests is full, to not wait for a round
+    // trip per chunk on high latency links
+    final int maxSnapshotChunksInFlight = raft.getMaxSnapshotChunksInFlight();
+    do {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+
+      sendInstallRequest(member, installRequest.get());
+    } while (member.canInstall(maxSnapshotChunksInFlight));
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -46,16 +46,28 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /** Passive state. */
 public class PassiveRole extends InactiveRole {
 
+  // the maximum number of snapshot chunks which are kept if they are received out of order
+  private static final int MAX_BUFFERED_SNAPSHOT_CHUNKS = 64;
+
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
+  // the chunks of the pending snapshot which were already applied, and the chunks which were
+  // received before their preceding chunks, keyed by their chunk ID
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
+  private final Map<ByteBuffer, BufferedSnapshotChunk> bufferedSnapshotChunks = new HashMap<>();
 
   public PassiveRole(final RaftContext context) {
     super(context);
@@ -193,21 +205,67 @@ public class PassiveRole extends InactiveRole {
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
       // listeners in advance so that they can close all consumers of the log.
       raft.notifySnapshotReplicationStarted();
-    } else {
-      // fail the request if this is not the expected next chunk
-      if (!isExpectedChunk(request.chunkId())) {
-        abortPendingSnapshots();
-        return CompletableFuture.completedFuture(
-            logResponse(
-                InstallResponse.builder()
-                    .withStatus(RaftResponse.Status.ERROR)
-                    .withError(
-                        RaftError.Type.ILLEGAL_MEMBER_STATE,
-                        "Snapshot chunk is received out of order")
-                    .build()));
+    } else if (receivedSnapshotChunkIds.contains(request.chunkId())) {
+      // the leader resends chunks if it didn't receive the response to them; as the chunk was
+      // already applied, this is a no-op, which allows to resume the snapshot replication
+      return CompletableFuture.completedFuture(
+          logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    } else if (!isExpectedChunk(request.chunkId())) {
+      // the leader may send multiple chunks at once, which may be received out of order; keep
+      // them until the preceding chunks are applied, and respond once they are applied as well
+      return bufferOutOfOrderChunk(request, snapshotChunk);
+    }
+
+    final var response = applySnapshotChunk(request, snapshotChunk);
+    applyBufferedSnapshotChunks();
+    return CompletableFuture.completedFuture(logResponse(response));
+  }
+
+  private CompletableFuture<InstallResponse> bufferOutOfOrderChunk(
+      final InstallRequest request, final SnapshotChunkImpl snapshotChunk) {
+    if (bufferedSnapshotChunks.size() >= MAX_BUFFERED_SNAPSHOT_CHUNKS) {
+      abortPendingSnapshots();
+      return CompletableFuture.completedFuture(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(RaftResponse.Status.ERROR)
+                  .withError(
+                      RaftError.Type.ILLEGAL_MEMBER_STATE,
+                      "Snapshot chunk is received out of order")
+                  .build()));
+    }
+
+    final var bufferedChunk =
+        new BufferedSnapshotChunk(request, snapshotChunk, new CompletableFuture<>());
+    final var previous = bufferedSnapshotChunks.put(request.chunkId(), bufferedChunk);
+    if (previous != null) {
+      // the chunk was sent again, so only the latest request needs a response
+      previous.response().complete(bufferedResponse(previous.request(), Status.OK));
+    }
+
+    log.trace("Buffered out of order snapshot chunk {}", request.chunkId());
+    return bufferedChunk.response();
+  }
+
+  /** Applies the buffered chunks which are now in order, and responds to their requests. */
+  private void applyBufferedSnapshotChunks() {
+    while (pendingSnapshot != null && nextPendingSnapshotChunkId != null) {
+      final var bufferedChunk = bufferedSnapshotChunks.remove(nextPendingSnapshotChunkId);
+      if (bufferedChunk == null) {
+        return;
       }
+
+      final var response = applySnapshotChunk(bufferedChunk.request(), bufferedChunk.chunk());
+      bufferedChunk.response().complete(logResponse(response));
     }
+  }
 
+  /**
+   * Applies the given chunk, which must be the next expected chunk of the pending snapshot, and
+   * commits the snapshot if it is the last one.
+   */
+  private InstallResponse applySnapshotChunk(
+      final InstallRequest request, final SnapshotChunkImpl snapshotChunk) {
     try {
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
@@ -218,13 +276,10 @@ public class PassiveRole extends InactiveRole {
           e);
 
       abortPendingSnapshots();
-      return CompletableFuture.completedFuture(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(RaftResponse.Status.ERROR)
-                  .withError(
-                      RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot chunk")
-                  .build()));
+      return InstallResponse.builder()
+          .withStatus(RaftResponse.Status.ERROR)
+          .withError(RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot chunk")
+          .build();
     }
 
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
@@ -242,26 +297,52 @@ public class PassiveRole extends InactiveRole {
       } catch (final Exception e) {
         log.error("Failed to commit pending snapshot {}, rolling back", pendingSnapshot, e);
         abortPendingSnapshots();
-        return CompletableFuture.completedFuture(
-            logResponse(
-                InstallResponse.builder()
-                    .withStatus(RaftResponse.Status.ERROR)
-                    .withError(
-                        RaftError.Type.APPLICATION_ERROR, "Failed to commit pending snapshot")
-                    .build()));
+        return InstallResponse.builder()
+            .withStatus(RaftResponse.Status.ERROR)
+            .withError(RaftError.Type.APPLICATION_ERROR, "Failed to commit pending snapshot")
+            .build();
       }
 
       pendingSnapshot = null;
+      setNextExpected(null);
+      clearReceivedSnapshotChunks(Status.OK);
       pendingSnapshotStartTimestamp = 0L;
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       onSnapshotReceiveCompletedOrAborted();
     } else {
       setNextExpected(request.nextChunkId());
+      receivedSnapshotChunkIds.add(request.chunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    return InstallResponse.builder().withStatus(RaftResponse.Status.OK).build();
+  }
+
+  private InstallResponse bufferedResponse(final InstallRequest request, final Status status) {
+    if (status == Status.OK) {
+      return logResponse(InstallResponse.builder().withStatus(Status.OK).build());
+    }
+
+    return logResponse(
+        InstallResponse.builder()
+            .withStatus(Status.ERROR)
+            .withError(
+                RaftError.Type.ILLEGAL_MEMBER_STATE,
+                "Snapshot chunk %s was dropped, as the pending snapshot was rolled back"
+                    .formatted(request.chunkId()))
+            .build());
+  }
+
+  /**
+   * Forgets which chunks were received, and responds to the requests of chunks which were buffered
+   * but never applied with the given status.
+   */
+  private void clearReceivedSnapshotChunks(final Status status) {
+    receivedSnapshotChunkIds.clear();
+    final var bufferedChunks = List.copyOf(bufferedSnapshotChunks.values());
+    bufferedSnapshotChunks.clear();
+    bufferedChunks.forEach(
+        chunk -> chunk.response().complete(bufferedResponse(chunk.request(), status)));
   }
 
   @Override
@@ -359,6 +440,7 @@ public class PassiveRole extends InactiveRole {
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
+      clearReceivedSnapshotChunks(Status.ERROR);
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -748,4 +830,9 @@ public class PassiveRole extends InactiveRole {
         snapshotIndex + 1);
     raftLog.reset(snapshotIndex + 1);
   }
+
+  private record BufferedSnapshotChunk(
+      InstallRequest request,
+      SnapshotChunkImpl chunk,
+      CompletableFuture<InstallResponse> response) {}
 }
@@ -86,6 +86,28 @@ public class RaftReplicationTest {
         .isEqualTo(200);
   }
 
+  @Test
+  public void shouldReplicateSnapshotWithMultipleChunksInFlight() throws Exception {
+    // given
+    final var leader = raftRule.getLeader().orElseThrow();
+    final var follower = raftRule.getFollower().orElseThrow();
+    leader.getContext().setMaxSnapshotChunksInFlight(4);
+
+    raftRule.appendEntries(50);
+
+    // when
+    raftRule.partition(follower);
+    final var lastCommitIndex = raftRule.appendEntries(200);
+    raftRule.takeCompactingSnapshot(leader, 200, 10);
+
+    raftRule.reconnect(follower);
+
+    // then - follower received snapshot
+    raftRule.awaitSameLogSizeOnAllNodes(lastCommitIndex);
+    assertThat(follower.getContext().getPersistedSnapshotStore().getCurrentSnapshotIndex())
+        .isEqualTo(200);
+  }
+
   @Test
   public void shouldReplicateSnapshotIfMemberLagAboveThreshold() throws Exception {
     // given
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  private static final int MAX_WINDOW = 4;
+  private static final long MAX_BYTES = 1024;
+  private static final long NOW = 1_000_000;
+
+  private final AppendWindow window = new AppendWindow(MAX_WINDOW, MAX_BYTES);
+
+  @Test
+  void shouldStartWithSingleRequest() {
+    // then
+    assertThat(window.size()).isOne();
+    assertThat(window.canAppend(0, 0, 0, NOW)).isTrue();
+    assertThat(window.canAppend(1, 0, 0, NOW)).isFalse();
+  }
+
+  @Test
+  void shouldGrowWindowUpToMaximumIfRequestsDoNotQueue() {
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onAppendAcknowledged(10, window.size() - 1, NOW);
+    }
+
+    // then
+    assertThat(window.size()).isEqualTo(MAX_WINDOW);
+  }
+
+  @Test
+  void shouldNotGrowWindowIfNotUsed() {
+    // given
+    window.onAppendAcknowledged(10, 0, NOW);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onAppendAcknowledged(10, 0, NOW);
+    }
+
+    // then
+    assertThat(window.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldShrinkWindowIfRequestsQueue() {
+    // given
+    for (int i = 0; i < 10; i++) {
+      window.onAppendAcknowledged(10, window.size() - 1, NOW);
+    }
+
+    // when - the member takes ten times longer, e.g. because of a slow disk
+    for (int i = 0; i < 100; i++) {
+      window.onAppendAcknowledged(100, window.size() - 1, NOW);
+    }
+
+    // then
+    assertThat(window.size()).isLessThan(MAX_WINDOW).isPositive();
+  }
+
+  @Test
+  void shouldHalveWindowOnFailure() {
+    // given
+    for (int i = 0; i < 10; i++) {
+      window.onAppendAcknowledged(10, window.size() - 1, NOW);
+    }
+
+    // when - then
+    window.onAppendFailed();
+    assertThat(window.size()).isEqualTo(MAX_WINDOW / 2);
+    window.onAppendFailed();
+    window.onAppendFailed();
+    assertThat(window.size()).isOne();
+  }
+
+  @Test
+  void shouldPaceRequestsByFlushLatency() {
+    // given - a network round trip of 2ms, and a flush latency of 8ms
+    window.onHeartbeatAcknowledged(2);
+    window.onAppendAcknowledged(10, 0, NOW);
+
+    // when - then
+    assertThat(window.getFlushLatency()).isEqualTo(8);
+    assertThat(window.getPacingInterval()).isEqualTo(8);
+    assertThat(window.canAppend(0, 0, NOW - 7, NOW)).isFalse();
+    assertThat(window.canAppend(0, 0, NOW - 8, NOW)).isTrue();
+  }
+
+  @Test
+  void shouldNotExceedMaximumBytesInFlight() {
+    // given
+    for (int i = 0; i < 10; i++) {
+      window.onAppendAcknowledged(10, window.size() - 1, NOW);
+    }
+
+    // when - then
+    assertThat(window.canAppend(1, MAX_BYTES - 1, 0, NOW)).isTrue();
+    assertThat(window.canAppend(1, MAX_BYTES, 0, NOW)).isFalse();
+  }
+
+  @Test
+  void shouldRejectMaximumWindowBelowOne() {
+    // when - then
+    assertThatThrownBy(() -> new AppendWindow(0, MAX_BYTES))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectMaximumBytesInFlightBelowOne() {
+    // when - then
+    assertThatThrownBy(() -> new AppendWindow(MAX_WINDOW, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
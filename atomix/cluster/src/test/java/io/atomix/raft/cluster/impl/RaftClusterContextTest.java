@@ -381,6 +381,8 @@ final class RaftClusterContextTest {
     final var metaStore = mock(MetaStore.class, withSettings().stubOnly());
     when(metaStore.loadConfiguration()).thenReturn(configuration);
     when(raft.getMetaStore()).thenReturn(metaStore);
+    when(raft.getMaxAppendsPerFollower()).thenReturn(2);
+    when(raft.getMaxAppendBatchSize()).thenReturn(32 * 1024);
     return raft;
   }
 }
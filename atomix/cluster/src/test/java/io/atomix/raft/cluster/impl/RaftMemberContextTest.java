@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.storage.log.RaftLog;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private static final int MAX_APPENDS = 2;
+  private static final int MAX_BATCH_SIZE = 1024;
+
+  private final RaftMemberContext context =
+      new RaftMemberContext(
+          new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now()),
+          mock(RaftClusterContext.class),
+          MAX_APPENDS,
+          MAX_BATCH_SIZE);
+
+  @Test
+  void shouldGrowAppendWindowBeyondMaxAppendsForSmallRequests() {
+    // when
+    fillAppendWindow(5);
+
+    // then
+    assertThat(context.getAppendWindowSize()).isGreaterThan(MAX_APPENDS);
+  }
+
+  @Test
+  void shouldKeepAppendWindowOnReset() {
+    // given
+    fillAppendWindow(5);
+    final var windowSize = context.getAppendWindowSize();
+    final var roundTripTime = context.getAppendRoundTripTime();
+
+    // when
+    context.resetState(mock(RaftLog.class));
+
+    // then
+    assertThat(context.getAppendWindowSize()).isEqualTo(windowSize).isGreaterThan(1);
+    assertThat(context.getAppendRoundTripTime()).isEqualTo(roundTripTime);
+    assertThat(context.getInFlightAppendBytes()).isZero();
+  }
+
+  private void fillAppendWindow(final int rounds) {
+    for (int round = 0; round < rounds; round++) {
+      final var requests = context.getAppendWindowSize();
+      for (int i = 0; i < requests; i++) {
+        context.startAppend(10);
+      }
+      for (int i = 0; i < requests; i++) {
+        context.completeAppend(10, 5);
+      }
+    }
+  }
+}
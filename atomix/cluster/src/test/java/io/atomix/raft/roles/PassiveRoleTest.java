@@ -24,22 +24,32 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -54,6 +64,7 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivableSnapshotStore store;
 
   @Before
   public void setup() throws IOException {
@@ -67,7 +78,7 @@ public class PassiveRoleTest {
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -237,4 +248,118 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldApplySnapshotChunksReceivedOutOfOrder() {
+    // given
+    final var appliedChunks = mockReceivedSnapshot();
+    role.onInstall(installRequest(0, 4)).join();
+
+    // when
+    final var thirdChunk = role.onInstall(installRequest(2, 4));
+    final var secondChunk = role.onInstall(installRequest(1, 4));
+
+    // then
+    assertThat(secondChunk.join().status()).isEqualTo(Status.OK);
+    assertThat(thirdChunk.join().status()).isEqualTo(Status.OK);
+    assertThat(appliedChunks).containsExactly("chunk-0", "chunk-1", "chunk-2");
+  }
+
+  @Test
+  public void shouldNotRespondToBufferedChunkBeforeItIsApplied() {
+    // given
+    final var appliedChunks = mockReceivedSnapshot();
+    role.onInstall(installRequest(0, 4)).join();
+
+    // when
+    final var thirdChunk = role.onInstall(installRequest(2, 4));
+
+    // then
+    assertThat(thirdChunk).isNotDone();
+    assertThat(appliedChunks).containsExactly("chunk-0");
+  }
+
+  @Test
+  public void shouldAcknowledgeResentChunkWithoutApplyingItAgain() {
+    // given
+    final var appliedChunks = mockReceivedSnapshot();
+    role.onInstall(installRequest(0, 4)).join();
+    role.onInstall(installRequest(1, 4)).join();
+
+    // when
+    final var response = role.onInstall(installRequest(0, 4)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(appliedChunks).containsExactly("chunk-0", "chunk-1");
+  }
+
+  private List<String> mockReceivedSnapshot() {
+    final List<String> appliedChunks = new ArrayList<>();
+    final var receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(10L);
+    when(receivedSnapshot.apply(any()))
+        .thenAnswer(
+            invocation -> {
+              appliedChunks.add(invocation.<SnapshotChunk>getArgument(0).getChunkName());
+              return CompletableActorFuture.completed(null);
+            });
+    when(store.newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
+    when(ctx.getLeader()).thenReturn(mock(DefaultRaftMember.class));
+    return appliedChunks;
+  }
+
+  private InstallRequest installRequest(final int chunk, final int totalCount) {
+    final var isLast = chunk == totalCount - 1;
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.anonymous())
+        .withIndex(10)
+        .withTerm(1)
+        .withVersion(1)
+        .withChunkId(chunkId(chunk))
+        .withNextChunkId(isLast ? null : chunkId(chunk + 1))
+        .withData(new SnapshotChunkImpl(snapshotChunk(chunk, totalCount)).toByteBuffer())
+        .withComplete(isLast)
+        .withInitial(chunk == 0)
+        .build();
+  }
+
+  private ByteBuffer chunkId(final int chunk) {
+    return ByteBuffer.wrap(("chunk-" + chunk).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private SnapshotChunk snapshotChunk(final int chunk, final int totalCount) {
+    return new SnapshotChunk() {
+      @Override
+      public String getSnapshotId() {
+        return "10-1-10-10";
+      }
+
+      @Override
+      public int getTotalCount() {
+        return totalCount;
+      }
+
+      @Override
+      public String getChunkName() {
+        return "chunk-" + chunk;
+      }
+
+      @Override
+      public long getChecksum() {
+        return chunk;
+      }
+
+      @Override
+      public byte[] getContent() {
+        return new byte[] {(byte) chunk};
+      }
+
+      @Override
+      public long getSnapshotChecksum() {
+        return 1;
+      }
+    };
+  }
 }
@@ -10,17 +10,26 @@ package io.camunda.zeebe.backup.s3;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Semaphore;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
@@ -32,6 +41,8 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 /** Can save and restore {@link NamedFileSet NamedFileSets}. */
 final class FileSetManager {
@@ -40,6 +51,8 @@ final class FileSetManager {
   private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
   private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
   private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
+  private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+  private static final String COMPRESSION_METADATA_KEY = "compression";
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
@@ -65,40 +78,182 @@ final class FileSetManager {
         .thenApply(FileSet::new);
   }
 
+  /**
+   * Saves the files as content objects, i.e. under the hash of their content in the given prefix.
+   * Files for which a content object already exists are not uploaded again. Instead, the returned
+   * {@link FileSet} references the existing object.
+   */
+  CompletableFuture<FileSet> saveContents(final String contentPrefix, final NamedFileSet files) {
+    LOG.debug(
+        "Saving {} files as content objects to prefix {}", files.files().size(), contentPrefix);
+    return CompletableFutureUtils.mapAsync(
+            files.namedFiles().entrySet(),
+            Entry::getKey,
+            namedFile -> saveContentFile(contentPrefix, namedFile.getKey(), namedFile.getValue()))
+        .thenApply(FileSet::new);
+  }
+
   private CompletableFuture<FileSet.FileMetadata> saveFile(
       final String prefix, final String fileName, final Path filePath) {
-
-    if (shouldCompressFile(filePath)) {
-      final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
-          .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
-    }
-
     return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
         .thenCompose(
             (nothing) -> {
               LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
-              return client
-                  .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                      AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
+              return putObject(prefix + fileName, filePath);
             })
+        .thenApply(
+            compression ->
+                compression.map(FileMetadata::withCompression).orElseGet(FileMetadata::none))
+        .whenComplete((success, error) -> uploadLimit.release());
+  }
+
+  private CompletableFuture<FileSet.FileMetadata> saveContentFile(
+      final String contentPrefix, final String fileName, final Path filePath) {
+    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
+        .thenApply((nothing) -> hashFile(filePath))
+        .thenCompose(
+            contentHash ->
+                findContentObject(contentPrefix, contentHash)
+                    .thenCompose(
+                        existing ->
+                            existing.isPresent()
+                                ? refreshContentObject(contentPrefix, existing.get())
+                                : CompletableFuture.completedFuture(existing))
+                    .thenCompose(
+                        reused -> {
+                          if (reused.isPresent()) {
+                            LOG.trace(
+                                "Skipping file {}({}), content object {} already exists",
+                                fileName,
+                                filePath,
+                                contentHash);
+                            return CompletableFuture.completedFuture(reused.get());
+                          }
+
+                          LOG.trace(
+                              "Saving file {}({}) as content object {} in prefix {}",
+                              fileName,
+                              filePath,
+                              contentHash,
+                              contentPrefix);
+                          return putObject(contentPrefix + contentHash, filePath)
+                              .thenApply(
+                                  compression ->
+                                      FileMetadata.withContentHash(contentHash, compression));
+                        }))
         .whenComplete((success, error) -> uploadLimit.release());
   }
 
+  /**
+   * Copies the content object onto itself to renew its last modified time. Deleting another backup
+   * only deletes unreferenced content objects which were not modified recently, so this keeps the
+   * object while the manifest of this backup doesn't reference it yet.
+   *
+   * @return the metadata of the content object, or nothing if it was deleted in the meantime
+   */
+  private CompletableFuture<Optional<FileMetadata>> refreshContentObject(
+      final String contentPrefix, final FileMetadata metadata) {
+    final var key = contentPrefix + metadata.contentHash().orElseThrow();
+    return client
+        .copyObject(
+            req ->
+                req.sourceBucket(config.bucketName())
+                    .sourceKey(key)
+                    .destinationBucket(config.bucketName())
+                    .destinationKey(key)
+                    // an object is only copied onto itself if its metadata is replaced
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .metadata(
+                        metadata
+                            .compressionAlgorithm()
+                            .map(algorithm -> Map.of(COMPRESSION_METADATA_KEY, algorithm))
+                            .orElseGet(Map::of)))
+        .thenApply(response -> Optional.of(metadata))
+        .exceptionally(
+            throwable -> {
+              // throwable is a `CompletionException`, `getCause` to handle the underlying exception
+              if (throwable.getCause() instanceof NoSuchKeyException) {
+                LOG.debug("Content object {} was deleted before it could be reused", key);
+                return Optional.empty();
+              }
+              throw throwable instanceof final CompletionException e
+                  ? e
+                  : new CompletionException(throwable);
+            });
+  }
+
+  /**
+   * Uploads the file to the given key, compressing it if configured.
+   *
+   * @return the algorithm with which the uploaded object is compressed, if any
+   */
+  private CompletableFuture<Optional<String>> putObject(final String key, final Path filePath) {
+    if (shouldCompressFile(filePath)) {
+      final var algorithm = config.compressionAlgorithm().orElseThrow();
+      final var compressedFile = compressFile(filePath, algorithm);
+      LOG.trace("Saving compressed file {}({}) as {}", filePath, compressedFile, key);
+      return client
+          .putObject(
+              put ->
+                  put.bucket(config.bucketName())
+                      .key(key)
+                      .metadata(Map.of(COMPRESSION_METADATA_KEY, algorithm)),
+              AsyncRequestBody.fromFile(compressedFile))
+          .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
+          .thenApply(unused -> Optional.of(algorithm));
+    }
+
+    return client
+        .putObject(
+            put -> put.bucket(config.bucketName()).key(key), AsyncRequestBody.fromFile(filePath))
+        .thenApply(unused -> Optional.empty());
+  }
+
+  /**
+   * Looks up the content object with the given hash. The compression of the object is read from
+   * its metadata, as it depends on the configuration of the backup that uploaded it.
+   */
+  private CompletableFuture<Optional<FileMetadata>> findContentObject(
+      final String contentPrefix, final String contentHash) {
+    return client
+        .headObject(req -> req.bucket(config.bucketName()).key(contentPrefix + contentHash))
+        .thenApply(
+            response ->
+                Optional.of(
+                    FileMetadata.withContentHash(
+                        contentHash,
+                        Optional.ofNullable(response.metadata().get(COMPRESSION_METADATA_KEY)))))
+        .exceptionally(
+            throwable -> {
+              // throwable is a `CompletionException`, `getCause` to handle the underlying exception
+              if (throwable.getCause() instanceof NoSuchKeyException) {
+                return Optional.empty();
+              }
+              throw new BackupReadException(
+                  "Failed to look up content object %s in prefix %s"
+                      .formatted(contentHash, contentPrefix),
+                  throwable);
+            });
+  }
+
+  private String hashFile(final Path filePath) {
+    try (final var input = new DigestInputStream(Files.newInputStream(filePath), newDigest())) {
+      input.transferTo(OutputStream.nullOutputStream());
+      return HexFormat.of().formatHex(input.getMessageDigest().digest());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Failed to hash the content of file %s".formatted(filePath), e);
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   private void cleanupCompressedFile(final Path compressedFile) {
     try {
       Files.delete(compressedFile);
@@ -143,8 +298,15 @@ final class FileSetManager {
     }
   }
 
+  /**
+   * Restores the files to the target folder. Files that are stored as content objects are read from
+   * the content prefix, all other files from the source prefix.
+   */
   CompletableFuture<NamedFileSet> restore(
-      final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
+      final String sourcePrefix,
+      final String contentPrefix,
+      final FileSet fileSet,
+      final Path targetFolder) {
     LOG.debug(
         "Restoring {} files from prefix {} to {}",
         fileSet.files().size(),
@@ -154,28 +316,32 @@ final class FileSetManager {
             fileSet.files().entrySet(),
             Entry::getKey,
             namedFile ->
-                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue()))
+                restoreFile(
+                    sourcePrefix,
+                    contentPrefix,
+                    targetFolder,
+                    namedFile.getKey(),
+                    namedFile.getValue()))
         .thenApply(NamedFileSetImpl::new);
   }
 
   private CompletableFuture<Path> restoreFile(
       final String sourcePrefix,
+      final String contentPrefix,
       final Path targetFolder,
       final String fileName,
       final FileMetadata metadata) {
+    final var key =
+        metadata.contentHash().map(hash -> contentPrefix + hash).orElse(sourcePrefix + fileName);
     final var compressionAlgorithm = metadata.compressionAlgorithm();
     if (compressionAlgorithm.isPresent()) {
       final var decompressed = targetFolder.resolve(fileName);
-      LOG.trace(
-          "Restoring compressed file {} from prefix {} to {}",
-          fileName,
-          sourcePrefix,
-          targetFolder);
+      LOG.trace("Restoring compressed file {} from {} to {}", fileName, key, targetFolder);
       try {
         final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
         return client
             .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
+                req -> req.bucket(config.bucketName()).key(key),
                 AsyncResponseTransformer.toFile(
                     compressed,
                     cfg ->
@@ -189,10 +355,10 @@ final class FileSetManager {
       }
     }
 
-    LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
+    LOG.trace("Restoring file {} from {} to {}", fileName, key, targetFolder);
     final var path = targetFolder.resolve(fileName);
     return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
+        .getObject(req -> req.bucket(config.bucketName()).key(key), path)
         .thenApply(response -> path);
   }
 
@@ -32,6 +32,16 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
  * @param maxConcurrentConnections Maximum number of connections allowed in a connection pool.
  * @param connectionAcquisitionTimeout Timeout for acquiring an already-established connection from
  *     a connection pool to a remote service.
+ * @param incremental When enabled, backup contents are stored under their content hash and shared
+ *     between the backups of a partition. Files that were already saved by a previous backup are
+ *     not uploaded again.
+ * @param contentGracePeriod With incremental backups, deleting a backup only deletes unreferenced
+ *     content objects which were last modified this period before the deletion started. It keeps
+ *     the objects which a starting backup reuses, but doesn't reference in its manifest yet, and
+ *     covers the clock skew to the S3 server.
+ * @param inProgressTimeout With incremental backups, no content objects are deleted while a backup
+ *     of the partition is in progress. Backups which are in progress for longer than this are
+ *     considered abandoned, and no longer keep content objects from being deleted.
  * @see <a
  *     href=https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/region-selection.html#automatically-determine-the-aws-region-from-the-environment>
  *     Automatically determine the Region from the environment</a>
@@ -50,7 +60,10 @@ public record S3BackupConfig(
     Optional<String> compressionAlgorithm,
     Optional<String> basePath,
     Integer maxConcurrentConnections,
-    Duration connectionAcquisitionTimeout) {
+    Duration connectionAcquisitionTimeout,
+    boolean incremental,
+    Duration contentGracePeriod,
+    Duration inProgressTimeout) {
 
   public S3BackupConfig {
     if (bucketName == null || bucketName.isEmpty()) {
@@ -114,6 +127,10 @@ public record S3BackupConfig(
     /** Default from `SdkHttpConfigurationOption.DEFAULT_CONNECTION_ACQUIRE_TIMEOUT` */
     private Duration connectionAcquisitionTimeout = Duration.ofSeconds(45);
 
+    private boolean incremental = false;
+    private Duration contentGracePeriod = Duration.ofMinutes(5);
+    private Duration inProgressTimeout = Duration.ofHours(24);
+
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
       return this;
@@ -164,6 +181,21 @@ public record S3BackupConfig(
       return this;
     }
 
+    public Builder withIncrementalBackups(final boolean incremental) {
+      this.incremental = incremental;
+      return this;
+    }
+
+    public Builder withContentGracePeriod(final Duration contentGracePeriod) {
+      this.contentGracePeriod = contentGracePeriod;
+      return this;
+    }
+
+    public Builder withInProgressTimeout(final Duration inProgressTimeout) {
+      this.inProgressTimeout = inProgressTimeout;
+      return this;
+    }
+
     public S3BackupConfig build() {
       return new S3BackupConfig(
           bucketName,
@@ -175,7 +207,10 @@ public record S3BackupConfig(
           Optional.ofNullable(compressionAlgorithm),
           Optional.ofNullable(basePath),
           maxConcurrentConnections,
-          connectionAcquisitionTimeout);
+          connectionAcquisitionTimeout,
+          incremental,
+          contentGracePeriod,
+          inProgressTimeout);
     }
   }
 }
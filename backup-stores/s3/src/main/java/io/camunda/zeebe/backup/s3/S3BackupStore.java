@@ -18,12 +18,16 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
+import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
+import io.camunda.zeebe.backup.s3.manifest.InProgressBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.ValidBackupManifest;
@@ -31,6 +35,8 @@ import io.camunda.zeebe.backup.s3.util.AsyncAggregatingSubscriber;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +44,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,15 +78,28 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  *   <li>Objects for segment files, additionally prefixed with 'segments', for example
  *       <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
  * </ol>
+ *
+ * <p>With {@link S3BackupConfig#incremental() incremental backups}, snapshot and segment files are
+ * instead stored as content objects which are named after the hash of their content and shared by
+ * all backups of a partition, for example
+ *
+ * <pre>contents/partitionId/content-hash</pre>
+ *
+ * The manifest references the content object of each file. A file is only uploaded if no content
+ * object with the same hash exists yet. Deleting a backup deletes all content objects of the
+ * partition that are no longer referenced by the manifest of any other backup.
  */
 public final class S3BackupStore implements BackupStore {
   static final ObjectMapper MAPPER =
       new ObjectMapper().registerModule(new Jdk8Module()).registerModule(new JavaTimeModule());
   static final String SNAPSHOT_PREFIX = "snapshot/";
   static final String SEGMENTS_PREFIX = "segments/";
+  static final String CONTENTS_PREFIX = "contents/";
   static final String MANIFEST_OBJECT_KEY = "manifest.json";
   private static final Logger LOG = LoggerFactory.getLogger(S3BackupStore.class);
   private static final int SCAN_PARALLELISM = 16;
+  // the maximum number of objects that can be deleted with a single request
+  private static final int DELETE_BATCH_SIZE = 1000;
   private final Pattern backupIdentifierPattern;
   private final S3BackupConfig config;
   private final S3AsyncClient client;
@@ -143,6 +163,14 @@ public final class S3BackupStore implements BackupStore {
     return "%s/%s/%s/".formatted(id.partitionId(), id.checkpointId(), id.nodeId());
   }
 
+  public String contentPrefix(final int partitionId) {
+    final var base = config.basePath();
+    if (base.isPresent()) {
+      return "%s/%s%s/".formatted(base.get(), CONTENTS_PREFIX, partitionId);
+    }
+    return "%s%s/".formatted(CONTENTS_PREFIX, partitionId);
+  }
+
   public static void validateConfig(final S3BackupConfig config) {
     if (config.bucketName() == null || config.bucketName().isEmpty()) {
       throw new IllegalArgumentException(
@@ -225,22 +253,31 @@ public final class S3BackupStore implements BackupStore {
               }
             })
         .thenComposeAsync(this::listBackupObjects)
-        .thenComposeAsync(this::deleteBackupObjects);
+        .thenComposeAsync(this::deleteBackupObjects)
+        .thenComposeAsync(ignored -> deleteUnreferencedContentObjects(id.partitionId()));
   }
 
   @Override
   public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
     LOG.info("Restoring {} to {}", id, targetFolder);
     final var backupPrefix = objectPrefix(id);
+    final var contentPrefix = contentPrefix(id.partitionId());
     return readManifestObject(id)
         .thenApply(Manifest::expectCompleted)
         .thenComposeAsync(
             manifest ->
                 fileSetManager
-                    .restore(backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
+                    .restore(
+                        backupPrefix + SEGMENTS_PREFIX,
+                        contentPrefix,
+                        manifest.segmentFiles(),
+                        targetFolder)
                     .thenCombineAsync(
                         fileSetManager.restore(
-                            backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder),
+                            backupPrefix + SNAPSHOT_PREFIX,
+                            contentPrefix,
+                            manifest.snapshotFiles(),
+                            targetFolder),
                         (segments, snapshot) ->
                             new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
   }
@@ -294,6 +331,129 @@ public final class S3BackupStore implements BackupStore {
             });
   }
 
+  /**
+   * Deletes all content objects of the partition which are not referenced by the manifest of any
+   * backup, and which were last modified a {@link S3BackupConfig#contentGracePeriod() grace period}
+   * before the deletion started. A backup renews the last modified time of the content objects that
+   * it reuses, so objects which are reused by a backup that starts during the deletion are kept.
+   *
+   * <p>As long as a backup of the partition is in progress, no content objects are deleted, because
+   * its manifest doesn't reference the content objects that it reuses yet, and it may renew them
+   * only after they were listed. Backups which are in progress for longer than the {@link
+   * S3BackupConfig#inProgressTimeout() timeout} are considered abandoned, and don't block the
+   * deletion anymore. The manifests are read after listing the content objects, such that a backup
+   * which renews an object after it was listed is found in progress.
+   *
+   * <p>The backup itself is already deleted at this point. Failing to delete the unreferenced
+   * content objects only leaves them in the bucket until the next backup of the partition is
+   * deleted, so it doesn't fail the deletion.
+   */
+  private CompletableFuture<Void> deleteUnreferencedContentObjects(final int partitionId) {
+    final var contentPrefix = contentPrefix(partitionId);
+    final var sweepStart = Instant.now();
+    final var modifiedBefore = sweepStart.minus(config.contentGracePeriod());
+    return listContentObjects(contentPrefix)
+        .thenComposeAsync(
+            contentObjects -> {
+              if (contentObjects.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+              }
+
+              return readManifestObjects(
+                      new BackupIdentifierWildcardImpl(
+                          Optional.empty(), Optional.of(partitionId), Optional.empty()))
+                  .thenComposeAsync(
+                      manifests -> {
+                        if (isBackupInProgress(manifests, sweepStart)) {
+                          LOG.debug(
+                              "Skipping deletion of content objects of partition {}, a backup is"
+                                  + " in progress",
+                              partitionId);
+                          return CompletableFuture.completedFuture(null);
+                        }
+
+                        final var referencedHashes =
+                            manifests.stream()
+                                .flatMap(S3BackupStore::referencedContentHashes)
+                                .collect(Collectors.toSet());
+                        final var unreferenced =
+                            contentObjects.stream()
+                                .filter(object -> object.lastModified().isBefore(modifiedBefore))
+                                .map(S3Object::key)
+                                .filter(
+                                    key ->
+                                        !referencedHashes.contains(
+                                            key.substring(contentPrefix.length())))
+                                .map(key -> ObjectIdentifier.builder().key(key).build())
+                                .toList();
+                        return deleteObjectsInBatches(unreferenced);
+                      });
+            })
+        .exceptionally(
+            throwable -> {
+              LOG.warn(
+                  "Failed to delete unreferenced content objects of partition {}",
+                  partitionId,
+                  throwable);
+              return null;
+            });
+  }
+
+  private boolean isBackupInProgress(final Collection<Manifest> manifests, final Instant now) {
+    final var abandonedBefore = now.minus(config.inProgressTimeout());
+    for (final var manifest : manifests) {
+      if (manifest instanceof final InProgressBackupManifest inProgress) {
+        if (!inProgress.createdAt().isBefore(abandonedBefore)) {
+          return true;
+        }
+
+        LOG.debug(
+            "Ignoring {}, which is in progress since {} and considered abandoned",
+            inProgress.id(),
+            inProgress.createdAt());
+      }
+    }
+
+    return false;
+  }
+
+  private CompletableFuture<List<S3Object>> listContentObjects(final String contentPrefix) {
+    LOG.debug("Listing content objects in prefix {}", contentPrefix);
+    final var objects = new ArrayList<S3Object>();
+    return client
+        .listObjectsV2Paginator(req -> req.bucket(config.bucketName()).prefix(contentPrefix))
+        .contents()
+        .subscribe(objects::add)
+        .thenApply(ignored -> objects);
+  }
+
+  private CompletableFuture<Void> deleteObjectsInBatches(
+      final List<ObjectIdentifier> objectIdentifiers) {
+    final var batches =
+        IntStream.range(0, (objectIdentifiers.size() + DELETE_BATCH_SIZE - 1) / DELETE_BATCH_SIZE)
+            .mapToObj(
+                batch ->
+                    objectIdentifiers.subList(
+                        batch * DELETE_BATCH_SIZE,
+                        Math.min(objectIdentifiers.size(), (batch + 1) * DELETE_BATCH_SIZE)))
+            .map(this::deleteBackupObjects)
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(batches);
+  }
+
+  private static Stream<String> referencedContentHashes(final Manifest manifest) {
+    if (manifest instanceof final CompletedBackupManifest completed) {
+      return Stream.concat(
+          completed.snapshotFiles().contentHashes().stream(),
+          completed.segmentFiles().contentHashes().stream());
+    } else if (manifest instanceof final FailedBackupManifest failed) {
+      return Stream.concat(
+          failed.snapshotFiles().contentHashes().stream(),
+          failed.segmentFiles().contentHashes().stream());
+    }
+    return Stream.empty();
+  }
+
   private SdkPublisher<BackupIdentifier> findBackupIds(final BackupIdentifierWildcard wildcard) {
     final var prefix = wildcardPrefix(wildcard);
     LOG.debug("Using prefix {} to search for manifest files matching {}", prefix, wildcard);
@@ -383,12 +543,20 @@ public final class S3BackupStore implements BackupStore {
 
   private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
     LOG.debug("Saving snapshot files for {}", backup.id());
+    if (config.incremental()) {
+      return fileSetManager.saveContents(
+          contentPrefix(backup.id().partitionId()), backup.snapshot());
+    }
     final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
     return fileSetManager.save(prefix, backup.snapshot());
   }
 
   private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
     LOG.debug("Saving segment files for {}", backup.id());
+    if (config.incremental()) {
+      return fileSetManager.saveContents(
+          contentPrefix(backup.id().partitionId()), backup.segments());
+    }
     final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
     return fileSetManager.save(prefix, backup.segments());
   }
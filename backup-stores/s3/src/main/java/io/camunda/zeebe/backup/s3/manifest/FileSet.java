@@ -47,14 +47,35 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * Returns the content hashes of all files which are stored as shared content objects, see {@link
+   * FileMetadata#contentHash()}.
+   */
+  public Set<String> contentHashes() {
+    return files.values().stream()
+        .map(FileMetadata::contentHash)
+        .flatMap(Optional::stream)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @param compressionAlgorithm the algorithm with which the stored object is compressed, if any
+   * @param contentHash the hash of the file's content, if the file is stored as a content object
+   *     which may be shared with other backups instead of being stored as part of the backup
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(Optional<String> compressionAlgorithm, Optional<String> contentHash) {
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty());
+    }
+
+    public static FileMetadata withContentHash(
+        final String contentHash, final Optional<String> compressionAlgorithm) {
+      return new FileMetadata(compressionAlgorithm, Optional.of(contentHash));
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty());
     }
   }
 
@@ -0,0 +1,322 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
+import io.camunda.zeebe.backup.s3.manifest.InProgressBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.Manifest;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.RandomUtils;
+import org.assertj.core.api.InstanceOfAssertFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+@Testcontainers
+final class IncrementalBackupIT implements BackupStoreTestKit {
+  private static final String ACCESS_KEY = "letmein";
+  private static final String SECRET_KEY = "letmein1234";
+  private static final int DEFAULT_PORT = 9000;
+  private static final String BUCKET_NAME = RandomStringUtils.randomAlphabetic(10).toLowerCase();
+
+  @SuppressWarnings("resource")
+  @Container
+  private static final GenericContainer<?> S3 =
+      new GenericContainer<>(DockerImageName.parse("minio/minio"))
+          .withCommand("server /data")
+          .withExposedPorts(DEFAULT_PORT)
+          .withEnv("MINIO_ACCESS_KEY", ACCESS_KEY)
+          .withEnv("MINIO_SECRET_KEY", SECRET_KEY)
+          .withEnv("MINIO_DOMAIN", "localhost")
+          .waitingFor(
+              new HttpWaitStrategy()
+                  .forPath("/minio/health/ready")
+                  .forPort(DEFAULT_PORT)
+                  .withStartupTimeout(Duration.ofMinutes(1)));
+
+  private final TestBackupProvider backupProvider = new TestBackupProvider();
+  private final String basePath = RandomStringUtils.randomAlphabetic(10).toLowerCase();
+  private S3AsyncClient client;
+  private S3BackupStore store;
+
+  @BeforeAll
+  static void setupBucket() {
+    final var config =
+        new Builder()
+            .withBucketName(BUCKET_NAME)
+            .withEndpoint("http://%s:%d".formatted(S3.getHost(), S3.getMappedPort(DEFAULT_PORT)))
+            .withRegion(Region.US_EAST_1.id())
+            .withCredentials(ACCESS_KEY, SECRET_KEY)
+            .forcePathStyleAccess(true)
+            .build();
+    try (final var client = S3BackupStore.buildClient(config)) {
+      client.createBucket(CreateBucketRequest.builder().bucket(config.bucketName()).build()).join();
+    }
+  }
+
+  @BeforeEach
+  void setup() {
+    final var config = configBuilder().withContentGracePeriod(Duration.ZERO).build();
+    client = S3BackupStore.buildClient(config);
+    store = new S3BackupStore(config, client);
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync();
+  }
+
+  @Override
+  public S3BackupStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+    return BackupInInvalidStateException.class;
+  }
+
+  @Test
+  void shouldNotUploadUnchangedFilesAgain() throws IOException {
+    // given
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    store.save(backup).join();
+    final var contentObjects = listContentObjects(2);
+
+    // when
+    store.save(withCheckpoint(backup, 4)).join();
+
+    // then
+    assertThat(contentObjects).hasSize(4);
+    assertThat(listContentObjects(2)).isEqualTo(contentObjects);
+  }
+
+  @Test
+  void shouldOnlyUploadChangedFiles() throws IOException {
+    // given
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    store.save(backup).join();
+    final var contentObjects = listContentObjects(2);
+
+    // when
+    final var changedFile = backup.snapshot().namedFiles().get("snapshot-file-1");
+    Files.write(changedFile, RandomUtils.nextBytes(1024));
+    store.save(withCheckpoint(backup, 4)).join();
+
+    // then
+    assertThat(listContentObjects(2)).hasSize(5).containsAll(contentObjects);
+  }
+
+  @Test
+  void shouldRestoreBackupWithReusedFiles(@TempDir final Path target) throws IOException {
+    // given
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    final var nextBackup = withCheckpoint(backup, 4);
+    store.save(backup).join();
+    store.save(nextBackup).join();
+
+    // when
+    store.delete(backup.id()).join();
+    final var restored = store.restore(nextBackup.id(), target);
+
+    // then
+    assertThat(restored)
+        .succeedsWithin(Duration.ofSeconds(30))
+        .asInstanceOf(new InstanceOfAssertFactory<>(Backup.class, BackupAssert::assertThatBackup))
+        .hasSameContentsAs(nextBackup)
+        .residesInPath(target);
+  }
+
+  @Test
+  void shouldKeepContentObjectsReferencedByOtherBackup() throws IOException {
+    // given
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    store.save(backup).join();
+    final var contentObjects = listContentObjects(2);
+    final var changedFile = backup.snapshot().namedFiles().get("snapshot-file-1");
+    Files.write(changedFile, RandomUtils.nextBytes(1024));
+    store.save(withCheckpoint(backup, 4)).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    final var remainingContentObjects = listContentObjects(2);
+    assertThat(remainingContentObjects).hasSize(4);
+    assertThat(contentObjects).filteredOn(remainingContentObjects::contains).hasSize(3);
+  }
+
+  @Test
+  void shouldDeleteContentObjectsOfLastBackup() throws IOException {
+    // given
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    final var otherPartitionBackup =
+        backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 3, 3));
+    store.save(backup).join();
+    store.save(otherPartitionBackup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    assertThat(listContentObjects(2)).isEmpty();
+    assertThat(listContentObjects(3)).hasSize(4);
+  }
+
+  @Test
+  void shouldKeepRecentlyModifiedContentObjects() {
+    // given
+    final var gracePeriodStore =
+        new S3BackupStore(
+            configBuilder().withContentGracePeriod(Duration.ofMinutes(1)).build(), client);
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    gracePeriodStore.save(backup).join();
+    final var contentObjects = listContentObjects(2);
+
+    // when
+    gracePeriodStore.delete(backup.id()).join();
+
+    // then
+    assertThat(listContentObjects(2)).hasSize(4).isEqualTo(contentObjects);
+  }
+
+  @Test
+  void shouldKeepContentObjectsWhileBackupIsInProgress() throws IOException {
+    // given
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    putInProgressManifest(withCheckpoint(backup, 2), Instant.now().minus(Duration.ofMinutes(1)));
+    store.save(backup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    assertThat(listContentObjects(2)).hasSize(4);
+  }
+
+  @Test
+  void shouldIgnoreAbandonedBackupInProgress() throws IOException {
+    // given
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    putInProgressManifest(withCheckpoint(backup, 2), Instant.now().minus(Duration.ofDays(2)));
+    store.save(backup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    assertThat(listContentObjects(2)).isEmpty();
+  }
+
+  @Test
+  void shouldKeepContentObjectsReusedByConcurrentBackup(@TempDir final Path target)
+      throws IOException, InterruptedException {
+    // given - content objects which are older than the grace period
+    final var gracePeriodStore =
+        new S3BackupStore(
+            configBuilder().withContentGracePeriod(Duration.ofSeconds(2)).build(), client);
+    final var backup = backupProvider.simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    final var nextBackup = withCheckpoint(backup, 4);
+    gracePeriodStore.save(backup).join();
+    final var contentObjects = listContentObjects(2);
+    Thread.sleep(Duration.ofSeconds(3).toMillis());
+
+    // when
+    final var saved = gracePeriodStore.save(nextBackup);
+    final var deleted = gracePeriodStore.delete(backup.id());
+    CompletableFuture.allOf(saved, deleted).join();
+
+    // then
+    assertThat(listContentObjects(2)).isEqualTo(contentObjects);
+    assertThat(gracePeriodStore.restore(nextBackup.id(), target))
+        .succeedsWithin(Duration.ofSeconds(30))
+        .asInstanceOf(new InstanceOfAssertFactory<>(Backup.class, BackupAssert::assertThatBackup))
+        .hasSameContentsAs(nextBackup);
+  }
+
+  private void putInProgressManifest(final Backup backup, final Instant createdAt)
+      throws IOException {
+    final var manifest = Manifest.fromNewBackup(backup);
+    final var inProgress =
+        new InProgressBackupManifest(
+            manifest.id(),
+            manifest.descriptor(),
+            manifest.snapshotFiles(),
+            manifest.segmentFiles(),
+            createdAt,
+            createdAt);
+    client
+        .putObject(
+            req ->
+                req.bucket(BUCKET_NAME)
+                    .key(store.objectPrefix(backup.id()) + S3BackupStore.MANIFEST_OBJECT_KEY),
+            AsyncRequestBody.fromBytes(S3BackupStore.MAPPER.writeValueAsBytes(inProgress)))
+        .join();
+  }
+
+  private Builder configBuilder() {
+    return new Builder()
+        .withBucketName(BUCKET_NAME)
+        .withBasePath(basePath)
+        .withEndpoint("http://%s:%d".formatted(S3.getHost(), S3.getMappedPort(DEFAULT_PORT)))
+        .withRegion(Region.US_EAST_1.id())
+        .withCredentials(ACCESS_KEY, SECRET_KEY)
+        .forcePathStyleAccess(true)
+        .withIncrementalBackups(true);
+  }
+
+  private List<String> listContentObjects(final int partitionId) {
+    return client
+        .listObjectsV2(req -> req.bucket(BUCKET_NAME).prefix(store.contentPrefix(partitionId)))
+        .join()
+        .contents()
+        .stream()
+        .map(S3Object::key)
+        .sorted()
+        .toList();
+  }
+
+  private static Backup withCheckpoint(final Backup backup, final long checkpointId) {
+    final var id = backup.id();
+    return new BackupImpl(
+        new BackupIdentifierImpl(id.nodeId(), id.partitionId(), checkpointId),
+        backup.descriptor(),
+        new NamedFileSetImpl(new HashMap<>(backup.snapshot().namedFiles())),
+        new NamedFileSetImpl(new HashMap<>(backup.segments().namedFiles())));
+  }
+}
@@ -25,6 +25,7 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.ZEEBE_VERSION;
 import io.camunda.zeebe.model.bpmn.builder.ProcessBuilder;
 import io.camunda.zeebe.model.bpmn.impl.BpmnImpl;
 import io.camunda.zeebe.model.bpmn.impl.BpmnParser;
+import io.camunda.zeebe.model.bpmn.impl.NonValidatingBpmnParser;
 import io.camunda.zeebe.model.bpmn.impl.instance.ActivationConditionImpl;
 import io.camunda.zeebe.model.bpmn.impl.instance.ActivityImpl;
 import io.camunda.zeebe.model.bpmn.impl.instance.AdHocSubProcessImpl;
@@ -264,6 +265,9 @@ public class Bpmn {
   /** the parser used by the Bpmn implementation. */
   private final BpmnParser bpmnParser = new BpmnParser();
 
+  /** the parser used to read models which were already validated */
+  private final BpmnParser nonValidatingBpmnParser = new NonValidatingBpmnParser();
+
   private final ModelBuilder bpmnModelBuilder;
 
   /** The {@link Model} */
@@ -298,6 +302,19 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream} without validating it
+   * against the BPMN schema. This is considerably faster than {@link #readModelFromStream}, but must
+   * only be used for models which were validated before, e.g. when they were stored.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readModelFromStreamWithoutValidation(final InputStream stream) {
+    return INSTANCE.doReadModelFromInputStreamWithoutValidation(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -403,6 +420,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadModelFromInputStreamWithoutValidation(final InputStream is) {
+    return nonValidatingBpmnParser.parseModelFromStream(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.camunda.zeebe.model.bpmn.impl;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.camunda.bpm.model.xml.instance.DomDocument;
+
+/**
+ * A parser for BPMN files which were already validated, e.g. when they were deployed. It neither
+ * validates the document against the BPMN schema while parsing, nor the parsed model.
+ */
+public final class NonValidatingBpmnParser extends BpmnParser {
+
+  @Override
+  protected void configureFactory(final DocumentBuilderFactory dbf) {
+    super.configureFactory(dbf);
+    // the schema attributes of the factory only take effect on a validating factory
+    dbf.setValidating(false);
+  }
+
+  @Override
+  public void validateModel(final DomDocument document) {
+    // the model was validated before
+  }
+}
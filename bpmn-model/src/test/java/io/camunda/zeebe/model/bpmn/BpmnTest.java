@@ -20,9 +20,15 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXECUTION
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_EXPORTER;
 import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.MODELER_NS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.model.bpmn.instance.Definitions;
+import io.camunda.zeebe.model.bpmn.instance.SequenceFlow;
 import io.camunda.zeebe.model.bpmn.util.VersionUtil;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.camunda.bpm.model.xml.ModelException;
 import org.junit.Test;
 
 /**
@@ -46,4 +52,49 @@ public class BpmnTest {
     assertThat(definitions.getAttributeValueNs(MODELER_NS, "executionPlatformVersion"))
         .isEqualTo(VersionUtil.getVersion());
   }
+
+  @Test
+  public void shouldReadModelWithoutValidation() {
+    // given
+    final String xml =
+        Bpmn.convertToString(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .exclusiveGateway()
+                .sequenceFlowId("flow")
+                .conditionExpression("x > 1")
+                .endEvent()
+                .done());
+
+    // when
+    final BpmnModelInstance model = Bpmn.readModelFromStreamWithoutValidation(toStream(xml));
+
+    // then
+    final SequenceFlow flow = model.getModelElementById("flow");
+    assertThat(flow.getConditionExpression().getType()).isEqualTo("tFormalExpression");
+    assertThat(flow.getConditionExpression().getTextContent()).isEqualTo("=x > 1");
+    assertThat(Bpmn.convertToString(model))
+        .isEqualTo(Bpmn.convertToString(Bpmn.readModelFromStream(toStream(xml))));
+  }
+
+  @Test
+  public void shouldNotValidateSchemaWhenReadingModelWithoutValidation() {
+    // given - the target namespace of the definitions is required by the schema
+    final String xml =
+        "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" id=\"definitions\">"
+            + "<process id=\"process\" isExecutable=\"true\"/>"
+            + "</definitions>";
+
+    // when - then
+    assertThatThrownBy(() -> Bpmn.readModelFromStream(toStream(xml)))
+        .isInstanceOf(ModelException.class);
+    assertThat(
+            Bpmn.readModelFromStreamWithoutValidation(toStream(xml))
+                .getModelElementById("process"))
+        .isNotNull();
+  }
+
+  private static InputStream toStream(final String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
 }
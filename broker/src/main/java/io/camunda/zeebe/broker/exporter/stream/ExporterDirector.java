@@ -83,6 +83,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final Duration distributionInterval;
   private ExporterStateDistributionService exporterDistributionService;
   private final int partitionId;
+  private final int maxRecordsInBatch;
+  private final long maxBatchBytes;
 
   public ExporterDirector(final ExporterDirectorContext context, final boolean shouldPauseOnStart) {
     name = context.getName();
@@ -101,6 +103,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
+    maxRecordsInBatch = context.getMaxRecordsInBatch();
+    maxBatchBytes = context.getMaxBatchBytes();
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
@@ -382,19 +386,43 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     for (final ExporterContainer container : containers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
+  /**
+   * Reads and exports up to {@link #maxRecordsInBatch} records, or {@link #maxBatchBytes} bytes,
+   * within the current actor job. Only if a record can't be exported right away, the director falls
+   * back to exporting it with retries, and continues reading once it was exported.
+   */
   private void readNextEvent() {
-    if (shouldExport()) {
+    int recordsInBatch = 0;
+    long bytesInBatch = 0;
+
+    while (shouldExport()) {
       final LoggedEvent currentEvent = logStreamReader.next();
+      recordsInBatch++;
+      bytesInBatch += currentEvent.getLength();
+
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
         inExportingPhase = true;
-        exportEvent(currentEvent);
+        if (!tryExportEvent(currentEvent)) {
+          // the record is exported asynchronously with retries, which continues reading afterwards
+          return;
+        }
+        inExportingPhase = false;
       } else {
         skipRecord(currentEvent);
       }
+
+      if (recordsInBatch >= maxRecordsInBatch || bytesInBatch >= maxBatchBytes) {
+        break;
+      }
+    }
+
+    if (recordsInBatch > 0) {
+      metrics.batchExported(recordsInBatch);
+    }
+    if (shouldExport()) {
+      actor.submit(this::readNextEvent);
     }
   }
 
@@ -402,6 +430,23 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
   }
 
+  private boolean tryExportEvent(final LoggedEvent event) {
+    try {
+      recordExporter.wrap(event);
+    } catch (final RuntimeException e) {
+      exportEvent(event);
+      return false;
+    }
+
+    if (!recordExporter.export()) {
+      exportWrappedEvent(event);
+      return false;
+    }
+
+    metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+    return true;
+  }
+
   private void exportEvent(final LoggedEvent event) {
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
@@ -415,22 +460,25 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         wrapRetryFuture,
         (b, t) -> {
           assert t == null : "Throwable must be null";
+          exportWrappedEvent(event);
+        });
+  }
+
+  private void exportWrappedEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
 
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+            onFailure();
+          } else {
+            metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
         });
   }
 
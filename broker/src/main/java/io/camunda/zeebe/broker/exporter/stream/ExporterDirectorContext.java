@@ -17,6 +17,8 @@ import java.util.Collection;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_MAX_RECORDS_IN_BATCH = 1;
+  public static final long DEFAULT_MAX_BATCH_BYTES = 4 * 1024 * 1024;
 
   private int id;
   private String name;
@@ -26,6 +28,8 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private int maxRecordsInBatch = DEFAULT_MAX_RECORDS_IN_BATCH;
+  private long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
 
   public int getId() {
     return id;
@@ -59,6 +63,14 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public int getMaxRecordsInBatch() {
+    return maxRecordsInBatch;
+  }
+
+  public long getMaxBatchBytes() {
+    return maxBatchBytes;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -100,6 +112,24 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * @param maxRecordsInBatch the maximum number of records which are read and exported within a
+   *     single actor job, before the director yields to other jobs
+   */
+  public ExporterDirectorContext maxRecordsInBatch(final int maxRecordsInBatch) {
+    this.maxRecordsInBatch = maxRecordsInBatch;
+    return this;
+  }
+
+  /**
+   * @param maxBatchBytes the maximum accumulated size in bytes of the records which are read and
+   *     exported within a single actor job, before the director yields to other jobs
+   */
+  public ExporterDirectorContext maxBatchBytes(final long maxBatchBytes) {
+    this.maxBatchBytes = maxBatchBytes;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
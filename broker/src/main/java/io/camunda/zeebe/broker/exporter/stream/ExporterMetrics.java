@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public final class ExporterMetrics {
 
@@ -37,6 +38,15 @@ public final class ExporterMetrics {
           .labelNames("exporter", "partition")
           .register();
 
+  private static final Histogram EXPORTER_BATCH_RECORDS =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("exporter_batch_records")
+          .help("Number of records read by the exporter director within a single batch")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512)
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
@@ -55,6 +65,10 @@ public final class ExporterMetrics {
     event("skipped", valueType);
   }
 
+  public void batchExported(final int records) {
+    EXPORTER_BATCH_RECORDS.labels(partitionIdLabel).observe(records);
+  }
+
   public void setLastUpdatedExportedPosition(final String exporter, final long position) {
     LAST_UPDATED_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
@@ -78,7 +78,11 @@ public final class RaftPartitionGroupFactory {
             .withMinStepDownFailureCount(experimentalCfg.getRaft().getMinStepDownFailureCount())
             .withPreferSnapshotReplicationThreshold(
                 experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold())
-            .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles());
+            .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles())
+            .withMaxSnapshotChunkSize(
+                (int) experimentalCfg.getRaft().getMaxSnapshotChunkSize().toBytes())
+            .withMaxSnapshotChunksInFlight(
+                experimentalCfg.getRaft().getMaxSnapshotChunksInFlight());
 
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
 
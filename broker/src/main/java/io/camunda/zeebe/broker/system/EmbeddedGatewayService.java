@@ -39,7 +39,8 @@ public final class EmbeddedGatewayService implements AutoCloseable {
             clusterServices.getMessagingService(),
             clusterServices.getMembershipService(),
             clusterServices.getEventService(),
-            actorScheduler);
+            actorScheduler,
+            configuration.getGateway().getThreads().getRequestManagerShards());
     this.jobStreamClient = jobStreamClient;
     gateway =
         new Gateway(
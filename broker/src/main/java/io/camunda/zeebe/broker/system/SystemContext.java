@@ -42,6 +42,8 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String MAX_SNAPSHOT_CHUNK_SIZE_ERROR_MSG =
+      "Expected to have a snapshot chunk size maximum which is positive and not greater than '%d', but was '%s'.";
 
   private final BrokerCfg brokerCfg;
   private Map<String, String> diagnosticContext;
@@ -86,6 +88,13 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var maxSnapshotChunkSize = experimental.getRaft().getMaxSnapshotChunkSize();
+    if (maxSnapshotChunkSize.toBytes() <= 0 || maxSnapshotChunkSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(
+              MAX_SNAPSHOT_CHUNK_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxSnapshotChunkSize));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
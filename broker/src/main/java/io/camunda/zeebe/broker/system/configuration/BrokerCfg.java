@@ -30,6 +30,7 @@ public final class BrokerCfg {
   private EmbeddedGatewayCfg gateway = new EmbeddedGatewayCfg();
   private BackpressureCfg backpressure = new BackpressureCfg();
   private ProcessingCfg processingCfg = new ProcessingCfg();
+  private ExportingCfg exporting = new ExportingCfg();
 
   private ExperimentalCfg experimental = new ExperimentalCfg();
 
@@ -54,6 +55,7 @@ public final class BrokerCfg {
     gateway.init(this, brokerBase);
     backpressure.init(this, brokerBase);
     processingCfg.init(this, brokerBase);
+    exporting.init(this, brokerBase);
     experimental.init(this, brokerBase);
   }
 
@@ -137,6 +139,14 @@ public final class BrokerCfg {
     processingCfg = cfg;
   }
 
+  public ExportingCfg getExporting() {
+    return exporting;
+  }
+
+  public void setExporting(final ExportingCfg exporting) {
+    this.exporting = exporting;
+  }
+
   public ExperimentalCfg getExperimental() {
     return experimental;
   }
@@ -164,6 +174,8 @@ public final class BrokerCfg {
         + backpressure
         + ", processingCfg="
         + processingCfg
+        + ", exporting="
+        + exporting
         + ", experimental="
         + experimental
         + ", executionMetricsExporterEnabled="
@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import org.springframework.util.unit.DataSize;
+
+public final class ExportingCfg implements ConfigurationEntry {
+
+  private static final int DEFAULT_MAX_RECORDS_IN_BATCH = 1;
+  private static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofMegabytes(4);
+  private Integer maxRecordsInBatch = DEFAULT_MAX_RECORDS_IN_BATCH;
+  private DataSize maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxRecordsInBatch < 1) {
+      throw new IllegalArgumentException(
+          "maxRecordsInBatch must be >= 1 but was %s".formatted(maxRecordsInBatch));
+    }
+    if (maxBatchSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchSize must be >= 1 byte but was %s".formatted(maxBatchSize));
+    }
+  }
+
+  public int getMaxRecordsInBatch() {
+    return maxRecordsInBatch;
+  }
+
+  public void setMaxRecordsInBatch(final int maxRecordsInBatch) {
+    this.maxRecordsInBatch = maxRecordsInBatch;
+  }
+
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public String toString() {
+    return "ExportingCfg{"
+        + "maxRecordsInBatch="
+        + maxRecordsInBatch
+        + ", maxBatchSize="
+        + maxBatchSize
+        + '}';
+  }
+}
@@ -7,11 +7,22 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_GROUP_COMMIT_LIMIT = 1;
+  private static final DataSize DEFAULT_GROUP_COMMIT_SIZE = DataSize.ofMegabytes(4);
+  private static final Duration DEFAULT_GROUP_COMMIT_DELAY = Duration.ofMillis(10);
+  private static final int DEFAULT_MAX_PENDING_WRITES = 8 * 1024;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private Integer maxCommandsInGroupCommit = DEFAULT_GROUP_COMMIT_LIMIT;
+  private DataSize maxGroupCommitSize = DEFAULT_GROUP_COMMIT_SIZE;
+  private Duration maxGroupCommitDelay = DEFAULT_GROUP_COMMIT_DELAY;
+  private int maxPendingWrites = DEFAULT_MAX_PENDING_WRITES;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -19,6 +30,23 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxCommandsInGroupCommit < 1) {
+      throw new IllegalArgumentException(
+          "maxCommandsInGroupCommit must be >= 1 but was %s".formatted(maxCommandsInGroupCommit));
+    }
+    if (maxGroupCommitSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          "maxGroupCommitSize must be >= 1 byte but was %s".formatted(maxGroupCommitSize));
+    }
+    // the delay is measured in milliseconds, a shorter delay would silently disable group commit
+    if (maxGroupCommitDelay.toMillis() < 1) {
+      throw new IllegalArgumentException(
+          "maxGroupCommitDelay must be >= 1ms but was %s".formatted(maxGroupCommitDelay));
+    }
+    if (maxPendingWrites < 1) {
+      throw new IllegalArgumentException(
+          "maxPendingWrites must be >= 1 but was %s".formatted(maxPendingWrites));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -37,6 +65,42 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public int getMaxCommandsInGroupCommit() {
+    return maxCommandsInGroupCommit;
+  }
+
+  public void setMaxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    this.maxCommandsInGroupCommit = maxCommandsInGroupCommit;
+  }
+
+  public DataSize getMaxGroupCommitSize() {
+    return maxGroupCommitSize;
+  }
+
+  public void setMaxGroupCommitSize(final DataSize maxGroupCommitSize) {
+    this.maxGroupCommitSize = maxGroupCommitSize;
+  }
+
+  public Duration getMaxGroupCommitDelay() {
+    return maxGroupCommitDelay;
+  }
+
+  public void setMaxGroupCommitDelay(final Duration maxGroupCommitDelay) {
+    this.maxGroupCommitDelay = maxGroupCommitDelay;
+  }
+
+  /**
+   * @return the maximum number of entries which are written to the log stream, but not yet appended
+   *     to the log storage
+   */
+  public int getMaxPendingWrites() {
+    return maxPendingWrites;
+  }
+
+  public void setMaxPendingWrites(final int maxPendingWrites) {
+    this.maxPendingWrites = maxPendingWrites;
+  }
+
   @Override
   public String toString() {
     return "ProcessingCfg{"
@@ -44,6 +108,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", maxCommandsInGroupCommit="
+        + maxCommandsInGroupCommit
+        + ", maxGroupCommitSize="
+        + maxGroupCommitSize
+        + ", maxGroupCommitDelay="
+        + maxGroupCommitDelay
+        + ", maxPendingWrites="
+        + maxPendingWrites
         + '}';
   }
 }
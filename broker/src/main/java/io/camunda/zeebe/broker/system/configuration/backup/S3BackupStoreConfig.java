@@ -23,6 +23,7 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
   private Duration apiCallTimeout = Duration.ofSeconds(180);
   private boolean forcePathStyleAccess = false;
   private String compression;
+  private boolean incremental = false;
 
   private String basePath;
 
@@ -94,6 +95,14 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     }
   }
 
+  public boolean isIncremental() {
+    return incremental;
+  }
+
+  public void setIncremental(final boolean incremental) {
+    this.incremental = incremental;
+  }
+
   public void setBasePath(final String basePath) {
     this.basePath = basePath;
   }
@@ -111,7 +120,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
             .withApiCallTimeout(config.getApiCallTimeout())
             .forcePathStyleAccess(config.isForcePathStyleAccess())
             .withCompressionAlgorithm(config.getCompression())
-            .withBasePath(config.getBasePath());
+            .withBasePath(config.getBasePath())
+            .withIncrementalBackups(config.isIncremental());
     if (config.getAccessKey() != null && config.getSecretKey() != null) {
       builder.withCredentials(config.getAccessKey(), config.getSecretKey());
     }
@@ -128,6 +138,7 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     result = 31 * result + (apiCallTimeout != null ? apiCallTimeout.hashCode() : 0);
     result = 31 * result + (forcePathStyleAccess ? 1 : 0);
     result = 31 * result + (compression != null ? compression.hashCode() : 0);
+    result = 31 * result + (incremental ? 1 : 0);
     result = 31 * result + (basePath != null ? basePath.hashCode() : 0);
     return result;
   }
@@ -146,6 +157,9 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     if (forcePathStyleAccess != that.forcePathStyleAccess) {
       return false;
     }
+    if (incremental != that.incremental) {
+      return false;
+    }
     if (!Objects.equals(compression, that.compression)) {
       return false;
     }
@@ -194,6 +208,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
         + forcePathStyleAccess
         + ", compression="
         + compression
+        + ", incremental="
+        + incremental
         + ", basePath="
         + basePath
         + '}';
@@ -7,11 +7,21 @@
  */
 package io.camunda.zeebe.broker.system.configuration.engine;
 
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+  private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (processCacheCapacity < 1) {
+      throw new IllegalArgumentException(
+          "processCacheCapacity must be >= 1 but was %d".formatted(processCacheCapacity));
+    }
+  }
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -21,8 +31,21 @@ public final class CachesCfg implements ConfigurationEntry {
     this.drgCacheCapacity = drgCacheCapacity;
   }
 
+  public int getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public void setProcessCacheCapacity(final int processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+  }
+
   @Override
   public String toString() {
-    return "CachesCfg{" + "drgCacheCapacity=" + drgCacheCapacity + '}';
+    return "CachesCfg{"
+        + "drgCacheCapacity="
+        + drgCacheCapacity
+        + ", processCacheCapacity="
+        + processCacheCapacity
+        + '}';
   }
 }
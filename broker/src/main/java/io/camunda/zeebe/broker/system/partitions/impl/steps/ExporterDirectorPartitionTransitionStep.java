@@ -82,6 +82,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
       final PartitionTransitionContext context, final Role targetRole) {
     final Collection<ExporterDescriptor> exporterDescriptors = context.getExportedDescriptors();
 
+    final var exportingCfg = context.getBrokerCfg().getExporting();
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
     final ExporterDirectorContext exporterCtx =
@@ -92,7 +93,9 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .zeebeDb(context.getZeebeDb())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
-            .exporterMode(exporterMode);
+            .exporterMode(exporterMode)
+            .maxRecordsInBatch(exportingCfg.getMaxRecordsInBatch())
+            .maxBatchBytes(exportingCfg.getMaxBatchSize().toBytes());
 
     final ExporterDirector director = new ExporterDirector(exporterCtx, !context.shouldExport());
 
@@ -95,6 +95,7 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withNodeId(context.getNodeId())
         .withPartitionId(context.getPartitionId())
         .withMaxFragmentSize(context.getMaxFragmentSize())
+        .withSequencerCapacity(context.getBrokerCfg().getProcessing().getMaxPendingWrites())
         .withActorSchedulingService(context.getActorSchedulingService())
         .buildAsync();
   }
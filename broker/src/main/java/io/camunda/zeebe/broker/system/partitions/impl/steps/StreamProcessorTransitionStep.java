@@ -144,6 +144,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxCommandsInGroupCommit(
+            context.getBrokerCfg().getProcessing().getMaxCommandsInGroupCommit())
+        .maxGroupCommitBytes(
+            context.getBrokerCfg().getProcessing().getMaxGroupCommitSize().toBytes())
+        .maxGroupCommitDelay(context.getBrokerCfg().getProcessing().getMaxGroupCommitDelay())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .listener(
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.partitionapi;
+
+import io.prometheus.client.Histogram;
+
+final class InterPartitionCommandMetrics {
+
+  private static final Histogram SENT_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("inter_partition_command_sent_batch_size")
+          .help("Number of commands which are sent together to another partition")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("inter_partition_command_flush_latency")
+          .help(
+              "Time between buffering the first command of a batch and sending the batch to another partition, in seconds")
+          .buckets(.0001, .0005, .001, .005, .01, .05, .1, .5)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram RECEIVED_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("inter_partition_command_received_batch_size")
+          .help("Number of commands which are received together from another partition")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames("partition")
+          .register();
+
+  private final Histogram.Child sentBatchSize;
+  private final Histogram.Child flushLatency;
+  private final Histogram.Child receivedBatchSize;
+
+  InterPartitionCommandMetrics(final int partitionId) {
+    final var partitionLabel = String.valueOf(partitionId);
+    sentBatchSize = SENT_BATCH_SIZE.labels(partitionLabel);
+    flushLatency = FLUSH_LATENCY.labels(partitionLabel);
+    receivedBatchSize = RECEIVED_BATCH_SIZE.labels(partitionLabel);
+  }
+
+  void batchSent(final int commands, final long flushLatencyNanos) {
+    sentBatchSize.observe(commands);
+    flushLatency.observe(flushLatencyNanos / 1_000_000_000D);
+  }
+
+  void batchReceived(final int commands) {
+    receivedBatchSize.observe(commands);
+  }
+}
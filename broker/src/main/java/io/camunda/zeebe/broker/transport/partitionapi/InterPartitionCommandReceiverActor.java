@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 
 import io.atomix.cluster.MemberId;
@@ -22,9 +23,10 @@ import org.slf4j.Logger;
 
 /**
  * Receives messages send by @{@link InterPartitionCommandSenderImpl} and tries to write them as
- * commands to the partition's log stream. Failure to write to the log stream, for example because
- * no disk space is available, the logstream rejected the write operation or message decoding
- * failure, are ignored. The sender is responsible for recognizing failures and retrying.
+ * commands to the partition's log stream. Batches of messages are written as one batch. Failure to
+ * write to the log stream, for example because no disk space is available, the logstream rejected
+ * the write operation or message decoding failure, are ignored. The sender is responsible for
+ * recognizing failures and retrying.
  */
 public final class InterPartitionCommandReceiverActor extends Actor
     implements DiskSpaceUsageListener, CheckpointListener {
@@ -40,7 +42,7 @@ public final class InterPartitionCommandReceiverActor extends Actor
       final LogStreamWriter logStreamWriter) {
     this.partitionId = partitionId;
     this.communicationService = communicationService;
-    receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, partitionId);
     actorName = buildActorName(getClass().getSimpleName(), partitionId);
   }
 
@@ -63,11 +65,17 @@ public final class InterPartitionCommandReceiverActor extends Actor
         DefaultSerializers.BASIC::decode,
         this::tryHandleMessage,
         actor::run);
+    communicationService.consume(
+        BATCH_TOPIC_PREFIX + partitionId,
+        DefaultSerializers.BASIC::decode,
+        this::tryHandleBatch,
+        actor::run);
   }
 
   @Override
   protected void onActorClosing() {
     communicationService.unsubscribe(TOPIC_PREFIX + partitionId);
+    communicationService.unsubscribe(BATCH_TOPIC_PREFIX + partitionId);
   }
 
   @Override
@@ -92,4 +100,12 @@ public final class InterPartitionCommandReceiverActor extends Actor
       LOG.error("Error while handling message", e);
     }
   }
+
+  private void tryHandleBatch(final MemberId memberId, final byte[] batch) {
+    try {
+      receiver.handleBatch(memberId, batch);
+    } catch (final RuntimeException e) {
+      LOG.error("Error while handling batch of messages", e);
+    }
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchDecoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageDecoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderDecoder;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
@@ -25,7 +26,10 @@ import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
@@ -33,11 +37,13 @@ final class InterPartitionCommandReceiverImpl {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final Decoder decoder = new Decoder();
   private final LogStreamWriter logStreamWriter;
+  private final InterPartitionCommandMetrics metrics;
   private boolean diskSpaceAvailable = true;
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
-  InterPartitionCommandReceiverImpl(final LogStreamWriter logStreamWriter) {
+  InterPartitionCommandReceiverImpl(final LogStreamWriter logStreamWriter, final int partitionId) {
     this.logStreamWriter = logStreamWriter;
+    metrics = new InterPartitionCommandMetrics(partitionId);
   }
 
   void handleMessage(final MemberId memberId, final byte[] message) {
@@ -65,6 +71,46 @@ final class InterPartitionCommandReceiverImpl {
     writeCommand(decoded).ifLeft(failure -> logWriteFailure(memberId, decoded, failure));
   }
 
+  /**
+   * Writes the commands of a batch, which was sent by {@link
+   * InterPartitionCommandSenderImpl#flush(int)}, to the log stream as one batch. A checkpoint
+   * create command is written in front of the first command which was sent for a new checkpoint,
+   * such that the commands sent before the checkpoint are still written before it.
+   */
+  void handleBatch(final MemberId memberId, final byte[] batch) {
+    final var messages = decoder.decodeBatch(batch);
+    LOG.trace("Received batch of {} messages from {}", messages.size(), memberId);
+    metrics.batchReceived(messages.size());
+
+    if (!diskSpaceAvailable) {
+      LOG.warn(
+          "Ignoring batch of {} commands from {}, no disk space available",
+          messages.size(),
+          memberId);
+      return;
+    }
+
+    final List<LogAppendEntry> entries = new ArrayList<>(messages.size() + 1);
+    var batchCheckpointId = checkpointId;
+    for (final var message : messages) {
+      if (message.checkpointId > batchCheckpointId) {
+        batchCheckpointId = message.checkpointId;
+        entries.add(checkpointEntry(batchCheckpointId));
+      }
+      entries.add(commandEntry(message));
+    }
+
+    logStreamWriter
+        .tryWrite(entries)
+        .ifLeft(
+            failure ->
+                LOG.warn(
+                    "Failed to write batch of {} commands from {} to logstream (error = {})",
+                    messages.size(),
+                    memberId,
+                    failure));
+  }
+
   private void logCheckpointFailure(
       final MemberId memberId,
       final DecodedMessage decoded,
@@ -99,23 +145,28 @@ final class InterPartitionCommandReceiverImpl {
         "Received command with checkpoint {}, current checkpoint is {}",
         decoded.checkpointId,
         checkpointId);
+    return logStreamWriter.tryWrite(checkpointEntry(decoded.checkpointId));
+  }
+
+  private Either<WriteFailure, Long> writeCommand(final DecodedMessage decoded) {
+    return logStreamWriter.tryWrite(commandEntry(decoded));
+  }
+
+  private static LogAppendEntry checkpointEntry(final long checkpointId) {
     final var metadata =
         new RecordMetadata()
             .recordType(RecordType.COMMAND)
             .intent(CheckpointIntent.CREATE)
             .valueType(ValueType.CHECKPOINT);
-    final var checkpointRecord = new CheckpointRecord().setCheckpointId(decoded.checkpointId);
-    return logStreamWriter.tryWrite(LogAppendEntry.of(metadata, checkpointRecord));
+    final var checkpointRecord = new CheckpointRecord().setCheckpointId(checkpointId);
+    return LogAppendEntry.of(metadata, checkpointRecord);
   }
 
-  private Either<WriteFailure, Long> writeCommand(final DecodedMessage decoded) {
-    final var appendEntry =
-        decoded
-            .recordKey()
-            .map(key -> LogAppendEntry.of(key, decoded.metadata(), decoded.command()))
-            .orElseGet(() -> LogAppendEntry.of(decoded.metadata(), decoded.command()));
-
-    return logStreamWriter.tryWrite(appendEntry);
+  private static LogAppendEntry commandEntry(final DecodedMessage decoded) {
+    return decoded
+        .recordKey()
+        .map(key -> LogAppendEntry.of(key, decoded.metadata(), decoded.command()))
+        .orElseGet(() -> LogAppendEntry.of(decoded.metadata(), decoded.command()));
   }
 
   void setDiskSpaceAvailable(final boolean available) {
@@ -134,13 +185,30 @@ final class InterPartitionCommandReceiverImpl {
 
   private static final class Decoder {
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
+    private final InterPartitionMessageBatchDecoder batchDecoder =
+        new InterPartitionMessageBatchDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
     DecodedMessage decodeMessage(final byte[] message) {
-      final var messageBuffer = new UnsafeBuffer();
-      final var recordMetadata = new RecordMetadata();
+      return decodeMessage(new UnsafeBuffer(message));
+    }
+
+    List<DecodedMessage> decodeBatch(final byte[] batch) {
+      batchDecoder.wrapAndApplyHeader(new UnsafeBuffer(batch), 0, headerDecoder);
+
+      final var messagesDecoder = batchDecoder.messages();
+      final List<DecodedMessage> messages = new ArrayList<>(messagesDecoder.count());
+      while (messagesDecoder.hasNext()) {
+        // every message needs its own buffer, as the decoded commands are only written later
+        final var messageBuffer = new UnsafeBuffer();
+        messagesDecoder.next().wrapMessage(messageBuffer);
+        messages.add(decodeMessage(messageBuffer));
+      }
+      return messages;
+    }
 
-      messageBuffer.wrap(message);
+    private DecodedMessage decodeMessage(final DirectBuffer messageBuffer) {
+      final var recordMetadata = new RecordMetadata();
       messageDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
 
       final var checkpointId = messageDecoder.checkpointId();
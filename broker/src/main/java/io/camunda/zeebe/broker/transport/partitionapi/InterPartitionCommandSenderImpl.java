@@ -12,6 +12,8 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.utils.serializer.serializers.DefaultSerializers;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder.MessagesEncoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -20,22 +22,56 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
+import java.util.regex.Pattern;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.IntHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
+/**
+ * Sends commands to other partitions. The commands can be sent right away via {@link
+ * #sendCommand(int, ValueType, Intent, Long, UnifiedRecordValue)}, or buffered via {@link
+ * #bufferCommand(int, ValueType, Intent, Long, UnifiedRecordValue)} and sent together with the
+ * other commands to the same partition on {@link #flush(int)}. A single buffered command is sent
+ * like a command which is sent right away; multiple commands are sent as one {@code
+ * InterPartitionMessageBatch}, on a separate topic, such that they can be written to the log of the
+ * receiving partition as one batch.
+ *
+ * <p>Brokers before {@link #MIN_BATCH_MAJOR_VERSION}.{@link #MIN_BATCH_MINOR_VERSION} don't
+ * subscribe to the batch topic, and would drop the batches, e.g. during a rolling update. Batches
+ * are therefore only sent to partitions whose leader is known to accept them; to other partitions,
+ * the buffered commands are sent one by one.
+ */
 final class InterPartitionCommandSenderImpl implements InterPartitionCommandSender {
 
   public static final String TOPIC_PREFIX = "inter-partition-";
+  public static final String BATCH_TOPIC_PREFIX = "inter-partition-batch-";
+
+  // the number of messages in a batch is encoded as uint8
+  static final int MAX_BATCH_COMMANDS = 128;
+  static final int MAX_BATCH_LENGTH = 64 * 1024;
+  static final int MIN_BATCH_MAJOR_VERSION = 8;
+  static final int MIN_BATCH_MINOR_VERSION = 3;
+
+  private static final Pattern VERSION_PATTERN = Pattern.compile("^(\\d+)\\.(\\d+)\\.");
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final ClusterCommunicationService communicationService;
+  private final InterPartitionCommandMetrics metrics;
 
   private final Int2IntHashMap partitionLeaders = new Int2IntHashMap(-1);
+  private final IntHashSet partitionsAcceptingBatches = new IntHashSet();
+  private final Int2ObjectHashMap<Outbox> outboxes = new Int2ObjectHashMap<>();
+  private final Encoder encoder = new Encoder();
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
-  public InterPartitionCommandSenderImpl(final ClusterCommunicationService communicationService) {
+  InterPartitionCommandSenderImpl(
+      final ClusterCommunicationService communicationService, final int partitionId) {
     this.communicationService = communicationService;
+    metrics = new InterPartitionCommandMetrics(partitionId);
   }
 
   @Override
@@ -54,75 +90,240 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
       final Intent intent,
       final Long recordKey,
       final UnifiedRecordValue command) {
+    bufferCommand(receiverPartitionId, valueType, intent, recordKey, command);
+    flush(receiverPartitionId);
+  }
+
+  /**
+   * Buffers the command until the next {@link #flush(int)} of the receiving partition. If the
+   * command doesn't fit into the batch of already buffered commands, the buffered commands are sent
+   * first.
+   *
+   * @return true if the command is the first buffered command of the receiving partition, i.e. if a
+   *     flush of the partition must be scheduled
+   */
+  boolean bufferCommand(
+      final int receiverPartitionId,
+      final ValueType valueType,
+      final Intent intent,
+      final Long recordKey,
+      final UnifiedRecordValue command) {
     if (!partitionLeaders.containsKey(receiverPartitionId)) {
       LOG.warn(
           "Not sending command {} {} to {}, no known leader for this partition",
           valueType,
           intent,
           receiverPartitionId);
+      return false;
+    }
+
+    LOG.trace("Buffering command {} {} to partition {}", valueType, intent, receiverPartitionId);
+
+    final var outbox = outboxes.computeIfAbsent(receiverPartitionId, id -> new Outbox());
+    if (!outbox.isEmpty()
+        && (outbox.count() == MAX_BATCH_COMMANDS
+            || outbox.length() + Encoder.messageLength(command) > MAX_BATCH_LENGTH)) {
+      flush(receiverPartitionId);
+    }
+
+    final var wasEmpty = outbox.isEmpty();
+    encoder.encode(
+        outbox, checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+    return wasEmpty;
+  }
+
+  /** Sends the buffered commands of the given partition, if there are any. */
+  void flush(final int receiverPartitionId) {
+    final var outbox = outboxes.get(receiverPartitionId);
+    if (outbox == null || outbox.isEmpty()) {
       return;
     }
-    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
 
+    final var partitionLeader = MemberId.from("" + partitionLeaders.get(receiverPartitionId));
+    final var commands = outbox.count();
     LOG.trace(
-        "Sending command {} {} to partition {}, leader {}",
-        valueType,
-        intent,
+        "Sending {} commands to partition {}, leader {}",
+        commands,
         receiverPartitionId,
         partitionLeader);
 
-    final var message =
-        Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+    if (commands == 1) {
+      send(TOPIC_PREFIX + receiverPartitionId, outbox.copyMessage(0), partitionLeader);
+    } else if (partitionsAcceptingBatches.contains(receiverPartitionId)) {
+      send(
+          BATCH_TOPIC_PREFIX + receiverPartitionId,
+          encoder.encodeBatch(outbox, receiverPartitionId),
+          partitionLeader);
+    } else {
+      for (int i = 0; i < commands; i++) {
+        send(TOPIC_PREFIX + receiverPartitionId, outbox.copyMessage(i), partitionLeader);
+      }
+    }
 
+    metrics.batchSent(commands, System.nanoTime() - outbox.bufferedSinceNanos());
+    outbox.clear();
+  }
+
+  private void send(final String topic, final byte[] message, final MemberId partitionLeader) {
     communicationService.unicast(
-        TOPIC_PREFIX + receiverPartitionId,
-        message,
-        DefaultSerializers.BASIC::encode,
-        MemberId.from("" + partitionLeader),
-        true);
+        topic, message, DefaultSerializers.BASIC::encode, partitionLeader, true);
+  }
+
+  /** Sends the buffered commands of all partitions. */
+  void flushAll() {
+    outboxes.keySet().forEach(this::flush);
   }
 
   void setCheckpointId(final long checkpointId) {
     this.checkpointId = checkpointId;
   }
 
-  void setCurrentLeader(final int partitionId, final int currentLeader) {
+  /**
+   * @param partitionId the partition whose leader changed
+   * @param currentLeader the node id of the new leader
+   * @param leaderVersion the version of the new leader, which determines whether it accepts
+   *     batches of commands
+   */
+  void setCurrentLeader(
+      final int partitionId, final int currentLeader, final String leaderVersion) {
     partitionLeaders.put(partitionId, currentLeader);
+    if (acceptsBatches(leaderVersion)) {
+      partitionsAcceptingBatches.add(partitionId);
+    } else {
+      partitionsAcceptingBatches.remove(partitionId);
+    }
+  }
+
+  /**
+   * Returns true if a broker of the given version subscribes to the batch topic. Versions which
+   * can't be parsed are assumed to not accept batches, as sending commands one by one always works.
+   */
+  static boolean acceptsBatches(final String version) {
+    final var matcher = VERSION_PATTERN.matcher(version);
+    if (!matcher.find()) {
+      return false;
+    }
+
+    final var major = Integer.parseInt(matcher.group(1));
+    final var minor = Integer.parseInt(matcher.group(2));
+    return major > MIN_BATCH_MAJOR_VERSION
+        || (major == MIN_BATCH_MAJOR_VERSION && minor >= MIN_BATCH_MINOR_VERSION);
+  }
+
+  /** The encoded messages which are buffered for a partition, stored one after the other. */
+  private static final class Outbox {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final IntArrayList messageLengths = new IntArrayList();
+    private int length;
+    private long bufferedSinceNanos;
+
+    private boolean isEmpty() {
+      return messageLengths.isEmpty();
+    }
+
+    private int count() {
+      return messageLengths.size();
+    }
+
+    private int length() {
+      return length;
+    }
+
+    private long bufferedSinceNanos() {
+      return bufferedSinceNanos;
+    }
+
+    private void append(final int messageLength) {
+      if (isEmpty()) {
+        bufferedSinceNanos = System.nanoTime();
+      }
+      messageLengths.addInt(messageLength);
+      length += messageLength;
+    }
+
+    private byte[] copyMessage(final int index) {
+      var offset = 0;
+      for (int i = 0; i < index; i++) {
+        offset += messageLengths.getInt(i);
+      }
+
+      final var message = new byte[messageLengths.getInt(index)];
+      buffer.getBytes(offset, message);
+      return message;
+    }
+
+    private void clear() {
+      messageLengths.clear();
+      length = 0;
+    }
   }
 
   private static final class Encoder {
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final InterPartitionMessageEncoder messageEncoder = new InterPartitionMessageEncoder();
+    private final InterPartitionMessageBatchEncoder batchEncoder =
+        new InterPartitionMessageBatchEncoder();
+    private final ExpandableArrayBuffer commandBuffer = new ExpandableArrayBuffer();
 
-    private static byte[] encode(
+    private static int messageLength(final BufferWriter command) {
+      return MessageHeaderEncoder.ENCODED_LENGTH
+          + InterPartitionMessageEncoder.BLOCK_LENGTH
+          + InterPartitionMessageEncoder.commandHeaderLength()
+          + command.getLength();
+    }
+
+    /** Encodes the command as {@code InterPartitionMessage} at the end of the given outbox. */
+    private void encode(
+        final Outbox outbox,
         final long checkpointId,
         final int receiverPartitionId,
         final ValueType valueType,
         final Intent intent,
         final Long recordKey,
         final BufferWriter command) {
-      final var messageLength =
-          MessageHeaderEncoder.ENCODED_LENGTH
-              + InterPartitionMessageEncoder.BLOCK_LENGTH
-              + InterPartitionMessageEncoder.commandHeaderLength()
-              + command.getLength();
-
-      final var headerEncoder = new MessageHeaderEncoder();
-      final var bodyEncoder = new InterPartitionMessageEncoder();
-      final var commandBuffer = new UnsafeBuffer(new byte[command.getLength()]);
-      final var messageBuffer = new UnsafeBuffer(new byte[messageLength]);
+      final var commandLength = command.getLength();
       command.write(commandBuffer, 0);
-      bodyEncoder
-          .wrapAndApplyHeader(messageBuffer, 0, headerEncoder)
+      messageEncoder
+          .wrapAndApplyHeader(outbox.buffer, outbox.length(), headerEncoder)
           .checkpointId(checkpointId)
           .receiverPartitionId(receiverPartitionId)
           .valueType(valueType.value())
           .intent(intent.value())
-          .putCommand(commandBuffer, 0, command.getLength());
+          .putCommand(commandBuffer, 0, commandLength);
 
-      bodyEncoder.recordKey(
+      messageEncoder.recordKey(
           Objects.requireNonNullElseGet(
               recordKey, InterPartitionMessageEncoder::recordKeyNullValue));
 
-      return messageBuffer.byteArray();
+      outbox.append(messageLength(command));
+    }
+
+    /** Encodes the messages of the outbox as one {@code InterPartitionMessageBatch}. */
+    private byte[] encodeBatch(final Outbox outbox, final int receiverPartitionId) {
+      final var commands = outbox.count();
+      final var batchLength =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + InterPartitionMessageBatchEncoder.BLOCK_LENGTH
+              + MessagesEncoder.sbeHeaderSize()
+              + commands
+                  * (MessagesEncoder.sbeBlockLength() + MessagesEncoder.messageHeaderLength())
+              + outbox.length();
+
+      final var batchBuffer = new UnsafeBuffer(new byte[batchLength]);
+      final var messagesEncoder =
+          batchEncoder
+              .wrapAndApplyHeader(batchBuffer, 0, headerEncoder)
+              .receiverPartitionId(receiverPartitionId)
+              .messagesCount(commands);
+
+      var offset = 0;
+      for (int i = 0; i < commands; i++) {
+        final var messageLength = outbox.messageLengths.getInt(i);
+        messagesEncoder.next().putMessage(outbox.buffer, offset, messageLength);
+        offset += messageLength;
+      }
+
+      return batchBuffer.byteArray();
     }
   }
 }
@@ -17,6 +17,11 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 
+/**
+ * Sends the commands of a partition to other partitions. Commands to the same partition are
+ * coalesced: the first buffered command schedules a flush at the end of the actor's queue, such
+ * that the commands which are submitted until the flush runs are sent together.
+ */
 public final class InterPartitionCommandSenderService extends Actor
     implements InterPartitionCommandSender, CheckpointListener, TopologyPartitionListener {
 
@@ -25,10 +30,15 @@ public final class InterPartitionCommandSenderService extends Actor
 
   public InterPartitionCommandSenderService(
       final ClusterCommunicationService communicationService, final int partitionId) {
-    commandSender = new InterPartitionCommandSenderImpl(communicationService);
+    commandSender = new InterPartitionCommandSenderImpl(communicationService, partitionId);
     this.partitionId = partitionId;
   }
 
+  @Override
+  protected void onActorClosing() {
+    commandSender.flushAll();
+  }
+
   @Override
   public void onNewCheckpointCreated(final long checkpointId) {
     actor.submit(() -> commandSender.setCheckpointId(checkpointId));
@@ -40,7 +50,7 @@ public final class InterPartitionCommandSenderService extends Actor
       final ValueType valueType,
       final Intent intent,
       final UnifiedRecordValue command) {
-    actor.submit(() -> commandSender.sendCommand(receiverPartitionId, valueType, intent, command));
+    sendCommand(receiverPartitionId, valueType, intent, null, command);
   }
 
   @Override
@@ -50,13 +60,24 @@ public final class InterPartitionCommandSenderService extends Actor
       final Intent intent,
       final Long recordKey,
       final UnifiedRecordValue command) {
-    actor.submit(
-        () ->
-            commandSender.sendCommand(receiverPartitionId, valueType, intent, recordKey, command));
+    actor.submit(() -> bufferCommand(receiverPartitionId, valueType, intent, recordKey, command));
+  }
+
+  private void bufferCommand(
+      final int receiverPartitionId,
+      final ValueType valueType,
+      final Intent intent,
+      final Long recordKey,
+      final UnifiedRecordValue command) {
+    if (commandSender.bufferCommand(receiverPartitionId, valueType, intent, recordKey, command)) {
+      actor.submit(() -> commandSender.flush(receiverPartitionId));
+    }
   }
 
   @Override
   public void onPartitionLeaderUpdated(final int partitionId, final BrokerInfo member) {
-    actor.submit(() -> commandSender.setCurrentLeader(partitionId, member.getNodeId()));
+    actor.submit(
+        () ->
+            commandSender.setCurrentLeader(partitionId, member.getNodeId(), member.getVersion()));
   }
 }
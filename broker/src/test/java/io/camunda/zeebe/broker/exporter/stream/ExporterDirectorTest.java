@@ -365,6 +365,62 @@ public final class ExporterDirectorTest {
                     .containsExactly(eventPosition1, eventPosition2));
   }
 
+  @Test
+  public void shouldExportRecordsInBatch() {
+    // given
+    rule.withMaxRecordsInBatch(10);
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      positions.add(writeEvent());
+    }
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    for (final ControlledTestExporter exporter : exporters) {
+      Awaitility.await("exporter has exported all records")
+          .untilAsserted(
+              () ->
+                  assertThat(exporter.getExportedRecords())
+                      .extracting(Record::getPosition)
+                      .containsExactlyElementsOf(positions));
+    }
+  }
+
+  @Test
+  public void shouldRetryFailedRecordOfBatchOnlyForFailedExporter() {
+    // given
+    rule.withMaxRecordsInBatch(10);
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      positions.add(writeEvent());
+    }
+
+    final AtomicLong failCount = new AtomicLong(1);
+    exporters
+        .get(1)
+        .onExport(
+            r -> {
+              if (r.getPosition() == positions.get(1) && failCount.getAndDecrement() > 0) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    for (final ControlledTestExporter exporter : exporters) {
+      Awaitility.await("exporter has exported all records")
+          .untilAsserted(
+              () ->
+                  assertThat(exporter.getExportedRecords())
+                      .extracting(Record::getPosition)
+                      .containsExactlyElementsOf(positions));
+    }
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -168,6 +168,30 @@ final class RaftPartitionGroupFactoryTest {
     assertThat(config.getPartitionConfig().getPreferSnapshotReplicationThreshold()).isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetMaxSnapshotChunkSize() {
+    // given
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunkSize(DataSize.ofMegabytes(4));
+
+    // when
+    final var config = buildRaftPartitionGroup();
+
+    // then
+    assertThat(config.getPartitionConfig().getMaxSnapshotChunkSize()).isEqualTo(4 * 1024 * 1024);
+  }
+
+  @Test
+  void shouldSetMaxSnapshotChunksInFlight() {
+    // given
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(4);
+
+    // when
+    final var config = buildRaftPartitionGroup();
+
+    // then
+    assertThat(config.getPartitionConfig().getMaxSnapshotChunksInFlight()).isEqualTo(4);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
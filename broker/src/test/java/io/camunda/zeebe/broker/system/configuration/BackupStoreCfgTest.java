@@ -71,6 +71,27 @@ final class BackupStoreCfgTest {
     assertThat(cfg.getData().getBackup().getGcs().getHost()).isEqualTo(configuredHost);
   }
 
+  @Test
+  void canConfigureIncrementalS3Backups() {
+    // given
+    final var env =
+        Map.of(
+            "zeebe.broker.data.backup.store",
+            "s3",
+            "zeebe.broker.data.backup.s3.bucketName",
+            "bucket",
+            "zeebe.broker.data.backup.s3.incremental",
+            "true");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", env);
+
+    // then
+    final var s3Config = cfg.getData().getBackup().getS3();
+    assertThat(s3Config.isIncremental()).isTrue();
+    assertThat(S3BackupStoreConfig.toStoreConfig(s3Config).incremental()).isTrue();
+  }
+
   @Test
   void shouldSetPartialS3Config() {
     // given
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -30,6 +31,7 @@ final class EngineCfgTest {
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofMinutes(1));
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(1000L);
+    assertThat(configuration.getProcessCacheCapacity()).isEqualTo(1000L);
   }
 
   @Test
@@ -44,5 +46,17 @@ final class EngineCfgTest {
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getProcessCacheCapacity()).isEqualTo(3000L);
+  }
+
+  @Test
+  void shouldRejectProcessCacheCapacityBelowOne() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.caches.processCacheCapacity", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("processCacheCapacity must be >= 1");
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+final class ExportingCfgTest {
+
+  @Test
+  void shouldNotBatchRecordsByDefault() {
+    // given
+    final var cfg = new ExportingCfg();
+
+    // when
+    final int limit = cfg.getMaxRecordsInBatch();
+
+    // then
+    assertThat(limit).isOne();
+    assertThat(cfg.getMaxBatchSize()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  void shouldSetBatchLimitsFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("exporting-cfg", Collections.emptyMap()).getExporting();
+
+    // when
+    final int limit = cfg.getMaxRecordsInBatch();
+    final DataSize size = cfg.getMaxBatchSize();
+
+    // then
+    assertThat(limit).isEqualTo(50);
+    assertThat(size).isEqualTo(DataSize.ofMegabytes(2));
+  }
+
+  @Test
+  void shouldSetMaxRecordsInBatchFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.exporting.maxRecordsInBatch", "75");
+    final var cfg = TestConfigReader.readConfig("exporting-cfg", environment).getExporting();
+
+    // when
+    final var limit = cfg.getMaxRecordsInBatch();
+
+    // then
+    assertThat(limit).isEqualTo(75);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxRecordsInBatch() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.exporting.maxRecordsInBatch", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("exporting-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxRecordsInBatch must be >= 1");
+  }
+
+  @Test
+  void shouldRejectInvalidMaxBatchSize() {
+    // given
+    final var environment = Collections.singletonMap("zeebe.broker.exporting.maxBatchSize", "0B");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("exporting-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchSize must be >= 1 byte");
+  }
+}
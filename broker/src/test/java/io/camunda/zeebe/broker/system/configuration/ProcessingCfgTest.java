@@ -130,4 +130,88 @@ final class ProcessingCfgTest {
     // then
     assertThat(enabled).isTrue();
   }
+
+  @Test
+  void shouldDisableGroupCommitByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var limit = cfg.getMaxCommandsInGroupCommit();
+
+    // then
+    assertThat(limit).isOne();
+  }
+
+  @Test
+  void shouldSetMaxCommandsInGroupCommitFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInGroupCommit", "50");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxCommandsInGroupCommit();
+
+    // then
+    assertThat(limit).isEqualTo(50);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxCommandsInGroupCommit() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInGroupCommit", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxCommandsInGroupCommit must be >= 1");
+  }
+
+  @Test
+  void shouldRejectMaxGroupCommitDelayBelowOneMillisecond() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxGroupCommitDelay", "0ms");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxGroupCommitDelay must be >= 1ms");
+  }
+
+  @Test
+  void shouldSetMaxPendingWritesFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxPendingWrites", "1024");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment);
+
+    // then
+    assertThat(cfg.getProcessing().getMaxPendingWrites()).isEqualTo(1024);
+  }
+
+  @Test
+  void shouldUseDefaultMaxPendingWrites() {
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", Collections.emptyMap());
+
+    // then
+    assertThat(cfg.getProcessing().getMaxPendingWrites()).isEqualTo(8 * 1024);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxPendingWrites() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxPendingWrites", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxPendingWrites must be >= 1");
+  }
 }
@@ -115,4 +115,28 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldDisablePartitionAffinityByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean partitionAffinity = cfg.isEnablePartitionAffinity();
+
+    // then
+    assertThat(partitionAffinity).isFalse();
+  }
+
+  @Test
+  void shouldSetPartitionAffinityFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final boolean partitionAffinity = cfg.isEnablePartitionAffinity();
+
+    // then
+    assertThat(partitionAffinity).isTrue();
+  }
 }
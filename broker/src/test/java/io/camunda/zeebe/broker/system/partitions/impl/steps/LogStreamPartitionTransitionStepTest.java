@@ -19,6 +19,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.impl.RaftPartitionServer;
 import io.camunda.zeebe.broker.logstreams.AtomixLogStorage;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldCloseService;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldDoNothing;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.util.health.HealthMonitor;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -41,11 +43,13 @@ class LogStreamPartitionTransitionStepTest {
   private final LogStream logStream = mock(LogStream.class);
   private final LogStreamBuilder logStreamBuilder = spy(LogStream.builder());
   private final LogStream logStreamFromPrevRole = mock(LogStream.class);
+  private final BrokerCfg brokerCfg = new BrokerCfg();
 
   @BeforeEach
   void setup() {
     transitionContext.setComponentHealthMonitor(mock(HealthMonitor.class));
     transitionContext.setLogStorage(mock(AtomixLogStorage.class));
+    transitionContext.setBrokerCfg(brokerCfg);
 
     when(raftPartition.getServer()).thenReturn(raftServer);
     transitionContext.setRaftPartition(raftPartition);
@@ -86,6 +90,19 @@ class LogStreamPartitionTransitionStepTest {
     verify(logStreamBuilder).buildAsync();
   }
 
+  @Test
+  void shouldBuildLogStreamWithConfiguredMaxPendingWrites() {
+    // given
+    brokerCfg.getProcessing().setMaxPendingWrites(512);
+    initializeContext(Role.FOLLOWER);
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    verify(logStreamBuilder).withSequencerCapacity(512);
+  }
+
   @ParameterizedTest
   @ArgumentsSource(TransitionsThatShouldDoNothing.class)
   void shoulNotReInstallLogStorage(final Role currentRole, final Role targetRole) {
@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
@@ -30,6 +32,7 @@ import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.util.Either;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -41,6 +44,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 final class InterPartitionCommandCheckpointTest {
 
+  private static final String CURRENT_VERSION = "8.3.0";
+
   private final ClusterCommunicationService communicationService;
   private final LogStreamWriter logStreamWriter;
   private final InterPartitionCommandSenderImpl sender;
@@ -52,9 +57,9 @@ final class InterPartitionCommandCheckpointTest {
     this.communicationService = communicationService;
     this.logStreamWriter = logStreamWriter;
 
-    sender = new InterPartitionCommandSenderImpl(communicationService);
-    sender.setCurrentLeader(1, 2);
-    receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(1, 2, CURRENT_VERSION);
+    receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 1);
   }
 
   @Test
@@ -168,6 +173,65 @@ final class InterPartitionCommandCheckpointTest {
     verifyNoInteractions(logStreamWriter);
   }
 
+  @Test
+  void shouldWriteCheckpointInFrontOfFirstCommandOfBatchWithNewCheckpoint() {
+    // given
+    when(logStreamWriter.tryWrite(Mockito.<List<LogAppendEntry>>any()))
+        .thenReturn(Either.right(1L));
+    receiver.setCheckpointId(5);
+    sender.setCheckpointId(5);
+    sender.bufferCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, null, new JobRecord());
+    sender.setCheckpointId(6);
+    sender.bufferCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, null, new JobRecord());
+    sender.bufferCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, null, new JobRecord());
+
+    // when
+    sender.flush(1);
+    final var batchCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + 1), batchCaptor.capture(), any(), any(), eq(true));
+    receiver.handleBatch(new MemberId("0"), batchCaptor.getValue());
+
+    // then
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(entriesCaptor.capture());
+    assertThat(entriesCaptor.getValue())
+        .satisfiesExactly(
+            entry ->
+                assertThat(matchesMetadata(entry, ValueType.DEPLOYMENT, DeploymentIntent.CREATE))
+                    .isTrue(),
+            entry ->
+                assertThat(matchesMetadata(entry, ValueType.CHECKPOINT, CheckpointIntent.CREATE))
+                    .isTrue(),
+            entry ->
+                assertThat(matchesMetadata(entry, ValueType.DEPLOYMENT, DeploymentIntent.CREATE))
+                    .isTrue(),
+            entry ->
+                assertThat(matchesMetadata(entry, ValueType.DEPLOYMENT, DeploymentIntent.CREATE))
+                    .isTrue());
+    assertThat(((CheckpointRecord) entriesCaptor.getValue().get(1).recordValue()).getCheckpointId())
+        .isEqualTo(6);
+  }
+
+  @Test
+  void shouldNotWriteBatchIfNoDiskAvailable() {
+    // given
+    receiver.setDiskSpaceAvailable(false);
+    sender.bufferCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, null, new JobRecord());
+    sender.bufferCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, null, new JobRecord());
+
+    // when
+    sender.flush(1);
+    final var batchCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + 1), batchCaptor.capture(), any(), any(), eq(true));
+    receiver.handleBatch(new MemberId("0"), batchCaptor.getValue());
+
+    // then
+    verifyNoInteractions(logStreamWriter);
+  }
+
   private LogAppendEntry matchesMetadata(final ValueType valueType, final Intent intent) {
     return Mockito.argThat(entry -> matchesMetadata(entry, valueType, intent));
   }
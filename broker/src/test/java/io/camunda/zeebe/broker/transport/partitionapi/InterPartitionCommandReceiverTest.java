@@ -7,11 +7,14 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -30,8 +33,11 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.util.Either;
+import java.util.List;
 import org.agrona.ExpandableArrayBuffer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.mockito.Answers;
@@ -41,6 +47,9 @@ import org.mockito.Mockito;
 @Execution(ExecutionMode.CONCURRENT)
 final class InterPartitionCommandReceiverTest {
 
+  private static final String CURRENT_VERSION = "8.3.0";
+  private static final String PREVIOUS_VERSION = "8.2.12";
+
   @Test
   void shouldWriteSentCommandToLogStream() {
     // given
@@ -56,7 +65,7 @@ final class InterPartitionCommandReceiverTest {
             new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 1);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -87,7 +96,7 @@ final class InterPartitionCommandReceiverTest {
             new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 1);
 
     // when
     receiver.setDiskSpaceAvailable(false);
@@ -115,7 +124,7 @@ final class InterPartitionCommandReceiverTest {
             new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 1);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -152,7 +161,7 @@ final class InterPartitionCommandReceiverTest {
             recordValue);
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 1);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
@@ -182,7 +191,7 @@ final class InterPartitionCommandReceiverTest {
             new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 1);
     final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
 
     // when
@@ -208,7 +217,7 @@ final class InterPartitionCommandReceiverTest {
             new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
-    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 1);
     final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
 
     // when
@@ -219,6 +228,171 @@ final class InterPartitionCommandReceiverTest {
     assertThat(entryCaptor.getValue().key()).isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
   }
 
+  @Test
+  void shouldSendBufferedCommandsAsOneBatch() {
+    // given
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(5, 3, CURRENT_VERSION);
+
+    // when
+    bufferCommands(sender, 5, 1, 2, 3);
+    sender.flush(5);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+    verify(communicationService, never())
+        .unicast(eq(TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldSendSingleBufferedCommandAsMessage() {
+    // given
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(5, 3, CURRENT_VERSION);
+
+    // when
+    bufferCommands(sender, 5, 1);
+    sender.flush(5);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldSendBufferedCommandsBeforeExceedingBatchLimit() {
+    // given
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(5, 3, CURRENT_VERSION);
+
+    // when
+    final var keys = new long[InterPartitionCommandSenderImpl.MAX_BATCH_COMMANDS + 1];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = i;
+    }
+    bufferCommands(sender, 5, keys);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldWriteBatchAsOneLogBatch() {
+    // given
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(5, 3, CURRENT_VERSION);
+    bufferCommands(sender, 5, 1, 2, 3);
+    sender.flush(5);
+
+    final var batchCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), batchCaptor.capture(), any(), any(), eq(true));
+
+    final var logStreamWriter = getLogStreamWriter();
+    when(logStreamWriter.tryWrite(Mockito.<List<LogAppendEntry>>any()))
+        .thenReturn(Either.right(3L));
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 5);
+
+    // when
+    receiver.handleBatch(new MemberId("0"), batchCaptor.getValue());
+
+    // then
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(entriesCaptor.capture());
+    assertThat(entriesCaptor.getValue())
+        .extracting(LogAppendEntry::key)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(entriesCaptor.getValue())
+        .extracting(LogAppendEntry::recordValue)
+        .allSatisfy(value -> assertThat(value).isInstanceOf(MessageSubscriptionRecord.class));
+  }
+
+  @Test
+  void shouldSendBufferedCommandsOneByOneToLeaderOfPreviousVersion() {
+    // given - the leader of the receiving partition was not updated yet
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(5, 3, PREVIOUS_VERSION);
+
+    // when
+    bufferCommands(sender, 5, 1, 2, 3);
+    sender.flush(5);
+
+    // then
+    verify(communicationService, never())
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService, times(3))
+        .unicast(eq(TOPIC_PREFIX + 5), messageCaptor.capture(), any(), any(), eq(true));
+
+    final var logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter, 5);
+    messageCaptor.getAllValues().forEach(m -> receiver.handleMessage(new MemberId("0"), m));
+    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
+    verify(logStreamWriter, times(3)).tryWrite(entryCaptor.capture());
+    assertThat(entryCaptor.getAllValues())
+        .extracting(LogAppendEntry::key)
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldSendBatchesOnceLeaderOfCurrentVersionIsElected() {
+    // given
+    final var communicationService = mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(5, 3, PREVIOUS_VERSION);
+    bufferCommands(sender, 5, 1, 2);
+    sender.flush(5);
+
+    // when
+    sender.setCurrentLeader(5, 4, CURRENT_VERSION);
+    bufferCommands(sender, 5, 3, 4);
+    sender.flush(5);
+
+    // then
+    verify(communicationService, times(2))
+        .unicast(eq(TOPIC_PREFIX + 5), any(byte[].class), any(), eq(MemberId.from("3")), eq(true));
+    verify(communicationService)
+        .unicast(
+            eq(BATCH_TOPIC_PREFIX + 5), any(byte[].class), any(), eq(MemberId.from("4")), eq(true));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "8.3.0,true",
+    "8.3.0-SNAPSHOT,true",
+    "8.4.1,true",
+    "9.0.0,true",
+    "8.2.12,false",
+    "7.20.0,false",
+    "development,false",
+    "'',false"
+  })
+  void shouldOnlyAcceptBatchesFromVersion(final String version, final boolean acceptsBatches) {
+    assertThat(InterPartitionCommandSenderImpl.acceptsBatches(version)).isEqualTo(acceptsBatches);
+  }
+
+  private static void bufferCommands(
+      final InterPartitionCommandSenderImpl sender,
+      final int receiverPartitionId,
+      final long... recordKeys) {
+    for (final long recordKey : recordKeys) {
+      sender.bufferCommand(
+          receiverPartitionId,
+          ValueType.MESSAGE_SUBSCRIPTION,
+          MessageSubscriptionIntent.CORRELATE,
+          recordKey,
+          new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
+    }
+  }
+
   private byte[] sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
@@ -238,8 +412,8 @@ final class InterPartitionCommandReceiverTest {
     final ClusterCommunicationService communicationService =
         mock(ClusterCommunicationService.class);
 
-    final var sender = new InterPartitionCommandSenderImpl(communicationService);
-    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService, 1);
+    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId, CURRENT_VERSION);
 
     sender.sendCommand(receiverPartitionId, valueType, intent, recordKey, recordValue);
 
@@ -39,6 +39,7 @@ public final class ActorSchedulerConfiguration {
         .setActorClock(actorClockConfiguration.getClock().orElse(null))
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setPartitionAffinityEnabled(cfg.isEnablePartitionAffinity())
         .setMetricsEnabled(metricsEnabled)
         .setSchedulerName(String.format("Broker-%d", brokerCfg.getCluster().getNodeId()))
         .build();
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.dmn;
 
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * {@link ParsedDecision Decisions} can only be made within in a specific context. The context must
@@ -22,4 +23,16 @@ public interface DecisionContext {
    * @return the Context as map
    */
   Map<String, Object> toMap();
+
+  /**
+   * Returns the variables of the context that pass the given filter. The filter can be used to
+   * leave out the variables that are not referenced by the decision, so they don't need to be
+   * converted. The default implementation ignores the filter and returns all variables.
+   *
+   * @param variableNameFilter tests whether the variable with the given name may be referenced
+   * @return the Context as map, containing at least the variables that pass the filter
+   */
+  default Map<String, Object> toMap(final Predicate<String> variableNameFilter) {
+    return toMap();
+  }
 }
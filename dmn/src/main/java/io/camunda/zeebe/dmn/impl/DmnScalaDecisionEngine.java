@@ -17,6 +17,7 @@ import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,12 @@ import scala.util.Either;
 /**
  * A wrapper around the DMN-Scala decision engine.
  *
+ * <p>The rules of a decision table are matched by DMN-Scala one after the other, and they are not
+ * indexed by their input entries. The evaluated decisions, including the matched rules and the
+ * evaluated inputs and outputs, are built from the audit log of DMN-Scala, which has no hook to
+ * replace the rule matching. An index outside of it would have to reproduce the hit policies and
+ * the audit log to write the same records.
+ *
  * <p>
  * <li><a href="https://github.com/camunda-community-hub/dmn-scala">GitHub Repository</a>
  * <li><a href="https://github.com/camunda-community-hub/dmn-scala">Documentation</a>
@@ -56,7 +63,8 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
     }
 
     try {
-      final var parseResult = dmnEngine.parse(dmnResource);
+      final byte[] resource = dmnResource.readAllBytes();
+      final var parseResult = dmnEngine.parse(new ByteArrayInputStream(resource));
 
       if (parseResult.isLeft()) {
         final DmnEngine.Failure failure = parseResult.left().get();
@@ -67,7 +75,7 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
       } else {
         final var parsedDmn = parseResult.right().get();
 
-        return ParsedDmnScalaDrg.of(parsedDmn);
+        return ParsedDmnScalaDrg.of(parsedDmn, resource);
       }
 
     } catch (final Exception e) {
@@ -93,10 +101,11 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
           decisionId);
     }
 
-    final var parsedDmn = ((ParsedDmnScalaDrg) decisionRequirementsGraph).getParsedDmn();
-    // todo(#8092): pass in context that allows fetching variable by name (lazy)
+    final var parsedDrg = (ParsedDmnScalaDrg) decisionRequirementsGraph;
+    // only pass the variables that the decisions may reference, the others are never read
+    final var variables = evalContext.toMap(parsedDrg::mayReferenceVariable);
     final Either<EvalFailure, EvalResult> result =
-        dmnEngine.eval(parsedDmn, decisionId, evalContext.toMap());
+        dmnEngine.eval(parsedDrg.getParsedDmn(), decisionId, variables);
     final AuditLog auditLog =
         result.map(EvalResult::auditLog).getOrElse(() -> result.left().get().auditLog());
     final var evaluatedDecisions =
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.camunda.zeebe.dmn.DecisionContext;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Decision Context based on a MessagePack encoded document of variables. The variables are not
+ * converted upfront. Instead, the context contains a view of the MessagePack encoded value of each
+ * variable, which is only transformed into a FEEL value if an expression of the decision reads the
+ * variable.
+ *
+ * <p>The views are only valid as long as the given document is not modified, i.e. during the
+ * evaluation of the decision.
+ */
+public final class MessagePackVariablesContext implements DecisionContext {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final DirectBuffer variables;
+
+  public MessagePackVariablesContext(final DirectBuffer variables) {
+    this.variables = variables;
+  }
+
+  @Override
+  public Map<String, Object> toMap() {
+    return toMap(name -> true);
+  }
+
+  @Override
+  public Map<String, Object> toMap(final Predicate<String> variableNameFilter) {
+    if (variables.capacity() == 0) {
+      return Map.of();
+    }
+
+    reader.wrap(variables, 0, variables.capacity());
+    final int size = reader.readMapHeader();
+    final var variablesByName = new HashMap<String, Object>();
+
+    for (int i = 0; i < size; i++) {
+      final int nameLength = reader.readStringLength();
+      final String name = variables.getStringWithoutLengthUtf8(reader.getOffset(), nameLength);
+      reader.skipBytes(nameLength);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+
+      if (variableNameFilter.test(name)) {
+        final int valueLength = reader.getOffset() - valueOffset;
+        variablesByName.put(name, new UnsafeBuffer(variables, valueOffset, valueLength));
+      }
+    }
+
+    return variablesByName;
+  }
+}
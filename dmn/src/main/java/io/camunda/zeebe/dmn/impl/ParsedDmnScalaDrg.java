@@ -23,18 +23,21 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
   private final String decisionRequirementsName;
   private final String decisionRequirementsNamespace;
   private final List<ParsedDecision> decisions;
+  private final ReferencedNames referencedNames;
 
   private ParsedDmnScalaDrg(
       final ParsedDmn parsedDmn,
       final String decisionRequirementsId,
       final String decisionRequirementsName,
       final String decisionRequirementsNamespace,
-      final List<ParsedDecision> decisions) {
+      final List<ParsedDecision> decisions,
+      final ReferencedNames referencedNames) {
     this.parsedDmn = parsedDmn;
     this.decisionRequirementsId = decisionRequirementsId;
     this.decisionRequirementsName = decisionRequirementsName;
     this.decisionRequirementsNamespace = decisionRequirementsNamespace;
     this.decisions = decisions;
+    this.referencedNames = referencedNames;
   }
 
   @Override
@@ -71,7 +74,16 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     return parsedDmn;
   }
 
-  public static ParsedDmnScalaDrg of(final ParsedDmn parsedDmn) {
+  /**
+   * @param variableName the name of a variable
+   * @return {@code false} if no expression of the graph references the variable for sure,
+   *     otherwise {@code true}
+   */
+  public boolean mayReferenceVariable(final String variableName) {
+    return referencedNames.mayReference(variableName);
+  }
+
+  public static ParsedDmnScalaDrg of(final ParsedDmn parsedDmn, final byte[] dmnResource) {
 
     final DmnModelInstance modelInstance = parsedDmn.model();
     final Definitions definitions = modelInstance.getDefinitions();
@@ -80,7 +92,8 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     final String namespace = definitions.getNamespace();
     final List<ParsedDecision> parsedDecisions = getParsedDecisions(parsedDmn);
 
-    return new ParsedDmnScalaDrg(parsedDmn, id, name, namespace, parsedDecisions);
+    return new ParsedDmnScalaDrg(
+        parsedDmn, id, name, namespace, parsedDecisions, ReferencedNames.of(dmnResource));
   }
 
   private static List<ParsedDecision> getParsedDecisions(final ParsedDmn parsedDmn) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The names that the expressions of a decision requirements graph may reference. A variable that is
+ * not referenced by any expression doesn't need to be passed to the evaluation of a decision.
+ *
+ * <p>The names are collected from the DMN resource as the runs of ASCII letters, digits and
+ * underscores. This is a superset of the names used in the expressions, since it contains all words
+ * of the resource. A name that consists of other characters too, e.g. whitespaces or non-ASCII
+ * letters, is always considered as referenced. If the words of the resource can't be read reliably,
+ * e.g. because it is not ASCII compatible or because it uses character or entity references, then
+ * all names are considered as referenced.
+ */
+final class ReferencedNames {
+
+  private static final ReferencedNames ALL = new ReferencedNames(null);
+
+  private static final List<byte[]> PREDEFINED_ENTITY_REFERENCES =
+      List.of(
+          "&amp;".getBytes(StandardCharsets.US_ASCII),
+          "&lt;".getBytes(StandardCharsets.US_ASCII),
+          "&gt;".getBytes(StandardCharsets.US_ASCII),
+          "&quot;".getBytes(StandardCharsets.US_ASCII),
+          "&apos;".getBytes(StandardCharsets.US_ASCII));
+
+  private final Set<String> names;
+
+  private ReferencedNames(final Set<String> names) {
+    this.names = names;
+  }
+
+  static ReferencedNames of(final byte[] resource) {
+    final var names = new HashSet<String>();
+
+    int nameStart = -1;
+    for (int i = 0; i < resource.length; i++) {
+      final byte character = resource[i];
+
+      if (character == 0 || (character == '&' && !isPredefinedEntityReference(resource, i))) {
+        return ALL;
+      }
+
+      if (isNameCharacter(character)) {
+        if (nameStart < 0) {
+          nameStart = i;
+        }
+      } else if (nameStart >= 0) {
+        names.add(new String(resource, nameStart, i - nameStart, StandardCharsets.US_ASCII));
+        nameStart = -1;
+      }
+    }
+
+    if (nameStart >= 0) {
+      names.add(
+          new String(resource, nameStart, resource.length - nameStart, StandardCharsets.US_ASCII));
+    }
+
+    return new ReferencedNames(names);
+  }
+
+  /**
+   * @param name the name of a variable
+   * @return {@code false} if the variable is not referenced by the decision requirements graph for
+   *     sure, otherwise {@code true}
+   */
+  boolean mayReference(final String name) {
+    return names == null || !isPlainName(name) || names.contains(name);
+  }
+
+  private static boolean isPlainName(final String name) {
+    if (name.isEmpty()) {
+      return false;
+    }
+
+    for (int i = 0; i < name.length(); i++) {
+      if (!isNameCharacter(name.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isNameCharacter(final int character) {
+    return (character >= 'a' && character <= 'z')
+        || (character >= 'A' && character <= 'Z')
+        || (character >= '0' && character <= '9')
+        || character == '_';
+  }
+
+  private static boolean isPredefinedEntityReference(final byte[] resource, final int offset) {
+    return PREDEFINED_ENTITY_REFERENCES.stream()
+        .anyMatch(reference -> startsWith(resource, offset, reference));
+  }
+
+  private static boolean startsWith(final byte[] resource, final int offset, final byte[] prefix) {
+    if (resource.length - offset < prefix.length) {
+      return false;
+    }
+
+    for (int i = 0; i < prefix.length; i++) {
+      if (resource[offset + i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
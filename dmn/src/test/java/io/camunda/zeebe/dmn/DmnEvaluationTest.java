@@ -10,7 +10,9 @@ package io.camunda.zeebe.dmn;
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.dmn.impl.MessagePackVariablesContext;
 import io.camunda.zeebe.dmn.impl.ParseFailureMessage;
+import io.camunda.zeebe.dmn.impl.ParsedDmnScalaDrg;
 import io.camunda.zeebe.dmn.impl.VariablesContext;
 import io.camunda.zeebe.test.util.JsonUtil;
 import java.util.List;
@@ -154,6 +156,69 @@ class DmnEvaluationTest {
         .isNotNull();
   }
 
+  @Test
+  @DisplayName("Should result in the same output with MessagePack encoded variables")
+  void shouldResultInSameOutputWithMessagePackVariables() {
+    // given
+    final var inputStream = getClass().getResourceAsStream(VALID_DRG);
+    final var parsedDrg = decisionEngine.parse(inputStream);
+    final var variables =
+        asMsgPack(
+            Map.of(
+                "lightsaberColor", "blue",
+                "height", 182,
+                "unrelated", Map.of("x", List.of(1, 2, 3))));
+
+    // when
+    final var result =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg, "force_user", new MessagePackVariablesContext(variables));
+
+    // then
+    final var expectedResult =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg,
+            "force_user",
+            new VariablesContext(
+                Map.of(
+                    "lightsaberColor", asMsgPack("\"blue\""),
+                    "height", asMsgPack("182"))));
+
+    assertThat(result.isFailure())
+        .describedAs("Expect that the result is evaluated successfully")
+        .isFalse();
+
+    assertThat(result.getOutput())
+        .describedAs("Expect that the output doesn't depend on the type of the context")
+        .isEqualTo(expectedResult.getOutput());
+  }
+
+  @Test
+  @DisplayName("Should only pass the variables that may be referenced by the DRG")
+  void shouldOnlyPassReferencedVariables() {
+    // given
+    final var inputStream = getClass().getResourceAsStream(VALID_DRG);
+    final var parsedDrg = (ParsedDmnScalaDrg) decisionEngine.parse(inputStream);
+    final var variables =
+        asMsgPack(
+            Map.of(
+                "lightsaberColor", "blue",
+                "height", 182,
+                "unrelated", 1,
+                "unrelated name", 2));
+
+    // when
+    final var passedVariables =
+        new MessagePackVariablesContext(variables).toMap(parsedDrg::mayReferenceVariable);
+
+    // then
+    assertThat(passedVariables)
+        .describedAs(
+            "Expect that only the referenced variables, and the ones that can't be checked, are"
+                + " passed")
+        .containsOnlyKeys("lightsaberColor", "height", "unrelated name");
+  }
+
   @Nested
   @TestInstance(TestInstance.Lifecycle.PER_CLASS)
   @DisplayName("If successfully evaluated, the output")
@@ -162,6 +162,12 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onRollback() {
+    // the cached variables may contain changes which were rolled back
+    processingState.getVariableState().clearCache();
+  }
+
   private void handleUnexpectedError(
       final Throwable processingException, final TypedRecord record) {
     final String errorMessage =
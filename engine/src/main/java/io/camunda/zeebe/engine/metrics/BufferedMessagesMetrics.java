@@ -19,6 +19,26 @@ public class BufferedMessagesMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Gauge MESSAGE_EXPIRY_LAG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("buffered_messages_expiry_lag")
+          .help(
+              "Time in milliseconds by which the longest overdue buffered message was overdue, when"
+                  + " the last run of the message TTL checker started; accurate to a second")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge EXPIRED_MESSAGES_COUNT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("buffered_messages_expired_count")
+          .help(
+              "Number of buffered messages with an expired deadline, when the last run of the"
+                  + " message TTL checker started")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public BufferedMessagesMetrics(final int partitionId) {
@@ -28,4 +48,12 @@ public class BufferedMessagesMetrics {
   public void setBufferedMessagesCounter(final long counter) {
     BUFFERED_MESSAGES_COUNT.labels(partitionIdLabel).set((int) counter);
   }
+
+  public void setMessageExpiryLag(final long lagMillis) {
+    MESSAGE_EXPIRY_LAG.labels(partitionIdLabel).set(lagMillis);
+  }
+
+  public void setExpiredMessagesCount(final long count) {
+    EXPIRED_MESSAGES_COUNT.labels(partitionIdLabel).set(count);
+  }
 }
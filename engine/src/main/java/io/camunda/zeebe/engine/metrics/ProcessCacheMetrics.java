@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class ProcessCacheMetrics {
+
+  private static final Counter PROCESS_CACHE_EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_cache_evictions_total")
+          .help("Number of deployed processes evicted from the process cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter PROCESS_CACHE_MISSES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_cache_misses_total")
+          .help("Number of deployed processes which had to be loaded from the state and parsed")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void processEvicted() {
+    PROCESS_CACHE_EVICTIONS.labels(partitionIdLabel).inc();
+  }
+
+  public void processLoaded() {
+    PROCESS_CACHE_MISSES.labels(partitionIdLabel).inc();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class VariableCacheMetrics {
+
+  private static final String SCOPE_DOCUMENT = "document";
+  private static final String PARENT_SCOPE = "parent";
+
+  private static final Counter VARIABLE_CACHE_HITS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_cache_hits_total")
+          .help("Number of variable scope lookups which were served by the variable cache")
+          .labelNames("partition", "type")
+          .register();
+
+  private static final Counter VARIABLE_CACHE_MISSES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_cache_misses_total")
+          .help("Number of variable scope lookups which had to be read from the state")
+          .labelNames("partition", "type")
+          .register();
+
+  private final Counter.Child documentHits;
+  private final Counter.Child documentMisses;
+  private final Counter.Child parentHits;
+  private final Counter.Child parentMisses;
+
+  public VariableCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    documentHits = VARIABLE_CACHE_HITS.labels(partitionIdLabel, SCOPE_DOCUMENT);
+    documentMisses = VARIABLE_CACHE_MISSES.labels(partitionIdLabel, SCOPE_DOCUMENT);
+    parentHits = VARIABLE_CACHE_HITS.labels(partitionIdLabel, PARENT_SCOPE);
+    parentMisses = VARIABLE_CACHE_MISSES.labels(partitionIdLabel, PARENT_SCOPE);
+  }
+
+  public void scopeDocumentHit() {
+    documentHits.inc();
+  }
+
+  public void scopeDocumentMissed() {
+    documentMisses.inc();
+  }
+
+  public void parentScopeHit() {
+    parentHits.inc();
+  }
+
+  public void parentScopeMissed() {
+    parentMisses.inc();
+  }
+}
@@ -171,7 +171,11 @@ public final class ProcessEventProcessors {
             ValueType.TIMER,
             TimerIntent.CANCEL,
             new CancelTimerProcessor(
-                processingState.getTimerState(), writers.state(), writers.rejection()))
+                processingState.getTimerState(),
+                writers.state(),
+                writers.rejection(),
+                writers.sideEffect(),
+                timerChecker))
         .withListener(timerChecker);
   }
 
@@ -305,6 +305,7 @@ public final class CatchEventBehavior {
       final DirectBuffer handlerNodeId,
       final Timer timer) {
     final long dueDate = timer.getDueDate(ActorClock.currentTimeMillis());
+    final long timerKey = keyGenerator.nextKey();
     timerRecord.reset();
     timerRecord
         .setRepetitions(timer.getRepetitions())
@@ -318,11 +319,11 @@ public final class CatchEventBehavior {
         () -> {
           /* timerChecker implements onRecovered to recover from restart, so no need to schedule
           this in TimerCreatedApplier.*/
-          timerChecker.scheduleTimer(dueDate);
+          timerChecker.scheduleTimer(dueDate, timerKey, elementInstanceKey);
           return true;
         });
 
-    stateWriter.appendFollowUpEvent(keyGenerator.nextKey(), TimerIntent.CREATED, timerRecord);
+    stateWriter.appendFollowUpEvent(timerKey, TimerIntent.CREATED, timerRecord);
   }
 
   private void subscribeToSignalEvents(
@@ -383,7 +384,14 @@ public final class CatchEventBehavior {
         .setTargetElementId(timer.getHandlerNodeId())
         .setProcessDefinitionKey(timer.getProcessDefinitionKey());
 
-    stateWriter.appendFollowUpEvent(timer.getKey(), TimerIntent.CANCELED, timerRecord);
+    final long timerKey = timer.getKey();
+    sideEffectWriter.appendSideEffect(
+        () -> {
+          timerChecker.cancelTimer(timerKey);
+          return true;
+        });
+
+    stateWriter.appendFollowUpEvent(timerKey, TimerIntent.CANCELED, timerRecord);
   }
 
   private void unsubscribeFromMessageEvents(
@@ -16,13 +16,12 @@ import io.camunda.zeebe.dmn.EvaluatedInput;
 import io.camunda.zeebe.dmn.EvaluatedOutput;
 import io.camunda.zeebe.dmn.MatchedRule;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
-import io.camunda.zeebe.dmn.impl.VariablesContext;
+import io.camunda.zeebe.dmn.impl.MessagePackVariablesContext;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.state.deployment.DeployedDrg;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
 import io.camunda.zeebe.engine.state.immutable.DecisionState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
-import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.decision.EvaluatedDecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.decision.MatchedRuleRecord;
@@ -86,7 +85,7 @@ public class DecisionBehavior {
       final ParsedDecisionRequirementsGraph drg,
       final String decisionId,
       final DirectBuffer variables) {
-    final var evaluationContext = new VariablesContext(MsgPackConverter.convertToMap(variables));
+    final var evaluationContext = new MessagePackVariablesContext(variables);
     final var evaluationResult =
         decisionEngine.evaluateDecisionById(drg, decisionId, evaluationContext);
 
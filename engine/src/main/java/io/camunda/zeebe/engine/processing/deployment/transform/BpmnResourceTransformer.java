@@ -9,6 +9,8 @@ package io.camunda.zeebe.engine.processing.deployment.transform;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
@@ -28,7 +30,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessIntent;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
-import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.agrona.io.DirectBufferInputStream;
@@ -36,6 +38,8 @@ import org.camunda.bpm.model.xml.ModelParseException;
 
 public final class BpmnResourceTransformer implements DeploymentResourceTransformer {
 
+  private static final int TRANSFORMED_RESOURCES_CAPACITY = 1000;
+
   private final BpmnTransformer bpmnTransformer = BpmnFactory.createTransformer();
 
   private final KeyGenerator keyGenerator;
@@ -46,6 +50,12 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
   private final ProcessState processState;
   private final boolean enableStraightThroughProcessingLoopDetector;
 
+  // the processes of the resources which were transformed successfully, by the tenant and the
+  // checksum of the resource; it allows to recognize a redeployment of an unchanged resource
+  // without parsing it
+  private final Cache<TransformedResourceKey, TransformedResource> transformedResources =
+      CacheBuilder.newBuilder().maximumSize(TRANSFORMED_RESOURCES_CAPACITY).build();
+
   public BpmnResourceTransformer(
       final KeyGenerator keyGenerator,
       final StateWriter stateWriter,
@@ -64,6 +74,20 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
   @Override
   public Either<Failure, Void> transformResource(
       final DeploymentResource resource, final DeploymentRecord deployment) {
+    final DirectBuffer checksum = checksumGenerator.apply(resource);
+    final var resourceKey = TransformedResourceKey.of(deployment, checksum);
+
+    final var transformedResource = transformedResources.getIfPresent(resourceKey);
+    if (transformedResource != null && isUnchanged(resource, checksum, transformedResource)) {
+      // the same resource was deployed before and passed the validation, and all of its processes
+      // are still the latest versions - there is nothing new to parse, validate or transform
+      return checkForDuplicateBpmnId(transformedResource.processIds(), resource, deployment)
+          .map(
+              ok -> {
+                transformProcessResource(deployment, resource, transformedResource, checksum);
+                return null;
+              });
+    }
 
     return readProcessDefinition(resource)
         .flatMap(
@@ -74,8 +98,9 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
                 // transform the model to avoid unexpected failures that are not covered by the
                 // validator
                 final var executableProcesses = bpmnTransformer.transformDefinitions(definition);
+                final var processes = TransformedResource.of(definition);
 
-                return checkForDuplicateBpmnId(definition, resource, deployment)
+                return checkForDuplicateBpmnId(processes.processIds(), resource, deployment)
                     .flatMap(
                         unused -> {
                           if (enableStraightThroughProcessingLoopDetector) {
@@ -86,7 +111,8 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
                         })
                     .map(
                         ok -> {
-                          transformProcessResource(deployment, resource, definition);
+                          transformProcessResource(deployment, resource, processes, checksum);
+                          transformedResources.put(resourceKey, processes);
                           return null;
                         });
 
@@ -112,16 +138,26 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
     }
   }
 
+  private boolean isUnchanged(
+      final DeploymentResource resource,
+      final DirectBuffer checksum,
+      final TransformedResource transformedResource) {
+    return transformedResource.executableProcessIds().stream()
+        .map(BufferUtil::wrapString)
+        .allMatch(
+            bpmnProcessId ->
+                isDuplicateOfLatest(
+                    resource,
+                    checksum,
+                    processState.getLatestProcessVersionByProcessId(bpmnProcessId),
+                    processState.getLatestVersionDigest(bpmnProcessId)));
+  }
+
   private Either<Failure, ?> checkForDuplicateBpmnId(
-      final BpmnModelInstance process,
+      final List<String> bpmnProcessIds,
       final DeploymentResource resource,
       final DeploymentRecord record) {
 
-    final var bpmnProcessIds =
-        process.getDefinitions().getChildElementsByType(Process.class).stream()
-            .map(BaseElement::getId)
-            .toList();
-
     return record.getProcessesMetadata().stream()
         .filter(metadata -> bpmnProcessIds.contains(metadata.getBpmnProcessId()))
         .findFirst()
@@ -139,45 +175,46 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
   private void transformProcessResource(
       final DeploymentRecord deploymentEvent,
       final DeploymentResource deploymentResource,
-      final BpmnModelInstance definition) {
-    final Collection<Process> processes =
-        definition.getDefinitions().getChildElementsByType(Process.class);
-
-    for (final Process process : processes) {
-      if (process.isExecutable()) {
-        final String bpmnProcessId = process.getId();
-        final DeployedProcess lastProcess =
-            processState.getLatestProcessVersionByProcessId(BufferUtil.wrapString(bpmnProcessId));
-
-        final DirectBuffer lastDigest =
-            processState.getLatestVersionDigest(wrapString(bpmnProcessId));
-        final DirectBuffer resourceDigest = checksumGenerator.apply(deploymentResource);
-
-        // adds process record to deployment record
-        final var processMetadata = deploymentEvent.processesMetadata().add();
-        processMetadata
-            .setBpmnProcessId(BufferUtil.wrapString(process.getId()))
-            .setChecksum(resourceDigest)
-            .setResourceName(deploymentResource.getResourceNameBuffer())
-            .setTenantId(deploymentEvent.getTenantId());
-
-        final var isDuplicate =
-            isDuplicateOfLatest(deploymentResource, resourceDigest, lastProcess, lastDigest);
-        if (isDuplicate) {
-          processMetadata
-              .setVersion(lastProcess.getVersion())
-              .setKey(lastProcess.getKey())
-              .markAsDuplicate();
-        } else {
-          final var key = keyGenerator.nextKey();
-          processMetadata.setKey(key).setVersion(processState.getNextProcessVersion(bpmnProcessId));
-
-          stateWriter.appendFollowUpEvent(
-              key,
-              ProcessIntent.CREATED,
-              new ProcessRecord().wrap(processMetadata, deploymentResource.getResource()));
-        }
-      }
+      final TransformedResource processes,
+      final DirectBuffer resourceDigest) {
+    for (final String bpmnProcessId : processes.executableProcessIds()) {
+      addProcessMetadata(deploymentEvent, deploymentResource, bpmnProcessId, resourceDigest);
+    }
+  }
+
+  private void addProcessMetadata(
+      final DeploymentRecord deploymentEvent,
+      final DeploymentResource deploymentResource,
+      final String bpmnProcessId,
+      final DirectBuffer resourceDigest) {
+    final DeployedProcess lastProcess =
+        processState.getLatestProcessVersionByProcessId(BufferUtil.wrapString(bpmnProcessId));
+
+    final DirectBuffer lastDigest = processState.getLatestVersionDigest(wrapString(bpmnProcessId));
+
+    // adds process record to deployment record
+    final var processMetadata = deploymentEvent.processesMetadata().add();
+    processMetadata
+        .setBpmnProcessId(BufferUtil.wrapString(bpmnProcessId))
+        .setChecksum(resourceDigest)
+        .setResourceName(deploymentResource.getResourceNameBuffer())
+        .setTenantId(deploymentEvent.getTenantId());
+
+    final var isDuplicate =
+        isDuplicateOfLatest(deploymentResource, resourceDigest, lastProcess, lastDigest);
+    if (isDuplicate) {
+      processMetadata
+          .setVersion(lastProcess.getVersion())
+          .setKey(lastProcess.getKey())
+          .markAsDuplicate();
+    } else {
+      final var key = keyGenerator.nextKey();
+      processMetadata.setKey(key).setVersion(processState.getNextProcessVersion(bpmnProcessId));
+
+      stateWriter.appendFollowUpEvent(
+          key,
+          ProcessIntent.CREATED,
+          new ProcessRecord().wrap(processMetadata, deploymentResource.getResource()));
     }
   }
 
@@ -191,4 +228,20 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
         && lastVersionDigest.equals(resourceDigest)
         && lastProcess.getResourceName().equals(deploymentResource.getResourceNameBuffer());
   }
+
+  /**
+   * The ids of the processes of a transformed resource, in the order of the resource.
+   *
+   * @param processIds the ids of all processes of the resource
+   * @param executableProcessIds the ids of the executable processes of the resource
+   */
+  private record TransformedResource(List<String> processIds, List<String> executableProcessIds) {
+
+    private static TransformedResource of(final BpmnModelInstance definition) {
+      final var processes = definition.getDefinitions().getChildElementsByType(Process.class);
+      return new TransformedResource(
+          processes.stream().map(BaseElement::getId).toList(),
+          processes.stream().filter(Process::isExecutable).map(BaseElement::getId).toList());
+    }
+  }
 }
@@ -10,14 +10,16 @@ package io.camunda.zeebe.engine.processing.deployment.transform;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static java.util.function.Predicate.not;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.dmn.DecisionEngine;
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.dmn.ParsedDecision;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
-import io.camunda.zeebe.engine.state.deployment.DeployedDrg;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
+import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
 import io.camunda.zeebe.engine.state.immutable.DecisionState;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsMetadataRecord;
@@ -45,6 +47,8 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
 
   private static final Either<Failure, Object> NO_DUPLICATES = Either.right(null);
 
+  private static final int TRANSFORMED_RESOURCES_CAPACITY = 1000;
+
   private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
 
   private final KeyGenerator keyGenerator;
@@ -52,6 +56,13 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
   private final Function<DeploymentResource, DirectBuffer> checksumGenerator;
   private final DecisionState decisionState;
 
+  // the parsed decision requirements graphs of the resources which were transformed successfully,
+  // by the tenant and the checksum of the resource; it allows to redeploy an unchanged resource
+  // without parsing it again
+  private final Cache<TransformedResourceKey, ParsedDecisionRequirementsGraph>
+      transformedResources =
+          CacheBuilder.newBuilder().maximumSize(TRANSFORMED_RESOURCES_CAPACITY).build();
+
   public DmnResourceTransformer(
       final KeyGenerator keyGenerator,
       final StateWriter stateWriter,
@@ -67,15 +78,22 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
   public Either<Failure, Void> transformResource(
       final DeploymentResource resource, final DeploymentRecord deployment) {
 
-    final var dmnResource = new ByteArrayInputStream(resource.getResource());
-    final var parsedDrg = decisionEngine.parse(dmnResource);
+    final DirectBuffer checksum = checksumGenerator.apply(resource);
+    final var resourceKey = TransformedResourceKey.of(deployment, checksum);
+    final var transformedDrg = transformedResources.getIfPresent(resourceKey);
+    final var parsedDrg =
+        transformedDrg != null
+            ? transformedDrg
+            : decisionEngine.parse(new ByteArrayInputStream(resource.getResource()));
 
     if (parsedDrg.isValid()) {
       return checkForDuplicateIds(resource, parsedDrg, deployment)
           .map(
               noDuplicates -> {
-                final var drgKey = appendMetadataToDeploymentEvent(resource, parsedDrg, deployment);
+                final var drgKey =
+                    appendMetadataToDeploymentEvent(resource, checksum, parsedDrg, deployment);
                 writeRecords(deployment, resource, drgKey);
+                transformedResources.put(resourceKey, parsedDrg);
                 return null;
               });
 
@@ -156,11 +174,11 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
 
   private long appendMetadataToDeploymentEvent(
       final DeploymentResource resource,
+      final DirectBuffer checksum,
       final ParsedDecisionRequirementsGraph parsedDrg,
       final DeploymentRecord deploymentEvent) {
 
     final LongSupplier newDecisionRequirementsKey = keyGenerator::nextKey;
-    final DirectBuffer checksum = checksumGenerator.apply(resource);
     final var drgRecord = deploymentEvent.decisionRequirementsMetadata().add();
 
     drgRecord
@@ -171,8 +189,10 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
         .setChecksum(checksum)
         .setTenantId(deploymentEvent.getTenantId());
 
+    // the metadata of the latest version suffices to recognize a duplicate; it's read without
+    // parsing the resource of the latest version
     decisionState
-        .findLatestDecisionRequirementsById(wrapString(parsedDrg.getId()))
+        .findLatestDecisionRequirementsMetadataById(wrapString(parsedDrg.getId()))
         .ifPresentOrElse(
             latestDrg -> {
               final int latestVersion = latestDrg.getDecisionRequirementsVersion();
@@ -239,16 +259,18 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
     return drgRecord.getDecisionRequirementsKey();
   }
 
-  private boolean hasSameResourceNameAs(final DeploymentResource resource, final DeployedDrg drg) {
+  private boolean hasSameResourceNameAs(
+      final DeploymentResource resource, final PersistedDecisionRequirements drg) {
     return drg.getResourceName().equals(resource.getResourceNameBuffer());
   }
 
-  private boolean hasSameChecksumAs(final DirectBuffer checksum, final DeployedDrg drg) {
+  private boolean hasSameChecksumAs(
+      final DirectBuffer checksum, final PersistedDecisionRequirements drg) {
     return drg.getChecksum().equals(checksum);
   }
 
   private boolean hasSameDecisionRequirementsKeyAs(
-      final Collection<ParsedDecision> decisions, final DeployedDrg drg) {
+      final Collection<ParsedDecision> decisions, final PersistedDecisionRequirements drg) {
     return decisions.stream()
         .map(ParsedDecision::getId)
         .map(BufferUtil::wrapString)
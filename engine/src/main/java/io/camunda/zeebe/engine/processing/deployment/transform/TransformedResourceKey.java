@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import org.agrona.DirectBuffer;
+
+/**
+ * Identifies a resource which was transformed before, in the caches of the resource transformers.
+ * The checksum alone isn't sufficient, as the same resource can be deployed by different tenants,
+ * whose deployments must not be recognized by each other.
+ *
+ * @param tenantId the tenant of the deployment which contained the resource
+ * @param checksum the checksum of the resource
+ */
+record TransformedResourceKey(String tenantId, DirectBuffer checksum) {
+
+  static TransformedResourceKey of(final DeploymentRecord deployment, final DirectBuffer checksum) {
+    return new TransformedResourceKey(deployment.getTenantId(), checksum);
+  }
+}
@@ -8,11 +8,15 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateEntries;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateEntries.TriggerResult;
+import io.camunda.zeebe.engine.processing.scheduled.TimerWheel.EntryVisitor;
 import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
-import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 
 public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
@@ -22,20 +26,11 @@ public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
   private final DueDateChecker backOffDueDateChecker;
 
   public JobBackoffChecker(final JobState jobState) {
-    backOffDueDateChecker =
-        new DueDateChecker(
-            BACKOFF_RESOLUTION,
-            false,
-            taskResultBuilder ->
-                jobState.findBackedOffJobs(
-                    ActorClock.currentTimeMillis(),
-                    (key, record) ->
-                        taskResultBuilder.appendCommandRecord(
-                            key, JobIntent.RECUR_AFTER_BACKOFF, record)));
+    backOffDueDateChecker = new DueDateChecker(BACKOFF_RESOLUTION, new BackedOffJobs(jobState));
   }
 
-  public void scheduleBackOff(final long dueDate) {
-    backOffDueDateChecker.schedule(dueDate);
+  public void scheduleBackOff(final long dueDate, final long jobKey) {
+    backOffDueDateChecker.schedule(dueDate, jobKey, -1L);
   }
 
   @Override
@@ -62,4 +57,42 @@ public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
   public void onResumed() {
     backOffDueDateChecker.onResumed();
   }
+
+  /** The failed jobs which recur after their backoff, as entries of the checker's timer wheel. */
+  private static final class BackedOffJobs implements DueDateEntries {
+
+    private final JobState jobState;
+
+    private BackedOffJobs(final JobState jobState) {
+      this.jobState = jobState;
+    }
+
+    @Override
+    public long visitEntries(final long upperBound, final EntryVisitor visitor) {
+      return jobState.findBackedOffJobs(
+          upperBound, (key, record) -> visitor.visit(key, -1L, record.getRecurringTime()));
+    }
+
+    @Override
+    public TriggerResult trigger(
+        final TaskResultBuilder taskResultBuilder,
+        final long now,
+        final long key,
+        final long scopeKey,
+        final long dueDate) {
+      if (jobState.getState(key) != State.FAILED) {
+        // the job was resolved or canceled in the meantime
+        return TriggerResult.SKIPPED;
+      }
+
+      final var job = jobState.getJob(key);
+      if (job == null || job.getRecurringTime() != dueDate) {
+        return TriggerResult.SKIPPED;
+      }
+
+      return taskResultBuilder.appendCommandRecord(key, JobIntent.RECUR_AFTER_BACKOFF, job)
+          ? TriggerResult.TRIGGERED
+          : TriggerResult.DEFERRED;
+    }
+  }
 }
@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
@@ -33,6 +34,7 @@ import org.agrona.DirectBuffer;
 public final class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchRecord> {
 
   private final StateWriter stateWriter;
+  private final JobState jobState;
   private final TypedRejectionWriter rejectionWriter;
   private final TypedResponseWriter responseWriter;
   private final JobBatchCollector jobBatchCollector;
@@ -48,6 +50,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     stateWriter = writers.state();
     rejectionWriter = writers.rejection();
     responseWriter = writers.response();
+    jobState = state.getJobState();
     jobBatchCollector =
         new JobBatchCollector(
             state.getJobState(), state.getVariableState(), stateWriter::canWriteEventOfLength);
@@ -122,6 +125,10 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
       final JobBatchRecord value,
       final long jobBatchKey,
       final Integer activatedCount) {
+    // the activated jobs are only made not activatable when the event is applied; this lets the
+    // gateway know whether to ask this partition for more jobs of the type
+    final long remainingJobs = jobState.getActivatableJobsCount(value.getTypeBuffer());
+    value.setRemainingJobs(remainingJobs - activatedCount);
     stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, value);
     responseWriter.writeEventOnCommand(jobBatchKey, JobBatchIntent.ACTIVATED, value, record);
     jobMetrics.jobActivated(value.getType(), activatedCount);
@@ -33,6 +33,7 @@ import org.agrona.collections.ObjectHashSet;
  */
 final class JobBatchCollector {
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
+  private final ExpandableArrayBuffer jobCopyBuffer = new ExpandableArrayBuffer();
 
   private final JobState jobState;
   private final JobVariablesCollector jobVariablesCollector;
@@ -68,12 +69,16 @@ final class JobBatchCollector {
    */
   Either<TooLargeJob, Integer> collectJobs(final TypedRecord<JobBatchRecord> record) {
     final JobBatchRecord value = record.getValue();
+    if (jobState.getActivatableJobsCount(value.getTypeBuffer()) == 0) {
+      // nothing to activate, so there is no need to look for jobs or to collect the variable names
+      return Either.right(0);
+    }
+
     final ValueArray<JobRecord> jobIterator = value.jobs();
     final ValueArray<LongValue> jobKeyIterator = value.jobKeys();
     final Collection<DirectBuffer> requestedVariables = collectVariableNames(value);
     final var maxActivatedCount = value.getMaxJobsToActivate();
     final var activatedCount = new MutableInteger(0);
-    final var jobCopyBuffer = new ExpandableArrayBuffer();
     final var unwritableJob = new MutableReference<TooLargeJob>();
 
     jobState.forEachActivatableJobs(
@@ -95,7 +100,7 @@ final class JobBatchCollector {
                   + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
           if (activatedCount.value <= maxActivatedCount
               && canWriteEventOfLength.test(expectedEventLength)) {
-            appendJobToBatch(jobIterator, jobKeyIterator, jobCopyBuffer, key, jobRecord);
+            appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
             activatedCount.increment();
           } else {
             // if no jobs were activated, then the current job is simply too large, and we cannot
@@ -121,7 +126,6 @@ final class JobBatchCollector {
   private void appendJobToBatch(
       final ValueArray<JobRecord> jobIterator,
       final ValueArray<LongValue> jobKeyIterator,
-      final ExpandableArrayBuffer jobCopyBuffer,
       final Long key,
       final JobRecord jobRecord) {
     jobKeyIterator.add().setValue(key);
@@ -106,7 +106,7 @@ public final class JobFailProcessor implements TypedRecordProcessor<JobRecord> {
       failedJob.setRecurringTime(receivedTime + retryBackOff);
       sideEffectWriter.appendSideEffect(
           () -> {
-            jobBackoffChecker.scheduleBackOff(retryBackOff + receivedTime);
+            jobBackoffChecker.scheduleBackOff(retryBackOff + receivedTime, jobKey);
             return true;
           });
     }
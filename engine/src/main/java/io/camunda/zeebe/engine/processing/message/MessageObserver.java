@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
@@ -57,7 +58,8 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
             messagesTtlCheckerBatchLimit,
             enableMessageTtlCheckerAsync,
             scheduleService,
-            messageState);
+            messageState,
+            new BufferedMessagesMetrics(context.getPartitionId()));
     if (enableMessageTtlCheckerAsync) {
       scheduleService.runDelayedAsync(messagesTtlCheckerInterval, timeToLiveChecker);
     } else {
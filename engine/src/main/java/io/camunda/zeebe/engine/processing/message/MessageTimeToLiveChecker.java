@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
@@ -18,21 +19,34 @@ import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
 
 /**
  * The Message TTL Checker looks for expired message deadlines, and for each of those it writes an
  * EXPIRE Message command.
  *
  * <p>To prevent that it clogs the log stream with too many EXPIRE Message commands, it only writes
- * a limited number of these commands in a single run of {@link #execute(TaskResultBuilder)}.
+ * a limited number of these commands in a single run of {@link #execute(TaskResultBuilder)}. If the
+ * resulting command doesn't fit into the result, it retries with half as many messages.
  *
  * <p>It determines whether to reschedule itself immediately, or after the configured {@link
- * #executionInterval interval}. If it reschedules itself immediately, then it will continue where
- * it left off the last time. Otherwise, it starts with the first expired message deadline it can
- * find.
+ * #executionInterval interval}. In both cases, it continues where it left off the last time, as the
+ * message deadlines are ordered and the messages before were already expired, or their EXPIRE
+ * commands are not yet processed. Only every {@link #FULL_SCAN_INTERVAL} runs, it starts with the
+ * first expired message deadline it can find, to expire the messages which it skipped, e.g.
+ * because they were published with a deadline before the last visited one.
+ *
+ * <p>Each run starts by counting the expired messages in the deadline buckets, which count the
+ * messages per second of their deadlines. If no bucket is expired, the message deadlines are not
+ * visited at all. The expired messages are still expired one by one, instead of deleting a whole
+ * bucket at once, as each of them must be removed from all of its indexes and produce an EXPIRED
+ * event.
  */
 public final class MessageTimeToLiveChecker implements Task {
 
+  /** The number of runs after which the checker starts again at the first message deadline. */
+  static final int FULL_SCAN_INTERVAL = 10;
+
   /** This determines the duration that the TTL checker is idle after it completes an execution. */
   private final Duration executionInterval;
 
@@ -44,6 +58,7 @@ public final class MessageTimeToLiveChecker implements Task {
 
   private final ProcessingScheduleService scheduleService;
   private final MessageState messageState;
+  private final BufferedMessagesMetrics metrics;
 
   /** Keeps track of the timestamp to compare the message deadlines against. */
   private long currentTimestamp = -1;
@@ -51,17 +66,25 @@ public final class MessageTimeToLiveChecker implements Task {
   /** Keeps track of where to continue between iterations. */
   private MessageState.Index lastIndex;
 
+  /** The number of EXPIRE commands to fit in the result, reduced if they didn't fit. */
+  private int currentBatchLimit;
+
+  /** Counts the runs, to start again at the first message deadline every few runs. */
+  private int runs;
+
   public MessageTimeToLiveChecker(
       final Duration executionInterval,
       final int batchLimit,
       final boolean enableMessageTtlCheckerAsync,
       final ProcessingScheduleService scheduleService,
-      final MessageState messageState) {
+      final MessageState messageState,
+      final BufferedMessagesMetrics metrics) {
     this.executionInterval = executionInterval;
     this.batchLimit = batchLimit;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
     this.messageState = messageState;
     this.scheduleService = scheduleService;
+    this.metrics = metrics;
     lastIndex = null;
   }
 
@@ -69,8 +92,16 @@ public final class MessageTimeToLiveChecker implements Task {
   public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
     if (currentTimestamp == -1) {
       currentTimestamp = ActorClock.currentTimeMillis();
+      currentBatchLimit = batchLimit;
+
+      if (countExpiredMessages() == 0) {
+        // no deadline bucket is expired, so there is no message deadline to visit
+        completeRun();
+        return taskResultBuilder.build();
+      }
     }
 
+    final var startIndex = lastIndex;
     final var counter = new MutableInteger(0);
     final MessageBatchRecord messageBatchRecord = new MessageBatchRecord();
     final boolean shouldContinueWhereLeftOff =
@@ -88,24 +119,62 @@ public final class MessageTimeToLiveChecker implements Task {
               }
 
               messageBatchRecord.addMessageKey(expiredMessageKey);
-              return counter.incrementAndGet() < batchLimit;
+              return counter.incrementAndGet() < currentBatchLimit;
             });
 
-    if (!messageBatchRecord.isEmpty()) {
-      taskResultBuilder.appendCommandRecord(MessageBatchIntent.EXPIRE, messageBatchRecord);
+    if (!messageBatchRecord.isEmpty()
+        && !taskResultBuilder.appendCommandRecord(MessageBatchIntent.EXPIRE, messageBatchRecord)) {
+      // retry with fewer messages, starting again where this execution started
+      lastIndex = startIndex;
+      currentBatchLimit = Math.max(1, counter.value / 2);
+      reschedule(Duration.ZERO);
+      return taskResultBuilder.build();
     }
 
     if (shouldContinueWhereLeftOff) {
       reschedule(Duration.ZERO);
     } else {
-      lastIndex = null;
-      currentTimestamp = -1;
-      reschedule(executionInterval);
+      completeRun();
     }
 
     return taskResultBuilder.build();
   }
 
+  /**
+   * Counts the expired messages of the current run in the deadline buckets, and publishes how many
+   * there are and how overdue the oldest of them is. The messages whose EXPIRE commands are not yet
+   * processed are counted too, as they are still buffered.
+   *
+   * @return the number of messages in the expired deadline buckets
+   */
+  private long countExpiredMessages() {
+    final var expiredMessages = new MutableLong(0);
+    final var oldestBucketStart = new MutableLong(currentTimestamp);
+    messageState.visitDeadlineBucketsBeforeTimestamp(
+        currentTimestamp,
+        (bucketStart, messageCount) -> {
+          if (expiredMessages.get() == 0) {
+            // the buckets are ordered, so this one contains the longest overdue message
+            oldestBucketStart.set(bucketStart);
+          }
+          expiredMessages.addAndGet(messageCount);
+          return true;
+        });
+
+    metrics.setExpiredMessagesCount(expiredMessages.get());
+    metrics.setMessageExpiryLag(currentTimestamp - oldestBucketStart.get());
+    return expiredMessages.get();
+  }
+
+  private void completeRun() {
+    runs++;
+    if (runs % FULL_SCAN_INTERVAL == 0) {
+      lastIndex = null;
+    }
+    currentTimestamp = -1;
+    reschedule(executionInterval);
+  }
+
   private void reschedule(final Duration idleInterval) {
     if (enableMessageTtlCheckerAsync) {
       scheduleService.runDelayedAsync(idleInterval, this);
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.engine.processing.scheduled;
 
+import io.camunda.zeebe.engine.processing.scheduled.DueDateEntries.TriggerResult;
+import io.camunda.zeebe.engine.processing.scheduled.TimerWheel.EntryVisitor;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
@@ -15,8 +17,22 @@ import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.agrona.collections.Long2LongHashMap;
 
+/**
+ * Triggers entities with a due date, e.g. timers, by running a task at the next due date. The
+ * checker either scans the state for due entities on every run, or keeps the upcoming entities in
+ * a {@link TimerWheel}, see {@link #DueDateChecker(long, DueDateEntries)}.
+ */
 public final class DueDateChecker implements StreamProcessorLifecycleAware {
+
+  /**
+   * The delay after which an entry of the timer wheel is triggered again, if it still exists by
+   * then, e.g. because the command which triggered it was rejected, or its processing failed.
+   */
+  public static final long TRIGGER_RETRY_DELAY = Duration.ofSeconds(1).toMillis();
+
   private ScheduleDelayed scheduleService;
   private final boolean scheduleAsync;
 
@@ -27,17 +43,114 @@ public final class DueDateChecker implements StreamProcessorLifecycleAware {
   private final long timerResolution;
   private final Function<TaskResultBuilder, Long> nextDueDateSupplier;
   private final TriggerEntitiesTask triggerEntitiesTask;
+  private final DueDateWheel dueDateWheel;
 
   public DueDateChecker(
       final long timerResolution,
       final boolean scheduleAsync,
       final Function<TaskResultBuilder, Long> nextDueDateFunction) {
+    this(timerResolution, scheduleAsync, nextDueDateFunction, null);
+  }
+
+  /**
+   * Creates a checker which keeps the upcoming entries in a {@link TimerWheel}, and triggers them
+   * directly when they are due, instead of scanning the state for due entries on every run. The
+   * wheel is filled from the state on recovery, and whenever entries which are due beyond its
+   * horizon come within reach. Entries must be scheduled with {@link #schedule(long, long, long)}.
+   *
+   * <p>The checker runs synchronously, as the wheel is modified by both the processing and the
+   * checker's runs. A triggered entry is added to the wheel again, and is triggered again after
+   * {@link #TRIGGER_RETRY_DELAY} if it still exists in the state by then.
+   *
+   * @param timerResolution the resolution of the checker and the tick of the timer wheel
+   * @param entries the entries of the state which are triggered by the checker
+   */
+  public DueDateChecker(final long timerResolution, final DueDateEntries entries) {
+    this(timerResolution, TimerWheel.DEFAULT_MAX_SIZE, entries);
+  }
+
+  /**
+   * Creates a checker which keeps at most the given number of upcoming entries in a {@link
+   * TimerWheel}. If there are more upcoming entries, the latest ones are only kept in the state,
+   * and are triggered by scanning the state, see {@link #DueDateChecker(long, DueDateEntries)}.
+   *
+   * @param timerResolution the resolution of the checker and the tick of the timer wheel
+   * @param maxWheelSize the maximum number of entries in the timer wheel
+   * @param entries the entries of the state which are triggered by the checker
+   */
+  public DueDateChecker(
+      final long timerResolution, final int maxWheelSize, final DueDateEntries entries) {
+    this(timerResolution, maxWheelSize, entries, ActorClock::currentTimeMillis);
+  }
+
+  /**
+   * Creates a checker like {@link #DueDateChecker(long, int, DueDateEntries)}, which moves its
+   * timer wheel by the given clock instead of the clock of the current actor thread.
+   *
+   * @param timerResolution the resolution of the checker and the tick of the timer wheel
+   * @param maxWheelSize the maximum number of entries in the timer wheel
+   * @param entries the entries of the state which are triggered by the checker
+   * @param clock the clock by which the timer wheel is moved
+   */
+  public DueDateChecker(
+      final long timerResolution,
+      final int maxWheelSize,
+      final DueDateEntries entries,
+      final ActorClock clock) {
+    this(timerResolution, maxWheelSize, entries, clock::getTimeMillis);
+  }
+
+  private DueDateChecker(
+      final long timerResolution,
+      final int maxWheelSize,
+      final DueDateEntries entries,
+      final LongSupplier clock) {
+    this(
+        timerResolution,
+        false,
+        null,
+        new DueDateWheel(timerResolution, maxWheelSize, entries, clock));
+  }
+
+  private DueDateChecker(
+      final long timerResolution,
+      final boolean scheduleAsync,
+      final Function<TaskResultBuilder, Long> nextDueDateFunction,
+      final DueDateWheel dueDateWheel) {
     this.timerResolution = timerResolution;
     this.scheduleAsync = scheduleAsync;
-    nextDueDateSupplier = nextDueDateFunction;
+    this.dueDateWheel = dueDateWheel;
+    nextDueDateSupplier = dueDateWheel != null ? dueDateWheel : nextDueDateFunction;
     triggerEntitiesTask = new TriggerEntitiesTask();
   }
 
+  /**
+   * Schedules the given entry, which is added to the timer wheel of the checker if it uses one.
+   *
+   * @param dueDate the due date of the entry
+   * @param key the key of the entry
+   * @param scopeKey the key of the entry's scope which is needed to look it up, or {@code -1}
+   */
+  public void schedule(final long dueDate, final long key, final long scopeKey) {
+    if (dueDateWheel != null) {
+      dueDateWheel.add(key, scopeKey, dueDate);
+    }
+
+    schedule(dueDate);
+  }
+
+  /**
+   * Removes the given entry from the timer wheel of the checker if it uses one, e.g. because it was
+   * canceled. Otherwise, the entry is kept until it is due, and is then ignored.
+   *
+   * @param key the key of the entry
+   */
+  public void cancel(final long key) {
+    if (dueDateWheel != null) {
+      dueDateWheel.remove(key);
+    }
+  }
+
   public void schedule(final long dueDate) {
 
     // We schedule only one runnable for all timers.
@@ -92,6 +205,10 @@ public final class DueDateChecker implements StreamProcessorLifecycleAware {
       this.scheduleService = scheduleService::runDelayed;
     }
 
+    if (dueDateWheel != null) {
+      dueDateWheel.reset();
+    }
+
     shouldRescheduleChecker = true;
     // check if timers are due after restart
     scheduleTriggerEntitiesTask();
@@ -134,6 +251,168 @@ public final class DueDateChecker implements StreamProcessorLifecycleAware {
     }
   }
 
+  /**
+   * Keeps the upcoming entries in a timer wheel and triggers the due ones, falling back to the
+   * state only for the entries which are beyond the horizon of the wheel, or which don't fit into
+   * the wheel anymore. All entries with a due date up to {@code filledUpTo} are in the wheel; later
+   * entries are only found in the state.
+   *
+   * <p>A triggered entry is kept until the state change which removes it is applied: an entry of
+   * the wheel is added again with a due date after the retry delay, and its actual due date is
+   * kept in {@code retriedDueDates}; an entry beyond the wheel stays in the state, which is scanned
+   * again after the retry delay. If the entry still exists by then, it is triggered again.
+   */
+  private static final class DueDateWheel implements Function<TaskResultBuilder, Long> {
+
+    private final TimerWheel wheel;
+    private final DueDateEntries entries;
+    private final EntryVisitor fillVisitor = this::fill;
+    private final EntryVisitor triggerVisitor = this::trigger;
+    private final EntryVisitor triggerOverflowVisitor = this::triggerOverflow;
+    private final Long2LongHashMap retriedDueDates = new Long2LongHashMap(-1L);
+    private final LongSupplier clock;
+
+    private long filledUpTo = -1L;
+    private long nextDueDateBeyondHorizon = -1L;
+    private boolean triggeredOverflow;
+    private TaskResultBuilder taskResultBuilder;
+    private long now;
+
+    private DueDateWheel(
+        final long tickMillis,
+        final int maxSize,
+        final DueDateEntries entries,
+        final LongSupplier clock) {
+      wheel = new TimerWheel(tickMillis, clock.getAsLong(), maxSize);
+      this.entries = entries;
+      this.clock = clock;
+    }
+
+    private void add(final long key, final long scopeKey, final long dueDate) {
+      retriedDueDates.remove(key);
+      if (filledUpTo < 0) {
+        // the wheel is filled from the state on the next run
+        return;
+      }
+
+      if (dueDate > filledUpTo) {
+        keepInState(dueDate);
+      } else if (!wheel.add(key, scopeKey, dueDate)) {
+        // the wheel is full, so it only holds the entries which are due before this one
+        filledUpTo = dueDate - 1;
+        keepInState(dueDate);
+      }
+    }
+
+    private void remove(final long key) {
+      wheel.remove(key);
+      retriedDueDates.remove(key);
+    }
+
+    private void reset() {
+      filledUpTo = -1L;
+      nextDueDateBeyondHorizon = -1L;
+    }
+
+    @Override
+    public Long apply(final TaskResultBuilder taskResultBuilder) {
+      now = clock.getAsLong();
+      if (filledUpTo < 0 || now < wheel.currentTime()) {
+        // the wheel can't move backwards if the clock does, so it's filled again
+        wheel.clear(now);
+        retriedDueDates.clear();
+        filledUpTo = -1L;
+        fillWheel();
+      } else {
+        wheel.advanceTo(now);
+        if (nextDueDateBeyondHorizon > 0
+            && nextDueDateBeyondHorizon <= wheel.horizon()
+            && !wheel.isFull()) {
+          fillWheel();
+        }
+      }
+
+      this.taskResultBuilder = taskResultBuilder;
+      boolean triggeredAll = wheel.pollDue(triggerVisitor);
+      if (triggeredAll && nextDueDateBeyondHorizon > 0 && nextDueDateBeyondHorizon <= now) {
+        // entries which didn't fit into the wheel are due, so they're triggered from the state
+        triggeredOverflow = false;
+        nextDueDateBeyondHorizon = entries.visitEntries(now, triggerOverflowVisitor);
+        triggeredAll = nextDueDateBeyondHorizon < 0 || nextDueDateBeyondHorizon > now;
+        if (triggeredOverflow) {
+          // the triggered entries stay in the state until they're removed, so it's scanned again
+          keepInState(now + TRIGGER_RETRY_DELAY);
+        }
+      }
+      this.taskResultBuilder = null;
+
+      if (!triggeredAll) {
+        // the remaining due entries are triggered on the next run
+        return now;
+      }
+
+      final long nextDueDate = wheel.nextDueDate();
+      if (nextDueDate < 0 || nextDueDateBeyondHorizon < 0) {
+        // either one is -1 if there is no such entry
+        return Math.max(nextDueDate, nextDueDateBeyondHorizon);
+      }
+      return Math.min(nextDueDate, nextDueDateBeyondHorizon);
+    }
+
+    private void fillWheel() {
+      final long upperBound = wheel.horizon();
+      final long nextDueDate = entries.visitEntries(upperBound, fillVisitor);
+      // if the wheel is full, the filling stops at the first entry which didn't fit
+      filledUpTo = nextDueDate > 0 && nextDueDate <= upperBound ? nextDueDate - 1 : upperBound;
+      nextDueDateBeyondHorizon = nextDueDate;
+    }
+
+    private void keepInState(final long dueDate) {
+      nextDueDateBeyondHorizon =
+          nextDueDateBeyondHorizon < 0 ? dueDate : Math.min(nextDueDateBeyondHorizon, dueDate);
+    }
+
+    private boolean fill(final long key, final long scopeKey, final long dueDate) {
+      // entries up to the previous upper bound are already in the wheel, or were triggered
+      return dueDate <= filledUpTo || wheel.add(key, scopeKey, dueDate);
+    }
+
+    private boolean trigger(final long key, final long scopeKey, final long wheelDueDate) {
+      final long retriedDueDate = retriedDueDates.remove(key);
+      final long dueDate = retriedDueDate > 0 ? retriedDueDate : wheelDueDate;
+      if (dueDate > filledUpTo) {
+        // the wheel overflowed before this entry, so it's triggered from the state instead
+        return true;
+      }
+
+      final var result = entries.trigger(taskResultBuilder, now, key, scopeKey, dueDate);
+      if (result == TriggerResult.DEFERRED) {
+        if (retriedDueDate > 0) {
+          retriedDueDates.put(key, retriedDueDate);
+        }
+        return false;
+      }
+
+      if (result == TriggerResult.TRIGGERED) {
+        // the entry was removed from the wheel before it was polled, so it fits in again
+        wheel.add(key, scopeKey, now + TRIGGER_RETRY_DELAY);
+        retriedDueDates.put(key, dueDate);
+      }
+      return true;
+    }
+
+    private boolean triggerOverflow(final long key, final long scopeKey, final long dueDate) {
+      if (dueDate <= filledUpTo) {
+        // the entries up to the upper bound of the wheel were triggered by polling it already
+        return true;
+      }
+
+      final var result = entries.trigger(taskResultBuilder, now, key, scopeKey, dueDate);
+      triggeredOverflow |= result == TriggerResult.TRIGGERED;
+      return result != TriggerResult.DEFERRED;
+    }
+  }
+
   /**
    * Abstracts over async and sync scheduling methods of {@link
    * io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService}.
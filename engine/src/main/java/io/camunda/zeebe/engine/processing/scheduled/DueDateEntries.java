@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import io.camunda.zeebe.engine.processing.scheduled.TimerWheel.EntryVisitor;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+
+/**
+ * The entries with a due date of a state, e.g. the timers or the backed off jobs, which are
+ * triggered by a {@link DueDateChecker} using a {@link TimerWheel}.
+ */
+public interface DueDateEntries {
+
+  /**
+   * Visits the entries with a due date at or before the given upper bound in the order of their due
+   * dates. Used to fill the timer wheel with the entries of the state.
+   *
+   * @param upperBound the latest due date of the visited entries
+   * @param visitor the visitor of the entries
+   * @return the due date of the first entry after the upper bound, or {@code -1} if there is none
+   */
+  long visitEntries(long upperBound, EntryVisitor visitor);
+
+  /**
+   * Triggers the given entry if it still exists and is due, e.g. by appending a command to the
+   * result builder. Entries which no longer exist, because they were removed after they were added
+   * to the timer wheel, or which are no longer due, because they were rescheduled, are skipped.
+   *
+   * <p>A triggered entry is kept by the checker, and is triggered again after a delay if it still
+   * exists by then, e.g. because the appended command was rejected or its processing failed.
+   *
+   * @param taskResultBuilder the builder of the result of the checker's run
+   * @param now the time at which the checker's run started
+   * @return whether the entry was triggered, skipped, or needs to be revisited in the next run
+   */
+  TriggerResult trigger(
+      TaskResultBuilder taskResultBuilder, long now, long key, long scopeKey, long dueDate);
+
+  /** The result of triggering an entry, see {@link #trigger}. */
+  enum TriggerResult {
+    /** The entry was triggered, and is kept until it no longer exists. */
+    TRIGGERED,
+    /** The entry no longer exists or is not due, and is dropped. */
+    SKIPPED,
+    /** The entry could not be triggered, e.g. as the result is full, and is revisited next run. */
+    DEFERRED
+  }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import java.util.Arrays;
+import org.agrona.collections.Long2LongHashMap;
+
+/**
+ * A hierarchical timer wheel of entries with a due date, e.g. of timers or of backed off jobs. An
+ * entry consists only of its key, the key of its scope and its due date, which are kept in
+ * primitive arrays.
+ *
+ * <p>The wheel has {@link #LEVELS} levels of {@link #SLOTS} slots each. A slot of the lowest level
+ * spans one tick, i.e. the resolution of the wheel, and a slot of every other level spans all slots
+ * of the level below. An entry is kept in the lowest level which can hold it, and is moved to the
+ * levels below as time passes. An entry which is due too far in the future to fit into the highest
+ * level is beyond the horizon of the wheel, and is not added.
+ *
+ * <p>Entries are indexed by their key, such that an entry can be removed as soon as it is canceled,
+ * instead of being kept until it is due. The wheel holds at most {@code maxSize} entries; further
+ * entries are rejected like entries beyond the horizon, and need to be tracked elsewhere.
+ *
+ * <p>Due dates are rounded up to the next tick, such that an entry never becomes due before its
+ * due date. The wheel is not thread safe.
+ */
+public final class TimerWheel {
+
+  static final int LEVELS = 4;
+  static final int SLOT_BITS = 6;
+  static final int SLOTS = 1 << SLOT_BITS;
+  static final int DEFAULT_MAX_SIZE = 1 << 20;
+  private static final int SLOT_MASK = SLOTS - 1;
+  // the list of due entries follows the slots of all levels
+  private static final int DUE_LIST = LEVELS * SLOTS;
+  private static final int NONE = -1;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final long tickMillis;
+  private final int maxSize;
+  // the heads of the doubly linked lists of entries, i.e. of every slot and of the due entries
+  private final int[] listHeads = new int[DUE_LIST + 1];
+  private final int[] levelSizes = new int[LEVELS];
+  private final Long2LongHashMap entriesByKey = new Long2LongHashMap(NONE);
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private long[] scopeKeys = new long[INITIAL_CAPACITY];
+  private long[] dueDates = new long[INITIAL_CAPACITY];
+  private int[] nextEntries = new int[INITIAL_CAPACITY];
+  private int[] previousEntries = new int[INITIAL_CAPACITY];
+  private int[] entryLists = new int[INITIAL_CAPACITY];
+  private int entryCount;
+  private int freeHead = NONE;
+
+  private int dueCount;
+  private long currentTick;
+  private int size;
+
+  /**
+   * @param tickMillis the resolution of the wheel in milliseconds
+   * @param now the current time in milliseconds
+   */
+  public TimerWheel(final long tickMillis, final long now) {
+    this(tickMillis, now, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param tickMillis the resolution of the wheel in milliseconds
+   * @param now the current time in milliseconds
+   * @param maxSize the maximum number of entries in the wheel
+   */
+  public TimerWheel(final long tickMillis, final long now, final int maxSize) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException(
+          "Expected tick of timer wheel to be positive, but was " + tickMillis);
+    }
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected maximum size of timer wheel to be positive, but was " + maxSize);
+    }
+
+    this.tickMillis = tickMillis;
+    this.maxSize = maxSize;
+    Arrays.fill(listHeads, NONE);
+    currentTick = now / tickMillis;
+  }
+
+  /** Removes all entries and moves the wheel to the given time. */
+  public void clear(final long now) {
+    Arrays.fill(listHeads, NONE);
+    Arrays.fill(levelSizes, 0);
+    entriesByKey.clear();
+    entryCount = 0;
+    freeHead = NONE;
+    dueCount = 0;
+    size = 0;
+    currentTick = now / tickMillis;
+  }
+
+  /**
+   * @return the number of entries in the wheel, including the ones which are due
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code true} if no more entries can be added to the wheel
+   */
+  public boolean isFull() {
+    return size >= maxSize;
+  }
+
+  /**
+   * @return the time up to which the wheel was moved, rounded down to its tick
+   */
+  public long currentTime() {
+    return currentTick * tickMillis;
+  }
+
+  /**
+   * @return the latest due date of an entry which can currently be added to the wheel
+   */
+  public long horizon() {
+    final int shift = SLOT_BITS * (LEVELS - 1);
+    final long lastTick = (((currentTick >> shift) + SLOTS) << shift) - 1;
+    return lastTick * tickMillis;
+  }
+
+  /**
+   * Adds an entry to the wheel, replacing an entry with the same key. An entry whose due date has
+   * passed already becomes due right away.
+   *
+   * @return {@code true} if the entry was added, or {@code false} if its due date is beyond the
+   *     {@link #horizon()} of the wheel, or if the wheel is full
+   */
+  public boolean add(final long key, final long scopeKey, final long dueDate) {
+    if (dueDate > horizon()) {
+      return false;
+    }
+
+    remove(key);
+    if (isFull()) {
+      return false;
+    }
+
+    final int entry = allocateEntry();
+    keys[entry] = key;
+    scopeKeys[entry] = scopeKey;
+    dueDates[entry] = dueDate;
+    entriesByKey.put(key, entry);
+    place(entry);
+    size++;
+    return true;
+  }
+
+  /**
+   * Removes the entry with the given key, e.g. because it was canceled.
+   *
+   * @return {@code true} if the entry was removed, or {@code false} if it is not in the wheel
+   */
+  public boolean remove(final long key) {
+    final int entry = (int) entriesByKey.remove(key);
+    if (entry == NONE) {
+      return false;
+    }
+
+    unlink(entry);
+    releaseEntry(entry);
+    size--;
+    return true;
+  }
+
+  /**
+   * Moves the wheel to the given time, i.e. all entries whose due date is at or before the given
+   * time become due. The wheel never moves backwards.
+   */
+  public void advanceTo(final long now) {
+    final long targetTick = now / tickMillis;
+    while (currentTick < targetTick) {
+      if (size == dueCount) {
+        // nothing left to move, so skip the remaining ticks
+        currentTick = targetTick;
+        return;
+      }
+
+      if (levelSizes[0] == 0) {
+        // no entry becomes due until the next slot of the second level is cascaded
+        final long nextCascadeTick = ((currentTick >> SLOT_BITS) + 1) << SLOT_BITS;
+        currentTick = Math.min(targetTick, nextCascadeTick) - 1;
+      }
+
+      currentTick++;
+      for (int level = LEVELS - 1; level > 0; level--) {
+        final int shift = SLOT_BITS * level;
+        if ((currentTick & ((1L << shift) - 1)) == 0) {
+          relink(slotIndex(level, (int) ((currentTick >> shift) & SLOT_MASK)));
+        }
+      }
+      relink(slotIndex(0, (int) (currentTick & SLOT_MASK)));
+    }
+  }
+
+  /**
+   * Removes the due entries and passes them to the given visitor, until the visitor rejects an
+   * entry. A rejected entry is kept, and is passed again on the next call. As an entry is removed
+   * before it is passed to the visitor, the visitor may add it again with a later due date, e.g. to
+   * revisit it after some delay.
+   *
+   * @return {@code true} if all due entries were accepted, otherwise {@code false}
+   */
+  public boolean pollDue(final EntryVisitor visitor) {
+    while (listHeads[DUE_LIST] != NONE) {
+      final int entry = listHeads[DUE_LIST];
+      final long key = keys[entry];
+      final long scopeKey = scopeKeys[entry];
+      final long dueDate = dueDates[entry];
+      remove(key);
+
+      if (!visitor.visit(key, scopeKey, dueDate)) {
+        // the entry was removed just now, so it fits into the wheel again
+        add(key, scopeKey, dueDate);
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the time at which the next entry becomes due. For entries in the higher levels, this
+   * is the time at which they are moved to a lower level, which is before their due date.
+   *
+   * @return the time at which the next entry becomes due, or {@code -1} if the wheel is empty
+   */
+  public long nextDueDate() {
+    if (listHeads[DUE_LIST] != NONE) {
+      return currentTick * tickMillis;
+    }
+
+    long nextTick = Long.MAX_VALUE;
+    for (int level = 0; level < LEVELS; level++) {
+      if (levelSizes[level] == 0) {
+        continue;
+      }
+
+      final int shift = SLOT_BITS * level;
+      final long currentSlot = currentTick >> shift;
+      for (int offset = 1; offset < SLOTS; offset++) {
+        final long slot = currentSlot + offset;
+        if (listHeads[slotIndex(level, (int) (slot & SLOT_MASK))] != NONE) {
+          nextTick = Math.min(nextTick, slot << shift);
+          break;
+        }
+      }
+    }
+
+    return nextTick == Long.MAX_VALUE ? -1L : nextTick * tickMillis;
+  }
+
+  private void place(final int entry) {
+    final long tick = ceilTick(dueDates[entry]);
+    if (tick <= currentTick) {
+      link(entry, DUE_LIST);
+      return;
+    }
+
+    for (int level = 0; level < LEVELS; level++) {
+      final int shift = SLOT_BITS * level;
+      if ((tick >> shift) - (currentTick >> shift) < SLOTS) {
+        link(entry, slotIndex(level, (int) ((tick >> shift) & SLOT_MASK)));
+        return;
+      }
+    }
+
+    throw new IllegalStateException(
+        "Expected due date %d to be within the horizon %d of the timer wheel"
+            .formatted(dueDates[entry], horizon()));
+  }
+
+  /** Places the entries of the given slot again, i.e. into a lower level or as due entries. */
+  private void relink(final int slot) {
+    int entry = listHeads[slot];
+    while (entry != NONE) {
+      final int next = nextEntries[entry];
+      unlink(entry);
+      place(entry);
+      entry = next;
+    }
+  }
+
+  private void link(final int entry, final int list) {
+    final int head = listHeads[list];
+    nextEntries[entry] = head;
+    previousEntries[entry] = NONE;
+    if (head != NONE) {
+      previousEntries[head] = entry;
+    }
+    listHeads[list] = entry;
+    entryLists[entry] = list;
+
+    if (list == DUE_LIST) {
+      dueCount++;
+    } else {
+      levelSizes[list / SLOTS]++;
+    }
+  }
+
+  private void unlink(final int entry) {
+    final int list = entryLists[entry];
+    final int next = nextEntries[entry];
+    final int previous = previousEntries[entry];
+    if (previous != NONE) {
+      nextEntries[previous] = next;
+    } else {
+      listHeads[list] = next;
+    }
+    if (next != NONE) {
+      previousEntries[next] = previous;
+    }
+
+    if (list == DUE_LIST) {
+      dueCount--;
+    } else {
+      levelSizes[list / SLOTS]--;
+    }
+  }
+
+  private long ceilTick(final long dueDate) {
+    return Math.floorDiv(dueDate + tickMillis - 1, tickMillis);
+  }
+
+  private int allocateEntry() {
+    if (freeHead != NONE) {
+      final int entry = freeHead;
+      freeHead = nextEntries[entry];
+      return entry;
+    }
+
+    if (entryCount == keys.length) {
+      final int capacity = keys.length * 2;
+      keys = Arrays.copyOf(keys, capacity);
+      scopeKeys = Arrays.copyOf(scopeKeys, capacity);
+      dueDates = Arrays.copyOf(dueDates, capacity);
+      nextEntries = Arrays.copyOf(nextEntries, capacity);
+      previousEntries = Arrays.copyOf(previousEntries, capacity);
+      entryLists = Arrays.copyOf(entryLists, capacity);
+    }
+
+    return entryCount++;
+  }
+
+  private void releaseEntry(final int entry) {
+    nextEntries[entry] = freeHead;
+    freeHead = entry;
+  }
+
+  private static int slotIndex(final int level, final int slot) {
+    return level * SLOTS + slot;
+  }
+
+  @FunctionalInterface
+  public interface EntryVisitor {
+
+    /**
+     * @return {@code true} if the entry was processed, or {@code false} if it could not be
+     *     processed and needs to be revisited later on
+     */
+    boolean visit(long key, long scopeKey, long dueDate);
+  }
+}
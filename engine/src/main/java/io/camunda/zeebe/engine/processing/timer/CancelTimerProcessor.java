@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.timer;
 
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.SideEffectWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
@@ -24,14 +25,20 @@ public final class CancelTimerProcessor implements TypedRecordProcessor<TimerRec
   private final TimerInstanceState timerInstanceState;
   private final StateWriter stateWriter;
   private final TypedRejectionWriter rejectionWriter;
+  private final SideEffectWriter sideEffectWriter;
+  private final DueDateTimerChecker timerChecker;
 
   public CancelTimerProcessor(
       final TimerInstanceState timerInstanceState,
       final StateWriter stateWriter,
-      final TypedRejectionWriter rejectionWriter) {
+      final TypedRejectionWriter rejectionWriter,
+      final SideEffectWriter sideEffectWriter,
+      final DueDateTimerChecker timerChecker) {
     this.timerInstanceState = timerInstanceState;
     this.stateWriter = stateWriter;
     this.rejectionWriter = rejectionWriter;
+    this.sideEffectWriter = sideEffectWriter;
+    this.timerChecker = timerChecker;
   }
 
   @Override
@@ -44,7 +51,13 @@ public final class CancelTimerProcessor implements TypedRecordProcessor<TimerRec
       rejectionWriter.appendRejection(
           record, RejectionType.NOT_FOUND, String.format(NO_TIMER_FOUND_MESSAGE, record.getKey()));
     } else {
-      stateWriter.appendFollowUpEvent(record.getKey(), TimerIntent.CANCELED, timer);
+      final long timerKey = record.getKey();
+      sideEffectWriter.appendSideEffect(
+          () -> {
+            timerChecker.cancelTimer(timerKey);
+            return true;
+          });
+      stateWriter.appendFollowUpEvent(timerKey, TimerIntent.CANCELED, timer);
     }
   }
 }
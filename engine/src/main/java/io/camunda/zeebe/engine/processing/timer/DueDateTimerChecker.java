@@ -8,6 +8,9 @@
 package io.camunda.zeebe.engine.processing.timer;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateEntries;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateEntries.TriggerResult;
+import io.camunda.zeebe.engine.processing.scheduled.TimerWheel.EntryVisitor;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
@@ -29,16 +32,32 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState, final FeatureFlags featureFlags) {
-    dueDateChecker =
-        new DueDateChecker(
-            TIMER_RESOLUTION,
-            featureFlags.enableTimerDueDateCheckerAsync(),
-            new TriggerTimersSideEffect(
-                timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker()));
+    if (featureFlags.enableTimerDueDateCheckerAsync()) {
+      // the timer wheel can't be shared with an asynchronous checker, so it scans the state
+      dueDateChecker =
+          new DueDateChecker(
+              TIMER_RESOLUTION,
+              true,
+              new TriggerTimersSideEffect(
+                  timerInstanceState,
+                  ActorClock.current(),
+                  featureFlags.yieldingDueDateChecker()));
+    } else {
+      dueDateChecker =
+          new DueDateChecker(
+              TIMER_RESOLUTION,
+              new TimerDueDateEntries(
+                  timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker()));
+    }
+  }
+
+  public void scheduleTimer(
+      final long dueDate, final long timerKey, final long elementInstanceKey) {
+    dueDateChecker.schedule(dueDate, timerKey, elementInstanceKey);
   }
 
-  public void scheduleTimer(final long dueDate) {
-    dueDateChecker.schedule(dueDate);
+  public void cancelTimer(final long timerKey) {
+    dueDateChecker.cancel(timerKey);
   }
 
   @Override
@@ -102,6 +121,58 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     }
   }
 
+  /**
+   * The timers as entries of the timer wheel of the checker, where the scope of a timer is its
+   * element instance.
+   */
+  protected static final class TimerDueDateEntries implements DueDateEntries {
+
+    private final TimerRecord timerRecord = new TimerRecord();
+    private final TimerInstanceState timerInstanceState;
+    private final ActorClock actorClock;
+    private final boolean yieldControl;
+
+    public TimerDueDateEntries(
+        final TimerInstanceState timerInstanceState,
+        final ActorClock actorClock,
+        final boolean yieldControl) {
+      this.timerInstanceState = timerInstanceState;
+      this.actorClock = actorClock;
+      this.yieldControl = yieldControl;
+    }
+
+    @Override
+    public long visitEntries(final long upperBound, final EntryVisitor visitor) {
+      return timerInstanceState.processTimersWithDueDateBefore(
+          upperBound,
+          timer ->
+              visitor.visit(timer.getKey(), timer.getElementInstanceKey(), timer.getDueDate()));
+    }
+
+    @Override
+    public TriggerResult trigger(
+        final TaskResultBuilder taskResultBuilder,
+        final long now,
+        final long key,
+        final long scopeKey,
+        final long dueDate) {
+      final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
+      if (yieldControl && actorClock.getTimeMillis() >= yieldAfter) {
+        return TriggerResult.DEFERRED;
+      }
+
+      final var timer = timerInstanceState.get(scopeKey, key);
+      if (timer == null || timer.getDueDate() != dueDate) {
+        // the timer was triggered or canceled in the meantime
+        return TriggerResult.SKIPPED;
+      }
+
+      return appendTriggerTimerCommand(taskResultBuilder, timerRecord, timer)
+          ? TriggerResult.TRIGGERED
+          : TriggerResult.DEFERRED;
+    }
+  }
+
   protected static final class WriteTriggerTimerCommandVisitor implements TimerVisitor {
 
     private final TimerRecord timerRecord = new TimerRecord();
@@ -114,20 +185,26 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
     @Override
     public boolean visit(final TimerInstance timer) {
-      timerRecord.reset();
-      timerRecord
-          .setElementInstanceKey(timer.getElementInstanceKey())
-          .setProcessInstanceKey(timer.getProcessInstanceKey())
-          .setDueDate(timer.getDueDate())
-          .setTargetElementId(timer.getHandlerNodeId())
-          .setRepetitions(timer.getRepetitions())
-          .setProcessDefinitionKey(timer.getProcessDefinitionKey());
-
-      return taskResultBuilder.appendCommandRecord(
-          timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      return appendTriggerTimerCommand(taskResultBuilder, timerRecord, timer);
     }
   }
 
+  private static boolean appendTriggerTimerCommand(
+      final TaskResultBuilder taskResultBuilder,
+      final TimerRecord timerRecord,
+      final TimerInstance timer) {
+    timerRecord.reset();
+    timerRecord
+        .setElementInstanceKey(timer.getElementInstanceKey())
+        .setProcessInstanceKey(timer.getProcessInstanceKey())
+        .setDueDate(timer.getDueDate())
+        .setTargetElementId(timer.getHandlerNodeId())
+        .setRepetitions(timer.getRepetitions())
+        .setProcessDefinitionKey(timer.getProcessDefinitionKey());
+
+    return taskResultBuilder.appendCommandRecord(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+  }
+
   protected static final class YieldingDecorator implements TimerVisitor {
 
     private final TimerVisitor delegate;
@@ -178,6 +178,21 @@ public final class DbDecisionState implements MutableDecisionState {
         .flatMap(this::findDecisionRequirementsByKey);
   }
 
+  @Override
+  public Optional<PersistedDecisionRequirements> findLatestDecisionRequirementsMetadataById(
+      final DirectBuffer decisionRequirementsId) {
+    dbDecisionRequirementsId.wrapBuffer(decisionRequirementsId);
+
+    final var requirementsKey = latestDecisionRequirementsKeysById.get(dbDecisionRequirementsId);
+    if (requirementsKey == null) {
+      return Optional.empty();
+    }
+
+    dbDecisionRequirementsKey.wrapLong(requirementsKey.inner().getValue());
+    return Optional.ofNullable(decisionRequirementsByKey.get(dbDecisionRequirementsKey))
+        .map(PersistedDecisionRequirements::copy);
+  }
+
   @Override
   public Optional<DeployedDrg> findDecisionRequirementsByKey(final long decisionRequirementsKey) {
     return findDeployedDrg(decisionRequirementsKey);
@@ -9,6 +9,9 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -17,6 +20,9 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -31,8 +37,8 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,9 +57,12 @@ public final class DbProcessState implements MutableProcessState {
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
+  // the cache is bounded; evicted processes are removed from the version index as well, and are
+  // loaded again from the state on the next access
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>
       processesByProcessIdAndVersion = new HashMap<>();
-  private final Long2ObjectHashMap<DeployedProcess> processesByKey;
+  private final Cache<Long, DeployedProcess> processesByKey;
+  private final ProcessCacheMetrics metrics;
 
   // process
   private final ColumnFamily<DbLong, PersistedProcess> processColumnFamily;
@@ -71,10 +80,20 @@ public final class DbProcessState implements MutableProcessState {
   private final ColumnFamily<DbForeignKey<DbString>, Digest> digestByIdColumnFamily;
   private final Digest digest = new Digest();
 
+  // the transformed processes, which are loaded into the cache without parsing their resources
+  private final ColumnFamily<DbLong, PersistedExecutableProcess> executableProcessColumnFamily;
+  private final DbLong executableProcessKey;
+  private final PersistedExecutableProcess persistedExecutableProcess;
+  private final ExecutableProcessConverter executableProcessConverter =
+      new ExecutableProcessConverter(ExpressionLanguageFactory.createExpressionLanguage());
+
   private final ProcessVersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     processColumnFamily =
@@ -101,7 +120,24 @@ public final class DbProcessState implements MutableProcessState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID, transactionContext, fkProcessId, digest);
 
-    processesByKey = new Long2ObjectHashMap<>();
+    executableProcessKey = new DbLong();
+    persistedExecutableProcess = new PersistedExecutableProcess();
+    executableProcessColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.PROCESS_CACHE_EXECUTABLE_PROCESS,
+            transactionContext,
+            executableProcessKey,
+            persistedExecutableProcess);
+
+    metrics = new ProcessCacheMetrics(partitionId);
+    processesByKey =
+        CacheBuilder.newBuilder()
+            // the state is only accessed by the stream processor, and a single segment keeps the
+            // maximum size exact; with multiple segments, each segment is bounded separately
+            .concurrencyLevel(1)
+            .maximumSize(config.getProcessCacheCapacity())
+            .removalListener(this::onProcessRemovedFromCache)
+            .build();
 
     versionManager = new ProcessVersionManager(DEFAULT_VERSION_VALUE, zeebeDb, transactionContext);
   }
@@ -131,6 +167,7 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public void putProcess(final long key, final ProcessRecord processRecord) {
     persistProcess(key, processRecord);
+    persistExecutableProcess(key, processRecord);
     updateLatestVersion(processRecord);
     putLatestVersionDigest(
         processRecord.getBpmnProcessIdBuffer(), processRecord.getChecksumBuffer());
@@ -155,8 +192,10 @@ public final class DbProcessState implements MutableProcessState {
     processColumnFamily.deleteExisting(processDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(idAndVersionKey);
 
-    processesByProcessIdAndVersion.remove(processRecord.getBpmnProcessIdBuffer());
-    processesByKey.remove(processRecord.getProcessDefinitionKey());
+    executableProcessKey.wrapLong(processRecord.getProcessDefinitionKey());
+    executableProcessColumnFamily.deleteIfExists(executableProcessKey);
+
+    processesByKey.invalidate(processRecord.getProcessDefinitionKey());
 
     final long latestVersion =
         versionManager.getLatestProcessVersion(processRecord.getBpmnProcessId());
@@ -182,6 +221,23 @@ public final class DbProcessState implements MutableProcessState {
     processByIdAndVersionColumnFamily.upsert(idAndVersionKey, persistedProcess);
   }
 
+  private void persistExecutableProcess(
+      final long processDefinitionKey, final ProcessRecord processRecord) {
+    final var executableProcess =
+        transformProcess(
+            processDefinitionKey,
+            processRecord.getResourceBuffer(),
+            processRecord.getBpmnProcessIdBuffer());
+
+    executableProcessKey.wrapLong(processDefinitionKey);
+    if (executableProcessConverter.write(executableProcess, persistedExecutableProcess)) {
+      executableProcessColumnFamily.upsert(executableProcessKey, persistedExecutableProcess);
+    } else {
+      // the process can't be converted, and is transformed from its resource when it is loaded
+      executableProcessColumnFamily.deleteIfExists(executableProcessKey);
+    }
+  }
+
   private void updateLatestVersion(final ProcessRecord processRecord) {
     processId.wrapBuffer(processRecord.getBpmnProcessIdBuffer());
     final var bpmnProcessId = processRecord.getBpmnProcessId();
@@ -200,46 +256,92 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
     final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
+        findPersistedExecutableProcess(copiedProcess.getKey())
+            .orElseGet(
                 () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+                    transformProcess(
+                        copiedProcess.getKey(),
+                        copiedProcess.getResource(),
+                        copiedProcess.getBpmnProcessId()));
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
+    metrics.processLoaded();
     addProcessToInMemoryState(deployedProcess);
 
     return deployedProcess;
   }
 
+  private Optional<ExecutableProcess> findPersistedExecutableProcess(
+      final long processDefinitionKey) {
+    executableProcessKey.wrapLong(processDefinitionKey);
+
+    // a process which was persisted by another version of the converter is transformed from its
+    // resource instead, e.g. after an update
+    return Optional.ofNullable(executableProcessColumnFamily.get(executableProcessKey))
+        .filter(process -> process.getFormatVersion() == ExecutableProcessConverter.FORMAT_VERSION)
+        .map(executableProcessConverter::read);
+  }
+
+  private ExecutableProcess transformProcess(
+      final long processDefinitionKey,
+      final DirectBuffer resource,
+      final DirectBuffer bpmnProcessId) {
+    final BpmnModelInstance modelInstance = readModelInstanceFromBuffer(resource);
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(bpmnProcessId, process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        processDefinitionKey)));
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
+    // the persisted resource was validated on deployment, so there is no need to validate it again
+    // every time it is loaded into the cache
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      return Bpmn.readModelFromStreamWithoutValidation(stream);
     }
   }
 
   private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
     final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
-    processesByKey.put(deployedProcess.getKey(), deployedProcess);
-
     final Long2ObjectHashMap<DeployedProcess> versionMap =
         processesByProcessIdAndVersion.computeIfAbsent(
             bpmnProcessId, id -> new Long2ObjectHashMap<>());
 
     final int version = deployedProcess.getVersion();
     versionMap.put(version, deployedProcess);
+
+    // the version index must be updated first: adding the process to the cache may evict entries,
+    // possibly the process itself, which then have to be removed from the index by the listener
+    processesByKey.put(deployedProcess.getKey(), deployedProcess);
+  }
+
+  private void onProcessRemovedFromCache(
+      final RemovalNotification<Long, DeployedProcess> notification) {
+    final DeployedProcess removedProcess = notification.getValue();
+    final Long2ObjectHashMap<DeployedProcess> versionMap =
+        processesByProcessIdAndVersion.get(removedProcess.getBpmnProcessId());
+
+    // the process may have been replaced by a newer instance of itself, which must be kept
+    if (versionMap != null && versionMap.get(removedProcess.getVersion()) == removedProcess) {
+      versionMap.remove(removedProcess.getVersion());
+      if (versionMap.isEmpty()) {
+        processesByProcessIdAndVersion.remove(removedProcess.getBpmnProcessId());
+      }
+    }
+
+    if (notification.wasEvicted()) {
+      metrics.processEvicted();
+    }
   }
 
   @Override
@@ -278,7 +380,7 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public DeployedProcess getProcessByKey(final long key) {
-    final DeployedProcess deployedProcess = processesByKey.get(key);
+    final DeployedProcess deployedProcess = processesByKey.getIfPresent(key);
 
     if (deployedProcess != null) {
       return deployedProcess;
@@ -289,21 +391,23 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public Collection<DeployedProcess> getProcesses() {
-    updateCompleteInMemoryState();
-    return processesByKey.values();
+    final List<Long> processKeys = new ArrayList<>();
+    processColumnFamily.forEach((key, process) -> processKeys.add(key.getValue()));
+
+    return getProcessesByKeys(processKeys);
   }
 
   @Override
   public Collection<DeployedProcess> getProcessesByBpmnProcessId(final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedProcess> processesByVersions =
-        processesByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (processesByVersions != null) {
-      return processesByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<Long> processKeys = new ArrayList<>();
+    processId.wrapBuffer(bpmnProcessId);
+    processByIdAndVersionColumnFamily.whileEqualPrefix(
+        processId,
+        (key, process) -> {
+          processKeys.add(process.getKey());
+        });
+
+    return getProcessesByKeys(processKeys);
   }
 
   @Override
@@ -355,7 +459,7 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processesByKey.clear();
+    processesByKey.invalidateAll();
     processesByProcessIdAndVersion.clear();
     versionManager.clear();
   }
@@ -381,14 +485,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByProcessIdAndVersion.get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -399,15 +496,20 @@ public final class DbProcessState implements MutableProcessState {
 
     final PersistedProcess processWithKey = processColumnFamily.get(this.processDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processesByKey.get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
-  private void updateCompleteInMemoryState() {
-    processColumnFamily.forEach(this::updateInMemoryState);
+  // the keys are collected first, as loading a process reuses the key and value of the column
+  // families which are being iterated
+  private List<DeployedProcess> getProcessesByKeys(final List<Long> processKeys) {
+    final List<DeployedProcess> processes = new ArrayList<>(processKeys.size());
+    for (final long processKey : processKeys) {
+      processes.add(getProcessByKey(processKey));
+    }
+
+    return processes;
   }
 }
@@ -0,0 +1,365 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.JobWorkerProperties;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Converts a transformed {@link ExecutableProcess} into a {@link PersistedExecutableProcess} and
+ * back, so that a persisted process can be loaded into the process cache without parsing and
+ * transforming its BPMN resource again.
+ *
+ * <p>Only processes which consist of the element types below, without event definitions other
+ * than none events, boundary events, event sub processes or multi-instance activities, can be
+ * converted; other processes are transformed from their resource when they are loaded. Reading a
+ * persisted process must result in the same executable process as the transformation of its
+ * resource. Hence, the {@link #FORMAT_VERSION} must be increased whenever the transformation of
+ * one of these element types, or the persisted form, changes.
+ */
+public final class ExecutableProcessConverter {
+
+  /** The version of the persisted form; processes of other versions are not read. */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final Map<BpmnElementType, SupportedElement> SUPPORTED_ELEMENTS =
+      Map.of(
+          BpmnElementType.START_EVENT,
+          new SupportedElement(ExecutableStartEvent.class, ExecutableStartEvent::new),
+          BpmnElementType.END_EVENT,
+          new SupportedElement(ExecutableEndEvent.class, ExecutableEndEvent::new),
+          BpmnElementType.TASK,
+          new SupportedElement(ExecutableActivity.class, ExecutableActivity::new),
+          BpmnElementType.MANUAL_TASK,
+          new SupportedElement(ExecutableActivity.class, ExecutableActivity::new),
+          BpmnElementType.SERVICE_TASK,
+          new SupportedElement(ExecutableJobWorkerTask.class, ExecutableJobWorkerTask::new),
+          BpmnElementType.SEND_TASK,
+          new SupportedElement(ExecutableJobWorkerTask.class, ExecutableJobWorkerTask::new),
+          BpmnElementType.USER_TASK,
+          new SupportedElement(ExecutableJobWorkerTask.class, ExecutableJobWorkerTask::new),
+          BpmnElementType.EXCLUSIVE_GATEWAY,
+          new SupportedElement(ExecutableExclusiveGateway.class, ExecutableExclusiveGateway::new),
+          BpmnElementType.PARALLEL_GATEWAY,
+          new SupportedElement(ExecutableFlowNode.class, ExecutableFlowNode::new),
+          BpmnElementType.SEQUENCE_FLOW,
+          new SupportedElement(ExecutableSequenceFlow.class, ExecutableSequenceFlow::new));
+
+  private final ExpressionLanguage expressionLanguage;
+
+  public ExecutableProcessConverter(final ExpressionLanguage expressionLanguage) {
+    this.expressionLanguage = expressionLanguage;
+  }
+
+  /**
+   * Writes the given process into the persisted process, if the process can be converted.
+   *
+   * @param process the transformed process
+   * @param persistedProcess the persisted process to write into; it is reset first
+   * @return {@code true} if the process was written, or {@code false} if it contains elements
+   *     which can't be converted
+   */
+  public boolean write(
+      final ExecutableProcess process, final PersistedExecutableProcess persistedProcess) {
+    if (!isSupported(process)) {
+      return false;
+    }
+
+    persistedProcess.reset();
+    persistedProcess.setFormatVersion(FORMAT_VERSION);
+    writeElement(process, persistedProcess.addElement());
+    for (final AbstractFlowElement element : process.getFlowElements()) {
+      if (element != process) {
+        writeElement(element, persistedProcess.addElement());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads the process from the given persisted process, which must have been written in the
+   * current {@link #FORMAT_VERSION}.
+   *
+   * @param persistedProcess the persisted process
+   * @return the executable process, as it is transformed from the resource of the process
+   */
+  public ExecutableProcess read(final PersistedExecutableProcess persistedProcess) {
+    final ExecutableProcess process = createElements(persistedProcess);
+
+    // conditions must be set before the outgoing flows are added to the exclusive gateways
+    for (final PersistedFlowElement persistedElement : persistedProcess.elements()) {
+      readAttributes(process, persistedElement);
+    }
+
+    for (final PersistedFlowElement persistedElement : persistedProcess.elements()) {
+      readReferences(process, persistedElement);
+    }
+    return process;
+  }
+
+  private boolean isSupported(final ExecutableProcess process) {
+    return process.getBoundaryEvents().isEmpty()
+        && process.getEventSubprocesses().isEmpty()
+        && process.getFlowElements().stream()
+            .filter(element -> element != process)
+            .allMatch(element -> isSupported(process, element));
+  }
+
+  private boolean isSupported(final ExecutableProcess process, final AbstractFlowElement element) {
+    final var supportedElement = SUPPORTED_ELEMENTS.get(element.getElementType());
+    if (supportedElement == null || supportedElement.type() != element.getClass()) {
+      return false;
+    }
+
+    if (element instanceof final ExecutableActivity activity
+        && (!activity.getBoundaryEvents().isEmpty()
+            || !activity.getEventSubprocesses().isEmpty())) {
+      return false;
+    }
+
+    if (element instanceof final ExecutableStartEvent startEvent
+        && (!startEvent.isNone()
+            || startEvent.getEventSubProcess() != null
+            || startEvent.getFlowScope() != process)) {
+      return false;
+    }
+
+    if (element instanceof final ExecutableEndEvent endEvent && !endEvent.isNoneEndEvent()) {
+      return false;
+    }
+
+    return expressionsOf(element).allMatch(this::isSupportedExpression);
+  }
+
+  private boolean isSupportedExpression(final Expression expression) {
+    // a static expression is written as it is, and must not be read as a FEEL expression
+    return expression.isValid()
+        && !expression.getExpression().isEmpty()
+        && !(expression.isStatic() && expression.getExpression().startsWith("="));
+  }
+
+  private Stream<Expression> expressionsOf(final AbstractFlowElement element) {
+    final Stream.Builder<Expression> expressions = Stream.builder();
+    if (element instanceof final ExecutableFlowNode flowNode) {
+      flowNode.getInputMappings().ifPresent(expressions);
+      flowNode.getOutputMappings().ifPresent(expressions);
+    }
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      expressions.add(sequenceFlow.getCondition());
+    }
+    if (element instanceof final ExecutableJobWorkerTask task
+        && task.getJobWorkerProperties() != null) {
+      final var properties = task.getJobWorkerProperties();
+      Stream.of(
+              properties.getType(),
+              properties.getRetries(),
+              properties.getAssignee(),
+              properties.getCandidateGroups(),
+              properties.getCandidateUsers(),
+              properties.getDueDate(),
+              properties.getFollowUpDate())
+          .forEach(expressions);
+    }
+    return expressions.build().filter(Objects::nonNull);
+  }
+
+  private void writeElement(final AbstractFlowElement element, final PersistedFlowElement target) {
+    target
+        .setId(element.getId())
+        .setElementType(element.getElementType())
+        .setEventType(element.getEventType());
+    if (element.getFlowScope() != null) {
+      target.setFlowScopeId(element.getFlowScope().getId());
+    }
+
+    if (element instanceof final ExecutableFlowNode flowNode) {
+      flowNode.getInputMappings().map(this::write).ifPresent(target::setInputMappings);
+      flowNode.getOutputMappings().map(this::write).ifPresent(target::setOutputMappings);
+      flowNode.getIncoming().forEach(flow -> target.addIncomingId(flow.getId()));
+      flowNode.getOutgoing().forEach(flow -> target.addOutgoingId(flow.getId()));
+    }
+
+    if (element instanceof final ExecutableProcess process) {
+      process.getStartEvents().forEach(startEvent -> target.addStartEventId(startEvent.getId()));
+    }
+
+    if (element instanceof final ExecutableStartEvent startEvent) {
+      target.setInterrupting(startEvent.interrupting());
+    }
+
+    if (element instanceof final ExecutableExclusiveGateway gateway
+        && gateway.getDefaultFlow() != null) {
+      target.setDefaultFlowId(gateway.getDefaultFlow().getId());
+    }
+
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      target
+          .setSourceId(sequenceFlow.getSource().getId())
+          .setTargetId(sequenceFlow.getTarget().getId());
+      Optional.ofNullable(sequenceFlow.getCondition())
+          .map(this::write)
+          .ifPresent(target::setCondition);
+    }
+
+    if (element instanceof final ExecutableJobWorkerTask task
+        && task.getJobWorkerProperties() != null) {
+      writeJobWorkerProperties(task.getJobWorkerProperties(), target);
+    }
+  }
+
+  private void writeJobWorkerProperties(
+      final JobWorkerProperties properties, final PersistedFlowElement target) {
+    target.setJobWorker(true).setTaskHeaders(properties.getTaskHeaders());
+    write(properties.getType(), target::setJobType);
+    write(properties.getRetries(), target::setJobRetries);
+    write(properties.getAssignee(), target::setAssignee);
+    write(properties.getCandidateGroups(), target::setCandidateGroups);
+    write(properties.getCandidateUsers(), target::setCandidateUsers);
+    write(properties.getDueDate(), target::setDueDate);
+    write(properties.getFollowUpDate(), target::setFollowUpDate);
+  }
+
+  private void write(final Expression expression, final Consumer<String> setter) {
+    if (expression != null) {
+      setter.accept(write(expression));
+    }
+  }
+
+  private String write(final Expression expression) {
+    // the text of a FEEL expression doesn't contain the leading '=' of the resource
+    return expression.isStatic() ? expression.getExpression() : "=" + expression.getExpression();
+  }
+
+  private ExecutableProcess createElements(final PersistedExecutableProcess persistedProcess) {
+    ExecutableProcess process = null;
+    for (final PersistedFlowElement persistedElement : persistedProcess.elements()) {
+      final AbstractFlowElement element;
+      if (process == null) {
+        process = new ExecutableProcess(persistedElement.getId());
+        element = process;
+      } else {
+        element =
+            SUPPORTED_ELEMENTS
+                .get(persistedElement.getElementType())
+                .factory()
+                .apply(persistedElement.getId());
+        process.addFlowElement(element);
+      }
+      element.setElementType(persistedElement.getElementType());
+      element.setEventType(persistedElement.getEventType());
+    }
+    return process;
+  }
+
+  private void readAttributes(
+      final ExecutableProcess process, final PersistedFlowElement persistedElement) {
+    final var element = process.getElementById(persistedElement.getId());
+    readElement(persistedElement.getFlowScopeId(), process::getElementById)
+        .ifPresent(element::setFlowScope);
+
+    if (element instanceof final ExecutableFlowNode flowNode) {
+      readExpression(persistedElement.getInputMappings()).ifPresent(flowNode::setInputMappings);
+      readExpression(persistedElement.getOutputMappings()).ifPresent(flowNode::setOutputMappings);
+    }
+
+    if (element instanceof final ExecutableStartEvent startEvent) {
+      startEvent.setInterrupting(persistedElement.isInterrupting());
+    }
+
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      readExpression(persistedElement.getCondition()).ifPresent(sequenceFlow::setCondition);
+    }
+
+    if (element instanceof final ExecutableJobWorkerTask task && persistedElement.isJobWorker()) {
+      task.setJobWorkerProperties(readJobWorkerProperties(persistedElement));
+    }
+  }
+
+  private JobWorkerProperties readJobWorkerProperties(
+      final PersistedFlowElement persistedElement) {
+    final var properties = new JobWorkerProperties();
+    readExpression(persistedElement.getJobType()).ifPresent(properties::setType);
+    readExpression(persistedElement.getJobRetries()).ifPresent(properties::setRetries);
+    readExpression(persistedElement.getAssignee()).ifPresent(properties::setAssignee);
+    readExpression(persistedElement.getCandidateGroups())
+        .ifPresent(properties::setCandidateGroups);
+    readExpression(persistedElement.getCandidateUsers()).ifPresent(properties::setCandidateUsers);
+    readExpression(persistedElement.getDueDate()).ifPresent(properties::setDueDate);
+    readExpression(persistedElement.getFollowUpDate()).ifPresent(properties::setFollowUpDate);
+
+    final var taskHeaders = persistedElement.getTaskHeaders();
+    if (!taskHeaders.isEmpty()) {
+      properties.setTaskHeaders(taskHeaders);
+    }
+    return properties;
+  }
+
+  private void readReferences(
+      final ExecutableProcess process, final PersistedFlowElement persistedElement) {
+    final var element = process.getElementById(persistedElement.getId());
+
+    if (element instanceof final ExecutableFlowNode flowNode) {
+      persistedElement.getIncomingIds().stream()
+          .map(id -> process.getElementById(id, ExecutableSequenceFlow.class))
+          .forEach(flowNode::addIncoming);
+      persistedElement.getOutgoingIds().stream()
+          .map(id -> process.getElementById(id, ExecutableSequenceFlow.class))
+          .forEach(flowNode::addOutgoing);
+    }
+
+    if (element instanceof final ExecutableProcess container) {
+      persistedElement.getStartEventIds().stream()
+          .map(id -> process.getElementById(id, ExecutableStartEvent.class))
+          .forEach(container::addStartEvent);
+    }
+
+    if (element instanceof final ExecutableExclusiveGateway gateway) {
+      readElement(
+              persistedElement.getDefaultFlowId(),
+              id -> process.getElementById(id, ExecutableSequenceFlow.class))
+          .ifPresent(gateway::setDefaultFlow);
+    }
+
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      sequenceFlow.setSource(
+          process.getElementById(persistedElement.getSourceId(), ExecutableFlowNode.class));
+      sequenceFlow.setTarget(
+          process.getElementById(persistedElement.getTargetId(), ExecutableFlowNode.class));
+    }
+  }
+
+  private <T> Optional<T> readElement(final String id, final Function<String, T> lookup) {
+    return id.isEmpty() ? Optional.empty() : Optional.of(lookup.apply(id));
+  }
+
+  private Optional<Expression> readExpression(final String expression) {
+    return expression.isEmpty()
+        ? Optional.empty()
+        : Optional.of(expressionLanguage.parseExpression(expression));
+  }
+
+  private record SupportedElement(
+      Class<? extends AbstractFlowElement> type, Function<String, AbstractFlowElement> factory) {}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+
+/**
+ * The transformed executable process of a persisted process, see {@link
+ * ExecutableProcessConverter}. The process itself is the first element.
+ */
+public final class PersistedExecutableProcess extends UnpackedObject implements DbValue {
+
+  private final IntegerProperty formatVersionProp = new IntegerProperty("formatVersion", -1);
+  private final ArrayProperty<PersistedFlowElement> elementsProp =
+      new ArrayProperty<>("elements", new PersistedFlowElement());
+
+  public PersistedExecutableProcess() {
+    declareProperty(formatVersionProp).declareProperty(elementsProp);
+  }
+
+  public int getFormatVersion() {
+    return formatVersionProp.getValue();
+  }
+
+  public PersistedExecutableProcess setFormatVersion(final int formatVersion) {
+    formatVersionProp.setValue(formatVersion);
+    return this;
+  }
+
+  Iterable<PersistedFlowElement> elements() {
+    return elementsProp;
+  }
+
+  PersistedFlowElement addElement() {
+    return elementsProp.add();
+  }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.BooleanProperty;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ObjectValue;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+
+/**
+ * An element of a {@link PersistedExecutableProcess}. Elements are referenced by their ids, and
+ * expressions are stored as they are written in the BPMN resource, e.g. {@code =x + 1}; an empty
+ * string stands for an absent reference or expression.
+ */
+final class PersistedFlowElement extends ObjectValue {
+
+  private final StringProperty idProp = new StringProperty("id", "");
+  private final EnumProperty<BpmnElementType> elementTypeProp =
+      new EnumProperty<>("elementType", BpmnElementType.class, BpmnElementType.UNSPECIFIED);
+  private final EnumProperty<BpmnEventType> eventTypeProp =
+      new EnumProperty<>("eventType", BpmnEventType.class, BpmnEventType.UNSPECIFIED);
+  private final StringProperty flowScopeIdProp = new StringProperty("flowScopeId", "");
+
+  // flow nodes
+  private final StringProperty inputMappingsProp = new StringProperty("inputMappings", "");
+  private final StringProperty outputMappingsProp = new StringProperty("outputMappings", "");
+  private final ArrayProperty<StringValue> incomingIdsProp =
+      new ArrayProperty<>("incomingIds", new StringValue());
+  private final ArrayProperty<StringValue> outgoingIdsProp =
+      new ArrayProperty<>("outgoingIds", new StringValue());
+  private final ArrayProperty<StringValue> startEventIdsProp =
+      new ArrayProperty<>("startEventIds", new StringValue());
+  private final BooleanProperty interruptingProp = new BooleanProperty("interrupting", false);
+  private final StringProperty defaultFlowIdProp = new StringProperty("defaultFlowId", "");
+
+  // sequence flows
+  private final StringProperty sourceIdProp = new StringProperty("sourceId", "");
+  private final StringProperty targetIdProp = new StringProperty("targetId", "");
+  private final StringProperty conditionProp = new StringProperty("condition", "");
+
+  // job workers
+  private final BooleanProperty jobWorkerProp = new BooleanProperty("jobWorker", false);
+  private final StringProperty jobTypeProp = new StringProperty("jobType", "");
+  private final StringProperty jobRetriesProp = new StringProperty("jobRetries", "");
+  private final StringProperty assigneeProp = new StringProperty("assignee", "");
+  private final StringProperty candidateGroupsProp = new StringProperty("candidateGroups", "");
+  private final StringProperty candidateUsersProp = new StringProperty("candidateUsers", "");
+  private final StringProperty dueDateProp = new StringProperty("dueDate", "");
+  private final StringProperty followUpDateProp = new StringProperty("followUpDate", "");
+  // the keys and values of the task headers, in alternating order
+  private final ArrayProperty<StringValue> taskHeadersProp =
+      new ArrayProperty<>("taskHeaders", new StringValue());
+
+  PersistedFlowElement() {
+    declareProperty(idProp)
+        .declareProperty(elementTypeProp)
+        .declareProperty(eventTypeProp)
+        .declareProperty(flowScopeIdProp)
+        .declareProperty(inputMappingsProp)
+        .declareProperty(outputMappingsProp)
+        .declareProperty(incomingIdsProp)
+        .declareProperty(outgoingIdsProp)
+        .declareProperty(startEventIdsProp)
+        .declareProperty(interruptingProp)
+        .declareProperty(defaultFlowIdProp)
+        .declareProperty(sourceIdProp)
+        .declareProperty(targetIdProp)
+        .declareProperty(conditionProp)
+        .declareProperty(jobWorkerProp)
+        .declareProperty(jobTypeProp)
+        .declareProperty(jobRetriesProp)
+        .declareProperty(assigneeProp)
+        .declareProperty(candidateGroupsProp)
+        .declareProperty(candidateUsersProp)
+        .declareProperty(dueDateProp)
+        .declareProperty(followUpDateProp)
+        .declareProperty(taskHeadersProp);
+  }
+
+  String getId() {
+    return bufferAsString(idProp.getValue());
+  }
+
+  PersistedFlowElement setId(final DirectBuffer id) {
+    idProp.setValue(id);
+    return this;
+  }
+
+  BpmnElementType getElementType() {
+    return elementTypeProp.getValue();
+  }
+
+  PersistedFlowElement setElementType(final BpmnElementType elementType) {
+    elementTypeProp.setValue(elementType);
+    return this;
+  }
+
+  BpmnEventType getEventType() {
+    return eventTypeProp.getValue();
+  }
+
+  PersistedFlowElement setEventType(final BpmnEventType eventType) {
+    eventTypeProp.setValue(eventType);
+    return this;
+  }
+
+  String getFlowScopeId() {
+    return bufferAsString(flowScopeIdProp.getValue());
+  }
+
+  PersistedFlowElement setFlowScopeId(final DirectBuffer flowScopeId) {
+    flowScopeIdProp.setValue(flowScopeId);
+    return this;
+  }
+
+  String getInputMappings() {
+    return bufferAsString(inputMappingsProp.getValue());
+  }
+
+  PersistedFlowElement setInputMappings(final String inputMappings) {
+    inputMappingsProp.setValue(inputMappings);
+    return this;
+  }
+
+  String getOutputMappings() {
+    return bufferAsString(outputMappingsProp.getValue());
+  }
+
+  PersistedFlowElement setOutputMappings(final String outputMappings) {
+    outputMappingsProp.setValue(outputMappings);
+    return this;
+  }
+
+  List<String> getIncomingIds() {
+    return toList(incomingIdsProp);
+  }
+
+  PersistedFlowElement addIncomingId(final DirectBuffer incomingId) {
+    incomingIdsProp.add().wrap(incomingId);
+    return this;
+  }
+
+  List<String> getOutgoingIds() {
+    return toList(outgoingIdsProp);
+  }
+
+  PersistedFlowElement addOutgoingId(final DirectBuffer outgoingId) {
+    outgoingIdsProp.add().wrap(outgoingId);
+    return this;
+  }
+
+  List<String> getStartEventIds() {
+    return toList(startEventIdsProp);
+  }
+
+  PersistedFlowElement addStartEventId(final DirectBuffer startEventId) {
+    startEventIdsProp.add().wrap(startEventId);
+    return this;
+  }
+
+  boolean isInterrupting() {
+    return interruptingProp.getValue();
+  }
+
+  PersistedFlowElement setInterrupting(final boolean interrupting) {
+    interruptingProp.setValue(interrupting);
+    return this;
+  }
+
+  String getDefaultFlowId() {
+    return bufferAsString(defaultFlowIdProp.getValue());
+  }
+
+  PersistedFlowElement setDefaultFlowId(final DirectBuffer defaultFlowId) {
+    defaultFlowIdProp.setValue(defaultFlowId);
+    return this;
+  }
+
+  String getSourceId() {
+    return bufferAsString(sourceIdProp.getValue());
+  }
+
+  PersistedFlowElement setSourceId(final DirectBuffer sourceId) {
+    sourceIdProp.setValue(sourceId);
+    return this;
+  }
+
+  String getTargetId() {
+    return bufferAsString(targetIdProp.getValue());
+  }
+
+  PersistedFlowElement setTargetId(final DirectBuffer targetId) {
+    targetIdProp.setValue(targetId);
+    return this;
+  }
+
+  String getCondition() {
+    return bufferAsString(conditionProp.getValue());
+  }
+
+  PersistedFlowElement setCondition(final String condition) {
+    conditionProp.setValue(condition);
+    return this;
+  }
+
+  boolean isJobWorker() {
+    return jobWorkerProp.getValue();
+  }
+
+  PersistedFlowElement setJobWorker(final boolean jobWorker) {
+    jobWorkerProp.setValue(jobWorker);
+    return this;
+  }
+
+  String getJobType() {
+    return bufferAsString(jobTypeProp.getValue());
+  }
+
+  PersistedFlowElement setJobType(final String jobType) {
+    jobTypeProp.setValue(jobType);
+    return this;
+  }
+
+  String getJobRetries() {
+    return bufferAsString(jobRetriesProp.getValue());
+  }
+
+  PersistedFlowElement setJobRetries(final String jobRetries) {
+    jobRetriesProp.setValue(jobRetries);
+    return this;
+  }
+
+  String getAssignee() {
+    return bufferAsString(assigneeProp.getValue());
+  }
+
+  PersistedFlowElement setAssignee(final String assignee) {
+    assigneeProp.setValue(assignee);
+    return this;
+  }
+
+  String getCandidateGroups() {
+    return bufferAsString(candidateGroupsProp.getValue());
+  }
+
+  PersistedFlowElement setCandidateGroups(final String candidateGroups) {
+    candidateGroupsProp.setValue(candidateGroups);
+    return this;
+  }
+
+  String getCandidateUsers() {
+    return bufferAsString(candidateUsersProp.getValue());
+  }
+
+  PersistedFlowElement setCandidateUsers(final String candidateUsers) {
+    candidateUsersProp.setValue(candidateUsers);
+    return this;
+  }
+
+  String getDueDate() {
+    return bufferAsString(dueDateProp.getValue());
+  }
+
+  PersistedFlowElement setDueDate(final String dueDate) {
+    dueDateProp.setValue(dueDate);
+    return this;
+  }
+
+  String getFollowUpDate() {
+    return bufferAsString(followUpDateProp.getValue());
+  }
+
+  PersistedFlowElement setFollowUpDate(final String followUpDate) {
+    followUpDateProp.setValue(followUpDate);
+    return this;
+  }
+
+  Map<String, String> getTaskHeaders() {
+    final var keysAndValues = toList(taskHeadersProp);
+    final var taskHeaders = new LinkedHashMap<String, String>();
+    for (int i = 0; i + 1 < keysAndValues.size(); i += 2) {
+      taskHeaders.put(keysAndValues.get(i), keysAndValues.get(i + 1));
+    }
+    return taskHeaders;
+  }
+
+  PersistedFlowElement setTaskHeaders(final Map<String, String> taskHeaders) {
+    taskHeaders.forEach(
+        (key, value) -> {
+          taskHeadersProp.add().wrap(wrapString(key));
+          taskHeadersProp.add().wrap(wrapString(value));
+        });
+    return this;
+  }
+
+  private static List<String> toList(final ArrayProperty<StringValue> property) {
+    final var values = new ArrayList<String>();
+    for (final StringValue value : property) {
+      values.add(bufferAsString(value.getValue()));
+    }
+    return values;
+  }
+}
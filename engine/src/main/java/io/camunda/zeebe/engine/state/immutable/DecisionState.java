@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.immutable;
 
 import io.camunda.zeebe.engine.state.deployment.DeployedDrg;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
+import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
@@ -42,6 +43,18 @@ public interface DecisionState {
    */
   Optional<DeployedDrg> findLatestDecisionRequirementsById(DirectBuffer decisionRequirementsId);
 
+  /**
+   * Query decision requirements (DRGs) by the given decision requirements id and return the latest
+   * version of the DRG, without parsing its resource. Use it if only the metadata of the DRG is
+   * needed, e.g. its version or checksum.
+   *
+   * @param decisionRequirementsId the id of the DRG
+   * @return the latest version of the DRG, or {@link Optional#empty()} if no DRG is deployed with
+   *     the given id
+   */
+  Optional<PersistedDecisionRequirements> findLatestDecisionRequirementsMetadataById(
+      DirectBuffer decisionRequirementsId);
+
   /**
    * Query decision requirements (DRGs) by the given decision requirements key.
    *
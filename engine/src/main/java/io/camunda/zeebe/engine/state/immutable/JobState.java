@@ -24,6 +24,12 @@ public interface JobState {
 
   void forEachActivatableJobs(DirectBuffer type, BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * @param type the type of the jobs
+   * @return the number of jobs of the given type which can be activated
+   */
+  long getActivatableJobsCount(DirectBuffer type);
+
   JobRecord getJob(long key);
 
   long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback);
@@ -39,6 +39,17 @@ public interface MessageState {
   boolean visitMessagesWithDeadlineBeforeTimestamp(
       long timestamp, final Index startAt, ExpiredMessageVisitor visitor);
 
+  /**
+   * Visits the buckets of the message deadlines which start at or before the given timestamp, in
+   * the order of their deadlines. A bucket counts the messages with a deadline in it, such that the
+   * messages with expired deadline can be counted without visiting them.
+   *
+   * @param timestamp Timestamp used to determine whether the bucket has expired
+   * @param visitor This method is called for each expired bucket. It must return a boolean that
+   *     when {@code true} allows the visiting to continue, or when {@code false} stops it.
+   */
+  void visitDeadlineBucketsBeforeTimestamp(long timestamp, DeadlineBucketVisitor visitor);
+
   boolean exist(DirectBuffer name, DirectBuffer correlationKey, DirectBuffer messageId);
 
   /**
@@ -58,4 +69,9 @@ public interface MessageState {
   interface ExpiredMessageVisitor {
     boolean visit(final long deadline, long messageKey);
   }
+
+  @FunctionalInterface
+  interface DeadlineBucketVisitor {
+    boolean visit(long bucketStart, long messageCount);
+  }
 }
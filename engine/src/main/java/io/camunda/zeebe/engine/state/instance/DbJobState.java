@@ -21,6 +21,9 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
@@ -50,6 +53,10 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<DbCompositeKey<DbString, DbForeignKey<DbLong>>, DbNil>
       activatableColumnFamily;
 
+  // type => number of activatable jobs
+  private final DbLong activatableJobsCount;
+  private final ColumnFamily<DbString, DbLong> activatableJobsCountColumnFamily;
+
   // timeout => key
   private final DbLong deadlineKey;
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineJobKey;
@@ -81,6 +88,14 @@ public final class DbJobState implements JobState, MutableJobState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_ACTIVATABLE, transactionContext, typeJobKey, DbNil.INSTANCE);
 
+    activatableJobsCount = new DbLong();
+    activatableJobsCountColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_ACTIVATABLE_COUNT,
+            transactionContext,
+            jobTypeKey,
+            activatableJobsCount);
+
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
     deadlinesColumnFamily =
@@ -234,6 +249,23 @@ public final class DbJobState implements JobState, MutableJobState {
         });
   }
 
+  @Override
+  public void countActivatableJobs() {
+    final Map<DirectBuffer, Long> counts = new HashMap<>();
+    activatableColumnFamily.forEach(
+        (key, value) ->
+            counts.merge(BufferUtil.cloneBuffer(key.first().getBuffer()), 1L, Long::sum));
+
+    activatableJobsCountColumnFamily.forEach(
+        (type, count) -> activatableJobsCountColumnFamily.deleteExisting(type));
+    counts.forEach(
+        (type, count) -> {
+          jobTypeKey.wrapBuffer(type);
+          activatableJobsCount.wrapLong(count);
+          activatableJobsCountColumnFamily.insert(jobTypeKey, activatableJobsCount);
+        });
+  }
+
   private void createJob(final long key, final JobRecord record, final DirectBuffer type) {
     createJobRecord(key, record);
     initializeJobState();
@@ -318,6 +350,13 @@ public final class DbJobState implements JobState, MutableJobState {
         }));
   }
 
+  @Override
+  public long getActivatableJobsCount(final DirectBuffer type) {
+    jobTypeKey.wrapBuffer(type);
+    final DbLong count = activatableJobsCountColumnFamily.get(jobTypeKey);
+    return count == null ? 0 : count.getValue();
+  }
+
   @Override
   public JobRecord getJob(final long key) {
     jobKey.wrapLong(key);
@@ -384,16 +423,35 @@ public final class DbJobState implements JobState, MutableJobState {
     jobTypeKey.wrapBuffer(type);
 
     jobKey.wrapLong(key);
-    // Need to upsert here because jobs can be marked as failed (and thus made activatable)
+    // Need to check here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
-    activatableColumnFamily.upsert(typeJobKey, DbNil.INSTANCE);
+    if (!activatableColumnFamily.exists(typeJobKey)) {
+      activatableColumnFamily.insert(typeJobKey, DbNil.INSTANCE);
+      updateActivatableJobsCount(1);
+    }
   }
 
   private void makeJobNotActivatable(final DirectBuffer type) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
 
     jobTypeKey.wrapBuffer(type);
-    activatableColumnFamily.deleteIfExists(typeJobKey);
+    if (activatableColumnFamily.exists(typeJobKey)) {
+      activatableColumnFamily.deleteExisting(typeJobKey);
+      updateActivatableJobsCount(-1);
+    }
+  }
+
+  private void updateActivatableJobsCount(final long delta) {
+    final DbLong storedCount = activatableJobsCountColumnFamily.get(jobTypeKey);
+    final long count = (storedCount == null ? 0 : storedCount.getValue()) + delta;
+
+    // the count is removed with the last activatable job of the type, to not keep it forever
+    if (count > 0) {
+      activatableJobsCount.wrapLong(count);
+      activatableJobsCountColumnFamily.upsert(jobTypeKey, activatableJobsCount);
+    } else {
+      activatableJobsCountColumnFamily.deleteIfExists(jobTypeKey);
+    }
   }
 
   private void addJobDeadline(final long job, final long deadline) {
@@ -23,6 +23,8 @@ import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import java.util.HashMap;
+import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableBoolean;
 
@@ -30,6 +32,9 @@ public final class DbMessageState implements MutableMessageState {
 
   private static final String DEADLINE_MESSAGE_COUNT_KEY = "deadline_message_count";
 
+  /** The duration of a deadline bucket, i.e. the granularity of the deadline bucket index. */
+  private static final long DEADLINE_BUCKET_DURATION_MILLIS = 1_000;
+
   /**
    * <pre>message key -> message
    */
@@ -65,6 +70,16 @@ public final class DbMessageState implements MutableMessageState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       deadlineColumnFamily;
 
+  /**
+   * <pre>bucket start -> count
+   *
+   * gets the number of messages with a deadline in a bucket, without visiting the messages
+   */
+  private final DbLong deadlineBucketStart;
+
+  private final DbLong deadlineBucketCount;
+  private final ColumnFamily<DbLong, DbLong> deadlineBucketColumnFamily;
+
   /**
    * <pre>count | key -> value
    *
@@ -152,6 +167,15 @@ public final class DbMessageState implements MutableMessageState {
             deadlineMessageKey,
             DbNil.INSTANCE);
 
+    deadlineBucketStart = new DbLong();
+    deadlineBucketCount = new DbLong();
+    deadlineBucketColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_DEADLINE_BUCKETS,
+            transactionContext,
+            deadlineBucketStart,
+            deadlineBucketCount);
+
     messagesDeadlineCount = new DbLong();
     messagesDeadlineCountKey = new DbString();
     messagesDeadlineCountColumnFamily =
@@ -222,6 +246,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+    updateDeadlineBucketCount(record.getDeadline(), 1);
 
     localMessageDeadlineCount += 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -321,6 +346,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
     deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    updateDeadlineBucketCount(storedMessage.getMessage().getDeadline(), -1);
 
     localMessageDeadlineCount -= 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -334,6 +360,41 @@ public final class DbMessageState implements MutableMessageState {
         }));
   }
 
+  @Override
+  public void countMessageDeadlines() {
+    final Map<Long, Long> counts = new HashMap<>();
+    deadlineColumnFamily.forEach(
+        (key, nil) -> counts.merge(bucketStart(key.first().getValue()), 1L, Long::sum));
+
+    deadlineBucketColumnFamily.forEach(
+        (bucketStart, count) -> deadlineBucketColumnFamily.deleteExisting(bucketStart));
+    counts.forEach(
+        (bucketStart, count) -> {
+          deadlineBucketStart.wrapLong(bucketStart);
+          deadlineBucketCount.wrapLong(count);
+          deadlineBucketColumnFamily.insert(deadlineBucketStart, deadlineBucketCount);
+        });
+  }
+
+  private void updateDeadlineBucketCount(final long deadline, final long delta) {
+    deadlineBucketStart.wrapLong(bucketStart(deadline));
+    final DbLong storedCount = deadlineBucketColumnFamily.get(deadlineBucketStart);
+    final long count = (storedCount == null ? 0 : storedCount.getValue()) + delta;
+
+    // the bucket is removed with its last message, to not keep the buckets of the past forever
+    if (count > 0) {
+      deadlineBucketCount.wrapLong(count);
+      deadlineBucketColumnFamily.upsert(deadlineBucketStart, deadlineBucketCount);
+    } else {
+      deadlineBucketColumnFamily.deleteIfExists(deadlineBucketStart);
+    }
+  }
+
+  private static long bucketStart(final long deadline) {
+    return Math.floorDiv(deadline, DEADLINE_BUCKET_DURATION_MILLIS)
+        * DEADLINE_BUCKET_DURATION_MILLIS;
+  }
+
   @Override
   public boolean existMessageCorrelation(final long messageKey, final DirectBuffer bpmnProcessId) {
     ensureGreaterThan("message key", messageKey, 0);
@@ -417,6 +478,15 @@ public final class DbMessageState implements MutableMessageState {
     return stoppedByVisitor.get();
   }
 
+  @Override
+  public void visitDeadlineBucketsBeforeTimestamp(
+      final long timestamp, final DeadlineBucketVisitor visitor) {
+    deadlineBucketColumnFamily.whileTrue(
+        (bucketStart, count) ->
+            bucketStart.getValue() <= timestamp
+                && visitor.visit(bucketStart.getValue(), count.getValue()));
+  }
+
   @Override
   public boolean exist(
       final DirectBuffer name, final DirectBuffer correlationKey, final DirectBuffer messageId) {
@@ -9,6 +9,8 @@ package io.camunda.zeebe.engine.state.migration;
 
 import io.camunda.zeebe.engine.state.migration.to_8_2.DecisionMigration;
 import io.camunda.zeebe.engine.state.migration.to_8_2.DecisionRequirementsMigration;
+import io.camunda.zeebe.engine.state.migration.to_8_3.JobActivatableCountMigration;
+import io.camunda.zeebe.engine.state.migration.to_8_3.MessageDeadlineBucketMigration;
 import io.camunda.zeebe.engine.state.migration.to_8_3.ProcessDefinitionVersionMigration;
 import io.camunda.zeebe.engine.state.migration.to_8_3.ProcessInstanceByProcessDefinitionMigration;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -35,7 +37,9 @@ public class DbMigratorImpl implements DbMigrator {
           new ProcessInstanceByProcessDefinitionMigration(),
           new ProcessDefinitionVersionMigration(),
           new JobTimeoutCleanupMigration(),
-          new JobBackoffCleanupMigration());
+          new JobBackoffCleanupMigration(),
+          new JobActivatableCountMigration(),
+          new MessageDeadlineBucketMigration());
   // Be mindful of https://github.com/camunda/zeebe/issues/7248. In particular, that issue
   // should be solved first, before adding any migration that can take a long time
 
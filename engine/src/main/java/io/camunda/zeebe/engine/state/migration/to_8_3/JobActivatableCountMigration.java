@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_3;
+
+import io.camunda.zeebe.engine.state.migration.MigrationTask;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+
+/**
+ * This migration is used to count the activatable jobs of each job type. We used to only keep the
+ * activatable jobs themselves, and had to iterate over them to find out whether there is any job of
+ * a type to activate.
+ *
+ * <p>The number of activatable jobs is now kept per job type. This migration will make sure it is
+ * counted for the jobs which were made activatable before.
+ */
+public class JobActivatableCountMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public void runMigration(final MutableProcessingState processingState) {
+    processingState.getJobState().countActivatableJobs();
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_3;
+
+import io.camunda.zeebe.engine.state.migration.MigrationTask;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+
+/**
+ * This migration is used to count the messages in each deadline bucket. We used to only keep the
+ * message deadlines themselves, and had to iterate over them to find out whether any message is
+ * expired.
+ *
+ * <p>The number of messages is now kept per deadline bucket. This migration will make sure it is
+ * counted for the messages which were published before.
+ */
+public class MessageDeadlineBucketMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public void runMigration(final MutableProcessingState processingState) {
+    processingState.getMessageState().countMessageDeadlines();
+  }
+}
@@ -41,4 +41,10 @@ public interface MutableJobState extends JobState {
   void cleanupTimeoutsWithoutJobs();
 
   void cleanupBackoffsWithoutJobs();
+
+  /**
+   * Counts the activatable jobs of each type, which were made activatable before their number was
+   * kept in the state.
+   */
+  void countActivatableJobs();
 }
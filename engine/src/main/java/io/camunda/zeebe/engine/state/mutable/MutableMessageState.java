@@ -29,4 +29,10 @@ public interface MutableMessageState extends MessageState, StreamProcessorLifecy
   void removeProcessInstanceCorrelationKey(long processInstanceKey);
 
   void remove(long messageKey);
+
+  /**
+   * Counts the messages in each deadline bucket, for the messages which were published before the
+   * buckets were kept in the state.
+   */
+  void countMessageDeadlines();
 }
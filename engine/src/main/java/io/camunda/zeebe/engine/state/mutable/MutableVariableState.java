@@ -61,4 +61,10 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Discards the cached variable scopes. The cache is kept across transactions and only reflects
+   * the changes made through this state, so it must be cleared whenever changes were rolled back.
+   */
+  void clearCache();
 }
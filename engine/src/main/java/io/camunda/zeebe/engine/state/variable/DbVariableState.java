@@ -13,18 +13,20 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.VariableCacheMetrics;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.state.variable.VariableScopeCache.ScopeDocument;
+import io.camunda.zeebe.engine.state.variable.VariableScopeCache.ScopeLoader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -53,8 +55,15 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // caching the read scopes
+  private final VariableScopeCache cache;
+  private final ScopeLoader scopeLoader = this::readVariablesLocal;
+  private final LongUnaryOperator parentScopeKeyLoader = this::readParentScopeKey;
+
   public DbVariableState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -72,6 +81,8 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    cache = new VariableScopeCache(new VariableCacheMetrics(partitionId));
   }
 
   @Override
@@ -106,6 +117,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    cache.invalidateDocument(scopeKey);
   }
 
   @Override
@@ -114,6 +126,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cache.putParentScopeKey(childKey, parentKey);
   }
 
   @Override
@@ -125,26 +138,29 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cache.invalidateScope(scopeKey);
   }
 
   @Override
   public void removeAllVariables(final long scopeKey) {
-    visitVariablesLocal(
-        scopeKey,
-        dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
-        () -> false);
+    this.scopeKey.wrapLong(scopeKey);
+
+    variablesColumnFamily.whileEqualPrefix(
+        this.scopeKey,
+        (compositeKey, variable) -> {
+          variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey);
+        });
+    cache.invalidateDocument(scopeKey);
   }
 
   @Override
-  public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
-    final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
+  public void clearCache() {
+    cache.clear();
+  }
 
-    if (variable != null) {
-      return variable.getValue();
-    } else {
-      return null;
-    }
+  @Override
+  public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
+    return getVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
   /**
@@ -176,11 +192,10 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+      final DirectBuffer value = getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
-      if (variable != null) {
-        return variable.getValue();
+      if (value != null) {
+        return value;
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -199,16 +214,14 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
+        name -> !collectedVariables.contains(name),
         (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
-
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
+          writer.writeString(name);
+          writer.writeRaw(value);
+
+          // the names of the cached documents are never changed, so we can keep them all in the
+          // hashset at the same time
+          collectedVariables.add(name);
         },
         () -> false);
 
@@ -231,12 +244,12 @@ public class DbVariableState implements MutableVariableState {
 
     visitVariables(
         scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
+        name -> variablesToCollect.contains(name),
         (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeString(name);
+          writer.writeRaw(value);
 
-          variablesToCollect.remove(name.getBuffer());
+          variablesToCollect.remove(name);
         },
         variablesToCollect::isEmpty);
 
@@ -251,19 +264,13 @@ public class DbVariableState implements MutableVariableState {
     writer.wrap(documentResultBuffer, 0);
     writer.reserveMapHeader();
 
-    final MutableInteger variableCount = new MutableInteger();
-    visitVariablesLocal(
-        scopeKey,
-        name -> true,
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variableCount.addAndGet(1);
-        },
-        () -> false);
+    final ScopeDocument document = cache.getDocument(scopeKey, scopeLoader);
+    for (int i = 0; i < document.size(); i++) {
+      writer.writeString(document.name(i));
+      writer.writeRaw(document.value(i));
+    }
 
-    writer.writeReservedMapHeader(0, variableCount.get());
+    writer.writeReservedMapHeader(0, document.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -276,18 +283,30 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public VariableInstance getVariableInstanceLocal(final long scopeKey, final DirectBuffer name) {
-    return getVariableLocal(scopeKey, name, 0, name.capacity());
+    return readVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
-    childKey.wrapLong(childScopeKey);
+    return cache.getParentScopeKey(childScopeKey, parentScopeKeyLoader);
+  }
 
-    final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+  /**
+   * Looks up a single variable in the cached document of the scope, or reads only this variable
+   * from the state if the scope is not cached, instead of loading all variables of the scope.
+   */
+  private DirectBuffer getVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final ScopeDocument document = cache.getCachedDocument(scopeKey);
+    if (document != null) {
+      return document.get(name, nameOffset, nameLength);
+    }
+
+    final VariableInstance variable = readVariableLocal(scopeKey, name, nameOffset, nameLength);
+    return variable != null ? variable.getValue() : null;
   }
 
-  private VariableInstance getVariableLocal(
+  private VariableInstance readVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
@@ -296,14 +315,31 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  private long readParentScopeKey(final long childScopeKey) {
+    childKey.wrapLong(childScopeKey);
+
+    final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
+    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+  }
+
+  private void readVariablesLocal(final long scopeKey, final ScopeDocument document) {
+    this.scopeKey.wrapLong(scopeKey);
+
+    variablesColumnFamily.whileEqualPrefix(
+        this.scopeKey,
+        (compositeKey, variable) -> {
+          document.add(compositeKey.second().getBuffer(), variable.getValue());
+        });
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
    */
   private void visitVariables(
       final long scopeKey,
-      final Predicate<DbString> filter,
-      final BiConsumer<DbString, VariableInstance> variableConsumer,
+      final Predicate<DirectBuffer> filter,
+      final BiConsumer<DirectBuffer, DirectBuffer> variableConsumer,
       final BooleanSupplier completionCondition) {
     long currentScope = scopeKey;
 
@@ -327,22 +363,25 @@ public class DbVariableState implements MutableVariableState {
    */
   private boolean visitVariablesLocal(
       final long scopeKey,
-      final Predicate<DbString> variableFilter,
-      final BiConsumer<DbString, VariableInstance> variableConsumer,
+      final Predicate<DirectBuffer> variableFilter,
+      final BiConsumer<DirectBuffer, DirectBuffer> variableConsumer,
       final BooleanSupplier completionCondition) {
-    this.scopeKey.wrapLong(scopeKey);
+    if (completionCondition.getAsBoolean()) {
+      return true;
+    }
 
-    variablesColumnFamily.whileEqualPrefix(
-        this.scopeKey,
-        (compositeKey, variable) -> {
-          final DbString name = compositeKey.second();
+    final ScopeDocument document = cache.getDocument(scopeKey, scopeLoader);
+    for (int i = 0; i < document.size(); i++) {
+      final DirectBuffer name = document.name(i);
 
-          if (variableFilter.test(name)) {
-            variableConsumer.accept(name, variable);
-          }
+      if (variableFilter.test(name)) {
+        variableConsumer.accept(name, document.value(i));
 
-          return !completionCondition.getAsBoolean();
-        });
+        if (completionCondition.getAsBoolean()) {
+          return true;
+        }
+      }
+    }
     return false;
   }
 }
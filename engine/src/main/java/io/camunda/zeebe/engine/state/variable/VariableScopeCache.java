@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.engine.metrics.VariableCacheMetrics;
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2IntHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded read-through cache of the variable scopes of the {@link DbVariableState}. It keeps the
+ * variables of a scope as a decoded {@link ScopeDocument}, and the parent of a scope, such that
+ * walking up the scope hierarchy doesn't read the state again for every document which is
+ * collected. Single variables are looked up in the cached documents, but don't load a document.
+ *
+ * <p>The variable state invalidates the cached scopes which it changes, so the cache is kept
+ * across transactions. Changes which are rolled back are not reverted in the cache, so the cache
+ * must be cleared whenever a transaction was rolled back. It is cleared as well if it exceeds its
+ * bounds. The cache is not thread safe.
+ */
+final class VariableScopeCache {
+
+  static final int MAX_CACHED_DOCUMENTS = 128;
+  static final int MAX_CACHED_DOCUMENT_BYTES = 4 * 1024 * 1024;
+  static final int MAX_CACHED_PARENT_SCOPES = 1024;
+  private static final long MISSING_PARENT = Long.MIN_VALUE;
+
+  private final Long2ObjectHashMap<ScopeDocument> documents = new Long2ObjectHashMap<>();
+  private final Long2LongHashMap parentScopeKeys = new Long2LongHashMap(MISSING_PARENT);
+  private final VariableCacheMetrics metrics;
+  private int cachedDocumentBytes;
+
+  VariableScopeCache(final VariableCacheMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the cached document of the given scope, or loads and caches it if it is not cached.
+   * The returned document is never changed afterwards, so it can be used even if the cache is
+   * changed in between.
+   */
+  ScopeDocument getDocument(final long scopeKey, final ScopeLoader loader) {
+    final var cachedDocument = documents.get(scopeKey);
+    if (cachedDocument != null) {
+      metrics.scopeDocumentHit();
+      return cachedDocument;
+    }
+
+    metrics.scopeDocumentMissed();
+    final var document = new ScopeDocument();
+    loader.load(scopeKey, document);
+    document.seal();
+
+    final int documentBytes = document.length();
+    if (documentBytes <= MAX_CACHED_DOCUMENT_BYTES) {
+      if (documents.size() >= MAX_CACHED_DOCUMENTS
+          || cachedDocumentBytes + documentBytes > MAX_CACHED_DOCUMENT_BYTES) {
+        clearDocuments();
+      }
+      documents.put(scopeKey, document);
+      cachedDocumentBytes += documentBytes;
+    }
+
+    return document;
+  }
+
+  /**
+   * Returns the cached document of the given scope, without loading it if it is not cached.
+   *
+   * @return the cached document, or {@code null} if the scope is not cached
+   */
+  ScopeDocument getCachedDocument(final long scopeKey) {
+    final var cachedDocument = documents.get(scopeKey);
+    if (cachedDocument != null) {
+      metrics.scopeDocumentHit();
+    }
+    return cachedDocument;
+  }
+
+  /**
+   * Returns the cached parent of the given scope, or loads and caches it if it is not cached.
+   *
+   * @param loader returns the parent scope key of the given scope key from the state
+   */
+  long getParentScopeKey(final long scopeKey, final LongUnaryOperator loader) {
+    final long cachedParentScopeKey = parentScopeKeys.get(scopeKey);
+    if (cachedParentScopeKey != MISSING_PARENT) {
+      metrics.parentScopeHit();
+      return cachedParentScopeKey;
+    }
+
+    metrics.parentScopeMissed();
+    final long parentScopeKey = loader.applyAsLong(scopeKey);
+    putParentScopeKey(scopeKey, parentScopeKey);
+    return parentScopeKey;
+  }
+
+  void putParentScopeKey(final long scopeKey, final long parentScopeKey) {
+    if (parentScopeKeys.size() >= MAX_CACHED_PARENT_SCOPES) {
+      parentScopeKeys.clear();
+    }
+    parentScopeKeys.put(scopeKey, parentScopeKey);
+  }
+
+  /** Invalidates the cached document of the given scope, e.g. after a variable of it changed. */
+  void invalidateDocument(final long scopeKey) {
+    final var document = documents.remove(scopeKey);
+    if (document != null) {
+      cachedDocumentBytes -= document.length();
+    }
+  }
+
+  /** Invalidates the cached document and the cached parent of the given scope. */
+  void invalidateScope(final long scopeKey) {
+    invalidateDocument(scopeKey);
+    parentScopeKeys.remove(scopeKey);
+  }
+
+  void clear() {
+    if (!documents.isEmpty()) {
+      clearDocuments();
+    }
+    if (!parentScopeKeys.isEmpty()) {
+      parentScopeKeys.clear();
+    }
+  }
+
+  private void clearDocuments() {
+    documents.clear();
+    cachedDocumentBytes = 0;
+  }
+
+  @FunctionalInterface
+  interface ScopeLoader {
+
+    /** Adds all variables of the given scope to the document, in the order of the state. */
+    void load(long scopeKey, ScopeDocument document);
+  }
+
+  /**
+   * The variables of a scope, i.e. their names and MessagePack encoded values, in the order in
+   * which they were added. The names and values are copied into a single buffer. After the document
+   * is sealed, it can't be changed anymore, and its variables can be looked up by name.
+   */
+  static final class ScopeDocument {
+
+    private static final int NOT_FOUND = -1;
+    // the name offset, the name length and the value length of every variable
+    private static final int ENTRY_FIELDS = 3;
+    private static final DirectBuffer[] NO_VARIABLES = new DirectBuffer[0];
+
+    private ExpandableArrayBuffer data;
+    private int[] entries;
+    private int length;
+    private int size;
+
+    private DirectBuffer[] names = NO_VARIABLES;
+    private DirectBuffer[] values = NO_VARIABLES;
+    private Object2IntHashMap<DirectBuffer> indexByName;
+    private UnsafeBuffer nameView;
+
+    void add(final DirectBuffer name, final DirectBuffer value) {
+      if (indexByName != null) {
+        throw new IllegalStateException("Expected to add variable to document, but it is sealed");
+      }
+
+      if (data == null) {
+        data = new ExpandableArrayBuffer();
+        entries = new int[ENTRY_FIELDS * 8];
+      } else if (entries.length < ENTRY_FIELDS * (size + 1)) {
+        entries = Arrays.copyOf(entries, entries.length * 2);
+      }
+
+      final int entry = ENTRY_FIELDS * size;
+      entries[entry] = length;
+      entries[entry + 1] = name.capacity();
+      entries[entry + 2] = value.capacity();
+
+      data.putBytes(length, name, 0, name.capacity());
+      length += name.capacity();
+      data.putBytes(length, value, 0, value.capacity());
+      length += value.capacity();
+      size++;
+    }
+
+    void seal() {
+      indexByName = new Object2IntHashMap<>(NOT_FOUND);
+      if (size == 0) {
+        return;
+      }
+
+      nameView = new UnsafeBuffer(0, 0);
+      names = new DirectBuffer[size];
+      values = new DirectBuffer[size];
+      for (int i = 0; i < size; i++) {
+        final int entry = ENTRY_FIELDS * i;
+        final int nameOffset = entries[entry];
+        final int nameLength = entries[entry + 1];
+        names[i] = new UnsafeBuffer(data, nameOffset, nameLength);
+        values[i] = new UnsafeBuffer(data, nameOffset + nameLength, entries[entry + 2]);
+        indexByName.put(names[i], i);
+      }
+    }
+
+    /**
+     * @return the number of variables of the document
+     */
+    int size() {
+      return size;
+    }
+
+    /**
+     * @return the number of bytes of the names and values of the variables
+     */
+    int length() {
+      return length;
+    }
+
+    DirectBuffer name(final int index) {
+      return names[index];
+    }
+
+    DirectBuffer value(final int index) {
+      return values[index];
+    }
+
+    /**
+     * @return the value of the variable with the given name, or {@code null} if the document has no
+     *     such variable
+     */
+    DirectBuffer get(final DirectBuffer name, final int nameOffset, final int nameLength) {
+      if (size == 0) {
+        return null;
+      }
+
+      nameView.wrap(name, nameOffset, nameLength);
+      final int index = indexByName.getValue(nameView);
+      return index == NOT_FOUND ? null : values[index];
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.DecisionEngineFactory;
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.dmn.impl.MessagePackVariablesContext;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of a decision within a large variable scope, where the decision only
+ * reads a few of the variables. The decision is evaluated on the MessagePack encoded variables,
+ * without converting the unrelated ones.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class DecisionEvaluationPerformanceTest {
+
+  private static final String DRG_RESOURCE = "/dmn/drg-force-user.dmn";
+  private static final String DECISION_ID = "force_user";
+  private static final int UNRELATED_VARIABLES_COUNT = 200;
+
+  private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+  private ParsedDecisionRequirementsGraph drg;
+  private DirectBuffer variables;
+
+  @Setup
+  public void setup() {
+    drg = decisionEngine.parse(getClass().getResourceAsStream(DRG_RESOURCE));
+    variables = MsgPackUtil.asMsgPack(createLargeVariableScope());
+  }
+
+  @Benchmark
+  public DecisionEvaluationResult measureDecisionEvaluation() {
+    return decisionEngine.evaluateDecisionById(
+        drg, DECISION_ID, new MessagePackVariablesContext(variables));
+  }
+
+  @JMHTest("measureDecisionEvaluation")
+  void shouldEvaluateDecisionWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 20_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  private static Map<String, Object> createLargeVariableScope() {
+    final var variables = new HashMap<String, Object>();
+    variables.put("lightsaberColor", "blue");
+    variables.put("height", 182);
+
+    for (int i = 0; i < UNRELATED_VARIABLES_COUNT; i++) {
+      variables.put(
+          "order" + i,
+          Map.of(
+              "id", i,
+              "customer", Map.of("name", "customer-" + i, "vip", i % 2 == 0),
+              "items", List.of("item-1", "item-2", "item-3")));
+    }
+
+    return variables;
+  }
+}
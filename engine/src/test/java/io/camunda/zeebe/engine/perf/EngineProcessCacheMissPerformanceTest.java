@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time from creating a process instance until its first job is created, when the
+ * process is not in the process cache, e.g. after a restart or a leader change. The cache can hold
+ * only one process, and the instances are created alternately for two large processes, such that
+ * every instance misses the cache.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class EngineProcessCacheMissPerformanceTest {
+
+  private static final String[] PROCESS_IDS = {"process-1", "process-2"};
+  private static final int TASK_COUNT = 200;
+
+  private long count;
+  private ProcessInstanceClient processInstanceClient;
+  private TestEngine.TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+
+    final var engineConfiguration = new EngineConfiguration().setProcessCacheCapacity(1);
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(testContext, engineConfiguration);
+
+    for (final String processId : PROCESS_IDS) {
+      singlePartitionEngine
+          .createDeploymentClient()
+          .withXmlResource(processId + ".bpmn", createLargeProcess(processId))
+          .deploy();
+    }
+
+    processInstanceClient = singlePartitionEngine.createProcessInstanceClient();
+  }
+
+  private TestEngine.TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    // scheduler
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock());
+
+    final var actorScheduler = builder.build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<?> measureTimeToFirstActivation() {
+    final var processId = PROCESS_IDS[(int) (count++ % PROCESS_IDS.length)];
+    final long piKey = processInstanceClient.ofBpmnProcessId(processId).create();
+
+    final Record<JobRecordValue> task =
+        RecordingExporter.jobRecords()
+            .withIntent(JobIntent.CREATED)
+            .withProcessInstanceKey(piKey)
+            .getFirst();
+
+    singlePartitionEngine.reset();
+    return task;
+  }
+
+  @JMHTest("measureTimeToFirstActivation")
+  void shouldActivateFirstElementWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 400;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  private static BpmnModelInstance createLargeProcess(final String processId) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(processId).startEvent();
+    for (int i = 0; i < TASK_COUNT; i++) {
+      final var index = i;
+      builder =
+          builder.serviceTask(
+              "task-" + index,
+              t ->
+                  t.zeebeJobTypeExpression("\"task-\" + string(" + index + ")")
+                      .zeebeInputExpression("order.items[" + (index + 1) + "]", "item")
+                      .zeebeOutputExpression("result", "result" + index));
+    }
+
+    return builder.endEvent().done();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapArray;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState;
+import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast a large process is loaded into the process cache when it is not cached yet,
+ * e.g. after a restart, a leader change or after installing a snapshot. This is the time it takes
+ * until the first element of the process can be activated, without the rest of the engine; see
+ * {@link EngineProcessCacheMissPerformanceTest} for the time until the first job is created.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ProcessCacheMissPerformanceTest {
+
+  private static final String PROCESS_ID = "process";
+  private static final long PROCESS_DEFINITION_KEY = 1;
+  private static final int TASK_COUNT = 200;
+
+  private final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbProcessState processState;
+
+  @Setup
+  public void setup() throws IOException {
+    temporaryFolder.create();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(temporaryFolder.newFolder());
+    processState =
+        new DbProcessState(zeebeDb, zeebeDb.createContext(), 1, new EngineConfiguration());
+
+    final var resource =
+        Bpmn.convertToString(createLargeProcess()).getBytes(StandardCharsets.UTF_8);
+    final var processRecord =
+        new ProcessRecord()
+            .setResourceName("process.bpmn")
+            .setResource(wrapArray(resource))
+            .setBpmnProcessId(PROCESS_ID)
+            .setVersion(1)
+            .setKey(PROCESS_DEFINITION_KEY)
+            .setChecksum(wrapString("checksum"));
+    processState.putProcess(PROCESS_DEFINITION_KEY, processRecord);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    temporaryFolder.delete();
+  }
+
+  @Benchmark
+  public DeployedProcess measureProcessCacheMiss() {
+    processState.clearCache();
+    return processState.getProcessByKey(PROCESS_DEFINITION_KEY);
+  }
+
+  @JMHTest("measureProcessCacheMiss")
+  void shouldLoadProcessWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  private static BpmnModelInstance createLargeProcess() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(PROCESS_ID).startEvent();
+    for (int i = 0; i < TASK_COUNT; i++) {
+      final var index = i;
+      builder =
+          builder.serviceTask(
+              "task-" + index,
+              t ->
+                  t.zeebeJobTypeExpression("\"task-\" + string(" + index + ")")
+                      .zeebeInputExpression("order.items[" + (index + 1) + "]", "item")
+                      .zeebeOutputExpression("result", "result" + index));
+    }
+
+    return builder.endEvent().done();
+  }
+}
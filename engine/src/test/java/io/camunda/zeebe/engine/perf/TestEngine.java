@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -18,6 +19,7 @@ import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.stream.impl.StreamProcessorContext;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
@@ -34,7 +36,11 @@ public final class TestEngine {
   private final int partitionCount;
 
   private TestEngine(
-      final int partitionId, final int partitionCount, final TestContext testContext) {
+      final int partitionId,
+      final int partitionCount,
+      final int maxCommandsInGroupCommit,
+      final EngineConfiguration engineConfiguration,
+      final TestContext testContext) {
     this.partitionCount = partitionCount;
 
     testStreams =
@@ -45,6 +51,8 @@ public final class TestEngine {
     testStreams.withStreamProcessorMode(StreamProcessorMode.PROCESSING);
     // for performance reasons we want to enable batch processing
     testStreams.maxCommandsInBatch(100);
+    testStreams.maxCommandsInGroupCommit(maxCommandsInGroupCommit);
+    testStreams.engineConfiguration(engineConfiguration);
 
     testContext
         .autoCloseableRule()
@@ -95,7 +103,23 @@ public final class TestEngine {
   }
 
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext);
+    return createSinglePartitionEngine(
+        testContext, StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT);
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final int maxCommandsInGroupCommit) {
+    return new TestEngine(1, 1, maxCommandsInGroupCommit, new EngineConfiguration(), testContext);
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final EngineConfiguration engineConfiguration) {
+    return new TestEngine(
+        1,
+        1,
+        StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT,
+        engineConfiguration,
+        testContext);
   }
 
   public void reset() {
@@ -474,6 +474,56 @@ public final class CreateDeploymentTest {
         findProcess(originalProcesses, processId), findProcess(repeatedProcesses, processId));
   }
 
+  @Test
+  public void shouldFilterRepeatedlyDeployedDuplicateProcess() {
+    // given
+    final Record<DeploymentRecordValue> original =
+        ENGINE.deployment().withXmlResource("p1.bpmn", process).deploy();
+    ENGINE.deployment().withXmlResource("p1.bpmn", process).deploy();
+
+    // when
+    final Record<DeploymentRecordValue> repeated =
+        ENGINE.deployment().withXmlResource("p1.bpmn", process).deploy();
+
+    // then
+    final var originalProcesses = original.getValue().getProcessesMetadata();
+    final var repeatedProcesses = repeated.getValue().getProcessesMetadata();
+    assertThat(repeatedProcesses.size()).isEqualTo(originalProcesses.size()).isOne();
+
+    assertSameResource(
+        findProcess(originalProcesses, processId), findProcess(repeatedProcesses, processId));
+    assertThat(
+            RecordingExporter.records()
+                .limit(r -> r.getPosition() == repeated.getPosition())
+                .processRecords()
+                .withIntent(ProcessIntent.CREATED)
+                .withBpmnProcessId(processId))
+        .describedAs("Expect to create the process only once")
+        .hasSize(1);
+  }
+
+  @Test
+  public void shouldNotFilterWithRollbackToRepeatedlyDeployedVersion() {
+    // given
+    final Record<DeploymentRecordValue> original =
+        ENGINE.deployment().withXmlResource("p1.bpmn", process).deploy();
+    ENGINE.deployment().withXmlResource("p1.bpmn", process).deploy();
+    ENGINE.deployment().withXmlResource("p1.bpmn", process_V2).deploy();
+
+    // when
+    final Record<DeploymentRecordValue> rollback =
+        ENGINE.deployment().withXmlResource("p1.bpmn", process).deploy();
+
+    // then
+    final var originalProcess =
+        findProcess(original.getValue().getProcessesMetadata(), processId);
+    final var rollbackProcess =
+        findProcess(rollback.getValue().getProcessesMetadata(), processId);
+
+    assertDifferentResources(originalProcess, rollbackProcess);
+    assertThat(rollbackProcess.getVersion()).isEqualTo(3);
+  }
+
   @Test
   public void shouldDeployProcessModelWithUndefinedTask() {
     // when
@@ -306,6 +306,29 @@ public final class DeploymentDmnTest {
         .containsExactly(1, 2);
   }
 
+  @Test
+  public void shouldDeployNewVersionOnRollbackToRepeatedlyDeployedVersion() {
+    // given
+    engine.deployment().withXmlClasspathResource(DMN_DECISION_TABLE).deploy();
+    engine.deployment().withXmlClasspathResource(DMN_DECISION_TABLE).deploy();
+    engine.deployment().withXmlClasspathResource(DMN_DECISION_TABLE_V2).deploy();
+
+    // when
+    final var rollback =
+        engine.deployment().withXmlClasspathResource(DMN_DECISION_TABLE).deploy();
+
+    // then
+    final var drgMetadata = rollback.getValue().getDecisionRequirementsMetadata().get(0);
+    Assertions.assertThat(drgMetadata).hasDecisionRequirementsVersion(3).isNotDuplicate();
+
+    final var decisionMetadata = rollback.getValue().getDecisionsMetadata().get(0);
+    Assertions.assertThat(decisionMetadata)
+        .hasDecisionId("jedi_or_sith")
+        .hasVersion(3)
+        .hasDecisionRequirementsKey(drgMetadata.getDecisionRequirementsKey())
+        .isNotDuplicate();
+  }
+
   @Test
   public void shouldDeployNewVersionIfResourceNameDiffers() {
     // given
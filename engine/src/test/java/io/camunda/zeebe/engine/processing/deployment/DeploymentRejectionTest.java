@@ -176,6 +176,32 @@ public class DeploymentRejectionTest {
                 + "Duplicated process id in resources 'p2.bpmn' and 'p3.bpmn'");
   }
 
+  @Test
+  public void shouldRejectDeploymentWithDuplicateProcessIdOfUnchangedResource() {
+    // given
+    final BpmnModelInstance definition =
+        Bpmn.createExecutableProcess("unchanged-process").startEvent().done();
+    final BpmnModelInstance otherDefinition =
+        Bpmn.createExecutableProcess("unchanged-process").startEvent().endEvent().done();
+    ENGINE.deployment().withXmlResource("unchanged.bpmn", definition).deploy();
+
+    // when
+    final Record<DeploymentRecordValue> deploymentRejection =
+        ENGINE
+            .deployment()
+            .withXmlResource("other.bpmn", otherDefinition)
+            .withXmlResource("unchanged.bpmn", definition)
+            .expectRejection()
+            .deploy();
+
+    // then
+    Assertions.assertThat(deploymentRejection)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason(
+            "Expected to deploy new resources, but encountered the following errors:\n"
+                + "Duplicated process id in resources 'other.bpmn' and 'unchanged.bpmn'");
+  }
+
   @Test
   public void shouldRejectDeploymentWithInvalidTimerStartEventExpression() {
     // given
@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.metrics.BufferedMessagesMetrics;
+import io.camunda.zeebe.engine.state.immutable.MessageState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.TaskResult;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import io.camunda.zeebe.stream.impl.records.RecordBatch;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class MessageTimeToLiveCheckerTest {
+
+  private MutableProcessingState processingState;
+
+  private final BufferedMessagesMetrics metrics = mock(BufferedMessagesMetrics.class);
+  private MessageState messageState;
+  private MessageTimeToLiveChecker checker;
+
+  @BeforeEach
+  void setup() {
+    messageState = spy(processingState.getMessageState());
+    checker =
+        new MessageTimeToLiveChecker(
+            Duration.ofMinutes(1),
+            Integer.MAX_VALUE,
+            false,
+            mock(ProcessingScheduleService.class),
+            messageState,
+            metrics);
+  }
+
+  @Test
+  void shouldExpireMessagesWithDeadlineBeforeNow() {
+    // given
+    putMessage(1, 1_000);
+    putMessage(2, 2_000);
+    putMessage(3, Long.MAX_VALUE);
+
+    // when
+    final var expiredKeys = execute(true);
+
+    // then
+    assertThat(expiredKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldContinueWhereLeftOffInNextRun() {
+    // given - the expire commands of the first run are not yet processed
+    putMessage(1, 1_000);
+    putMessage(2, 2_000);
+    execute(true);
+
+    // when
+    final var expiredKeysWithoutNewMessage = execute(true);
+    putMessage(3, 3_000);
+    final var expiredKeysWithNewMessage = execute(true);
+
+    // then
+    assertThat(expiredKeysWithoutNewMessage).isEmpty();
+    assertThat(expiredKeysWithNewMessage).containsExactly(3L);
+  }
+
+  @Test
+  void shouldStartAtFirstDeadlineAfterFullScanInterval() {
+    // given - a message with a deadline before the last visited one
+    putMessage(2, 2_000);
+    execute(true);
+    putMessage(1, 1_000);
+
+    // when
+    final List<Long> expiredKeys = new ArrayList<>();
+    for (int run = 1; run < MessageTimeToLiveChecker.FULL_SCAN_INTERVAL; run++) {
+      expiredKeys.addAll(execute(true));
+    }
+    final var expiredKeysAfterFullScanInterval = execute(true);
+
+    // then
+    assertThat(expiredKeys).isEmpty();
+    assertThat(expiredKeysAfterFullScanInterval).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldNotVisitMessageDeadlinesIfNoBucketIsExpired() {
+    // given
+    putMessage(1, Long.MAX_VALUE);
+
+    // when
+    final var expiredKeys = execute(true);
+
+    // then
+    assertThat(expiredKeys).isEmpty();
+    verify(messageState, never()).visitMessagesWithDeadlineBeforeTimestamp(anyLong(), any(), any());
+    verify(metrics).setExpiredMessagesCount(0);
+    verify(metrics).setMessageExpiryLag(0);
+  }
+
+  @Test
+  void shouldPublishExpiredMessagesOfAllBuckets() {
+    // given - the expire commands of the first run are not yet processed
+    putMessage(1, 1_000);
+    putMessage(2, 1_500);
+    execute(true);
+    putMessage(3, 3_000);
+    putMessage(4, Long.MAX_VALUE);
+
+    // when
+    final long startTime = System.currentTimeMillis();
+    execute(true);
+
+    // then - the lag is measured from the oldest bucket, although the run continues after it
+    verify(metrics).setExpiredMessagesCount(3);
+    final var lag = ArgumentCaptor.forClass(Long.class);
+    verify(metrics, times(2)).setMessageExpiryLag(lag.capture());
+    assertThat(lag.getValue()).isGreaterThanOrEqualTo(startTime - 1_000);
+  }
+
+  @Test
+  void shouldRetryWithFewerMessagesIfBatchDoesNotFit() {
+    // given
+    putMessage(1, 1_000);
+    putMessage(2, 2_000);
+
+    // when
+    final var rejectedKeys = execute(false);
+    final var firstExpiredKeys = execute(true);
+    final var secondExpiredKeys = execute(true);
+
+    // then
+    assertThat(rejectedKeys).isEmpty();
+    assertThat(firstExpiredKeys).containsExactly(1L);
+    assertThat(secondExpiredKeys).containsExactly(2L);
+  }
+
+  private void putMessage(final long key, final long deadline) {
+    final var message =
+        new MessageRecord()
+            .setName("message")
+            .setCorrelationKey("key-" + key)
+            .setTimeToLive(deadline)
+            .setDeadline(deadline);
+    processingState.getMessageState().put(key, message);
+  }
+
+  private List<Long> execute(final boolean fitsIntoResult) {
+    final var resultBuilder = new RecordingTaskResultBuilder(fitsIntoResult);
+    checker.execute(resultBuilder);
+    return resultBuilder.expiredMessageKeys;
+  }
+
+  private static final class RecordingTaskResultBuilder implements TaskResultBuilder {
+
+    private final List<Long> expiredMessageKeys = new ArrayList<>();
+    private final boolean fitsIntoResult;
+
+    private RecordingTaskResultBuilder(final boolean fitsIntoResult) {
+      this.fitsIntoResult = fitsIntoResult;
+    }
+
+    @Override
+    public boolean appendCommandRecord(
+        final long key, final Intent intent, final UnifiedRecordValue value) {
+      if (fitsIntoResult) {
+        expiredMessageKeys.addAll(((MessageBatchRecord) value).getMessageKeys());
+      }
+      return fitsIntoResult;
+    }
+
+    @Override
+    public TaskResult build() {
+      return RecordBatch::empty;
+    }
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class TimerWheelTest {
+
+  private static final long TICK = 100;
+  private static final long START = 1_000_000;
+
+  private final TimerWheel wheel = new TimerWheel(TICK, START);
+
+  @Test
+  void shouldNotPollEntriesBeforeTheirDueDate() {
+    // given
+    wheel.add(1, -1, START + 250);
+
+    // when
+    wheel.advanceTo(START + 249);
+
+    // then
+    assertThat(pollDueKeys()).isEmpty();
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldPollEntriesAtTheirDueDateRoundedUpToTheTick() {
+    // given
+    wheel.add(1, -1, START + 250);
+
+    // when
+    wheel.advanceTo(START + 300);
+
+    // then
+    assertThat(pollDueKeys()).containsExactly(1L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldPollEntriesWhichAreAlreadyDue() {
+    // given
+    wheel.advanceTo(START + 1_000);
+
+    // when
+    wheel.add(1, -1, START + 500);
+
+    // then
+    assertThat(pollDueKeys()).containsExactly(1L);
+  }
+
+  @Test
+  void shouldPollEntriesOfHigherLevels() {
+    // given - entries which are due in every level of the wheel
+    final var dueDates =
+        List.of(
+            START + Duration.ofSeconds(1).toMillis(),
+            START + Duration.ofMinutes(1).toMillis(),
+            START + Duration.ofHours(1).toMillis(),
+            START + Duration.ofDays(3).toMillis());
+    for (int i = 0; i < dueDates.size(); i++) {
+      wheel.add(i, i * 10, dueDates.get(i));
+    }
+
+    for (int i = 0; i < dueDates.size(); i++) {
+      // when
+      wheel.advanceTo(dueDates.get(i) - 1);
+      final var notYetDue = pollDueKeys();
+      wheel.advanceTo(dueDates.get(i));
+
+      // then
+      assertThat(notYetDue).isEmpty();
+      final List<Long> scopeKeys = new ArrayList<>();
+      wheel.pollDue(
+          (key, scopeKey, dueDate) -> {
+            assertThat(dueDate).isEqualTo(dueDates.get((int) key));
+            return scopeKeys.add(scopeKey);
+          });
+      assertThat(scopeKeys).containsExactly(i * 10L);
+    }
+  }
+
+  @Test
+  void shouldRejectEntriesBeyondHorizon() {
+    // when
+    final boolean added = wheel.add(1, -1, wheel.horizon() + 1);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.add(2, -1, wheel.horizon())).isTrue();
+  }
+
+  @Test
+  void shouldKeepRejectedEntry() {
+    // given
+    wheel.add(1, -1, START + 100);
+    wheel.add(2, -1, START + 100);
+    wheel.advanceTo(START + 100);
+
+    // when
+    final boolean pollAll = wheel.pollDue((key, scopeKey, dueDate) -> false);
+
+    // then
+    assertThat(pollAll).isFalse();
+    assertThat(wheel.size()).isEqualTo(2);
+    assertThat(pollDueKeys()).containsExactlyInAnyOrder(1L, 2L);
+  }
+
+  @Test
+  void shouldKeepEntryWhichIsAddedAgainWhilePolled() {
+    // given
+    wheel.add(1, -1, START + 100);
+    wheel.advanceTo(START + 100);
+
+    // when
+    wheel.pollDue((key, scopeKey, dueDate) -> wheel.add(key, scopeKey, START + 1_000));
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(pollDueKeys()).isEmpty();
+    wheel.advanceTo(START + 1_000);
+    assertThat(pollDueKeys()).containsExactly(1L);
+  }
+
+  @Test
+  void shouldReturnNextDueDate() {
+    // given
+    wheel.add(1, -1, START + 550);
+    wheel.add(2, -1, START + Duration.ofHours(1).toMillis());
+
+    // when - then
+    assertThat(wheel.nextDueDate()).isEqualTo(START + 600);
+
+    wheel.advanceTo(START + 600);
+    pollDueKeys();
+    assertThat(wheel.nextDueDate())
+        .isGreaterThan(START + 600)
+        .isLessThanOrEqualTo(START + Duration.ofHours(1).toMillis());
+  }
+
+  @Test
+  void shouldReturnNoNextDueDateIfEmpty() {
+    // when - then
+    assertThat(wheel.nextDueDate()).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldReuseEntriesAfterTheyWerePolled() {
+    // given
+    for (int round = 0; round < 3; round++) {
+      final long now = START + round * 1_000L;
+      for (int i = 0; i < 1_000; i++) {
+        wheel.add(i, -1, now + 1 + i % 500);
+      }
+
+      // when
+      wheel.advanceTo(now + 500);
+
+      // then
+      assertThat(pollDueKeys()).hasSize(1_000);
+    }
+  }
+
+  @Test
+  void shouldRemoveCanceledEntries() {
+    // given
+    for (int i = 0; i < 10_000; i++) {
+      wheel.add(i, -1, START + Duration.ofMinutes(1 + i % 60).toMillis());
+    }
+
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      wheel.remove(i);
+    }
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.nextDueDate()).isEqualTo(-1);
+    wheel.advanceTo(START + Duration.ofHours(2).toMillis());
+    assertThat(pollDueKeys()).isEmpty();
+  }
+
+  @Test
+  void shouldRemoveDueEntry() {
+    // given
+    wheel.add(1, -1, START + 100);
+    wheel.add(2, -1, START + 100);
+    wheel.add(3, -1, START + 100);
+    wheel.advanceTo(START + 100);
+
+    // when
+    final boolean removed = wheel.remove(2);
+
+    // then
+    assertThat(removed).isTrue();
+    assertThat(wheel.remove(2)).isFalse();
+    assertThat(pollDueKeys()).containsExactlyInAnyOrder(1L, 3L);
+  }
+
+  @Test
+  void shouldReplaceEntryWithSameKey() {
+    // given
+    wheel.add(1, -1, START + 100);
+
+    // when
+    wheel.add(1, 2, START + 500);
+
+    // then
+    assertThat(wheel.size()).isOne();
+    wheel.advanceTo(START + 100);
+    assertThat(pollDueKeys()).isEmpty();
+    wheel.advanceTo(START + 500);
+    final List<Long> scopeKeys = new ArrayList<>();
+    wheel.pollDue((key, scopeKey, dueDate) -> scopeKeys.add(scopeKey));
+    assertThat(scopeKeys).containsExactly(2L);
+  }
+
+  @Test
+  void shouldRejectEntriesIfFull() {
+    // given
+    final var fullWheel = new TimerWheel(TICK, START, 2);
+    fullWheel.add(1, -1, START + 100);
+    fullWheel.add(2, -1, START + 100);
+
+    // when
+    final boolean added = fullWheel.add(3, -1, START + 100);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(fullWheel.isFull()).isTrue();
+    assertThat(fullWheel.size()).isEqualTo(2);
+
+    fullWheel.remove(1);
+    assertThat(fullWheel.add(3, -1, START + 100)).isTrue();
+  }
+
+  private List<Long> pollDueKeys() {
+    final List<Long> keys = new ArrayList<>();
+    wheel.pollDue((key, scopeKey, dueDate) -> keys.add(key));
+    return keys;
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -15,11 +16,21 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateEntries;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateEntries.TriggerResult;
+import io.camunda.zeebe.engine.processing.scheduled.TimerWheel.EntryVisitor;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
 import io.camunda.zeebe.stream.api.scheduling.Task;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class DueDateCheckerTest {
@@ -65,4 +76,180 @@ public class DueDateCheckerTest {
     // then
     verify(mockScheduleService, timeout(1000).times(2)).runDelayed(any(), any(Task.class));
   }
+
+  @Test
+  public void shouldTriggerScheduledEntriesWithoutVisitingState() {
+    // given
+    final var entries = new RecordingDueDateEntries();
+    final var dueDateChecker = new DueDateChecker(100, entries);
+    final var mockContext = mock(ReadonlyStreamProcessorContext.class);
+    final var mockScheduleService = mock(ProcessingScheduleService.class);
+    final var taskCaptor = ArgumentCaptor.forClass(Task.class);
+
+    when(mockContext.getScheduleService()).thenReturn(mockScheduleService);
+    dueDateChecker.onRecovered(mockContext);
+    verify(mockScheduleService).runDelayed(eq(Duration.ZERO), taskCaptor.capture());
+    final var task = taskCaptor.getValue();
+    task.execute(mock(TaskResultBuilder.class));
+
+    // when
+    final var dueDate = System.currentTimeMillis() - 1;
+    dueDateChecker.schedule(dueDate, 1L, 2L);
+    task.execute(mock(TaskResultBuilder.class));
+
+    // then
+    assertThat(entries.visits).isOne();
+    assertThat(entries.triggeredKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotTriggerCanceledEntries() {
+    // given
+    final var entries = new RecordingDueDateEntries();
+    final var dueDateChecker = new DueDateChecker(100, entries);
+    final var task = recover(dueDateChecker);
+    task.execute(mock(TaskResultBuilder.class));
+    dueDateChecker.schedule(System.currentTimeMillis() - 1, 1L, 2L);
+
+    // when
+    dueDateChecker.cancel(1L);
+    task.execute(mock(TaskResultBuilder.class));
+
+    // then
+    assertThat(entries.triggeredKeys).isEmpty();
+  }
+
+  @Test
+  public void shouldTriggerEntriesWhichDidNotFitIntoWheelFromState() {
+    // given
+    final var entries = new RecordingDueDateEntries();
+    final var dueDate = System.currentTimeMillis() - 1;
+    entries.stateEntries.add(new long[] {1L, 2L, dueDate});
+    entries.stateEntries.add(new long[] {3L, 2L, dueDate});
+    entries.stateEntries.add(new long[] {4L, 2L, dueDate + 1});
+    final var dueDateChecker = new DueDateChecker(100, 2, entries);
+    final var task = recover(dueDateChecker);
+
+    // when
+    task.execute(mock(TaskResultBuilder.class));
+
+    // then
+    assertThat(entries.triggeredKeys).containsExactlyInAnyOrder(1L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldTriggerEntryAgainIfItStillExistsAfterRetryDelay() {
+    // given - the trigger command of the entry is rejected, or its processing fails
+    final var clock = new ControlledActorClock();
+    clock.setCurrentTime(1_000_000L);
+    final var entries = new RecordingDueDateEntries();
+    final var dueDateChecker = new DueDateChecker(100, 1024, entries, clock);
+    final var task = recover(dueDateChecker);
+    task.execute(mock(TaskResultBuilder.class));
+    dueDateChecker.schedule(clock.getTimeMillis() - 1, 1L, 2L);
+    task.execute(mock(TaskResultBuilder.class));
+
+    // when
+    clock.addTime(Duration.ofMillis(DueDateChecker.TRIGGER_RETRY_DELAY - 100));
+    task.execute(mock(TaskResultBuilder.class));
+    final var triggeredBeforeRetryDelay = List.copyOf(entries.triggeredKeys);
+    clock.addTime(Duration.ofMillis(100));
+    task.execute(mock(TaskResultBuilder.class));
+
+    // then
+    assertThat(triggeredBeforeRetryDelay).containsExactly(1L);
+    assertThat(entries.triggeredKeys).containsExactly(1L, 1L);
+  }
+
+  @Test
+  public void shouldNotTriggerEntryAgainOnceItWasRemoved() {
+    // given
+    final var clock = new ControlledActorClock();
+    clock.setCurrentTime(1_000_000L);
+    final var entries = new RecordingDueDateEntries();
+    final var dueDateChecker = new DueDateChecker(100, 1024, entries, clock);
+    final var task = recover(dueDateChecker);
+    task.execute(mock(TaskResultBuilder.class));
+    dueDateChecker.schedule(clock.getTimeMillis() - 1, 1L, 2L);
+    task.execute(mock(TaskResultBuilder.class));
+
+    // when - the state change of the trigger command removes the entry
+    entries.removedKeys.add(1L);
+    clock.addTime(Duration.ofMillis(DueDateChecker.TRIGGER_RETRY_DELAY));
+    task.execute(mock(TaskResultBuilder.class));
+    clock.addTime(Duration.ofMillis(DueDateChecker.TRIGGER_RETRY_DELAY));
+    task.execute(mock(TaskResultBuilder.class));
+
+    // then
+    assertThat(entries.triggeredKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldTriggerEntriesFromStateAgainIfTheyStillExistAfterRetryDelay() {
+    // given
+    final var clock = new ControlledActorClock();
+    clock.setCurrentTime(1_000_000L);
+    final var entries = new RecordingDueDateEntries();
+    final var dueDate = clock.getTimeMillis() - 1;
+    entries.stateEntries.add(new long[] {1L, 2L, dueDate});
+    entries.stateEntries.add(new long[] {3L, 2L, dueDate});
+    final var dueDateChecker = new DueDateChecker(100, 1, entries, clock);
+    final var task = recover(dueDateChecker);
+    task.execute(mock(TaskResultBuilder.class));
+
+    // when - the trigger command of entry 1 is rejected, while entry 3 was removed
+    entries.removedKeys.add(3L);
+    clock.addTime(Duration.ofMillis(DueDateChecker.TRIGGER_RETRY_DELAY));
+    task.execute(mock(TaskResultBuilder.class));
+
+    // then
+    assertThat(entries.triggeredKeys).containsExactlyInAnyOrder(1L, 3L, 1L);
+  }
+
+  private static Task recover(final DueDateChecker dueDateChecker) {
+    final var mockContext = mock(ReadonlyStreamProcessorContext.class);
+    final var mockScheduleService = mock(ProcessingScheduleService.class);
+    final var taskCaptor = ArgumentCaptor.forClass(Task.class);
+
+    when(mockContext.getScheduleService()).thenReturn(mockScheduleService);
+    dueDateChecker.onRecovered(mockContext);
+    verify(mockScheduleService).runDelayed(eq(Duration.ZERO), taskCaptor.capture());
+    return taskCaptor.getValue();
+  }
+
+  private static final class RecordingDueDateEntries implements DueDateEntries {
+
+    private final List<Long> triggeredKeys = new ArrayList<>();
+    // the keys of the entries which were removed from the state after they were triggered
+    private final Set<Long> removedKeys = new HashSet<>();
+    // the key, scope key and due date of the entries in the state, ordered by their due dates
+    private final List<long[]> stateEntries = new ArrayList<>();
+    private int visits;
+
+    @Override
+    public long visitEntries(final long upperBound, final EntryVisitor visitor) {
+      visits++;
+      for (final long[] entry : stateEntries) {
+        if (entry[2] > upperBound || !visitor.visit(entry[0], entry[1], entry[2])) {
+          return entry[2];
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public TriggerResult trigger(
+        final TaskResultBuilder taskResultBuilder,
+        final long now,
+        final long key,
+        final long scopeKey,
+        final long dueDate) {
+      if (removedKeys.contains(key)) {
+        return TriggerResult.SKIPPED;
+      }
+
+      triggeredKeys.add(key);
+      return TriggerResult.TRIGGERED;
+    }
+  }
 }
@@ -295,6 +295,36 @@ public final class DecisionStateTest {
         .isEqualTo(decisionRecordV3.getDecisionRequirementsVersion());
   }
 
+  @DisplayName("should return the metadata of the latest version of the deployed DRG by ID")
+  @Test
+  void shouldReturnMetadataOfLatestVersionOfDeployedDecisionRequirementsById() {
+    // given
+    final var decisionRecordV1 =
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsKey(1L)
+            .setDecisionRequirementsVersion(1);
+    final var decisionRecordV2 =
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsKey(2L)
+            .setDecisionRequirementsVersion(2);
+
+    decisionState.storeDecisionRequirements(decisionRecordV1);
+    decisionState.storeDecisionRequirements(decisionRecordV2);
+
+    // when
+    final var persistedDrg =
+        decisionState.findLatestDecisionRequirementsMetadataById(
+            decisionRecordV1.getDecisionRequirementsIdBuffer());
+
+    // then
+    assertThat(persistedDrg).isNotEmpty();
+    assertThat(persistedDrg.get().getDecisionRequirementsKey()).isEqualTo(2L);
+    assertThat(persistedDrg.get().getDecisionRequirementsVersion()).isEqualTo(2);
+    assertThat(persistedDrg.get().getChecksum()).isEqualTo(decisionRecordV2.getChecksumBuffer());
+    assertThat(decisionState.findLatestDecisionRequirementsMetadataById(wrapString("drg-2")))
+        .isEmpty();
+  }
+
   @DisplayName("should find deployed DRGs by key")
   @Test
   void shouldFindDeployedDecisionRequirementsByKey() {
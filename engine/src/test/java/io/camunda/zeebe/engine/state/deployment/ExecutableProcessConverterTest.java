@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ExecutableProcessConverterTest {
+
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+  private final ExecutableProcessConverter converter =
+      new ExecutableProcessConverter(ExpressionLanguageFactory.createExpressionLanguage());
+
+  @Test
+  void shouldReadProcessAsItWasTransformed() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess("process")
+                .startEvent("start")
+                .serviceTask(
+                    "task",
+                    t ->
+                        t.zeebeJobTypeExpression("\"task-\" + type")
+                            .zeebeJobRetries("5")
+                            .zeebeTaskHeader("key", "value")
+                            .zeebeInputExpression("order.items", "items")
+                            .zeebeOutputExpression("result", "taskResult"))
+                .exclusiveGateway("split")
+                .defaultFlow()
+                .sequenceFlowId("default")
+                .userTask("user-task", t -> t.zeebeAssignee("demo").zeebeCandidateGroups("a, b"))
+                .parallelGateway("fork")
+                .manualTask("manual-task")
+                .endEvent("end")
+                .moveToNode("fork")
+                .sendTask("send-task", t -> t.zeebeJobType("send"))
+                .endEvent("other-end")
+                .moveToNode("split")
+                .sequenceFlowId("conditional")
+                .conditionExpression("taskResult > 1")
+                .task("task-without-behavior")
+                .endEvent()
+                .done());
+
+    // when
+    final var persistedProcess = new PersistedExecutableProcess();
+    final var written = converter.write(process, persistedProcess);
+    final var readProcess = converter.read(copy(persistedProcess));
+
+    // then
+    assertThat(written).isTrue();
+    assertThat(describe(readProcess)).isEqualTo(describe(process));
+  }
+
+  @Test
+  void shouldNotWriteProcessWithBoundaryEvent() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType("task"))
+                .boundaryEvent("timer", b -> b.timerWithDuration("PT1M").endEvent())
+                .moveToActivity("task")
+                .endEvent()
+                .done());
+
+    // when
+    final var written = converter.write(process, new PersistedExecutableProcess());
+
+    // then
+    assertThat(written).isFalse();
+  }
+
+  @Test
+  void shouldNotWriteProcessWithMultiInstanceActivity() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask(
+                    "task",
+                    t ->
+                        t.zeebeJobType("task")
+                            .multiInstance(m -> m.zeebeInputCollectionExpression("items")))
+                .endEvent()
+                .done());
+
+    // when
+    final var written = converter.write(process, new PersistedExecutableProcess());
+
+    // then
+    assertThat(written).isFalse();
+  }
+
+  @Test
+  void shouldNotWriteProcessWithMessageStartEvent() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .message("start")
+                .endEvent()
+                .done());
+
+    // when
+    final var written = converter.write(process, new PersistedExecutableProcess());
+
+    // then
+    assertThat(written).isFalse();
+  }
+
+  private ExecutableProcess transform(final BpmnModelInstance model) {
+    return transformer.transformDefinitions(model).get(0);
+  }
+
+  private static PersistedExecutableProcess copy(final PersistedExecutableProcess process) {
+    final var buffer = new UnsafeBuffer(new byte[process.getLength()]);
+    process.write(buffer, 0);
+
+    final var copy = new PersistedExecutableProcess();
+    copy.wrap(buffer, 0, buffer.capacity());
+    return copy;
+  }
+
+  /** Describes every element of the process with everything that is used to execute it. */
+  private static Map<String, String> describe(final ExecutableProcess process) {
+    return process.getFlowElements().stream()
+        .collect(
+            Collectors.toMap(
+                element -> bufferAsString(element.getId()),
+                ExecutableProcessConverterTest::describe,
+                (first, second) -> first,
+                TreeMap::new));
+  }
+
+  private static String describe(final AbstractFlowElement element) {
+    final var description =
+        new StringBuilder()
+            .append(element.getClass().getSimpleName())
+            .append(", type: ")
+            .append(element.getElementType())
+            .append(", event type: ")
+            .append(element.getEventType())
+            .append(", flow scope: ")
+            .append(element.getFlowScope() == null ? null : idOf(element.getFlowScope().getId()));
+
+    if (element instanceof final ExecutableFlowNode flowNode) {
+      description
+          .append(", incoming: ")
+          .append(flowNode.getIncoming().stream().map(f -> idOf(f.getId())).toList())
+          .append(", outgoing: ")
+          .append(flowNode.getOutgoing().stream().map(f -> idOf(f.getId())).toList())
+          .append(", input mappings: ")
+          .append(flowNode.getInputMappings().map(ExecutableProcessConverterTest::describe))
+          .append(", output mappings: ")
+          .append(flowNode.getOutputMappings().map(ExecutableProcessConverterTest::describe));
+    }
+    if (element instanceof final ExecutableActivity activity) {
+      description
+          .append(", events: ")
+          .append(activity.getEvents().stream().map(e -> idOf(e.getId())).toList());
+    }
+    if (element instanceof final ExecutableProcess process) {
+      description
+          .append(", start events: ")
+          .append(process.getStartEvents().stream().map(e -> idOf(e.getId())).toList());
+    }
+    if (element instanceof final ExecutableStartEvent startEvent) {
+      description.append(", interrupting: ").append(startEvent.isInterrupting());
+    }
+    if (element instanceof final ExecutableExclusiveGateway gateway) {
+      description
+          .append(", default flow: ")
+          .append(gateway.getDefaultFlow() == null ? null : idOf(gateway.getDefaultFlow().getId()))
+          .append(", outgoing with condition: ")
+          .append(gateway.getOutgoingWithCondition().stream().map(f -> idOf(f.getId())).toList());
+    }
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      description
+          .append(", source: ")
+          .append(idOf(sequenceFlow.getSource().getId()))
+          .append(", target: ")
+          .append(idOf(sequenceFlow.getTarget().getId()))
+          .append(", condition: ")
+          .append(describe(sequenceFlow.getCondition()));
+    }
+    if (element instanceof final ExecutableJobWorkerTask task) {
+      final var properties = task.getJobWorkerProperties();
+      description
+          .append(", job type: ")
+          .append(describe(properties.getType()))
+          .append(", retries: ")
+          .append(describe(properties.getRetries()))
+          .append(", assignee: ")
+          .append(describe(properties.getAssignee()))
+          .append(", candidate groups: ")
+          .append(describe(properties.getCandidateGroups()))
+          .append(", candidate users: ")
+          .append(describe(properties.getCandidateUsers()))
+          .append(", due date: ")
+          .append(describe(properties.getDueDate()))
+          .append(", follow up date: ")
+          .append(describe(properties.getFollowUpDate()))
+          .append(", task headers: ")
+          .append(new TreeMap<>(properties.getTaskHeaders()));
+    }
+    return description.toString();
+  }
+
+  private static String describe(final Expression expression) {
+    if (expression == null) {
+      return null;
+    }
+    return (expression.isStatic() ? "static " : "feel ")
+        + expression.getExpression()
+        + (expression.isValid() ? "" : " (invalid)");
+  }
+
+  private static String idOf(final org.agrona.DirectBuffer id) {
+    return bufferAsString(id);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingProcessRecord;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.Protocol;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ProcessStateCacheTest {
+
+  @Rule
+  public final ProcessingStateRule stateRule =
+      new ProcessingStateRule(
+          Protocol.DEPLOYMENT_PARTITION, new EngineConfiguration().setProcessCacheCapacity(1));
+
+  private MutableProcessState processState;
+  private MutableProcessingState processingState;
+
+  @Before
+  public void setUp() {
+    processingState = stateRule.getProcessingState();
+    processState = processingState.getProcessState();
+  }
+
+  @Test
+  public void shouldReturnCachedProcess() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    final var process = processState.getProcessByKey(processRecord.getKey());
+
+    // when
+    final var cachedProcess = processState.getProcessByKey(processRecord.getKey());
+
+    // then
+    assertThat(cachedProcess).isSameAs(process);
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("processId"), 1))
+        .isSameAs(process);
+  }
+
+  @Test
+  public void shouldReloadEvictedProcess() {
+    // given
+    final var firstRecord = creatingProcessRecord(processingState, "first", 1);
+    processState.putProcess(firstRecord.getKey(), firstRecord);
+    final var secondRecord = creatingProcessRecord(processingState, "second", 1);
+    processState.putProcess(secondRecord.getKey(), secondRecord);
+    final var firstProcess = processState.getProcessByKey(firstRecord.getKey());
+
+    // when - the cache can hold a single process only, so the first one is evicted
+    processState.getProcessByKey(secondRecord.getKey());
+    final var reloadedProcess = processState.getProcessByKey(firstRecord.getKey());
+
+    // then
+    assertThat(reloadedProcess).isNotSameAs(firstProcess);
+    assertThat(reloadedProcess.getKey()).isEqualTo(firstRecord.getKey());
+    assertThat(reloadedProcess.getBpmnProcessId()).isEqualTo(wrapString("first"));
+  }
+
+  @Test
+  public void shouldFindEvictedProcessByIdAndVersion() {
+    // given
+    final var firstRecord = creatingProcessRecord(processingState, "first", 1);
+    processState.putProcess(firstRecord.getKey(), firstRecord);
+    final var secondRecord = creatingProcessRecord(processingState, "second", 1);
+    processState.putProcess(secondRecord.getKey(), secondRecord);
+    processState.getProcessByKey(firstRecord.getKey());
+
+    // when
+    processState.getProcessByKey(secondRecord.getKey());
+
+    // then
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("first"), 1))
+        .extracting(DeployedProcess::getKey)
+        .isEqualTo(firstRecord.getKey());
+    assertThat(processState.getLatestProcessVersionByProcessId(wrapString("second")))
+        .extracting(DeployedProcess::getKey)
+        .isEqualTo(secondRecord.getKey());
+  }
+
+  @Test
+  public void shouldRemoveEvictedProcessFromVersionIndex() {
+    // given
+    final var firstRecord = creatingProcessRecord(processingState, "first", 1);
+    processState.putProcess(firstRecord.getKey(), firstRecord);
+    final var secondRecord = creatingProcessRecord(processingState, "second", 1);
+    processState.putProcess(secondRecord.getKey(), secondRecord);
+    final var firstProcess = processState.getProcessByKey(firstRecord.getKey());
+
+    // when
+    final var secondProcess = processState.getProcessByKey(secondRecord.getKey());
+
+    // then - the evicted process is loaded again, instead of being returned from the index
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("first"), 1))
+        .isNotSameAs(firstProcess);
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("second"), 1))
+        .isNotSameAs(secondProcess);
+  }
+
+  @Test
+  public void shouldReturnAllProcessesEvenIfExceedingCapacity() {
+    // given
+    final var firstRecord = creatingProcessRecord(processingState, "process", 1);
+    processState.putProcess(firstRecord.getKey(), firstRecord);
+    final var secondRecord = creatingProcessRecord(processingState, "process", 2);
+    processState.putProcess(secondRecord.getKey(), secondRecord);
+
+    // when
+    final var processes = processState.getProcessesByBpmnProcessId(wrapString("process"));
+
+    // then
+    assertThat(processes)
+        .extracting(DeployedProcess::getKey)
+        .containsExactlyInAnyOrder(firstRecord.getKey(), secondRecord.getKey());
+    assertThat(processState.getProcesses()).hasSize(2);
+  }
+}
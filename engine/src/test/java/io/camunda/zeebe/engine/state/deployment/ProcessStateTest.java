@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
@@ -540,6 +541,52 @@ public final class ProcessStateTest {
     Assertions.assertThat(serviceTask).isNotNull();
   }
 
+  @Test
+  public void shouldGetExecutableProcessAfterCacheIsCleared() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final DeployedProcess deployedProcess = processState.getProcessByKey(processRecord.getKey());
+
+    // then
+    final ExecutableProcess process = deployedProcess.getProcess();
+    final var serviceTask =
+        process.getElementById(wrapString("test"), ExecutableJobWorkerTask.class);
+    assertThat(serviceTask.getJobWorkerProperties().getType().getExpression())
+        .isEqualTo("type");
+    assertThat(serviceTask.getOutgoing()).hasSize(1);
+  }
+
+  @Test
+  public void shouldGetExecutableProcessWhichIsNotPersistedAsTransformed() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    final var modelInstance =
+        Bpmn.createExecutableProcess("processId")
+            .startEvent()
+            .serviceTask("test", task -> task.zeebeJobType("type"))
+            .boundaryEvent("timer", timer -> timer.timerWithDuration("PT1M").endEvent())
+            .moveToActivity("test")
+            .endEvent()
+            .done();
+    processRecord.setResource(wrapString(Bpmn.convertToString(modelInstance)));
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final DeployedProcess deployedProcess = processState.getProcessByKey(processRecord.getKey());
+
+    // then
+    final var serviceTask =
+        deployedProcess
+            .getProcess()
+            .getElementById(wrapString("test"), ExecutableJobWorkerTask.class);
+    assertThat(serviceTask.getBoundaryEvents()).hasSize(1);
+  }
+
   @Test
   public void shouldGetAllProcesses() {
     // given
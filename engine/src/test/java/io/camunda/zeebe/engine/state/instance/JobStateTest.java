@@ -597,6 +597,45 @@ public final class JobStateTest {
     assertThat(jobKeys).isEmpty();
   }
 
+  @Test
+  public void shouldCountActivatableJobsPerType() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    jobState.create(1, jobRecord);
+    createAndActivateJobRecord(2, jobRecord);
+    jobState.create(3, jobRecord);
+    jobState.create(4, newJobRecord().setType("other"));
+
+    // when
+    jobState.fail(2, jobRecord.setRetries(1).setRetryBackoff(0));
+    // failing a job which is already activatable does not make it activatable twice
+    jobState.fail(3, jobRecord);
+
+    // then
+    assertThat(jobState.getActivatableJobsCount(type)).isEqualTo(3);
+    assertThat(jobState.getActivatableJobsCount(wrapString("other"))).isOne();
+    assertThat(jobState.getActivatableJobsCount(wrapString("unknown"))).isZero();
+  }
+
+  @Test
+  public void shouldNotCountJobsWhichAreNoLongerActivatable() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    jobState.create(1, jobRecord);
+    jobState.create(2, jobRecord);
+    jobState.create(3, jobRecord);
+
+    // when
+    jobState.activate(1, jobRecord);
+    jobState.complete(2, jobRecord);
+    jobState.disable(3, jobRecord);
+
+    // then
+    assertThat(jobState.getActivatableJobsCount(type)).isZero();
+  }
+
   @Test
   public void shouldReturnNullIfJobDoesNotExist() {
     // given
@@ -327,6 +327,25 @@ public final class MessageStateTest {
     assertThat(readMessage).hasSize(2).containsExactly(2L, 3L).doesNotContain(1L, 4L);
   }
 
+  @Test
+  public void shouldCountMessagesPerDeadlineBucket() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey-1", "{}", "id-1", 1_000));
+    messageState.put(2L, createMessage("name", "correlationKey-2", "{}", "id-2", 1_999));
+    messageState.put(3L, createMessage("name", "correlationKey-3", "{}", "id-3", 2_000));
+    messageState.put(4L, createMessage("name", "correlationKey-4", "{}", "id-4", 3_000));
+
+    // when
+    messageState.remove(3L);
+
+    // then
+    final List<String> buckets = new ArrayList<>();
+    messageState.visitDeadlineBucketsBeforeTimestamp(
+        2_999, (bucketStart, messageCount) -> buckets.add(bucketStart + ": " + messageCount));
+
+    assertThat(buckets).containsExactly("1000: 2");
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
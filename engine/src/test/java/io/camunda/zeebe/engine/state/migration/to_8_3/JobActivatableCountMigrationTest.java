@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_3;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.state.instance.JobRecordValue;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+public class JobActivatableCountMigrationTest {
+
+  final JobActivatableCountMigration sut = new JobActivatableCountMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+
+  private DbLong jobKey;
+  private ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
+
+  private DbString jobTypeKey;
+  private DbCompositeKey<DbString, DbForeignKey<DbLong>> typeJobKey;
+  private ColumnFamily<DbCompositeKey<DbString, DbForeignKey<DbLong>>, DbNil>
+      activatableColumnFamily;
+
+  @BeforeEach
+  public void setup() {
+    jobKey = new DbLong();
+    final DbForeignKey<DbLong> fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
+    jobsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOBS, transactionContext, jobKey, new JobRecordValue());
+
+    jobTypeKey = new DbString();
+    typeJobKey = new DbCompositeKey<>(jobTypeKey, fkJob);
+    activatableColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_ACTIVATABLE, transactionContext, typeJobKey, DbNil.INSTANCE);
+  }
+
+  @Test
+  void shouldCountActivatableJobsPerType() {
+    // given
+    insertActivatableJob(1, "a");
+    insertActivatableJob(2, "a");
+    insertActivatableJob(3, "b");
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    final var jobState = processingState.getJobState();
+    assertThat(jobState.getActivatableJobsCount(wrapString("a"))).isEqualTo(2);
+    assertThat(jobState.getActivatableJobsCount(wrapString("b"))).isOne();
+    assertThat(jobState.getActivatableJobsCount(wrapString("c"))).isZero();
+  }
+
+  @Test
+  void shouldNotCountActivatableJobsTwice() {
+    // given
+    insertActivatableJob(1, "a");
+    sut.runMigration(processingState);
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    assertThat(processingState.getJobState().getActivatableJobsCount(wrapString("a"))).isOne();
+  }
+
+  private void insertActivatableJob(final long key, final String type) {
+    final var jobRecordValue = new JobRecordValue();
+    jobRecordValue.setRecordWithoutVariables(new JobRecord().setType(type));
+
+    jobKey.wrapLong(key);
+    jobsColumnFamily.insert(jobKey, jobRecordValue);
+    jobTypeKey.wrapString(type);
+    activatableColumnFamily.insert(typeJobKey, DbNil.INSTANCE);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.message.StoredMessage;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+public class MessageDeadlineBucketMigrationTest {
+
+  final MessageDeadlineBucketMigration sut = new MessageDeadlineBucketMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+
+  private DbLong messageKey;
+  private ColumnFamily<DbLong, StoredMessage> messageColumnFamily;
+
+  private DbLong deadline;
+  private DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineMessageKey;
+  private ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> deadlineColumnFamily;
+
+  @BeforeEach
+  public void setup() {
+    messageKey = new DbLong();
+    final DbForeignKey<DbLong> fkMessage =
+        new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
+    messageColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_KEY, transactionContext, messageKey, new StoredMessage());
+
+    deadline = new DbLong();
+    deadlineMessageKey = new DbCompositeKey<>(deadline, fkMessage);
+    deadlineColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_DEADLINES,
+            transactionContext,
+            deadlineMessageKey,
+            DbNil.INSTANCE);
+  }
+
+  @Test
+  void shouldCountMessagesPerDeadlineBucket() {
+    // given
+    insertMessage(1, 1_000);
+    insertMessage(2, 1_999);
+    insertMessage(3, 3_500);
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    assertThat(getDeadlineBuckets()).containsExactly(entry(1_000L, 2L), entry(3_000L, 1L));
+  }
+
+  @Test
+  void shouldNotCountMessagesTwice() {
+    // given
+    insertMessage(1, 1_000);
+    sut.runMigration(processingState);
+
+    // when
+    sut.runMigration(processingState);
+
+    // then
+    assertThat(getDeadlineBuckets()).containsExactly(entry(1_000L, 1L));
+  }
+
+  private void insertMessage(final long key, final long deadline) {
+    final var message = new StoredMessage();
+    message
+        .setMessageKey(key)
+        .setMessage(
+            new MessageRecord()
+                .setName("message")
+                .setCorrelationKey("key-" + key)
+                .setTimeToLive(deadline)
+                .setDeadline(deadline));
+
+    messageKey.wrapLong(key);
+    messageColumnFamily.insert(messageKey, message);
+    this.deadline.wrapLong(deadline);
+    deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+  }
+
+  private Map<Long, Long> getDeadlineBuckets() {
+    final Map<Long, Long> buckets = new LinkedHashMap<>();
+    processingState
+        .getMessageState()
+        .visitDeadlineBucketsBeforeTimestamp(
+            Long.MAX_VALUE,
+            (bucketStart, messageCount) -> {
+              buckets.put(bucketStart, messageCount);
+              return true;
+            });
+    return buckets;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.Protocol;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class VariableScopeCacheTest {
+
+  private static final long PARENT_SCOPE = 1;
+  private static final long CHILD_SCOPE = 2;
+
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+  private MutableVariableState variableState;
+
+  @BeforeEach
+  void setup() {
+    variableState = processingState.getVariableState();
+    variableState.createScope(PARENT_SCOPE, VariableState.NO_PARENT);
+    variableState.createScope(CHILD_SCOPE, PARENT_SCOPE);
+    setVariable(PARENT_SCOPE, "x", "1");
+    setVariable(CHILD_SCOPE, "y", "2");
+    variableState.clearCache();
+  }
+
+  @Test
+  void shouldServeRepeatedDocumentReadsFromCache() {
+    // given
+    final double documentHits = readMetric("hits", "document");
+    final double documentMisses = readMetric("misses", "document");
+    final double parentHits = readMetric("hits", "parent");
+    final double parentMisses = readMetric("misses", "parent");
+
+    // when
+    variableState.getVariablesAsDocument(CHILD_SCOPE);
+    variableState.getVariablesAsDocument(CHILD_SCOPE);
+
+    // then
+    assertThat(readMetric("misses", "document") - documentMisses).isEqualTo(2);
+    assertThat(readMetric("hits", "document") - documentHits).isEqualTo(2);
+    assertThat(readMetric("misses", "parent") - parentMisses).isEqualTo(2);
+    assertThat(readMetric("hits", "parent") - parentHits).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotLoadScopeToLookUpSingleVariable() {
+    // given
+    final double documentMisses = readMetric("misses", "document");
+
+    // when
+    final var value = variableState.getVariable(CHILD_SCOPE, wrapString("x"));
+
+    // then
+    assertEquality(value, "1");
+    assertThat(readMetric("misses", "document")).isEqualTo(documentMisses);
+  }
+
+  @Test
+  void shouldLookUpSingleVariableInCachedScope() {
+    // given
+    variableState.getVariablesLocalAsDocument(PARENT_SCOPE);
+    final double documentHits = readMetric("hits", "document");
+
+    // when
+    final var value = variableState.getVariableLocal(PARENT_SCOPE, wrapString("x"));
+
+    // then
+    assertEquality(value, "1");
+    assertThat(readMetric("hits", "document") - documentHits).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepCachedScopesAcrossCommittedTransactions() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> variableState.getVariablesLocalAsDocument(PARENT_SCOPE));
+    transaction.commit();
+    final double documentMisses = readMetric("misses", "document");
+
+    // when
+    final var nextTransaction = transactionContext.getCurrentTransaction();
+    nextTransaction.run(() -> variableState.getVariablesLocalAsDocument(PARENT_SCOPE));
+    nextTransaction.commit();
+
+    // then
+    assertThat(readMetric("misses", "document")).isEqualTo(documentMisses);
+  }
+
+  @Test
+  void shouldNotReturnRolledBackVariablesOnceCacheIsCleared() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          setVariable(PARENT_SCOPE, "x", "3");
+          assertEquality(variableState.getVariablesLocalAsDocument(PARENT_SCOPE), "{'x': 3}");
+        });
+
+    // when - the engine clears the cache when the platform rolls back a transaction
+    transaction.rollback();
+    variableState.clearCache();
+
+    // then
+    assertEquality(variableState.getVariablesLocalAsDocument(PARENT_SCOPE), "{'x': 1}");
+    assertEquality(variableState.getVariable(CHILD_SCOPE, wrapString("x")), "1");
+  }
+
+  private void setVariable(final long scopeKey, final String name, final String value) {
+    variableState.setVariableLocal(-1, scopeKey, -1, wrapString(name), asMsgPack(value));
+  }
+
+  private static double readMetric(final String result, final String type) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_variable_cache_" + result + "_total",
+            new String[] {"partition", "type"},
+            new String[] {String.valueOf(Protocol.DEPLOYMENT_PARTITION), type});
+    return value != null ? value : 0;
+  }
+}
@@ -412,6 +412,39 @@ public final class VariableStateTest {
     assertThat(variable).isNull();
   }
 
+  @Test
+  public void shouldGetUpdatedVariablesAfterScopeWasRead() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("x"), asMsgPack("1"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    setVariableLocal(parent, wrapString("x"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("y"), asMsgPack("3"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("x")), "2");
+    assertEquality(variableState.getVariablesAsDocument(child), "{'x': 2, 'y': 3}");
+  }
+
+  @Test
+  public void shouldNotGetVariablesOfRemovedScopeAfterScopeWasRead() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(child, wrapString("x"), asMsgPack("1"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("x"))).isNull();
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
@@ -88,6 +88,9 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxCommandsInGroupCommit =
+      StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT;
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -256,9 +259,10 @@ public final class TestStreams {
             .actorSchedulingService(actorScheduler)
             .commandResponseWriter(mockCommandResponseWriter)
             .listener(new StreamProcessorListenerRelay(streamProcessorListeners))
-            .recordProcessors(List.of(new Engine(wrappedFactory, new EngineConfiguration())))
+            .recordProcessors(List.of(new Engine(wrappedFactory, engineConfiguration)))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
+            .maxCommandsInGroupCommit(maxCommandsInGroupCommit)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
     final StreamProcessor streamProcessor = builder.build();
@@ -317,6 +321,14 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void maxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    this.maxCommandsInGroupCommit = maxCommandsInGroupCommit;
+  }
+
+  public void engineConfiguration(final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+  }
+
   public static class FluentLogWriter {
 
     protected final RecordMetadata metadata = new RecordMetadata();
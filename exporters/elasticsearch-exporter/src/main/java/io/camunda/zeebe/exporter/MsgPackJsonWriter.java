@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+
+/**
+ * Transcodes MessagePack documents, like the variables or the custom headers of a job, directly
+ * into a {@link JsonGenerator}. This avoids converting the document into a map first, only to
+ * serialize the map again.
+ *
+ * <p>The values are written like the {@link com.fasterxml.jackson.databind.ObjectMapper} writes the
+ * converted map: integers and floats as JSON numbers (floats with double precision, as they are
+ * read as doubles), and binaries as Base64 strings. The entries of maps are written in the order of
+ * the document; the object mapper writes the entries of nested maps in this order too, but those of
+ * the converted document itself in the order of its hash map. The writer is not thread safe, as it
+ * reuses its reader and buffer.
+ */
+final class MsgPackJsonWriter {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private byte[] bytes = new byte[64];
+
+  /**
+   * @param generator the generator to write the JSON to
+   * @param document the MessagePack encoded document, which must not be empty
+   */
+  void write(final JsonGenerator generator, final DirectBuffer document) throws IOException {
+    reader.wrap(document, 0, document.capacity());
+    writeValue(generator);
+  }
+
+  private void writeValue(final JsonGenerator generator) throws IOException {
+    final var token = reader.readToken();
+    switch (token.getType()) {
+      case NIL -> generator.writeNull();
+      case BOOLEAN -> generator.writeBoolean(token.getBooleanValue());
+      case INTEGER -> generator.writeNumber(token.getIntegerValue());
+      case FLOAT -> generator.writeNumber(token.getFloatValue());
+      case STRING -> {
+        final int length = copyBytes(token.getValueBuffer());
+        generator.writeUTF8String(bytes, 0, length);
+      }
+      case BINARY -> {
+        final int length = copyBytes(token.getValueBuffer());
+        generator.writeBinary(bytes, 0, length);
+      }
+      case ARRAY -> {
+        final int size = token.getSize();
+        generator.writeStartArray();
+        for (int i = 0; i < size; i++) {
+          writeValue(generator);
+        }
+        generator.writeEndArray();
+      }
+      case MAP -> {
+        final int size = token.getSize();
+        generator.writeStartObject();
+        for (int i = 0; i < size; i++) {
+          writeFieldName(generator);
+          writeValue(generator);
+        }
+        generator.writeEndObject();
+      }
+      default ->
+          throw new IllegalStateException(
+              "Expected a MessagePack value to write as JSON, but found a value of type '%s'"
+                  .formatted(token.getType()));
+    }
+  }
+
+  private void writeFieldName(final JsonGenerator generator) throws IOException {
+    final var token = reader.readToken();
+    if (token.getType() == MsgPackType.STRING) {
+      generator.writeFieldName(bufferAsString(token.getValueBuffer()));
+    } else if (token.getType() == MsgPackType.INTEGER) {
+      generator.writeFieldName(Long.toString(token.getIntegerValue()));
+    } else {
+      throw new IllegalStateException(
+          "Expected a string or integer key of a MessagePack map, but found a key of type '%s'"
+              .formatted(token.getType()));
+    }
+  }
+
+  private int copyBytes(final DirectBuffer value) {
+    final int length = value.capacity();
+    if (bytes.length < length) {
+      bytes = new byte[Math.max(length, bytes.length * 2)];
+    }
+
+    value.getBytes(0, bytes, 0, length);
+    return length;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+
+/**
+ * Serializes records to the JSON documents indexed by the exporter. The record itself, and the
+ * values of the most frequently exported value types, i.e. process instances, jobs and variables,
+ * are written field by field with a {@link JsonGenerator}. This avoids the reflective bean
+ * serialization of the {@link ObjectMapper}, which is only used for the values of all other value
+ * types. The variables and custom headers of jobs are transcoded from their MessagePack encoding if
+ * the value is a {@link JobRecord}, as exported by the broker, instead of being converted into a
+ * map first.
+ *
+ * <p>The written document is the same as the one written by the {@link ObjectMapper} for the
+ * record, plus the sequence of the record. The writer is not thread safe, as it reuses its buffer.
+ */
+final class RecordJsonWriter {
+
+  // The property of the ES record template to store the sequence of the record.
+  static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+
+  private final ByteArrayBuilder buffer = new ByteArrayBuilder();
+  private final MsgPackJsonWriter documentWriter = new MsgPackJsonWriter();
+  private final ObjectMapper mapper;
+
+  RecordJsonWriter(final ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * @param record the record to serialize
+   * @param sequence the sequence of the record, which is added as {@link
+   *     #RECORD_SEQUENCE_PROPERTY}
+   * @return the serialized record
+   */
+  byte[] write(final Record<?> record, final long sequence) throws IOException {
+    buffer.reset();
+    try (final var generator = mapper.createGenerator(buffer)) {
+      writeRecord(generator, record, sequence);
+    }
+
+    return buffer.toByteArray();
+  }
+
+  private void writeRecord(
+      final JsonGenerator generator, final Record<?> record, final long sequence)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("partitionId", record.getPartitionId());
+    generator.writeStringField("brokerVersion", record.getBrokerVersion());
+    generator.writeNumberField("recordVersion", record.getRecordVersion());
+    writeEnumField(generator, "valueType", record.getValueType());
+    generator.writeNumberField("key", record.getKey());
+    generator.writeNumberField("position", record.getPosition());
+    generator.writeNumberField("timestamp", record.getTimestamp());
+    writeEnumField(generator, "recordType", record.getRecordType());
+    generator.writeFieldName("intent");
+    final var intent = record.getIntent();
+    if (intent == null) {
+      generator.writeNull();
+    } else {
+      generator.writeString(intent.name());
+    }
+    writeEnumField(generator, "rejectionType", record.getRejectionType());
+    generator.writeStringField("rejectionReason", record.getRejectionReason());
+    generator.writeNumberField("sourceRecordPosition", record.getSourceRecordPosition());
+    generator.writeFieldName("value");
+    writeValue(generator, record.getValue());
+    // Enhance the serialized record by its sequence number. The sequence number is not a part
+    // of the record itself but a special property for Elasticsearch. It can be used to limit
+    // the number of records when reading from the index, for example, by using a range query.
+    // Read https://github.com/camunda/zeebe/issues/10568 for details.
+    generator.writeNumberField(RECORD_SEQUENCE_PROPERTY, sequence);
+    generator.writeEndObject();
+  }
+
+  private void writeValue(final JsonGenerator generator, final RecordValue value)
+      throws IOException {
+    if (value instanceof final ProcessInstanceRecordValue processInstance) {
+      writeProcessInstance(generator, processInstance);
+    } else if (value instanceof final JobRecordValue job) {
+      writeJob(generator, job);
+    } else if (value instanceof final VariableRecordValue variable) {
+      writeVariable(generator, variable);
+    } else {
+      generator.writeObject(value);
+    }
+  }
+
+  private void writeProcessInstance(
+      final JsonGenerator generator, final ProcessInstanceRecordValue value) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("bpmnProcessId", value.getBpmnProcessId());
+    generator.writeNumberField("version", value.getVersion());
+    generator.writeNumberField("processDefinitionKey", value.getProcessDefinitionKey());
+    generator.writeNumberField("processInstanceKey", value.getProcessInstanceKey());
+    generator.writeStringField("elementId", value.getElementId());
+    generator.writeNumberField("flowScopeKey", value.getFlowScopeKey());
+    writeEnumField(generator, "bpmnElementType", value.getBpmnElementType());
+    generator.writeNumberField("parentProcessInstanceKey", value.getParentProcessInstanceKey());
+    generator.writeNumberField("parentElementInstanceKey", value.getParentElementInstanceKey());
+    writeEnumField(generator, "bpmnEventType", value.getBpmnEventType());
+    generator.writeStringField("tenantId", value.getTenantId());
+    generator.writeEndObject();
+  }
+
+  private void writeJob(final JsonGenerator generator, final JobRecordValue value)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("type", value.getType());
+    generator.writeStringField("elementId", value.getElementId());
+    generator.writeNumberField("elementInstanceKey", value.getElementInstanceKey());
+    generator.writeStringField("bpmnProcessId", value.getBpmnProcessId());
+    generator.writeNumberField("processDefinitionVersion", value.getProcessDefinitionVersion());
+    generator.writeNumberField("processInstanceKey", value.getProcessInstanceKey());
+    generator.writeNumberField("processDefinitionKey", value.getProcessDefinitionKey());
+    generator.writeFieldName("customHeaders");
+    if (value instanceof final JobRecord record && isDocument(record.getCustomHeadersBuffer())) {
+      documentWriter.write(generator, record.getCustomHeadersBuffer());
+    } else {
+      generator.writeObject(value.getCustomHeaders());
+    }
+    generator.writeStringField("worker", value.getWorker());
+    generator.writeNumberField("retries", value.getRetries());
+    generator.writeNumberField("retryBackoff", value.getRetryBackoff());
+    generator.writeNumberField("recurringTime", value.getRecurringTime());
+    generator.writeNumberField("deadline", value.getDeadline());
+    generator.writeFieldName("variables");
+    if (value instanceof final JobRecord record && isDocument(record.getVariablesBuffer())) {
+      documentWriter.write(generator, record.getVariablesBuffer());
+    } else {
+      generator.writeObject(value.getVariables());
+    }
+    generator.writeStringField("errorMessage", value.getErrorMessage());
+    generator.writeStringField("errorCode", value.getErrorCode());
+    generator.writeStringField("tenantId", value.getTenantId());
+    generator.writeEndObject();
+  }
+
+  private void writeVariable(final JsonGenerator generator, final VariableRecordValue value)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", value.getName());
+    generator.writeStringField("value", value.getValue());
+    generator.writeNumberField("scopeKey", value.getScopeKey());
+    generator.writeNumberField("processInstanceKey", value.getProcessInstanceKey());
+    generator.writeNumberField("processDefinitionKey", value.getProcessDefinitionKey());
+    generator.writeStringField("bpmnProcessId", value.getBpmnProcessId());
+    generator.writeStringField("tenantId", value.getTenantId());
+    generator.writeEndObject();
+  }
+
+  // an unset document has no content at all, which is left to the object mapper as before
+  private static boolean isDocument(final DirectBuffer document) {
+    return document.capacity() > 0;
+  }
+
+  private static void writeEnumField(
+      final JsonGenerator generator, final String fieldName, final Enum<?> value)
+      throws IOException {
+    generator.writeFieldName(fieldName);
+    if (value == null) {
+      generator.writeNull();
+    } else {
+      generator.writeString(value.name());
+    }
+  }
+}
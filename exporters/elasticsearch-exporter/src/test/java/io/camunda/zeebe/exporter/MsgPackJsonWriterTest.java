@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class MsgPackJsonWriterTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final MsgPackJsonWriter writer = new MsgPackJsonWriter();
+
+  // the top level keys are in the order of the hash map, which the object mapper writes them in
+  @ParameterizedTest
+  @MethodSource("documents")
+  void shouldWriteSameBytesAsObjectMapper(final String json) throws IOException {
+    // given
+    final var document = BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack(json));
+    final var expected = MAPPER.writeValueAsBytes(MsgPackConverter.convertToMap(document));
+
+    // when
+    final var written = write(document);
+
+    // then
+    assertThat(written).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldWriteSingleFloatLikeObjectMapper() throws IOException {
+    // given - a single precision float, as written for whole or exact results of expressions
+    final var buffer = new ExpandableArrayBuffer();
+    final var msgPackWriter = new MsgPackWriter().wrap(buffer, 0);
+    msgPackWriter.writeMapHeader(1);
+    msgPackWriter.writeString(BufferUtil.wrapString("a"));
+    msgPackWriter.writeFloat(1.100000023841858);
+    final var document = new UnsafeBuffer(buffer, 0, msgPackWriter.getOffset());
+    final var expected = MAPPER.writeValueAsBytes(MsgPackConverter.convertToMap(document));
+
+    // when
+    final var written = write(document);
+
+    // then
+    assertThat(written).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldWriteStringMapLikeObjectMapper() throws IOException {
+    // given
+    final var json = "{\"a\": \"x\", \"b\": \"\\u00e9\"}";
+    final var document = BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack(json));
+    final var expected = MAPPER.writeValueAsBytes(MsgPackConverter.convertToStringMap(document));
+
+    // when
+    final var written = write(document);
+
+    // then
+    assertThat(written).isEqualTo(expected);
+  }
+
+  private byte[] write(final DirectBuffer document) throws IOException {
+    final var output = new ByteArrayOutputStream();
+    try (final var generator = MAPPER.createGenerator(output)) {
+      writer.write(generator, document);
+    }
+
+    return output.toByteArray();
+  }
+
+  private static Stream<String> documents() {
+    return Stream.of(
+        "{}",
+        "{\"a\": 1, \"b\": -2.5, \"c\": null, \"d\": true, \"e\": false}",
+        "{\"a\": 9007199254740993, \"b\": -9223372036854775808, \"c\": 0.1, \"d\": 1e300}",
+        "{\"a\": \"quoted \\\" \\\\ slash / tab \\t newline \\n control \\u0001\"}",
+        "{\"a\": \"caf\\u00e9 \\u20ac \\ud83d\\ude00\"}",
+        "{\"a\": {\"z\": 1, \"y\": [1, 2.0, {\"x\": \"b\"}], \"w\": {}}, \"b\": [], \"c\": [[]]}",
+        "{\"a\": [{\"c\": 1, \"b\": 2, \"a\": 3}, null, \"x\", 1.5]}");
+  }
+}
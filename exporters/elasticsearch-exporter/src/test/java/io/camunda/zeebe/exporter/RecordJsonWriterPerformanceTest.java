@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Serializes a process instance, a job and a variable record, generated by the protocol factory,
+ * and a job whose variables and custom headers are MessagePack encoded, as exported by the broker.
+ * The {@code object-mapper} serializer writes them reflectively, as the {@link BulkIndexRequest}
+ * did before the {@link RecordJsonWriter} was introduced.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordJsonWriterPerformanceTest {
+
+  private static final List<ValueType> VALUE_TYPES =
+      List.of(ValueType.PROCESS_INSTANCE, ValueType.JOB, ValueType.VARIABLE);
+  private static final String JOB_VARIABLES =
+      """
+      {
+        "orderId": "order-4711",
+        "total": 129.5,
+        "express": false,
+        "customer": {"name": "Jane Doe", "address": {"city": "Berlin", "zip": "10115"}},
+        "items": [{"sku": "item-1", "quantity": 2}, {"sku": "item-2", "quantity": 1}]
+      }
+      """;
+
+  @Param({"object-mapper", "record-writer"})
+  public String serializer;
+
+  private List<Record<?>> records;
+  private RecordSerializer recordSerializer;
+
+  @Setup
+  public void setup() {
+    final var factory = new ProtocolFactory(1L);
+    records = new ArrayList<>();
+    VALUE_TYPES.stream().<Record<?>>map(factory::generateRecord).forEach(records::add);
+    records.add(exportedJob());
+    recordSerializer =
+        switch (serializer) {
+          case "object-mapper" -> createObjectMapperSerializer();
+          case "record-writer" -> new RecordJsonWriter(new ObjectMapper())::write;
+          default -> throw new IllegalArgumentException("Unknown serializer: " + serializer);
+        };
+  }
+
+  @Benchmark
+  public void measureRecordSerialization(final Blackhole blackhole) throws IOException {
+    long sequence = 0;
+    for (final Record<?> record : records) {
+      blackhole.consume(recordSerializer.serialize(record, sequence++));
+    }
+  }
+
+  @JMHTest("measureRecordSerialization")
+  void shouldSerializeRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 200_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(o -> o.param("serializer", "record-writer")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  /** Returns a job as exported by the broker, whose documents are MessagePack encoded. */
+  private static Record<?> exportedJob() {
+    final var job =
+        new JobRecord()
+            .setType("payment")
+            .setCustomHeaders(toMsgPack("{\"retryPolicy\": \"exponential\"}"))
+            .setVariables(toMsgPack(JOB_VARIABLES));
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.CREATED);
+    return new CopiedRecord<>(job, metadata, 1L, 1, 2L, 1L, 3L);
+  }
+
+  private static DirectBuffer toMsgPack(final String json) {
+    return BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack(json));
+  }
+
+  /** Serializes the records as done before they were written by the {@link RecordJsonWriter}. */
+  private static RecordSerializer createObjectMapperSerializer() {
+    final ObjectMapper mapper =
+        new ObjectMapper().addMixIn(Record.class, RecordSequenceMixin.class);
+    final ObjectWriter writer = mapper.writer();
+
+    return (record, sequence) ->
+        writer
+            .withAttribute(RecordJsonWriter.RECORD_SEQUENCE_PROPERTY, sequence)
+            .writeValueAsBytes(record);
+  }
+
+  @FunctionalInterface
+  private interface RecordSerializer {
+    byte[] serialize(Record<?> record, long sequence) throws IOException;
+  }
+
+  @JsonAppend(attrs = {@JsonAppend.Attr(value = RecordJsonWriter.RECORD_SEQUENCE_PROPERTY)})
+  private static class RecordSequenceMixin {}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class RecordJsonWriterTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final ProtocolFactory RECORD_FACTORY = new ProtocolFactory();
+
+  private final RecordJsonWriter writer = new RecordJsonWriter(MAPPER);
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("records")
+  void shouldWriteSameDocumentAsObjectMapper(
+      final ValueType valueType, final Record<RecordValue> record) throws IOException {
+    // given
+    final var expected = (ObjectNode) MAPPER.valueToTree(record);
+    expected.put(RecordJsonWriter.RECORD_SEQUENCE_PROPERTY, 42L);
+
+    // when
+    final var written = writer.write(record, 42L);
+
+    // then
+    assertThat(MAPPER.readTree(written)).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldWriteDocumentsOfExportedJobLikeObjectMapper() throws IOException {
+    // given - a job as exported by the broker, with the top level keys of its documents in the
+    // order of their hash maps, which the object mapper writes them in
+    final var job =
+        new JobRecord()
+            .setType("task")
+            .setCustomHeaders(toMsgPack("{'a': 'x', 'b': 'caf\u00e9'}"))
+            .setVariables(
+                toMsgPack("{'a': 1, 'b': {'z': 2.0, 'y': [1, 0.1, null]}, 'c': 'say \\\"hi\\\"'}"));
+    final var record =
+        new CopiedRecord<>(
+            job,
+            new RecordMetadata()
+                .recordType(RecordType.EVENT)
+                .valueType(ValueType.JOB)
+                .intent(JobIntent.CREATED),
+            1L,
+            1,
+            2L,
+            1L,
+            3L);
+    final var expected = (ObjectNode) MAPPER.valueToTree(record);
+    expected.put(RecordJsonWriter.RECORD_SEQUENCE_PROPERTY, 42L);
+
+    // when
+    final var written = writer.write(record, 42L);
+
+    // then
+    assertThat(MAPPER.readTree(written)).isEqualTo(expected);
+    assertThat(written)
+        .containsSequence(MAPPER.writeValueAsBytes(job.getVariables()))
+        .containsSequence(MAPPER.writeValueAsBytes(job.getCustomHeaders()));
+  }
+
+  private static DirectBuffer toMsgPack(final String json) {
+    return BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack(json));
+  }
+
+  private static Stream<Object[]> records() {
+    return RECORD_FACTORY
+        .generateForAllValueTypes()
+        .map(record -> new Object[] {record.getValueType(), record});
+  }
+}
@@ -17,9 +17,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final TrivialExpressionEvaluator trivialEvaluator;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    trivialEvaluator = TrivialExpressionEvaluator.of(expression.expression());
   }
 
   @Override
@@ -63,6 +65,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return an evaluator which doesn't need the FEEL engine, or {@code null} if the expression is
+   *     not trivial
+   */
+  TrivialExpressionEvaluator getTrivialEvaluator() {
+    return trivialEvaluator;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -18,7 +18,11 @@ import io.camunda.zeebe.el.impl.feel.FeelVariableContext;
 import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.regex.Pattern;
 import org.camunda.feel.FeelEngine;
 import org.camunda.feel.FeelEngine.Failure;
@@ -32,14 +36,29 @@ import scala.util.Either;
  * <p>
  * <li><a href="https://github.com/camunda/feel-scala">GitHub Repository</a>
  * <li><a href="https://camunda.github.io/feel-scala">Documentation</a>
+ *
+ *     <p>Parsed expressions are cached by their text, so that the same expression is only parsed
+ *     once, even if it's used by different processes or process versions. Trivial expressions, like
+ *     variable references or the comparison of a variable with a literal, are evaluated directly on
+ *     the MessagePack encoded variables if possible; see {@link TrivialExpressionEvaluator}.
  */
 public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
+  private static final int PARSED_EXPRESSIONS_CACHE_CAPACITY = 10_000;
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  private final MsgPackReader variableReader = new MsgPackReader();
+  private final Map<String, Expression> parsedExpressions =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Entry<String, Expression> eldest) {
+          return size() > PARSED_EXPRESSIONS_CACHE_CAPACITY;
+        }
+      };
+
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final ActorClock clock) {
@@ -59,7 +78,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return parsedExpressions.computeIfAbsent(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -106,6 +125,14 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var trivialEvaluator = feelExpression.getTrivialEvaluator();
+    if (trivialEvaluator != null) {
+      final var result = trivialEvaluator.evaluate(expression, context, variableReader);
+      if (result != null) {
+        return result;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
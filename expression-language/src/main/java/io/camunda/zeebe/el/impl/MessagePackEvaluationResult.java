@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.ResultType;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * The result of a {@link TrivialExpressionEvaluator}. It holds the MessagePack encoded value, and
+ * the decoded value if it's a scalar.
+ */
+final class MessagePackEvaluationResult implements EvaluationResult {
+
+  private final String expression;
+  private final ResultType type;
+  private final DirectBuffer buffer;
+  private final Object value;
+
+  MessagePackEvaluationResult(
+      final String expression,
+      final ResultType type,
+      final DirectBuffer buffer,
+      final Object value) {
+    this.expression = expression;
+    this.type = type;
+    this.buffer = buffer;
+    this.value = value;
+  }
+
+  @Override
+  public String getExpression() {
+    return expression;
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public ResultType getType() {
+    return type;
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public String getString() {
+    return type == ResultType.STRING ? (String) value : null;
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    return type == ResultType.BOOLEAN ? (Boolean) value : null;
+  }
+
+  @Override
+  public Number getNumber() {
+    return type == ResultType.NUMBER ? (Number) value : null;
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    return null;
+  }
+
+  @Override
+  public List<String> getListOfStrings() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "MessagePackEvaluationResult{"
+        + "expression='"
+        + expression
+        + '\''
+        + ", type="
+        + type
+        + ", value="
+        + value
+        + '}';
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackCodes;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+import org.camunda.feel.syntaxtree.Ref;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Evaluates trivial FEEL expressions by reading the MessagePack encoded variables directly, instead
+ * of converting them into FEEL values and running the interpreter. An expression is trivial if it
+ * is a variable reference (e.g. {@code x} or {@code a.b}), or the comparison of a variable
+ * reference with a number, string or boolean literal (e.g. {@code x > 5} or {@code a.b = "foo"}).
+ *
+ * <p>The evaluation returns {@code null} if the referenced value can't be evaluated in a way that
+ * is guaranteed to produce the same result as the FEEL engine, e.g. because the variable doesn't
+ * exist, is of an unexpected type, or is a float, array or map that the FEEL engine would encode
+ * differently. The expression must then be evaluated by the FEEL engine,
+ * which also takes care of the failure handling.
+ */
+final class TrivialExpressionEvaluator {
+
+  private static final DirectBuffer TRUE = new UnsafeBuffer(new byte[] {MsgPackCodes.TRUE});
+  private static final DirectBuffer FALSE = new UnsafeBuffer(new byte[] {MsgPackCodes.FALSE});
+
+  private final String variableName;
+  private final DirectBuffer[] path;
+  private final Operator operator;
+  private final Object literal;
+
+  private TrivialExpressionEvaluator(
+      final String variableName,
+      final DirectBuffer[] path,
+      final Operator operator,
+      final Object literal) {
+    this.variableName = variableName;
+    this.path = path;
+    this.operator = operator;
+    this.literal = literal;
+  }
+
+  /**
+   * @param expression the parsed FEEL expression
+   * @return an evaluator for the given expression, or {@code null} if the expression is not trivial
+   */
+  static TrivialExpressionEvaluator of(final Exp expression) {
+    if (expression instanceof final Ref ref) {
+      return ofReference(ref, Operator.NONE, null);
+    } else if (expression instanceof final Not not && not.x() instanceof final Equal equal) {
+      return ofComparison(equal.x(), Operator.NOT_EQUAL, equal.y());
+    } else if (expression instanceof final Equal equal) {
+      return ofComparison(equal.x(), Operator.EQUAL, equal.y());
+    } else if (expression instanceof final LessThan lessThan) {
+      return ofComparison(lessThan.x(), Operator.LESS_THAN, lessThan.y());
+    } else if (expression instanceof final LessOrEqual lessOrEqual) {
+      return ofComparison(lessOrEqual.x(), Operator.LESS_OR_EQUAL, lessOrEqual.y());
+    } else if (expression instanceof final GreaterThan greaterThan) {
+      return ofComparison(greaterThan.x(), Operator.GREATER_THAN, greaterThan.y());
+    } else if (expression instanceof final GreaterOrEqual greaterOrEqual) {
+      return ofComparison(greaterOrEqual.x(), Operator.GREATER_OR_EQUAL, greaterOrEqual.y());
+    }
+
+    return null;
+  }
+
+  private static TrivialExpressionEvaluator ofComparison(
+      final Exp reference, final Operator operator, final Exp literal) {
+    if (!(reference instanceof final Ref ref)) {
+      return null;
+    }
+
+    if (literal instanceof final ConstNumber number) {
+      return ofReference(ref, operator, number.value().bigDecimal());
+    } else if (literal instanceof final ConstString string && operator.isEquality()) {
+      return ofReference(ref, operator, wrapString(string.value()));
+    } else if (literal instanceof final ConstBool bool && operator.isEquality()) {
+      return ofReference(ref, operator, bool.value());
+    }
+
+    return null;
+  }
+
+  private static TrivialExpressionEvaluator ofReference(
+      final Ref ref, final Operator operator, final Object literal) {
+    final var names = CollectionConverters.asJava(ref.names());
+    final var path = new DirectBuffer[names.size() - 1];
+    for (int i = 1; i < names.size(); i++) {
+      path[i - 1] = wrapString(names.get(i));
+    }
+
+    return new TrivialExpressionEvaluator(names.get(0), path, operator, literal);
+  }
+
+  /**
+   * @param expression the expression which is evaluated
+   * @param context the context to look up the variables
+   * @param reader a reader which can be used to read the variables
+   * @return the result of the evaluation, or {@code null} if the expression must be evaluated by
+   *     the FEEL engine instead
+   */
+  EvaluationResult evaluate(
+      final Expression expression, final EvaluationContext context, final MsgPackReader reader) {
+    final var variable = context.getVariable(variableName);
+    if (variable == null || variable.capacity() == 0) {
+      return null;
+    }
+
+    int offset = 0;
+    int length = variable.capacity();
+    for (final DirectBuffer key : path) {
+      reader.wrap(variable, offset, length);
+      final long entry = findMapEntry(reader, key);
+      if (entry < 0) {
+        return null;
+      }
+
+      // the offset of the entry is relative to the wrapped value
+      offset += (int) (entry >>> 32);
+      length = (int) entry;
+    }
+
+    reader.wrap(variable, offset, length);
+    final var token = reader.readToken();
+    if (operator == Operator.NONE) {
+      return evaluateReference(expression, token, variable, offset, length);
+    }
+
+    final Boolean result = compare(token);
+    if (result == null) {
+      return null;
+    }
+    return new MessagePackEvaluationResult(
+        expression.getExpression(), ResultType.BOOLEAN, result ? TRUE : FALSE, result);
+  }
+
+  /**
+   * Finds the value of the given key in the map the reader is wrapping. Like the FEEL engine, it
+   * uses the last entry if a key is present multiple times.
+   *
+   * @return the offset of the value in the upper, and its length in the lower 32 bits; or -1 if the
+   *     reader doesn't wrap a map, or the map has no entry with the given key
+   */
+  private static long findMapEntry(final MsgPackReader reader, final DirectBuffer key) {
+    final var token = reader.readToken();
+    if (token.getType() != MsgPackType.MAP) {
+      return -1;
+    }
+
+    long entry = -1;
+    for (int i = 0; i < token.getSize(); i++) {
+      final var keyToken = reader.readToken();
+      final var isMatchingKey =
+          keyToken.getType() == MsgPackType.STRING
+              && BufferUtil.equals(keyToken.getValueBuffer(), key);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      if (isMatchingKey) {
+        entry = ((long) valueOffset << 32) | (reader.getOffset() - valueOffset);
+      }
+    }
+
+    return entry;
+  }
+
+  private static EvaluationResult evaluateReference(
+      final Expression expression,
+      final MsgPackToken token,
+      final DirectBuffer variable,
+      final int offset,
+      final int length) {
+    final ResultType type;
+    final Object value;
+    switch (token.getType()) {
+      case NIL -> {
+        type = ResultType.NULL;
+        value = null;
+      }
+      case BOOLEAN -> {
+        type = ResultType.BOOLEAN;
+        value = token.getBooleanValue();
+      }
+      case INTEGER -> {
+        type = ResultType.NUMBER;
+        value = new scala.math.BigDecimal(BigDecimal.valueOf(token.getIntegerValue()));
+      }
+      case STRING -> {
+        type = ResultType.STRING;
+        value = bufferAsString(token.getValueBuffer());
+      }
+      default -> {
+        // floats, arrays and maps are re-encoded by the FEEL engine (e.g. whole floats become
+        // integers, also if they are nested in an array or map)
+        return null;
+      }
+    }
+
+    // the variable buffer may be reused by the context, so the value must be copied
+    final var buffer = BufferUtil.cloneBuffer(variable, offset, length);
+    return new MessagePackEvaluationResult(expression.getExpression(), type, buffer, value);
+  }
+
+  private Boolean compare(final MsgPackToken token) {
+    if (literal instanceof final BigDecimal number) {
+      final BigDecimal value;
+      if (token.getType() == MsgPackType.INTEGER) {
+        value = BigDecimal.valueOf(token.getIntegerValue());
+      } else if (token.getType() == MsgPackType.FLOAT && Double.isFinite(token.getFloatValue())) {
+        value = BigDecimal.valueOf(token.getFloatValue());
+      } else {
+        return null;
+      }
+      return operator.test(value.compareTo(number));
+
+    } else if (literal instanceof final DirectBuffer string
+        && token.getType() == MsgPackType.STRING) {
+      return operator.test(BufferUtil.equals(token.getValueBuffer(), string) ? 0 : 1);
+
+    } else if (literal instanceof final Boolean bool && token.getType() == MsgPackType.BOOLEAN) {
+      return operator.test(bool == token.getBooleanValue() ? 0 : 1);
+    }
+
+    return null;
+  }
+
+  private enum Operator {
+    NONE,
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_OR_EQUAL;
+
+    private boolean isEquality() {
+      return this == EQUAL || this == NOT_EQUAL;
+    }
+
+    private boolean test(final int comparison) {
+      return switch (this) {
+        case EQUAL -> comparison == 0;
+        case NOT_EQUAL -> comparison != 0;
+        case LESS_THAN -> comparison < 0;
+        case LESS_OR_EQUAL -> comparison <= 0;
+        case GREATER_THAN -> comparison > 0;
+        case GREATER_OR_EQUAL -> comparison >= 0;
+        case NONE -> throw new IllegalStateException("Expected a comparison operator");
+      };
+    }
+  }
+}
@@ -94,6 +94,18 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).startsWith("failed to parse expression 'x ?! 5'");
   }
 
+  @Test
+  public void shouldReuseParsedExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var sameExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(sameExpression).isSameAs(expression);
+  }
+
   @Test
   public void shouldEvaluateStaticStringValue() {
     final var expression = expressionLanguage.parseExpression("x");
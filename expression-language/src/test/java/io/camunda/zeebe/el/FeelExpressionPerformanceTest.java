@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.impl.feel.FeelVariableContext;
+import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+import org.camunda.feel.syntaxtree.Val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Evaluates the input/output mappings and conditions of a mapping heavy process on MessagePack
+ * encoded variables. Most of them are plain references or simple comparisons, which the {@link
+ * FeelExpressionLanguage} evaluates without the FEEL engine. The {@code feel-engine} evaluator
+ * passes every expression to the FEEL engine instead, as before.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class FeelExpressionPerformanceTest {
+
+  private static final List<String> EXPRESSIONS =
+      List.of(
+          "order",
+          "order.id",
+          "order.customer",
+          "order.customer.name",
+          "order.customer.address.city",
+          "order.status",
+          "order.total > 100",
+          "order.total <= 1000",
+          "order.status = \"paid\"",
+          "order.express = true",
+          "approved",
+          "approved = false");
+
+  private static final Map<String, DirectBuffer> VARIABLES =
+      Map.of(
+          "order",
+          asMsgPack(
+              """
+              {
+                "id": "order-4711",
+                "status": "paid",
+                "total": 129,
+                "express": false,
+                "customer": {
+                  "name": "Jane Doe",
+                  "email": "jane.doe@example.com",
+                  "address": {"street": "Main Street 1", "city": "Berlin", "zip": "10115"}
+                },
+                "items": [
+                  {"sku": "item-1", "quantity": 2, "price": 49},
+                  {"sku": "item-2", "quantity": 1, "price": 31}
+                ]
+              }
+              """),
+          "approved",
+          asMsgPack("true"));
+
+  private static final EvaluationContext CONTEXT = VARIABLES::get;
+
+  @Param({"feel-engine", "expression-language"})
+  public String evaluator;
+
+  private Consumer<Blackhole> evaluation;
+
+  @Setup
+  public void setup() {
+    evaluation =
+        switch (evaluator) {
+          case "feel-engine" -> createFeelEngineEvaluation();
+          case "expression-language" -> createExpressionLanguageEvaluation();
+          default -> throw new IllegalArgumentException("Unknown evaluator: " + evaluator);
+        };
+  }
+
+  @Benchmark
+  public void measureMappingsEvaluation(final Blackhole blackhole) {
+    evaluation.accept(blackhole);
+  }
+
+  @JMHTest("measureMappingsEvaluation")
+  void shouldEvaluateMappingsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 250_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(o -> o.param("evaluator", "expression-language")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  /** Evaluates the expressions as done before the trivial expressions were evaluated directly. */
+  private Consumer<Blackhole> createFeelEngineEvaluation() {
+    final var feelEngine =
+        new FeelEngine.Builder()
+            .customValueMapper(new MessagePackValueMapper())
+            .functionProvider(new FeelFunctionProvider())
+            .build();
+    final var transformer = new FeelToMessagePackTransformer();
+    final List<ParsedExpression> expressions =
+        EXPRESSIONS.stream().map(e -> feelEngine.parseExpression(e).right().get()).toList();
+
+    return blackhole -> {
+      for (final ParsedExpression expression : expressions) {
+        final var result = feelEngine.eval(expression, new FeelVariableContext(CONTEXT));
+        blackhole.consume(transformer.toMessagePack((Val) result.right().get()));
+      }
+    };
+  }
+
+  private Consumer<Blackhole> createExpressionLanguageEvaluation() {
+    final var expressionLanguage = new FeelExpressionLanguage(new DefaultActorClock());
+    final List<Expression> expressions =
+        EXPRESSIONS.stream().map(e -> expressionLanguage.parseExpression("=" + e)).toList();
+
+    return blackhole -> {
+      for (final Expression expression : expressions) {
+        final var result = expressionLanguage.evaluateExpression(expression, CONTEXT);
+        blackhole.consume(result.toBuffer());
+      }
+    };
+  }
+}
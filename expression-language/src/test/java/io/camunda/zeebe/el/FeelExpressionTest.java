@@ -11,11 +11,19 @@ import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.impl.feel.FeelVariableContext;
+import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.Val;
 import org.junit.Test;
 
 public class FeelExpressionTest {
@@ -75,6 +83,123 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getString()).isEqualTo("z");
   }
 
+  @Test
+  public void nestedPathExpression() {
+    final var context = Map.of("x", asMsgPack("{'y': {'z': 'a'}, 'z': 'b'}"));
+    final var evaluationResult = evaluateExpression("x.y.z", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("a");
+  }
+
+  @Test
+  public void variableReferenceToContext() {
+    final var context = Map.of("x", asMsgPack("{'y': [1, 2.5], 'z': {'a': 1.0}}"));
+    final var evaluationResult = evaluateExpression("x", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(evaluateWithFeelEngine("x", context));
+  }
+
+  @Test
+  public void trivialExpressionsAreEvaluatedLikeFeelEngine() {
+    final var context =
+        Map.of(
+            "x",
+            asMsgPack("{'y': {'z': 1.0, 'a': [1, 2.0]}, 'i': 3, 'f': 2.5, 's': 'foo', 'b': true}"),
+            "n",
+            asMsgPack("null"),
+            "l",
+            asMsgPack("[1.0, {'y': 2.0}]"));
+    final var expressions =
+        List.of(
+            "x",
+            "x.y",
+            "x.y.z",
+            "x.y.a",
+            "x.i",
+            "x.f",
+            "x.s",
+            "x.b",
+            "n",
+            "l",
+            "x.i > 2",
+            "x.f <= 2.5",
+            "x.y.z = 1",
+            "x.s != \"foo\"",
+            "x.b = false");
+
+    for (final String expression : expressions) {
+      assertThat(evaluateExpression(expression, context::get).toBuffer())
+          .describedAs("result of '%s'", expression)
+          .isEqualTo(evaluateWithFeelEngine(expression, context));
+    }
+  }
+
+  @Test
+  public void variableReferenceToNumber() {
+    final var context = Map.of("x", asMsgPack("3"));
+    final var evaluationResult = evaluateExpression("x", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(3L);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("3"));
+  }
+
+  @Test
+  public void variableReferenceToWholeFloat() {
+    final var context = Map.of("x", asMsgPack("1.0"));
+    final var evaluationResult = evaluateExpression("x", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("1"));
+  }
+
+  @Test
+  public void variableReferenceToNull() {
+    final var context = Map.of("x", asMsgPack("null"));
+    final var evaluationResult = evaluateExpression("x", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NULL);
+  }
+
+  @Test
+  public void pathExpressionOfNonContext() {
+    final var context = Map.of("x", asMsgPack("1"));
+    final var evaluationResult = evaluateExpression("x.y = null", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isTrue();
+  }
+
+  @Test
+  public void comparisonOfFloat() {
+    final var context = Map.of("x", asMsgPack("2.5"));
+    final var evaluationResult = evaluateExpression("x >= 2.5", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isTrue();
+  }
+
+  @Test
+  public void comparisonOfString() {
+    final var context = Map.of("x", asMsgPack("{'y': 'foo'}"));
+
+    assertThat(evaluateExpression("x.y = \"foo\"", context::get).getBoolean()).isTrue();
+    assertThat(evaluateExpression("x.y != \"foo\"", context::get).getBoolean()).isFalse();
+    assertThat(evaluateExpression("x.y = \"bar\"", context::get).getBoolean()).isFalse();
+  }
+
+  @Test
+  public void comparisonOfBoolean() {
+    final var context = Map.of("x", asMsgPack("false"));
+    final var evaluationResult = evaluateExpression("x = false", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isTrue();
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("true"));
+  }
+
   @Test
   public void comparison() {
     final var context = Map.of("x", asMsgPack("2"));
@@ -239,4 +364,18 @@ public class FeelExpressionTest {
 
     return evaluationResult;
   }
+
+  private DirectBuffer evaluateWithFeelEngine(
+      final String expression, final Map<String, DirectBuffer> variables) {
+    final var feelEngine =
+        new FeelEngine.Builder()
+            .customValueMapper(new MessagePackValueMapper())
+            .functionProvider(new FeelFunctionProvider())
+            .build();
+    final var parsedExpression = feelEngine.parseExpression(expression).right().get();
+    final var result = feelEngine.eval(parsedExpression, new FeelVariableContext(variables::get));
+
+    return BufferUtil.cloneBuffer(
+        new FeelToMessagePackTransformer().toMessagePack((Val) result.right().get()));
+  }
 }
@@ -16,21 +16,26 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.impl.AtomixClientTransportAdapter;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 
 public final class BrokerClientImpl implements BrokerClient {
   public static final Logger LOG = Loggers.GATEWAY_LOGGER;
 
   private final BrokerTopologyManagerImpl topologyManager;
-  private final BrokerRequestManager requestManager;
+  private final List<BrokerRequestManager> requestManagers;
+  private final AtomicInteger nextRequestManager = new AtomicInteger();
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
   private final ClusterEventService eventService;
@@ -43,6 +48,32 @@ public final class BrokerClientImpl implements BrokerClient {
       final ClusterMembershipService membershipService,
       final ClusterEventService eventService,
       final ActorSchedulingService schedulingService) {
+    this(
+        requestTimeout,
+        messagingService,
+        membershipService,
+        eventService,
+        schedulingService,
+        ConfigurationDefaults.DEFAULT_REQUEST_MANAGER_SHARDS);
+  }
+
+  /**
+   * @param requestManagerShards the number of actors which dispatch the requests to the brokers
+   *     and handle their responses; requests to the same partition are always dispatched by the
+   *     same actor, all other requests are distributed in a round-robin fashion
+   */
+  public BrokerClientImpl(
+      final Duration requestTimeout,
+      final MessagingService messagingService,
+      final ClusterMembershipService membershipService,
+      final ClusterEventService eventService,
+      final ActorSchedulingService schedulingService,
+      final int requestManagerShards) {
+    if (requestManagerShards < 1) {
+      throw new IllegalArgumentException(
+          "Expected at least one request manager shard, but was " + requestManagerShards);
+    }
+
     this.eventService = eventService;
     this.schedulingService = schedulingService;
 
@@ -50,20 +81,29 @@ public final class BrokerClientImpl implements BrokerClient {
     membershipService.addListener(topologyManager);
 
     atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
-    requestManager =
-        new BrokerRequestManager(
-            atomixTransportAdapter,
-            topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
-            requestTimeout);
+    final var dispatchStrategy = new RoundRobinDispatchStrategy(topologyManager);
+    requestManagers =
+        IntStream.range(0, requestManagerShards)
+            .mapToObj(
+                shardId ->
+                    new BrokerRequestManager(
+                        atomixTransportAdapter,
+                        topologyManager,
+                        dispatchStrategy,
+                        requestTimeout,
+                        shardId))
+            .toList();
   }
 
   @Override
   public Collection<ActorFuture<Void>> start() {
     final var topologyManagerStarted = topologyManager.start(schedulingService);
     final var transportStarted = schedulingService.submitActor(atomixTransportAdapter);
-    final var requestManagerStarted = schedulingService.submitActor(requestManager);
-    return List.of(topologyManagerStarted, transportStarted, requestManagerStarted);
+    final var started = new ArrayList<ActorFuture<Void>>();
+    started.add(topologyManagerStarted);
+    started.add(transportStarted);
+    requestManagers.forEach(manager -> started.add(schedulingService.submitActor(manager)));
+    return started;
   }
 
   @Override
@@ -88,25 +128,25 @@ public final class BrokerClientImpl implements BrokerClient {
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequest(final BrokerRequest<T> request) {
-    return requestManager.sendRequest(request);
+    return requestManager(request).sendRequest(request);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequest(
       final BrokerRequest<T> request, final Duration requestTimeout) {
-    return requestManager.sendRequest(request, requestTimeout);
+    return requestManager(request).sendRequest(request, requestTimeout);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(
       final BrokerRequest<T> request) {
-    return requestManager.sendRequestWithRetry(request);
+    return requestManager(request).sendRequestWithRetry(request);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(
       final BrokerRequest<T> request, final Duration requestTimeout) {
-    return requestManager.sendRequestWithRetry(request, requestTimeout);
+    return requestManager(request).sendRequestWithRetry(request, requestTimeout);
   }
 
   @Override
@@ -114,7 +154,7 @@ public final class BrokerClientImpl implements BrokerClient {
       final BrokerRequest<T> request,
       final BrokerResponseConsumer<T> responseConsumer,
       final Consumer<Throwable> throwableConsumer) {
-    requestManager
+    requestManager(request)
         .sendRequestWithRetry(request)
         .whenComplete(
             (response, error) -> {
@@ -145,6 +185,20 @@ public final class BrokerClientImpl implements BrokerClient {
             .join();
   }
 
+  private BrokerRequestManager requestManager(final BrokerRequest<?> request) {
+    if (requestManagers.size() == 1) {
+      return requestManagers.get(0);
+    }
+
+    // keep the requests of a partition on the same actor; the partition of other requests is only
+    // determined by the actor which dispatches them
+    final int shard =
+        request.addressesSpecificPartition()
+            ? request.getPartitionId()
+            : nextRequestManager.getAndIncrement();
+    return requestManagers.get(Math.floorMod(shard, requestManagers.size()));
+  }
+
   private void doAndLogException(final Runnable r) {
     try {
       r.run();
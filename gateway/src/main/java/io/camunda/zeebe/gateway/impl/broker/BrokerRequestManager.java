@@ -46,16 +46,24 @@ final class BrokerRequestManager extends Actor {
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final int shardId;
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
-      final Duration requestTimeout) {
+      final Duration requestTimeout,
+      final int shardId) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.shardId = shardId;
+  }
+
+  @Override
+  public String getName() {
+    return buildActorName(super.getName(), shardId);
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -132,8 +140,10 @@ final class BrokerRequestManager extends Actor {
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
 
-    actor.runOnCompletion(
-        responseFuture,
+    // the response is handled directly on the thread which completes the future, usually the one
+    // of the client transport, instead of going through the queue of this actor again; it only
+    // touches the request and its future, which aren't shared with other requests
+    responseFuture.onComplete(
         (clientResponse, error) -> {
           RequestResult result = null;
           try {
@@ -155,7 +165,8 @@ final class BrokerRequestManager extends Actor {
           }
 
           registerFailure(request, result, error);
-        });
+        },
+        Runnable::run);
   }
 
   private <T> void registerFailure(
@@ -13,6 +13,7 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import java.util.Iterator;
 import java.util.PrimitiveIterator.OfInt;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
 public final class PartitionIdIterator implements Iterator<Integer> {
@@ -24,13 +25,27 @@ public final class PartitionIdIterator implements Iterator<Integer> {
       final int startPartitionId,
       final int partitionsCount,
       final BrokerTopologyManager topologyManager) {
+    this(startPartitionId, partitionsCount, topologyManager, partitionId -> true);
+  }
+
+  /**
+   * @param startPartitionId the partition to start with
+   * @param partitionsCount the number of partitions to iterate over
+   * @param topologyManager the topology, used to skip the partitions without leader
+   * @param filter returns whether a partition should be iterated over
+   */
+  public PartitionIdIterator(
+      final int startPartitionId,
+      final int partitionsCount,
+      final BrokerTopologyManager topologyManager,
+      final IntPredicate filter) {
     iterator =
         IntStream.range(0, partitionsCount)
             .map(
                 index ->
                     (index + startPartitionId - START_PARTITION_ID) % partitionsCount
                         + START_PARTITION_ID)
-            .filter(p -> hasLeader(topologyManager, p))
+            .filter(p -> filter.test(p) && hasLeader(topologyManager, p))
             .iterator();
   }
 
@@ -29,6 +29,7 @@ public final class ConfigurationDefaults {
   public static final int DEFAULT_CLUSTER_PORT = 26502;
 
   public static final int DEFAULT_MANAGEMENT_THREADS = 1;
+  public static final int DEFAULT_REQUEST_MANAGER_SHARDS = 1;
 
   public static final String DEFAULT_KEEP_ALIVE_INTERVAL = "30s";
 }
@@ -8,12 +8,14 @@
 package io.camunda.zeebe.gateway.impl.configuration;
 
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_MANAGEMENT_THREADS;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_MANAGER_SHARDS;
 
 import java.util.Objects;
 
 public final class ThreadsCfg {
 
   private int managementThreads = DEFAULT_MANAGEMENT_THREADS;
+  private int requestManagerShards = DEFAULT_REQUEST_MANAGER_SHARDS;
   private int grpcMinThreads = Runtime.getRuntime().availableProcessors();
   private int grpcMaxThreads = 2 * Runtime.getRuntime().availableProcessors();
 
@@ -26,6 +28,15 @@ public final class ThreadsCfg {
     return this;
   }
 
+  public int getRequestManagerShards() {
+    return requestManagerShards;
+  }
+
+  public ThreadsCfg setRequestManagerShards(final int requestManagerShards) {
+    this.requestManagerShards = requestManagerShards;
+    return this;
+  }
+
   public int getGrpcMinThreads() {
     return grpcMinThreads;
   }
@@ -44,7 +55,7 @@ public final class ThreadsCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(managementThreads, grpcMinThreads, grpcMaxThreads);
+    return Objects.hash(managementThreads, requestManagerShards, grpcMinThreads, grpcMaxThreads);
   }
 
   @Override
@@ -57,6 +68,7 @@ public final class ThreadsCfg {
     }
     final ThreadsCfg that = (ThreadsCfg) o;
     return managementThreads == that.managementThreads
+        && requestManagerShards == that.requestManagerShards
         && grpcMinThreads == that.grpcMinThreads
         && grpcMaxThreads == that.grpcMaxThreads;
   }
@@ -66,6 +78,8 @@ public final class ThreadsCfg {
     return "ThreadsCfg{"
         + "managementThreads="
         + managementThreads
+        + ", requestManagerShards="
+        + requestManagerShards
         + ", grpcMinThreads="
         + grpcMinThreads
         + ", grpcMaxThreads="
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the partitions which had no jobs of a type left to activate, as reported by their
+ * last response. These partitions can be skipped when activating jobs of that type, instead of
+ * sending them requests which activate nothing.
+ *
+ * <p>As jobs may become activatable at any time, a partition is only skipped until jobs of the type
+ * become available, or until the given expiry passed, as the notification about available jobs is
+ * not guaranteed to be received.
+ */
+final class ExhaustedPartitions {
+
+  // job type => partition id => time at which the partition was exhausted
+  private final Map<String, Map<Integer, Long>> exhaustedPartitions = new ConcurrentHashMap<>();
+  private final long expiryMillis;
+
+  ExhaustedPartitions(final Duration expiry) {
+    expiryMillis = expiry.toMillis();
+  }
+
+  /** Marks the partition to have no jobs of the given type left to activate. */
+  void markExhausted(final String jobType, final int partitionId) {
+    exhaustedPartitions
+        .computeIfAbsent(jobType, type -> new ConcurrentHashMap<>())
+        .put(partitionId, ActorClock.currentTimeMillis());
+  }
+
+  /** Forgets all exhausted partitions of the given type, as some of them have jobs again. */
+  void onJobsAvailable(final String jobType) {
+    exhaustedPartitions.remove(jobType);
+  }
+
+  /**
+   * @return {@code true} if the partition had no jobs of the given type left to activate, and was
+   *     marked as exhausted before the expiry passed
+   */
+  boolean isExhausted(final String jobType, final int partitionId) {
+    final var partitions = exhaustedPartitions.get(jobType);
+    if (partitions == null) {
+      return false;
+    }
+
+    final Long exhaustedAt = partitions.get(partitionId);
+    if (exhaustedAt == null) {
+      return false;
+    }
+
+    if (ActorClock.currentTimeMillis() - exhaustedAt >= expiryMillis) {
+      partitions.remove(partitionId, exhaustedAt);
+      return false;
+    }
+
+    return true;
+  }
+}
@@ -174,6 +174,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
 
   private void onNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    activateJobsHandler.onJobsAvailable(jobType);
 
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
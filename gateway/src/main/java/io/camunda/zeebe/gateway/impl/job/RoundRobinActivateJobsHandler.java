@@ -31,6 +31,7 @@ import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.util.Either;
 import io.grpc.protobuf.StatusProto;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,16 +40,21 @@ import java.util.function.Consumer;
 
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
- * partition-IDs to determine the next partition to use.
+ * partition-IDs to determine the next partition to use. Partitions which reported to have no jobs
+ * of the type left to activate are skipped, until jobs of the type become available again.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
   private static final String ACTIVATE_JOB_NOT_SENT_MSG = "Failed to send activated jobs to client";
   private static final String ACTIVATE_JOB_NOT_SENT_MSG_WITH_REASON =
       ACTIVATE_JOB_NOT_SENT_MSG + ", failed with: %s";
+  // notifications about available jobs may be lost, so exhausted partitions are polled again after
+  private static final Duration EXHAUSTED_PARTITION_EXPIRY = Duration.ofSeconds(1);
 
   private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  private final ExhaustedPartitions exhaustedPartitions =
+      new ExhaustedPartitions(EXHAUSTED_PARTITION_EXPIRY);
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
 
@@ -64,6 +70,16 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     this.actor = actor;
   }
 
+  /**
+   * Lets the handler poll all partitions again for jobs of the given type, as some of them have
+   * jobs of the type to activate again.
+   *
+   * @param jobType the type of the jobs which are available
+   */
+  public void onJobsAvailable(final String jobType) {
+    exhaustedPartitions.onJobsAvailable(jobType);
+  }
+
   @Override
   public void activateJobs(
       final ActivateJobsRequest request,
@@ -170,6 +186,11 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
             }
           }
 
+          if (response.getRemainingJobs() == 0) {
+            final var partitionId = requestState.getCurrentPartition();
+            exhaustedPartitions.markExhausted(request.getType(), partitionId);
+          }
+
           final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
           final var shouldPollCurrentPartitionAgain = response.getTruncated();
 
@@ -275,7 +296,10 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         jobTypeToNextPartitionId.computeIfAbsent(
             jobType, t -> new RoundRobinDispatchStrategy(topologyManager));
     return new PartitionIdIterator(
-        nextPartitionSupplier.determinePartition(), partitionsCount, topologyManager);
+        nextPartitionSupplier.determinePartition(),
+        partitionsCount,
+        topologyManager,
+        partitionId -> !exhaustedPartitions.isExhausted(jobType, partitionId));
   }
 
   private static final class ResponseObserverDelegate {
@@ -19,11 +19,13 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.DirectBuffer;
 
 public class ClientStreamAdapter {
@@ -78,10 +80,14 @@ public class ClientStreamAdapter {
         new StatusRuntimeException(Status.INVALID_ARGUMENT.withDescription(errorMessage)));
   }
 
-  @SuppressWarnings("ClassCanBeRecord")
   private static final class ClientStreamConsumerImpl implements ClientStreamConsumer {
+    // how many jobs can be pushed to a worker while previous ones are still being forwarded to it;
+    // further pushes are rejected, so the broker retries them with another worker
+    private static final int MAX_IN_FLIGHT_JOBS = 32;
+
     private final ServerCallStreamObserver<ActivatedJob> responseObserver;
     private final Executor executor;
+    private final AtomicInteger inFlightJobs = new AtomicInteger();
 
     public ClientStreamConsumerImpl(
         final ServerCallStreamObserver<ActivatedJob> responseObserver, final Executor executor) {
@@ -91,7 +97,30 @@ public class ClientStreamAdapter {
 
     @Override
     public CompletableFuture<Void> push(final DirectBuffer payload) {
-      return CompletableFuture.runAsync(() -> handlePushedJob(payload), executor);
+      if (inFlightJobs.incrementAndGet() > MAX_IN_FLIGHT_JOBS) {
+        inFlightJobs.decrementAndGet();
+        return CompletableFuture.failedFuture(
+            new StreamExhaustedException(
+                "Expected to push job to worker, but %d jobs are still being forwarded to it"
+                    .formatted(MAX_IN_FLIGHT_JOBS)));
+      }
+
+      return CompletableFuture.runAsync(() -> handlePushedJob(payload), executor)
+          .whenComplete((ok, error) -> inFlightJobs.decrementAndGet());
+    }
+
+    /**
+     * The worker announces its capacity through the flow control of its gRPC stream: if it doesn't
+     * consume the pushed jobs fast enough, the stream is not ready anymore, and no more jobs should
+     * be pushed to it until it is.
+     */
+    @Override
+    public int credits() {
+      if (!responseObserver.isReady()) {
+        return 0;
+      }
+
+      return Math.max(0, MAX_IN_FLIGHT_JOBS - inFlightJobs.get());
     }
 
     private void handlePushedJob(final DirectBuffer payload) {
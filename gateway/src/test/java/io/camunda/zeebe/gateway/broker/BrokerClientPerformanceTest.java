@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.broker;
+
+import io.atomix.cluster.AtomixCluster;
+import io.atomix.cluster.Node;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClientImpl;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.camunda.zeebe.transport.RequestHandler;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.ServerTransport;
+import io.camunda.zeebe.transport.TransportFactory;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sends bursts of process instance creation commands through the broker client of the gateway to
+ * a stub broker, which answers every command right away without processing it. The score is
+ * therefore bounded by the gateway: picking a partition and sending the requests on the request
+ * manager shards, and reading the responses on the client transport.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BrokerClientPerformanceTest {
+
+  private static final int PARTITION_COUNT = 4;
+  private static final int REQUESTS_PER_OPERATION = 1_000;
+
+  @Param({"1", "4"})
+  public int requestManagerShards;
+
+  private ActorScheduler brokerScheduler;
+  private ActorScheduler gatewayScheduler;
+  private AtomixCluster brokerCluster;
+  private AtomixCluster gatewayCluster;
+  private ServerTransport serverTransport;
+  private BrokerClient client;
+
+  @Setup
+  public void setup() {
+    final var brokerAddress = SocketUtil.getNextAddress();
+    final var stubAddress = Address.from(brokerAddress.getHostName(), brokerAddress.getPort());
+    brokerScheduler = ActorScheduler.newActorScheduler().setCpuBoundActorThreadCount(2).build();
+    brokerScheduler.start();
+    brokerCluster =
+        AtomixCluster.builder()
+            .withPort(stubAddress.port())
+            .withMemberId("0")
+            .withClusterId("cluster")
+            .build();
+    brokerCluster.start().join();
+    serverTransport =
+        new TransportFactory(brokerScheduler)
+            .createServerTransport(0, brokerCluster.getMessagingService());
+    final var handler = new EchoCommandHandler();
+    for (int partitionId = 1; partitionId <= PARTITION_COUNT; partitionId++) {
+      serverTransport.subscribe(partitionId, RequestType.COMMAND, handler).join();
+    }
+
+    // like the management threads of a gateway, which run the request managers
+    gatewayScheduler =
+        ActorScheduler.newActorScheduler().setCpuBoundActorThreadCount(PARTITION_COUNT).build();
+    gatewayScheduler.start();
+    gatewayCluster =
+        AtomixCluster.builder()
+            .withPort(SocketUtil.getNextAddress().getPort())
+            .withMemberId("gateway")
+            .withClusterId("cluster")
+            .withMembershipProvider(
+                BootstrapDiscoveryProvider.builder()
+                    .withNodes(List.of(Node.builder().withAddress(stubAddress).build()))
+                    .build())
+            .build();
+    gatewayCluster.start().join();
+    client =
+        new BrokerClientImpl(
+            Duration.ofSeconds(15),
+            gatewayCluster.getMessagingService(),
+            gatewayCluster.getMembershipService(),
+            gatewayCluster.getEventService(),
+            gatewayScheduler,
+            requestManagerShards);
+    client.start().forEach(ActorFuture::join);
+
+    final var topology = new BrokerClusterStateImpl();
+    topology.addBrokerIfAbsent(0);
+    topology.setBrokerAddressIfPresent(0, stubAddress.toString());
+    topology.setClusterSize(1);
+    topology.setPartitionsCount(PARTITION_COUNT);
+    for (int partitionId = 1; partitionId <= PARTITION_COUNT; partitionId++) {
+      topology.addPartitionIfAbsent(partitionId);
+      topology.setPartitionLeader(partitionId, 0, 1);
+    }
+    ((BrokerTopologyManagerImpl) client.getTopologyManager()).setTopology(topology);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    client.close();
+    gatewayCluster.stop().join();
+    gatewayScheduler.stop().get();
+    serverTransport.close();
+    brokerCluster.stop().join();
+    brokerScheduler.stop().get();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS_PER_OPERATION)
+  public int measureRequestThroughput() {
+    final var responses = new CompletableFuture<?>[REQUESTS_PER_OPERATION];
+    for (int i = 0; i < responses.length; i++) {
+      responses[i] = client.sendRequest(new BrokerCreateProcessInstanceRequest());
+    }
+
+    CompletableFuture.allOf(responses).join();
+    return responses.length;
+  }
+
+  @JMHTest("measureRequestThroughput")
+  void shouldSendRequestsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected requests/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 50_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(o -> o.param("requestManagerShards", "4")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  /** Answers every command with an event of the same value type, which echoes the command. */
+  private static final class EchoCommandHandler implements RequestHandler {
+
+    private final ExecuteCommandRequest request = new ExecuteCommandRequest();
+    private final ExecuteCommandResponse response = new ExecuteCommandResponse();
+    private final ServerResponseImpl serverResponse = new ServerResponseImpl();
+
+    @Override
+    public void onRequest(
+        final ServerOutput output,
+        final int partitionId,
+        final long requestId,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length) {
+      request.wrap(buffer, offset, length);
+      final var value = request.getValue();
+      response
+          .reset()
+          .setPartitionId(partitionId)
+          .setKey(Protocol.encodePartitionId(partitionId, requestId))
+          .setRecordType(RecordType.EVENT)
+          .setValueType(request.getValueType())
+          .setIntent(ProcessInstanceCreationIntent.CREATED)
+          .setValue(value, 0, value.capacity());
+      serverResponse.reset().setRequestId(requestId).setPartitionId(partitionId).writer(response);
+      output.sendResponse(serverResponse);
+    }
+  }
+}
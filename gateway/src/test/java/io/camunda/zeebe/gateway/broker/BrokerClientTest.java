@@ -29,6 +29,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceR
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerError;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.Protocol;
@@ -39,6 +40,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.scheduler.ActorThread;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
 import io.camunda.zeebe.test.broker.protocol.brokerapi.ExecuteCommandRequest;
@@ -49,7 +51,10 @@ import io.netty.util.NetUtil;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.After;
@@ -301,6 +306,79 @@ public final class BrokerClientTest {
                     "foo")));
   }
 
+  @Test
+  public void shouldDispatchRequestsOverAllRequestManagerShards() {
+    // given
+    registerCreateWfCommand();
+    final var shardedClient =
+        new BrokerClientImpl(
+            Duration.ofSeconds(3),
+            atomixCluster.getMessagingService(),
+            atomixCluster.getMembershipService(),
+            atomixCluster.getEventService(),
+            actorScheduler.get(),
+            4);
+    shardedClient.start().forEach(ActorFuture::join);
+    ((BrokerTopologyManagerImpl) shardedClient.getTopologyManager())
+        .setTopology((BrokerClusterStateImpl) client.getTopologyManager().getTopology());
+
+    final Set<String> dispatchingActors = ConcurrentHashMap.newKeySet();
+    final Set<String> respondingActors = ConcurrentHashMap.newKeySet();
+
+    // when
+    final var responses =
+        IntStream.range(0, 10)
+            .mapToObj(
+                i ->
+                    shardedClient.sendRequestWithRetry(
+                        new BrokerCreateProcessInstanceRequest() {
+                          @Override
+                          public void setPartitionId(final int partitionId) {
+                            // the partition is picked by the actor which dispatches the request
+                            dispatchingActors.add(ActorThread.current().getCurrentTask().getName());
+                            super.setPartitionId(partitionId);
+                          }
+
+                          @Override
+                          public BrokerResponse<ProcessInstanceCreationRecord> getResponse(
+                              final DirectBuffer responseBuffer) {
+                            respondingActors.add(ActorThread.current().getCurrentTask().getName());
+                            return super.getResponse(responseBuffer);
+                          }
+                        }))
+            .toList();
+
+    // then
+    try {
+      responses.forEach(response -> assertThat(response.join().isResponse()).isTrue());
+      assertThat(broker.getReceivedCommandRequests()).hasSize(10);
+      // the responses are read by the client transport, and not handed back to the shards
+      assertThat(respondingActors).noneMatch(name -> name.startsWith("BrokerRequestManager"));
+      assertThat(dispatchingActors)
+          .containsExactlyInAnyOrder(
+              "BrokerRequestManager-0",
+              "BrokerRequestManager-1",
+              "BrokerRequestManager-2",
+              "BrokerRequestManager-3");
+    } finally {
+      shardedClient.close();
+    }
+  }
+
+  @Test
+  public void shouldRejectLessThanOneRequestManagerShard() {
+    assertThatThrownBy(
+            () ->
+                new BrokerClientImpl(
+                    Duration.ofSeconds(3),
+                    atomixCluster.getMessagingService(),
+                    atomixCluster.getMembershipService(),
+                    atomixCluster.getEventService(),
+                    actorScheduler.get(),
+                    0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   private void registerCreateWfCommand() {
     final ExecuteCommandResponseBuilder builder =
         broker
@@ -47,7 +47,7 @@ public final class GatewayCfgTest {
         .setEnabled(true)
         .setCertificateChainPath(new File("certificateChainPath"))
         .setPrivateKeyPath(new File("privateKeyPath"));
-    CUSTOM_CFG.getThreads().setManagementThreads(100);
+    CUSTOM_CFG.getThreads().setManagementThreads(100).setRequestManagerShards(4);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
@@ -115,6 +115,7 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.network.port", "5432");
     setEnv("zeebe.gateway.cluster.initialContactPoints", "broker:432,anotherBroker:789");
     setEnv("zeebe.gateway.threads.managementThreads", "32");
+    setEnv("zeebe.gateway.threads.requestManagerShards", "8");
     setEnv("zeebe.gateway.cluster.requestTimeout", Duration.ofMinutes(43).toString());
     setEnv("zeebe.gateway.cluster.longPollingEnabled", "false");
     setEnv("zeebe.gateway.cluster.clusterName", "envCluster");
@@ -153,7 +154,7 @@ public final class GatewayCfgTest {
         .setMemberId("envMember")
         .setHost("envHost")
         .setPort(12345);
-    expected.getThreads().setManagementThreads(32);
+    expected.getThreads().setManagementThreads(32).setRequestManagerShards(8);
     expected
         .getSecurity()
         .setEnabled(false)
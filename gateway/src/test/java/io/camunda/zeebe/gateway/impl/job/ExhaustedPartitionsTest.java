@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class ExhaustedPartitionsTest {
+
+  private final ExhaustedPartitions exhaustedPartitions =
+      new ExhaustedPartitions(Duration.ofMinutes(1));
+
+  @Test
+  void shouldMarkPartitionExhaustedForType() {
+    // when
+    exhaustedPartitions.markExhausted("foo", 1);
+
+    // then
+    assertThat(exhaustedPartitions.isExhausted("foo", 1)).isTrue();
+    assertThat(exhaustedPartitions.isExhausted("foo", 2)).isFalse();
+    assertThat(exhaustedPartitions.isExhausted("bar", 1)).isFalse();
+  }
+
+  @Test
+  void shouldForgetExhaustedPartitionsWhenJobsAreAvailable() {
+    // given
+    exhaustedPartitions.markExhausted("foo", 1);
+    exhaustedPartitions.markExhausted("foo", 2);
+    exhaustedPartitions.markExhausted("bar", 1);
+
+    // when
+    exhaustedPartitions.onJobsAvailable("foo");
+
+    // then
+    assertThat(exhaustedPartitions.isExhausted("foo", 1)).isFalse();
+    assertThat(exhaustedPartitions.isExhausted("foo", 2)).isFalse();
+    assertThat(exhaustedPartitions.isExhausted("bar", 1)).isTrue();
+  }
+
+  @Test
+  void shouldForgetExhaustedPartitionAfterExpiry() {
+    // given
+    final var expiringPartitions = new ExhaustedPartitions(Duration.ZERO);
+
+    // when
+    expiringPartitions.markExhausted("foo", 1);
+
+    // then
+    assertThat(expiringPartitions.isExhausted("foo", 1)).isFalse();
+  }
+}
@@ -89,4 +89,24 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Returns the mappings of all indexed entries between the given indexes (inclusive), such that
+   * they can be persisted along with a sealed segment. Returns null if not every entry in this
+   * range which should have been indexed is indexed, for example because the segment was only
+   * partially read after a restart.
+   *
+   * @param firstIndex the first index of the segment
+   * @param lastIndex the last index of the segment
+   * @return the mappings of the segment, or null if the segment is not completely indexed
+   */
+  SegmentIndex segmentIndex(long firstIndex, long lastIndex);
+
+  /**
+   * Adds the previously persisted mappings of a segment to this index.
+   *
+   * @param segmentIndex the mappings of the segment
+   * @return true if the mappings were added, false if they are not compatible with this index
+   */
+  boolean load(SegmentIndex segmentIndex);
 }
@@ -69,6 +69,10 @@ final class Segment implements AutoCloseable, FlushableSegment {
     this.index = index;
     this.metrics = metrics;
 
+    if (descriptor.lastPosition() > 0) {
+      // the segment was sealed before; load its persisted index instead of indexing it lazily
+      loadPersistedIndex();
+    }
     writer = createWriter(lastWrittenAsqn, metrics);
   }
 
@@ -234,6 +238,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deletePersistedIndex();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -285,10 +290,50 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment will be truncated, so its persisted index is no longer valid
+    deletePersistedIndex();
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
     buffer.force(0, descriptor.length());
   }
+
+  /**
+   * Persists the index of this segment next to the segment file, such that it does not have to be
+   * rebuilt after a restart. Must only be called once the segment is sealed, i.e. no more entries
+   * are appended to it, and after its descriptor was updated with its last entry. The index is only
+   * persisted if every entry of the segment was indexed.
+   */
+  void persistIndex() {
+    final var segmentIndex = index.segmentIndex(index(), lastIndex());
+    if (segmentIndex == null) {
+      LOG.trace("Segment {} is not completely indexed, skipping persisting its index", this);
+      return;
+    }
+
+    try {
+      SegmentIndexFile.write(file.indexFile(), descriptor, segmentIndex);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist index of segment {}. The segment will be indexed lazily on restart.",
+          this,
+          e);
+    }
+  }
+
+  private void loadPersistedIndex() {
+    final var segmentIndex = SegmentIndexFile.read(file.indexFile(), descriptor);
+    if (segmentIndex != null && index.load(segmentIndex)) {
+      LOG.trace("Loaded {} persisted index entries of segment {}", segmentIndex.size(), this);
+    }
+  }
+
+  private void deletePersistedIndex() {
+    try {
+      Files.deleteIfExists(file.indexFile());
+    } catch (final IOException e) {
+      LOG.warn("Could not delete index file of segment {}", this, e);
+    }
+  }
 }
@@ -34,6 +34,7 @@ public final class SegmentFile {
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
+  private static final String INDEX_EXTENSION = "idx";
   private final File file;
   private Path fileMarkedForDeletion;
 
@@ -125,6 +126,33 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the file next to the segment file, in which the index of the sealed segment is
+   * persisted.
+   *
+   * @return the index file of this segment
+   */
+  Path indexFile() {
+    return Path.of(file.getParent(), file.getName() + EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
+
+  /**
+   * Returns the segment file to which the given index file belongs, or null if the given file is
+   * not an index file of the journal with the given name.
+   */
+  static Path getSegmentOfIndexFile(final String journalName, final Path indexFile) {
+    final var fileName = indexFile.getFileName().toString();
+    final var suffix = String.valueOf(EXTENSION_SEPARATOR) + INDEX_EXTENSION;
+    if (!fileName.endsWith(suffix)) {
+      return null;
+    }
+
+    final var segmentFileName = fileName.substring(0, fileName.length() - suffix.length());
+    return isSegmentFile(journalName, segmentFileName)
+        ? indexFile.resolveSibling(segmentFileName)
+        : null;
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * The index mappings of the entries of a single segment, as built by a {@link JournalIndex} with
+ * the given density. The arrays are ordered by index, and an entry without an asqn has {@link
+ * SegmentedJournal#ASQN_IGNORE} as asqn.
+ */
+record SegmentIndex(int density, long[] indexes, int[] positions, long[] asqns) {
+
+  int size() {
+    return indexes.length;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link SegmentIndex} of a sealed segment in a file next to the segment file, such
+ * that the index does not have to be rebuilt by reading the segment after a restart.
+ *
+ * <p>The file is only a cache: it is written without flushing, and it is only used if it was
+ * written for the segment in its current state, that is, if the segment id, first index, last index
+ * and last position match the segment's descriptor, and the checksum matches the content. In any
+ * other case it is ignored, and the segment is indexed lazily by the readers as before.
+ *
+ * <p>The file has the following layout, using little endian byte order: version (8-bit), segment id
+ * (64-bit), first index (64-bit), last index (64-bit), last position (32-bit), density (32-bit),
+ * entry count (32-bit), followed by each entry's index (64-bit), position (32-bit) and asqn
+ * (64-bit), and finally the CRC32 checksum of all previous bytes (64-bit).
+ */
+final class SegmentIndexFile {
+
+  static final byte VERSION = 1;
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int HEADER_LENGTH = Byte.BYTES + Long.BYTES * 3 + Integer.BYTES * 3;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  static void write(
+      final Path file, final SegmentDescriptor descriptor, final SegmentIndex segmentIndex)
+      throws IOException {
+    final int contentLength = HEADER_LENGTH + segmentIndex.size() * ENTRY_LENGTH;
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(contentLength + CHECKSUM_LENGTH).order(ENDIANNESS);
+
+    buffer
+        .put(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(descriptor.lastIndex())
+        .putInt(descriptor.lastPosition())
+        .putInt(segmentIndex.density())
+        .putInt(segmentIndex.size());
+    for (int i = 0; i < segmentIndex.size(); i++) {
+      buffer
+          .putLong(segmentIndex.indexes()[i])
+          .putInt(segmentIndex.positions()[i])
+          .putLong(segmentIndex.asqns()[i]);
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, contentLength));
+
+    Files.write(
+        file,
+        buffer.array(),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  /**
+   * Reads the persisted index of the segment with the given descriptor.
+   *
+   * @return the persisted index, or null if there is none or it does not match the segment
+   */
+  static SegmentIndex read(final Path file, final SegmentDescriptor descriptor) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read index file {}, ignoring it", file, e);
+      return null;
+    }
+
+    if (buffer.remaining() < HEADER_LENGTH + CHECKSUM_LENGTH || buffer.get() != VERSION) {
+      return null;
+    }
+
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final int density = buffer.getInt();
+    final int count = buffer.getInt();
+    if (segmentId != descriptor.id()
+        || firstIndex != descriptor.index()
+        || lastIndex != descriptor.lastIndex()
+        || lastPosition != descriptor.lastPosition()
+        || count < 0
+        || buffer.capacity() != HEADER_LENGTH + (long) count * ENTRY_LENGTH + CHECKSUM_LENGTH) {
+      LOG.debug("Index file {} does not match segment {}, ignoring it", file, descriptor);
+      return null;
+    }
+
+    final int contentLength = HEADER_LENGTH + count * ENTRY_LENGTH;
+    final long checksum = buffer.getLong(contentLength);
+    if (checksum != new ChecksumGenerator().compute(buffer, 0, contentLength)) {
+      LOG.debug("Index file {} is corrupted, ignoring it", file);
+      return null;
+    }
+
+    final long[] indexes = new long[count];
+    final int[] positions = new int[count];
+    final long[] asqns = new long[count];
+    for (int i = 0; i < count; i++) {
+      indexes[i] = buffer.getLong();
+      positions[i] = buffer.getInt();
+      asqns[i] = buffer.getLong();
+    }
+
+    return new SegmentIndex(density, indexes, positions, asqns);
+  }
+}
@@ -310,6 +310,7 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    deleteOrphanedIndexFiles();
   }
 
   private void prepareNextSegment() {
@@ -440,6 +441,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        Files.deleteIfExists(new SegmentFile(file).indexFile());
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -480,6 +482,24 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  /** Deletes persisted segment indexes whose segment does not exist anymore. */
+  private void deleteOrphanedIndexFiles() {
+    try (final DirectoryStream<Path> indexFiles =
+        Files.newDirectoryStream(
+            directory.toPath(),
+            path -> {
+              final var segmentFile = SegmentFile.getSegmentOfIndexFile(name, path);
+              return segmentFile != null && !Files.exists(segmentFile);
+            })) {
+      indexFiles.forEach(this::deleteDeferredFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete orphaned segment index files in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -16,19 +16,34 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
 
+/**
+ * Sparse index which keeps the mappings of every {@code density}-th index in sorted primitive
+ * arrays. Entries are almost always indexed in ascending order, either by the writer or when a
+ * reader lazily indexes a segment during a seek, which makes inserting an entry an append in the
+ * common case. Lookups are binary searches.
+ *
+ * <p>The index is accessed concurrently by the writer and the readers, so all accesses are
+ * synchronized. Lookups only happen when seeking, and updates only every {@code density} entries,
+ * so contention is low.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+
+  // index -> position of every indexed entry, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // index -> asqn of every indexed entry which has an asqn; sorted by index, and as the asqn is
+  // increasing with the index, also sorted by asqn
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +53,20 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      synchronized (this) {
+        putPosition(index, position);
+        final long asqn = indexedEntry.asqn();
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          putAsqn(index, asqn);
+        }
       }
     }
   }
 
   @Override
-  public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+  public synchronized IndexInfo lookup(final long index) {
+    final int slot = floorSlot(indexes, size, index);
+    return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
   }
 
   @Override
@@ -59,47 +75,42 @@ final class SparseJournalIndex implements JournalIndex {
   }
 
   @Override
-  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+  public synchronized Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final int slot = floorSlot(asqns, asqnSize, asqn);
+    if (slot < 0) {
+      return null;
     }
-    return null;
+
+    if (asqnIndexes[slot] <= indexUpperBound) {
+      return asqnIndexes[slot];
+    }
+
+    final int boundedSlot = floorSlot(asqnIndexes, asqnSize, indexUpperBound);
+    return boundedSlot >= 0 ? asqnIndexes[boundedSlot] : null;
   }
 
   @Override
-  public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+  public synchronized void deleteAfter(final long index) {
+    size = floorSlot(indexes, size, index) + 1;
+    asqnSize = floorSlot(asqnIndexes, asqnSize, index) + 1;
   }
 
   @Override
-  public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+  public synchronized void deleteUntil(final long index) {
+    removeHead(ceilingSlot(indexes, size, index));
+
+    // keep the last asqn mapping before the given index, such that asqn lookups still find a
+    // lower bound to start from
+    final int asqnSlot = floorSlot(asqnIndexes, asqnSize, index);
+    if (asqnSlot > 0) {
+      removeAsqnHead(asqnSlot);
     }
   }
 
   @Override
-  public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+  public synchronized void clear() {
+    size = 0;
+    asqnSize = 0;
   }
 
   @Override
@@ -111,4 +122,117 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  @Override
+  public synchronized SegmentIndex segmentIndex(final long firstIndex, final long lastIndex) {
+    final int from = ceilingSlot(indexes, size, firstIndex);
+    final int to = floorSlot(indexes, size, lastIndex) + 1;
+    final int count = Math.max(0, to - from);
+
+    // the mappings can only be reused if every entry to index in this range was indexed
+    final long expectedCount = lastIndex / density - (firstIndex - 1) / density;
+    if (count != expectedCount) {
+      return null;
+    }
+
+    final long[] segmentAsqns = new long[count];
+    for (int i = 0; i < count; i++) {
+      final int asqnSlot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, indexes[from + i]);
+      segmentAsqns[i] = asqnSlot >= 0 ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE;
+    }
+
+    return new SegmentIndex(
+        density,
+        Arrays.copyOfRange(indexes, from, to),
+        Arrays.copyOfRange(positions, from, to),
+        segmentAsqns);
+  }
+
+  @Override
+  public synchronized boolean load(final SegmentIndex segmentIndex) {
+    if (segmentIndex.density() != density) {
+      return false;
+    }
+
+    for (int i = 0; i < segmentIndex.size(); i++) {
+      final long index = segmentIndex.indexes()[i];
+      putPosition(index, segmentIndex.positions()[i]);
+      final long asqn = segmentIndex.asqns()[i];
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    }
+    return true;
+  }
+
+  private void putPosition(final long index, final int position) {
+    final int slot = insertionSlot(indexes, size, index);
+    if (slot < size && indexes[slot] == index) {
+      positions[slot] = position;
+      return;
+    }
+
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size * 2);
+      positions = Arrays.copyOf(positions, size * 2);
+    }
+    System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+    System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    final int slot = insertionSlot(asqnIndexes, asqnSize, index);
+    if (slot < asqnSize && asqnIndexes[slot] == index) {
+      asqns[slot] = asqn;
+      return;
+    }
+
+    if (asqnSize == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize * 2);
+      asqns = Arrays.copyOf(asqns, asqnSize * 2);
+    }
+    System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+    System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+    asqnIndexes[slot] = index;
+    asqns[slot] = asqn;
+    asqnSize++;
+  }
+
+  private void removeHead(final int count) {
+    System.arraycopy(indexes, count, indexes, 0, size - count);
+    System.arraycopy(positions, count, positions, 0, size - count);
+    size -= count;
+  }
+
+  private void removeAsqnHead(final int count) {
+    System.arraycopy(asqnIndexes, count, asqnIndexes, 0, asqnSize - count);
+    System.arraycopy(asqns, count, asqns, 0, asqnSize - count);
+    asqnSize -= count;
+  }
+
+  /** Returns the slot at which the given key is or would be inserted to keep the keys sorted. */
+  private static int insertionSlot(final long[] keys, final int size, final long key) {
+    // fast path, as entries are almost always indexed in ascending order
+    if (size == 0 || keys[size - 1] < key) {
+      return size;
+    }
+
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
+
+  /** Returns the slot of the greatest key less than or equal to the given key, or -1. */
+  private static int floorSlot(final long[] keys, final int size, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+
+  /** Returns the slot of the least key greater than or equal to the given key, or size. */
+  private static int ceilingSlot(final long[] keys, final int size, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
 }
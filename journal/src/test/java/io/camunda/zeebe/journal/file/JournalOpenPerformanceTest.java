@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Opens a journal of several sealed segments and seeks into the middle of it, as done when the
+ * journal is recovered from a snapshot. The index files of the sealed segments are loaded on
+ * opening; with {@code keepIndexFiles=false} they're deleted beforehand, so the seek scans the
+ * segments instead, as it did before the index was persisted.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalOpenPerformanceTest {
+
+  private static final int ENTRY_COUNT = 500_000;
+  private static final int MAX_SEGMENT_SIZE = 8 * 1024 * 1024;
+
+  @Param({"false", "true"})
+  public boolean keepIndexFiles;
+
+  private final JournalMetaStore metaStore = new JournalMetaStore.InMemory();
+  private Path directory;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal");
+
+    final var data = new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[128]));
+    try (final var journal = openJournal()) {
+      for (int asqn = 1; asqn <= ENTRY_COUNT; asqn++) {
+        journal.append(asqn, data);
+      }
+      journal.flush();
+    }
+
+    if (!keepIndexFiles) {
+      try (final var files = Files.list(directory)) {
+        for (final var file : files.filter(f -> f.toString().endsWith(".idx")).toList()) {
+          Files.delete(file);
+        }
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureOpenAndSeekToSealedSegment() {
+    try (final var journal = openJournal();
+        final var reader = journal.openReader()) {
+      return reader.seekToAsqn(ENTRY_COUNT / 2);
+    }
+  }
+
+  @JMHTest("measureOpenAndSeekToSealedSegment")
+  void shouldOpenWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 250;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("keepIndexFiles", "true")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withPreallocateSegmentFiles(false)
+        .withMetaStore(metaStore)
+        .build();
+  }
+}
@@ -29,9 +29,13 @@ import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -404,7 +408,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws IOException {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -415,6 +419,7 @@ class SegmentedJournalTest {
 
     // when
     journal.close();
+    deleteIndexFiles();
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -425,6 +430,87 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldLoadPersistedIndexOfSealedSegmentAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var firstIndexInfo = journal.getJournalIndex().lookup(firstIndex);
+    final var secondIndexInfo = journal.getJournalIndex().lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstIndexInfo);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondIndexInfo);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldIgnorePersistedIndexOfOtherSegment() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.append(4, journalFactory.entry());
+    journal.append(5, journalFactory.entry());
+    journal.close();
+
+    // when - the index of the second segment is used for the first segment
+    final var indexFiles = getIndexFiles();
+    assertThat(indexFiles).hasSize(2);
+    Files.copy(
+        directory.resolve("data").resolve("journal-2.log.idx"),
+        directory.resolve("data").resolve("journal-1.log.idx"),
+        StandardCopyOption.REPLACE_EXISTING);
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+  }
+
+  @Test
+  void shouldDeletePersistedIndexWhenTruncatingSealedSegment() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    assertThat(getIndexFiles()).hasSize(1);
+
+    // when
+    journal.deleteAfter(firstIndex);
+
+    // then
+    assertThat(getIndexFiles()).isEmpty();
+  }
+
+  @Test
+  void shouldDeletePersistedIndexWithSegment() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    final var thirdIndex = journal.append(3, journalFactory.entry()).index();
+    assertThat(getIndexFiles()).hasSize(1);
+
+    // when
+    journal.deleteUntil(thirdIndex);
+
+    // then
+    assertThat(getIndexFiles()).isEmpty();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -892,6 +978,18 @@ class SegmentedJournalTest {
     assertThat(journalFactory.metaStore().loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  private List<Path> getIndexFiles() throws IOException {
+    try (final var files = Files.list(directory.resolve("data"))) {
+      return files.filter(file -> file.getFileName().toString().endsWith(".idx")).toList();
+    }
+  }
+
+  private void deleteIndexFiles() throws IOException {
+    for (final Path indexFile : getIndexFiles()) {
+      Files.delete(indexFile);
+    }
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
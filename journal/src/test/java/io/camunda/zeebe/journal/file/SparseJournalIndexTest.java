@@ -265,4 +265,92 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexEntriesOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(15, 15), 30);
+    index.index(asJournalRecord(20, 20), 40);
+
+    // when - an older segment is indexed lazily
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(10, 10), 20);
+
+    // then
+    assertEquals(5, index.lookup(9).index());
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(15, index.lookup(15).index());
+    assertEquals(10, index.lookupAsqn(12));
+    assertEquals(20, index.lookupAsqn(Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldReturnSegmentIndexIfCompletelyIndexed() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 20);
+    index.index(asJournalRecord(15, 15), 30);
+
+    // when
+    final var segmentIndex = index.segmentIndex(3, 12);
+
+    // then
+    assertThat(segmentIndex.density()).isEqualTo(5);
+    assertThat(segmentIndex.indexes()).containsExactly(5, 10);
+    assertThat(segmentIndex.positions()).containsExactly(10, 20);
+    assertThat(segmentIndex.asqns()).containsExactly(5, SegmentedJournal.ASQN_IGNORE);
+  }
+
+  @Test
+  void shouldNotReturnSegmentIndexIfPartiallyIndexed() {
+    // given - every 5 index is added, but the segment was only indexed from index 10
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(10, 10), 20);
+    index.index(asJournalRecord(15, 15), 30);
+
+    // when
+    final var segmentIndex = index.segmentIndex(1, 17);
+
+    // then
+    assertNull(segmentIndex);
+  }
+
+  @Test
+  void shouldLoadSegmentIndex() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    final var segmentIndex =
+        new SegmentIndex(
+            5,
+            new long[] {5, 10},
+            new int[] {10, 20},
+            new long[] {5, SegmentedJournal.ASQN_IGNORE});
+
+    // when
+    final boolean loaded = index.load(segmentIndex);
+
+    // then
+    assertThat(loaded).isTrue();
+    assertEquals(10, index.lookup(12).index());
+    assertEquals(20, index.lookup(12).position());
+    assertEquals(5, index.lookupAsqn(12));
+  }
+
+  @Test
+  void shouldNotLoadSegmentIndexWithOtherDensity() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(5);
+    final var segmentIndex =
+        new SegmentIndex(2, new long[] {2, 4}, new int[] {10, 20}, new long[] {2, 4});
+
+    // when
+    final boolean loaded = index.load(segmentIndex);
+
+    // then
+    assertThat(loaded).isFalse();
+    assertNull(index.lookup(4));
+  }
 }
@@ -18,6 +18,7 @@ import java.util.Objects;
 public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private static final int MINIMUM_FRAGMENT_SIZE = 4 * 1024;
   private int maxFragmentSize = 1024 * 1024 * 4;
+  private int sequencerCapacity = Sequencer.DEFAULT_CAPACITY;
   private int partitionId = -1;
   private ActorSchedulingService actorSchedulingService;
   private LogStorage logStorage;
@@ -37,6 +38,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withSequencerCapacity(final int sequencerCapacity) {
+    this.sequencerCapacity = sequencerCapacity;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withLogStorage(final LogStorage logStorage) {
     this.logStorage = logStorage;
@@ -67,7 +74,13 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
 
     final var logStreamService =
         new LogStreamImpl(
-            actorSchedulingService, logName, partitionId, nodeId, maxFragmentSize, logStorage);
+            actorSchedulingService,
+            logName,
+            partitionId,
+            nodeId,
+            maxFragmentSize,
+            sequencerCapacity,
+            logStorage);
 
     final var logstreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorSchedulingService
@@ -94,5 +107,11 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
               "Expected fragment size to be at least '%d', but was '%d'",
               MINIMUM_FRAGMENT_SIZE, maxFragmentSize));
     }
+
+    if (sequencerCapacity < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected sequencer capacity to be at least '1', but was '%d'", sequencerCapacity));
+    }
   }
 }
@@ -41,6 +41,7 @@ public final class LogStreamImpl extends Actor
   private final ActorSchedulingService actorSchedulingService;
   private final List<LogStreamReader> readers;
   private final int maxFragmentSize;
+  private final int sequencerCapacity;
   private final LogStorage logStorage;
   private final CompletableActorFuture<Void> closeFuture;
   private final int nodeId;
@@ -58,6 +59,7 @@ public final class LogStreamImpl extends Actor
       final int partitionId,
       final int nodeId,
       final int maxFragmentSize,
+      final int sequencerCapacity,
       final LogStorage logStorage) {
     this.actorSchedulingService = actorSchedulingService;
     this.logName = logName;
@@ -67,6 +69,7 @@ public final class LogStreamImpl extends Actor
     actorName = buildActorName("LogStream", partitionId);
 
     this.maxFragmentSize = maxFragmentSize;
+    this.sequencerCapacity = sequencerCapacity;
     this.logStorage = logStorage;
     closeFuture = new CompletableActorFuture<>();
 
@@ -300,7 +303,8 @@ public final class LogStreamImpl extends Actor
   }
 
   private Sequencer createAndScheduleWriteBuffer(final long initialPosition) {
-    return new Sequencer(initialPosition, maxFragmentSize, new SequencerMetrics(partitionId));
+    return new Sequencer(
+        initialPosition, maxFragmentSize, sequencerCapacity, new SequencerMetrics(partitionId));
   }
 
   private ActorFuture<Void> createAndScheduleLogStorageAppender(final Sequencer sequencer) {
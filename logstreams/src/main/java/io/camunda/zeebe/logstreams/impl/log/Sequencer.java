@@ -18,9 +18,10 @@ import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.agrona.BitUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,23 +34,65 @@ import org.slf4j.LoggerFactory;
  * <p>The sequencer assigns all entries a position and makes that position available to its
  * consumer. The sequencer does not copy or serialize entries, it only keeps a reference to them
  * until they are handed off to the consumer.
+ *
+ * <p>Writers don't take a lock: a writer claims the positions of its batch by atomically advancing
+ * the next position, as long as the claimed positions fit into the capacity of the queue, i.e. as
+ * long as at most {@code capacity} entries are claimed but not yet read. The batch is then
+ * published into a ring of slots, in the slot of its first position. The consumer reads the slot of
+ * the next position it expects, such that batches are read in the order of their positions, even if
+ * a writer publishes its batch after a writer which claimed later positions. As every batch in the
+ * queue occupies the slot of its first position, and all claimed positions fit into the capacity,
+ * two batches never share a slot.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
+  /** The default capacity of the queue, in entries. */
+  static final int DEFAULT_CAPACITY = 8 * 1024;
+
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
   private final int maxFragmentSize;
 
-  private volatile long position;
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<SequencedBatch> slots;
+  // the position which is assigned to the next claimed entry
+  private final AtomicLong position;
+  // the position of the next entry to read, only written by the consumer
+  private volatile long readPosition;
+  private final AtomicInteger queuedBatches = new AtomicInteger();
   private volatile boolean isClosed = false;
   private volatile ActorCondition consumer;
-  private final Queue<SequencedBatch> queue = new ArrayBlockingQueue<>(128);
-  private final ReentrantLock lock = new ReentrantLock();
   private final SequencerMetrics metrics;
 
   Sequencer(final long initialPosition, final int maxFragmentSize, final SequencerMetrics metrics) {
-    LOG.trace("Starting new sequencer at position {}", initialPosition);
-    position = initialPosition;
+    this(initialPosition, maxFragmentSize, DEFAULT_CAPACITY, metrics);
+  }
+
+  /**
+   * @param initialPosition the position of the first entry which is written
+   * @param maxFragmentSize the maximum size of a batch, in bytes
+   * @param capacity the maximum number of entries which are written but not yet read; rounded up to
+   *     the next power of two
+   * @param metrics the metrics of the sequencer
+   */
+  Sequencer(
+      final long initialPosition,
+      final int maxFragmentSize,
+      final int capacity,
+      final SequencerMetrics metrics) {
+    LOG.trace("Starting new sequencer at position {} with capacity {}", initialPosition, capacity);
+    if (capacity < 1) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be at least 1, but was %d".formatted(capacity));
+    }
+
+    position = new AtomicLong(initialPosition);
+    readPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
+    this.capacity = BitUtil.findNextPositivePowerOfTwo(capacity);
+    mask = this.capacity - 1;
+    slots = new AtomicReferenceArray<>(this.capacity);
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+    metrics.setQueueCapacity(this.capacity);
   }
 
   /** {@inheritDoc} */
@@ -82,43 +125,48 @@ final class Sequencer implements LogStreamWriter, Closeable {
       return Either.left(WriteFailure.INVALID_ARGUMENT);
     }
 
-    final long currentPosition;
-    final boolean isEnqueued;
-    lock.lock();
-    try {
-      currentPosition = position;
-      final var sequencedBatch =
-          new SequencedBatch(
-              ActorClock.currentTimeMillis(), currentPosition, sourcePosition, appendEntries);
-      isEnqueued = queue.offer(sequencedBatch);
-      if (isEnqueued) {
-        metrics.observeBatchLengthBytes(sequencedBatch.length());
-        position = currentPosition + batchSize;
-      }
-    } finally {
-      lock.unlock();
-    }
-
-    if (consumer != null) {
-      consumer.signal();
-    }
-    metrics.setQueueSize(queue.size());
-    if (isEnqueued) {
-      metrics.observeBatchSize(batchSize);
-      return Either.right(currentPosition + batchSize - 1);
-    } else {
+    final long currentPosition = claim(batchSize);
+    if (currentPosition < 0) {
+      signalConsumer();
       LOG.trace("Rejecting write of {}, sequencer queue is full", appendEntries);
       return Either.left(WriteFailure.FULL);
     }
+
+    final var sequencedBatch =
+        new SequencedBatch(
+            ActorClock.currentTimeMillis(), currentPosition, sourcePosition, appendEntries);
+    slots.setRelease(slotIndex(currentPosition), sequencedBatch);
+    final var queueSize = queuedBatches.incrementAndGet();
+    signalConsumer();
+
+    metrics.observeBatchLengthBytes(sequencedBatch.length());
+    metrics.observeBatchSize(batchSize);
+    metrics.setQueueSize(queueSize);
+    metrics.setQueueDepth(queueDepth());
+    return Either.right(currentPosition + batchSize - 1);
   }
 
   /**
-   * Retrieves, but does not remove, the first item in the sequenced batch queue.
+   * Retrieves and removes the next batch, i.e. the batch which starts at the position following the
+   * last read batch.
    *
    * @return A {@link SequencedBatch} or null if none is available
    */
   SequencedBatch tryRead() {
-    return queue.poll();
+    final var nextPosition = readPosition;
+    final var index = slotIndex(nextPosition);
+    final var batch = slots.getAcquire(index);
+    if (batch == null) {
+      // either nothing was written, or the writer of the next batch didn't publish it yet
+      return null;
+    }
+
+    // free the slot before moving on, as writers may claim it as soon as they see the new position
+    slots.setRelease(index, null);
+    readPosition = nextPosition + batch.entries().size();
+    metrics.setQueueSize(queuedBatches.decrementAndGet());
+    metrics.setQueueDepth(queueDepth());
+    return batch;
   }
 
   /**
@@ -135,6 +183,47 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.consumer = consumer;
   }
 
+  /**
+   * Claims the positions for a batch of the given size, if they fit into the capacity. A batch
+   * which is larger than the capacity is only accepted if the queue is empty, such that it can
+   * still be written, exclusively.
+   *
+   * @return the first claimed position, or -1 if the queue is full
+   */
+  private long claim(final int batchSize) {
+    while (true) {
+      final var currentPosition = position.get();
+      final var claimedEntries = currentPosition - readPosition;
+      if (claimedEntries > 0 && claimedEntries + batchSize > capacity) {
+        return -1;
+      }
+
+      if (position.compareAndSet(currentPosition, currentPosition + batchSize)) {
+        return currentPosition;
+      }
+    }
+  }
+
+  /**
+   * @return the number of entries which are claimed but not yet read; reads the read position
+   *     first, as it never overtakes the claimed position
+   */
+  private long queueDepth() {
+    final var currentReadPosition = readPosition;
+    return position.get() - currentReadPosition;
+  }
+
+  private int slotIndex(final long position) {
+    return (int) (position & mask);
+  }
+
+  private void signalConsumer() {
+    final var currentConsumer = consumer;
+    if (currentConsumer != null) {
+      currentConsumer.signal();
+    }
+  }
+
   private boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null
         && entry.recordValue().getLength() > 0
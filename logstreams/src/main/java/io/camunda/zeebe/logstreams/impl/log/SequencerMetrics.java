@@ -20,6 +20,23 @@ final class SequencerMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Gauge QUEUE_DEPTH =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("sequencer_queue_depth")
+          .help("Current number of entries which are written to the sequencer but not yet appended")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge QUEUE_CAPACITY =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("sequencer_queue_capacity")
+          .help(
+              "Maximum number of entries which can be written to the sequencer but not yet appended")
+          .labelNames("partition")
+          .register();
+
   private static final Histogram BATCH_SIZE =
       Histogram.build()
           .namespace("zeebe")
@@ -39,12 +56,16 @@ final class SequencerMetrics {
           .register();
 
   private final Gauge.Child queueSize;
+  private final Gauge.Child queueDepth;
+  private final Gauge.Child queueCapacity;
   private final Histogram.Child batchSize;
   private final Histogram.Child batchLengthBytes;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     queueSize = QUEUE_SIZE.labels(partitionLabel);
+    queueDepth = QUEUE_DEPTH.labels(partitionLabel);
+    queueCapacity = QUEUE_CAPACITY.labels(partitionLabel);
     batchSize = BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
   }
@@ -53,6 +74,14 @@ final class SequencerMetrics {
     queueSize.set(length);
   }
 
+  void setQueueDepth(final long entries) {
+    queueDepth.set(entries);
+  }
+
+  void setQueueCapacity(final int entries) {
+    queueCapacity.set(entries);
+  }
+
   void observeBatchSize(final int size) {
     batchSize.observe(size);
   }
@@ -31,6 +31,15 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMaxFragmentSize(int maxFragmentSize);
 
+  /**
+   * The maximum number of entries which can be written to the log stream, but are not yet appended
+   * to the log storage. Writes are rejected while this many entries are pending.
+   *
+   * @param sequencerCapacity the capacity in entries; rounded up to the next power of two
+   * @return this builder
+   */
+  LogStreamBuilder withSequencerCapacity(int sequencerCapacity);
+
   /**
    * The underlying log storage to read from/write to.
    *
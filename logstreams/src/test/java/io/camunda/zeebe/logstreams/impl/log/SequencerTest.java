@@ -194,6 +194,89 @@ final class SequencerTest {
     Mockito.verify(consumer).signal();
   }
 
+  @Test
+  void rejectsWritesWhenCapacityIsReached() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, 4, new SequencerMetrics(1));
+    sequencer.tryWrite(List.of(TestEntry.ofKey(1), TestEntry.ofKey(2), TestEntry.ofKey(3)));
+
+    // when
+    final var result = sequencer.tryWrite(List.of(TestEntry.ofKey(4), TestEntry.ofKey(5)));
+
+    // then
+    EitherAssert.assertThat(result).isLeft().left().isEqualTo(WriteFailure.FULL);
+  }
+
+  @Test
+  void acceptsWritesAgainAfterRead() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, 4, new SequencerMetrics(1));
+    sequencer.tryWrite(List.of(TestEntry.ofKey(1), TestEntry.ofKey(2), TestEntry.ofKey(3)));
+    sequencer.tryWrite(TestEntry.ofKey(4));
+    sequencer.tryRead();
+
+    // when
+    final var result = sequencer.tryWrite(List.of(TestEntry.ofKey(5), TestEntry.ofKey(6)));
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(6L);
+    Assertions.assertThat(sequencer.tryRead().firstPosition()).isEqualTo(4);
+    Assertions.assertThat(sequencer.tryRead().firstPosition()).isEqualTo(5);
+  }
+
+  @Test
+  void acceptsBatchLargerThanCapacityWhenEmpty() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, 2, new SequencerMetrics(1));
+    final var entries = List.of(TestEntry.ofKey(1), TestEntry.ofKey(2), TestEntry.ofKey(3));
+
+    // when
+    final var result = sequencer.tryWrite(entries);
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(3L);
+    EitherAssert.assertThat(sequencer.tryWrite(TestEntry.ofKey(4)))
+        .isLeft()
+        .left()
+        .isEqualTo(WriteFailure.FULL);
+    Assertions.assertThat(sequencer.tryRead().entries()).containsExactlyElementsOf(entries);
+  }
+
+  @Test
+  void keepsPositionsWithMultipleWritersAndSmallCapacity() throws InterruptedException {
+    // given
+    final var writers = 3;
+
+    final var initialPosition = 1L;
+    final var batchesToWrite = 1_000L;
+    final var batchesToRead = writers * batchesToWrite;
+    final var sequencer =
+        new Sequencer(initialPosition, 16 * 1024 * 1024, 8, new SequencerMetrics(1));
+    final var reader = newReaderThread(sequencer, initialPosition, batchesToRead);
+    final var batch = List.of(TestEntry.ofKey(1), TestEntry.ofKey(1), TestEntry.ofKey(1));
+    final var writerThreads =
+        IntStream.range(0, writers)
+            .mapToObj(
+                i -> newWriterThread(sequencer, initialPosition, batchesToWrite, batch, false))
+            .toList();
+
+    // when
+    reader.start();
+    writerThreads.forEach(Thread::start);
+
+    // then -- readers and writers don't throw and eventually finish
+    reader.join(10 * 1000);
+    writerThreads.forEach(
+        thread -> {
+          try {
+            thread.join(10 * 1000);
+          } catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        });
+    Assertions.assertThat(reader.isAlive()).isFalse();
+  }
+
   @Test
   void keepsPositionsWithSingleWriter() throws InterruptedException {
     // given
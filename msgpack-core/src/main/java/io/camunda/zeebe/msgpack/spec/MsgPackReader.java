@@ -458,6 +458,14 @@ public final class MsgPackReader {
 
       count--;
     }
+
+    if (offset > buffer.capacity()) {
+      // the lengths are read from the buffer, so a truncated value is not noticed while skipping
+      throw new MsgpackReaderException(
+          String.format(
+              "Expected to skip values within the buffer of length %d, but skipped to offset %d",
+              buffer.capacity(), offset));
+    }
   }
 
   public void skipBytes(final int stringLength) {
@@ -26,10 +26,29 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
 
   @Override
   public void wrap(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, false);
+  }
+
+  /**
+   * Wraps the given buffer like {@link #wrap(DirectBuffer, int, int)}, but decodes the properties
+   * only when they are accessed. The buffer must not be modified while this object is used.
+   *
+   * @see ObjectValue#readLazily(MsgPackReader)
+   */
+  public void wrapLazily(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, true);
+  }
+
+  private void wrap(
+      final DirectBuffer buff, final int offset, final int length, final boolean lazily) {
     reset();
     reader.wrap(buff, offset, length);
     try {
-      read(reader);
+      if (lazily) {
+        readLazily(reader);
+      } else {
+        read(reader);
+      }
     } catch (final Exception e) {
       throw new RuntimeException(
           "Could not deserialize object ["
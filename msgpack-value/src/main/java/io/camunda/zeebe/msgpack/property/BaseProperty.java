@@ -14,6 +14,8 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +23,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the encoded value if the property was read lazily and its value wasn't decoded yet
+  private final DirectBuffer encodedValue = new UnsafeBuffer(0, 0);
+  private boolean isEncoded;
+  private MsgPackReader encodedValueReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,11 +47,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    isEncoded = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    isEncoded = false;
     value.reset();
   }
 
@@ -58,7 +67,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   protected T resolveValue() {
     if (isSet) {
-      return value;
+      return decodedValue();
     } else if (defaultValue != null) {
       return defaultValue;
     } else {
@@ -67,7 +76,35 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     }
   }
 
+  /**
+   * @return the value of this property, which is decoded first if the property was read lazily
+   */
+  protected T decodedValue() {
+    if (isEncoded) {
+      if (encodedValueReader == null) {
+        encodedValueReader = new MsgPackReader();
+      }
+
+      encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+      try {
+        value.read(encodedValueReader);
+      } catch (final Exception e) {
+        // keep the value encoded, such that every access fails instead of returning the value
+        // decoded so far
+        value.reset();
+        throw new MsgpackPropertyException(key, e);
+      }
+      isEncoded = false;
+    }
+
+    return value;
+  }
+
   public int getEncodedLength() {
+    if (isEncoded) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +113,26 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Reads the property without decoding its value, which is decoded when the property is accessed
+   * for the first time. The buffer the reader wraps must not be modified until then.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    set();
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    isEncoded = true;
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (isEncoded) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,7 +159,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
-    return Objects.hash(getKey(), value, defaultValue, isSet);
+    return Objects.hash(getKey(), decodedValue(), defaultValue, isSet);
   }
 
   @Override
@@ -126,7 +182,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
-    builder.append(value.toString());
+    builder.append(decodedValue().toString());
     return builder.toString();
   }
 }
@@ -21,9 +21,11 @@ public class ObjectValue extends BaseValue {
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>();
 
   private final StringValue decodedKey = new StringValue();
+  private PropertyIndex propertyIndex;
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyIndex = null;
     return this;
   }
 
@@ -85,29 +87,45 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
-    final int mapSize = reader.readMapHeader();
+    read(reader, false);
+  }
 
-    for (int i = 0; i < mapSize; ++i) {
-      decodedKey.read(reader);
+  /**
+   * Reads the object like {@link #read(MsgPackReader)}, but only records where the values of the
+   * declared properties are encoded, instead of decoding them. A value is decoded when its property
+   * is accessed for the first time, and a property which isn't modified is written by copying its
+   * encoded value. This is useful if only a few properties of an object are accessed after reading
+   * it.
+   *
+   * <p>As the values are decoded on access, the buffer the reader wraps must not be modified while
+   * the object is used, and a value which can't be decoded is only detected on access. Reading
+   * lazily is therefore meant for objects which were written by us before, e.g. records read from
+   * the log.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader, true);
+  }
 
-      BaseProperty<? extends BaseValue> prop = null;
+  private void read(final MsgPackReader reader, final boolean lazily) {
+    if (propertyIndex == null) {
+      propertyIndex = PropertyIndex.of(getClass(), declaredProperties);
+    }
 
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
+    final int mapSize = reader.readMapHeader();
 
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
+    for (int i = 0; i < mapSize; ++i) {
+      decodedKey.read(reader);
 
-      if (prop == null) {
-        prop = newUndeclaredProperty(decodedKey);
-      }
+      final int position = propertyIndex.find(decodedKey.getValue(), 0, decodedKey.getLength());
+      final BaseProperty<? extends BaseValue> prop =
+          position >= 0 ? declaredProperties.get(position) : newUndeclaredProperty(decodedKey);
 
       try {
-        prop.read(reader);
+        if (lazily && position >= 0) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
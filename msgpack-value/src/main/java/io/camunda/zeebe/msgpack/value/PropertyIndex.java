@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Looks up the position of a declared property by its encoded key, using an open addressing hash
+ * table over the property keys. Reading an object looks up every key it decodes, which is why the
+ * lookup avoids comparing the key with every declared property.
+ *
+ * <p>The index only depends on the keys of the declared properties and their order, which are the
+ * same for all instances of a class in practice. An index is therefore shared by all instances of a
+ * class which declare the same keys, see {@link #of(Class, List)}.
+ */
+final class PropertyIndex {
+
+  private static final Map<Class<?>, PropertyIndex> INDEXES = new ConcurrentHashMap<>();
+
+  private final DirectBuffer[] keys;
+  // the position of the property plus one per slot, where 0 marks an empty slot
+  private final int[] slots;
+  private final int mask;
+
+  private PropertyIndex(final List<? extends BaseProperty<?>> properties) {
+    keys = new DirectBuffer[properties.size()];
+    slots = new int[BitUtil.findNextPositivePowerOfTwo(Math.max(2, properties.size() * 2))];
+    mask = slots.length - 1;
+
+    for (int position = 0; position < keys.length; position++) {
+      final var key = properties.get(position).getKey();
+      final var bytes = new byte[key.getLength()];
+      key.getValue().getBytes(0, bytes);
+      keys[position] = new UnsafeBuffer(bytes);
+
+      int slot = hash(keys[position], 0, bytes.length) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = position + 1;
+    }
+  }
+
+  /**
+   * Returns the index of the given properties. The index of the first instance of a class is reused
+   * by every other instance of it, as long as it declares the same keys in the same order.
+   *
+   * @param type the class of the object which declares the properties
+   * @param properties the declared properties of the object
+   * @return an index of the keys of the given properties
+   */
+  static PropertyIndex of(final Class<?> type, final List<? extends BaseProperty<?>> properties) {
+    final var sharedIndex = INDEXES.get(type);
+    if (sharedIndex != null && sharedIndex.matches(properties)) {
+      return sharedIndex;
+    }
+
+    final var index = new PropertyIndex(properties);
+    INDEXES.putIfAbsent(type, index);
+    return index;
+  }
+
+  /**
+   * @param buffer the buffer containing the key
+   * @param offset the offset of the key in the buffer
+   * @param length the length of the key
+   * @return the position of the property with the given key, or -1 if no property has the key
+   */
+  int find(final DirectBuffer buffer, final int offset, final int length) {
+    int slot = hash(buffer, offset, length) & mask;
+    int position;
+    while ((position = slots[slot]) != 0) {
+      final var key = keys[position - 1];
+      if (equals(key, buffer, offset, length)) {
+        return position - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return -1;
+  }
+
+  private boolean matches(final List<? extends BaseProperty<?>> properties) {
+    if (properties.size() != keys.length) {
+      return false;
+    }
+
+    for (int position = 0; position < keys.length; position++) {
+      final var key = properties.get(position).getKey();
+      if (!key.getValue().equals(keys[position])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean equals(
+      final DirectBuffer key, final DirectBuffer buffer, final int offset, final int length) {
+    if (key.capacity() != length) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (key.getByte(i) != buffer.getByte(offset + i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int hash(final DirectBuffer buffer, final int offset, final int length) {
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + buffer.getByte(offset + i);
+    }
+
+    // spread the higher bits, as the mask only keeps the lower ones
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ObjectMappingLazyReadTest {
+
+  private static final DirectBuffer NESTED =
+      encodeMsgPack(
+          w -> {
+            w.writeMapHeader(1);
+            w.writeString(wrapString("foo"));
+            w.writeInteger(24L);
+          });
+
+  private static final DirectBuffer ENCODED =
+      encodeMsgPack(
+          w -> {
+            w.writeMapHeader(8);
+
+            w.writeString(wrapString("enumProp"));
+            w.writeString(wrapString(POJOEnum.BAR.toString()));
+
+            w.writeString(wrapString("binaryProp"));
+            w.writeBinary(wrapString("foo"));
+
+            w.writeString(wrapString("stringProp"));
+            w.writeString(wrapString("bar"));
+
+            w.writeString(wrapString("packedProp"));
+            w.writeRaw(NESTED);
+
+            w.writeString(wrapString("longProp"));
+            w.writeInteger(88888L);
+
+            w.writeString(wrapString("intProp"));
+            w.writeInteger(123L);
+
+            w.writeString(wrapString("objectProp"));
+            w.writeRaw(NESTED);
+
+            w.writeString(wrapString("undeclaredProp"));
+            w.writeInteger(7L);
+          });
+
+  @Test
+  void shouldReadSameValuesAsEagerRead() {
+    // given
+    final POJO pojo = new POJO();
+
+    // when
+    pojo.wrapLazily(ENCODED, 0, ENCODED.capacity());
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getPacked()).hasBytes(NESTED);
+    assertThatBuffer(pojo.getBinary()).hasBytes(wrapString("foo"));
+    assertThatBuffer(pojo.getString()).hasBytes(wrapString("bar"));
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  void shouldWriteUnmodifiedObjectLikeEagerRead() {
+    // given
+    final POJO eagerPojo = new POJO();
+    eagerPojo.wrap(ENCODED);
+    final var expected = new UnsafeBuffer(new byte[eagerPojo.getLength()]);
+    eagerPojo.write(expected, 0);
+
+    final POJO pojo = new POJO();
+    pojo.wrapLazily(ENCODED, 0, ENCODED.capacity());
+
+    // when
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    assertThat(pojo.getLength()).isEqualTo(eagerPojo.getLength());
+    assertThatBuffer(written).hasBytes(expected);
+  }
+
+  @Test
+  void shouldWriteModifiedProperties() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.wrapLazily(ENCODED, 0, ENCODED.capacity());
+
+    // when
+    pojo.setLong(1L);
+    pojo.setString(wrapString("baz"));
+    pojo.nestedObject().setLong(42L);
+
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    final POJO readPojo = new POJO();
+    readPojo.wrap(written);
+
+    assertThat(readPojo.getLong()).isEqualTo(1L);
+    assertThatBuffer(readPojo.getString()).hasBytes(wrapString("baz"));
+    assertThat(readPojo.nestedObject().getLong()).isEqualTo(42L);
+    assertThat(readPojo.getInt()).isEqualTo(123);
+    assertThat(readPojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+  }
+
+  @Test
+  void shouldFailOnAccessOfInvalidValue() {
+    // given
+    final DirectBuffer encoded =
+        encodeMsgPack(
+            w -> {
+              w.writeMapHeader(6);
+
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.BAR.toString()));
+
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(wrapString("foo"));
+
+              w.writeString(wrapString("stringProp"));
+              w.writeString(wrapString("bar"));
+
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(NESTED);
+
+              w.writeString(wrapString("longProp"));
+              w.writeString(wrapString("not a long"));
+
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+            });
+
+    final POJO pojo = new POJO();
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // when - then
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatThrownBy(pojo::getLong)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("longProp");
+  }
+
+  @Test
+  void shouldFailOnEveryAccessOfInvalidValue() {
+    // given
+    final var encoded = encodeWithLastProperty("longProp", w -> w.writeString(wrapString("1")));
+    final POJO pojo = new POJO();
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // when
+    assertThatThrownBy(pojo::getLong).isInstanceOf(MsgpackPropertyException.class);
+
+    // then - the value decoded so far isn't returned on the next access
+    assertThatThrownBy(pojo::getLong)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("longProp");
+  }
+
+  @Test
+  void shouldFailOnAccessOfOversizedIntegerValue() {
+    // given
+    final var encoded =
+        encodeWithLastProperty("intProp", w -> w.writeInteger(Integer.MAX_VALUE + 1L));
+    final POJO pojo = new POJO();
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // when - then
+    assertThatThrownBy(pojo::getInt)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("intProp");
+  }
+
+  @Test
+  void shouldNotWrapTruncatedValue() {
+    // given - the string value lacks its last byte
+    final var encoded = encodeWithLastProperty("stringProp", w -> w.writeString(wrapString("bar")));
+    final POJO pojo = new POJO();
+
+    // when - then
+    assertThatThrownBy(() -> pojo.wrapLazily(encoded, 0, encoded.capacity() - 1))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("Could not deserialize object");
+  }
+
+  @Test
+  void shouldNotWrapNonMap() {
+    // given
+    final DirectBuffer encoded = encodeMsgPack(w -> w.writeString(wrapString("stringProp")));
+    final POJO pojo = new POJO();
+
+    // when - then
+    assertThatThrownBy(() -> pojo.wrapLazily(encoded, 0, encoded.capacity()))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("Could not deserialize object");
+  }
+
+  @Test
+  void shouldNotWrapObjectWithMissingRequiredValues() {
+    // given
+    final DirectBuffer encoded = encodeMsgPack(w -> w.writeMapHeader(0));
+    final POJO pojo = new POJO();
+
+    // when - then
+    assertThatThrownBy(() -> pojo.wrapLazily(encoded, 0, encoded.capacity()))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("Could not deserialize object")
+        .hasRootCauseMessage("Property 'enumProp' has no valid value");
+  }
+
+  @Test
+  void shouldCopyInvalidValueWhichIsNotAccessed() {
+    // given - an invalid value is only detected when it's decoded
+    final var encoded = encodeWithLastProperty("longProp", w -> w.writeString(wrapString("1")));
+    final POJO pojo = new POJO();
+    pojo.wrapLazily(encoded, 0, encoded.capacity());
+
+    // when
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    assertThatThrownBy(() -> new POJO().wrap(written))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("Could not deserialize object");
+  }
+
+  @Test
+  void shouldResetLazilyReadValues() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.wrapLazily(ENCODED, 0, ENCODED.capacity());
+
+    // when
+    pojo.reset();
+    pojo.setEnum(POJOEnum.FOO);
+    pojo.setLong(1L);
+    pojo.setInt(2);
+    pojo.setString(wrapString("baz"));
+    pojo.setPacked(NESTED);
+    pojo.setBinary(wrapString("foo"));
+
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    final POJO readPojo = new POJO();
+    readPojo.wrap(written);
+
+    assertThat(readPojo.getEnum()).isEqualByComparingTo(POJOEnum.FOO);
+    assertThat(readPojo.getLong()).isEqualTo(1L);
+    assertThat(readPojo.nestedObject().getLong()).isEqualTo(-1L);
+  }
+
+  /**
+   * Encodes the required properties of a {@link POJO} with valid values, except for the given
+   * property, which is written last with the given value.
+   */
+  private static DirectBuffer encodeWithLastProperty(
+      final String name, final Consumer<MsgPackWriter> value) {
+    return encodeMsgPack(
+        w -> {
+          w.writeMapHeader(6);
+          if (!name.equals("enumProp")) {
+            w.writeString(wrapString("enumProp"));
+            w.writeString(wrapString(POJOEnum.BAR.toString()));
+          }
+          if (!name.equals("binaryProp")) {
+            w.writeString(wrapString("binaryProp"));
+            w.writeBinary(wrapString("foo"));
+          }
+          if (!name.equals("stringProp")) {
+            w.writeString(wrapString("stringProp"));
+            w.writeString(wrapString("bar"));
+          }
+          if (!name.equals("packedProp")) {
+            w.writeString(wrapString("packedProp"));
+            w.writeRaw(NESTED);
+          }
+          if (!name.equals("longProp")) {
+            w.writeString(wrapString("longProp"));
+            w.writeInteger(88888L);
+          }
+          if (!name.equals("intProp")) {
+            w.writeString(wrapString("intProp"));
+            w.writeInteger(123L);
+          }
+
+          w.writeString(wrapString(name));
+          value.accept(w);
+        });
+  }
+}
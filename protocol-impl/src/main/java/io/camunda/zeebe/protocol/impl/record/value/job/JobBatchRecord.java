@@ -39,6 +39,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private final ArrayProperty<StringValue> variablesProp =
       new ArrayProperty<>("variables", new StringValue());
   private final BooleanProperty truncatedProp = new BooleanProperty("truncated", false);
+  // the number of jobs of the type which are left to activate on the partition, or -1 if unknown
+  private final LongProperty remainingJobsProp = new LongProperty("remainingJobs", -1);
 
   public JobBatchRecord() {
     declareProperty(typeProp)
@@ -48,7 +50,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .declareProperty(jobKeysProp)
         .declareProperty(jobsProp)
         .declareProperty(variablesProp)
-        .declareProperty(truncatedProp);
+        .declareProperty(truncatedProp)
+        .declareProperty(remainingJobsProp);
   }
 
   public JobBatchRecord setType(final DirectBuffer buf, final int offset, final int length) {
@@ -137,6 +140,20 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return this;
   }
 
+  /**
+   * @return the number of jobs of the type which were left to activate on the partition after the
+   *     batch was activated, or -1 if unknown
+   */
+  @JsonIgnore
+  public long getRemainingJobs() {
+    return remainingJobsProp.getValue();
+  }
+
+  public JobBatchRecord setRemainingJobs(final long remainingJobs) {
+    remainingJobsProp.setValue(remainingJobs);
+    return this;
+  }
+
   public JobBatchRecord setMaxJobsToActivate(final int maxJobsToActivate) {
     maxJobsToActivateProp.setValue(maxJobsToActivate);
     return this;
@@ -120,5 +120,14 @@ public enum ZbColumnFamilies {
 
   PROCESS_INSTANCE_KEY_BY_DEFINITION_KEY,
 
-  MIGRATIONS_STATE
+  MIGRATIONS_STATE,
+
+  // job type => number of activatable jobs
+  JOB_ACTIVATABLE_COUNT,
+
+  // process definition key => transformed executable process
+  PROCESS_CACHE_EXECUTABLE_PROCESS,
+
+  // deadline bucket => number of messages with a deadline in the bucket
+  MESSAGE_DEADLINE_BUCKETS
 }
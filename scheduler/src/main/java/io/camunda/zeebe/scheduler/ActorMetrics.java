@@ -47,10 +47,31 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter THREAD_BUSY_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_time")
+          .help("Time in seconds an actor thread spent executing tasks, i.e. its utilization")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter TASK_STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_steal_count")
+          .help("Number of actor tasks an actor thread stole from the queues of other threads")
+          .labelNames("thread")
+          .register();
+
   private final boolean enabled;
+  private final Counter.Child threadBusyTime;
+  private final Counter.Child taskStealCount;
 
-  public ActorMetrics(final boolean metricsEnabled) {
+  public ActorMetrics(final boolean metricsEnabled, final String threadName) {
     enabled = metricsEnabled;
+    threadBusyTime = enabled ? THREAD_BUSY_TIME.labels(threadName) : null;
+    taskStealCount = enabled ? TASK_STEAL_COUNT.labels(threadName) : null;
   }
 
   Histogram.Timer startExecutionTimer(final String name) {
@@ -72,6 +93,18 @@ final class ActorMetrics {
     }
   }
 
+  void countBusyTime(final long busyTimeNs) {
+    if (enabled) {
+      threadBusyTime.inc(Math.max(0, busyTimeNs) / 1_000_000_000d);
+    }
+  }
+
+  void countTaskSteal() {
+    if (enabled) {
+      taskStealCount.inc();
+    }
+  }
+
   public void observeJobSchedulingLatency(final long waitTimeNs, final String subscriptionType) {
     if (enabled) {
       SCHEDULING_LATENCY.labels(subscriptionType).observe(waitTimeNs / 1_000_000_000f);
@@ -111,6 +111,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorTimerQueue actorTimerQueue;
 
     private boolean enableMetrics = false;
+    private boolean enablePartitionAffinity = false;
 
     public String getSchedulerName() {
       return schedulerName;
@@ -188,6 +189,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isPartitionAffinityEnabled() {
+      return enablePartitionAffinity;
+    }
+
+    /**
+     * If enabled, the actors of a partition prefer the same CPU bound thread, and are only moved to
+     * other threads if that thread is busy for a while.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean enablePartitionAffinity) {
+      this.enablePartitionAffinity = enablePartitionAffinity;
+      return this;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -46,6 +46,7 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int homeThreadId = ActorThreadGroup.NO_HOME_THREAD;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -63,6 +64,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    homeThreadId = actorThreadGroup.getHomeThreadId(actor);
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -496,6 +498,10 @@ public class ActorTask {
     }
   }
 
+  int getHomeThreadId() {
+    return homeThreadId;
+  }
+
   public void resubmit() {
     actorThreadGroup.submit(this);
   }
@@ -25,10 +25,21 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
 
   /** appends a task at the end (tail) of the list */
   public void append(final ActorTask task) {
+    append(task, 0);
+  }
+
+  /**
+   * appends a task at the end (tail) of the list
+   *
+   * @param task the task to append
+   * @param queuedAt the time in nanoseconds at which the task was queued
+   */
+  public void append(final ActorTask task, final long queuedAt) {
     // TODO: make garbage free again
     final ActorTaskQueueNode tail = new ActorTaskQueueNode();
     tail.task = task;
     tail.stateCount = task.getStateCount();
+    tail.queuedAt = queuedAt;
     final ActorTaskQueueNode previousTail = swapTail(tail);
     previousTail.nextOrdered(tail);
     tail.prevOrdered(previousTail);
@@ -138,6 +149,7 @@ class ActorTaskQueueNode {
   volatile ActorTaskQueueNode prev;
 
   long stateCount;
+  long queuedAt;
   ActorTask task;
 
   void nextOrdered(final ActorTaskQueueNode t) {
@@ -65,7 +65,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
-    actorMetrics = new ActorMetrics(metricsEnabled);
+    actorMetrics = new ActorMetrics(metricsEnabled, name);
   }
 
   ActorMetrics getActorMetrics() {
@@ -83,10 +83,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
+      final var executionStartNs = clock.getNanoTime();
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
         executeCurrentTask();
       }
       if (actorMetrics.isEnabled()) {
+        // the clock is updated after each execution, so no additional call to read the time
+        actorMetrics.countBusyTime(clock.getNanoTime() - executionStartNs);
         actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
         actorMetrics.countExecution(actorName);
       }
@@ -11,28 +11,41 @@ import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
  * CPU bound).
+ *
+ * <p>With partition affinity, the tasks of actors which belong to a partition are always submitted
+ * to the home thread of the partition, and are only stolen by other threads if the home thread is
+ * busy for longer than {@link #AFFINITY_STEAL_THRESHOLD_NS}. This keeps the actors of a partition
+ * on the same thread, and so their data in the caches of the same core.
  */
 public abstract class ActorThreadGroup {
+  static final long AFFINITY_STEAL_THRESHOLD_NS = TimeUnit.MILLISECONDS.toNanos(1);
+  static final int NO_HOME_THREAD = -1;
+
   protected final String groupName;
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean partitionAffinity;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
-      final String schedulerName) {
+      final String schedulerName,
+      final boolean partitionAffinity) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    this.partitionAffinity = partitionAffinity;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks =
+        new WorkStealingGroup(numOfThreads, partitionAffinity ? AFFINITY_STEAL_THRESHOLD_NS : 0);
 
     threads = new ActorThread[numOfThreads];
 
@@ -56,7 +69,13 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int homeThreadId = actorTask.getHomeThreadId();
+    if (homeThreadId != NO_HOME_THREAD) {
+      tasks.submit(actorTask, homeThreadId);
+      if (current != threads[homeThreadId]) {
+        threads[homeThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -65,6 +84,31 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  /**
+   * Returns the home thread of the given actor: with partition affinity, all actors of the same
+   * partition share a home thread, and the partitions are spread evenly over the threads.
+   *
+   * @param actor the actor to get the home thread of
+   * @return the id of the home thread, or {@link #NO_HOME_THREAD} if the actor has none
+   */
+  int getHomeThreadId(final Actor actor) {
+    if (!partitionAffinity) {
+      return NO_HOME_THREAD;
+    }
+
+    final String partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return NO_HOME_THREAD;
+    }
+
+    try {
+      // partition ids start at 1
+      return Math.floorMod(Integer.parseInt(partitionId) - 1, numOfThreads);
+    } catch (final NumberFormatException e) {
+      return NO_HOME_THREAD;
+    }
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
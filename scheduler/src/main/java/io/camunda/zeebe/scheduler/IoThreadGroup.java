@@ -13,6 +13,10 @@ public final class IoThreadGroup extends ActorThreadGroup {
 
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
     super(
-        "zb-fs-workers", builder.getIoBoundActorThreadCount(), builder, builder.getSchedulerName());
+        "zb-fs-workers",
+        builder.getIoBoundActorThreadCount(),
+        builder,
+        builder.getSchedulerName(),
+        false);
   }
 }
@@ -11,13 +11,30 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>Optionally, tasks are only stolen from a thread if the oldest task in its queue waited for at
+ * least the given steal threshold, i.e. if the thread was busy for a while. This keeps tasks on the
+ * thread they were submitted to, unless the threads are imbalanced for longer than the threshold.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final long stealThresholdNs;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, 0);
+  }
+
+  /**
+   * @param numOfThreads the number of threads, each of which has its own queue
+   * @param stealThresholdNs the minimum time in nanoseconds a task must wait in a queue before
+   *     tasks may be stolen from that queue; with 0, tasks are stolen as soon as a thread is idle
+   */
+  public WorkStealingGroup(final int numOfThreads, final long stealThresholdNs) {
     this.numOfThreads = numOfThreads;
+    this.stealThresholdNs = stealThresholdNs;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -32,7 +49,7 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
-    taskQueues[threadId].append(task);
+    taskQueues[threadId].append(task, stealThresholdNs > 0 ? System.nanoTime() : 0);
   }
 
   /**
@@ -76,14 +93,16 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
     final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final long now = stealThresholdNs > 0 ? System.nanoTime() : 0;
 
     for (int i = offset; i < offset + numOfThreads; i++) {
       final int runnerId = i % numOfThreads;
 
-      if (runnerId != currentThread.getRunnerId()) {
+      if (runnerId != currentThread.getRunnerId() && isImbalanced(taskQueues[runnerId], now)) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          currentThread.getActorMetrics().countTaskSteal();
           return stolenActor;
         }
       }
@@ -91,4 +110,14 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     return null;
   }
+
+  private boolean isImbalanced(final ActorTaskQueue queue, final long now) {
+    if (stealThresholdNs <= 0) {
+      return true;
+    }
+
+    // the head is the oldest node, which is only removed once its owner polls the queue again
+    final ActorTaskQueueNode oldest = queue.peek();
+    return oldest != null && now - oldest.queuedAt >= stealThresholdNs;
+  }
 }
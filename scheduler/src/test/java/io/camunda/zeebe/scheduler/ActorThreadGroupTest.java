@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class ActorThreadGroupTest {
+
+  @Test
+  void shouldSpreadPartitionsOverThreads() {
+    // given
+    final var threadGroup = buildCpuThreadGroup(true);
+
+    // when - then
+    assertThat(threadGroup.getHomeThreadId(new PartitionActor(1))).isZero();
+    assertThat(threadGroup.getHomeThreadId(new PartitionActor(2))).isOne();
+    assertThat(threadGroup.getHomeThreadId(new PartitionActor(3))).isEqualTo(2);
+    assertThat(threadGroup.getHomeThreadId(new PartitionActor(4))).isZero();
+  }
+
+  @Test
+  void shouldNotAssignHomeThreadToActorWithoutPartition() {
+    // given
+    final var threadGroup = buildCpuThreadGroup(true);
+
+    // when - then
+    assertThat(threadGroup.getHomeThreadId(new Actor() {}))
+        .isEqualTo(ActorThreadGroup.NO_HOME_THREAD);
+  }
+
+  @Test
+  void shouldNotAssignHomeThreadWithoutPartitionAffinity() {
+    // given
+    final var threadGroup = buildCpuThreadGroup(false);
+
+    // when - then
+    assertThat(threadGroup.getHomeThreadId(new PartitionActor(1)))
+        .isEqualTo(ActorThreadGroup.NO_HOME_THREAD);
+  }
+
+  @Test
+  void shouldRunActorOnHomeThread() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(3)
+            .setIoBoundActorThreadCount(1)
+            .setPartitionAffinityEnabled(true)
+            .build();
+    scheduler.start();
+    final var actor = new PartitionActor(2);
+
+    try {
+      // when
+      scheduler.submitActor(actor).join();
+      final var runnerId = new CompletableFuture<Integer>();
+      actor.run(() -> runnerId.complete(ActorThread.current().getRunnerId()));
+
+      // then
+      assertThat(runnerId.get(5, TimeUnit.SECONDS)).isOne();
+    } finally {
+      scheduler.stop().get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  private ActorThreadGroup buildCpuThreadGroup(final boolean partitionAffinity) {
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(3)
+            .setPartitionAffinityEnabled(partitionAffinity);
+    // the thread group is created, but its threads are never started
+    builder.build();
+    return builder.getCpuBoundActorThreads();
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final int partitionId;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, String.valueOf(partitionId));
+      return context;
+    }
+
+    private void run(final Runnable action) {
+      actor.run(action);
+    }
+  }
+}
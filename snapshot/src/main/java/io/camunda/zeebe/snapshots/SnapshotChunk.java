@@ -16,7 +16,8 @@ public interface SnapshotChunk {
   String getSnapshotId();
 
   /**
-   * @return the total count of snapshot chunks, which correspond to the same snapshot
+   * @return the total count of files, which correspond to the same snapshot; a file may be split
+   *     into multiple chunks, see {@link #getFileBlockPosition()}
    */
   int getTotalCount();
 
@@ -39,4 +40,20 @@ public interface SnapshotChunk {
    * @return the checksum of the entire snapshot
    */
   long getSnapshotChecksum();
+
+  /**
+   * @return the position of the content of this chunk in the file it belongs to; 0 if the chunk
+   *     contains the whole file
+   */
+  default long getFileBlockPosition() {
+    return 0;
+  }
+
+  /**
+   * @return the total size of the file this chunk belongs to, which is the length of the content if
+   *     the chunk contains the whole file
+   */
+  default long getTotalFileSize() {
+    return getContent().length;
+  }
 }
@@ -32,4 +32,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Sets the maximum size of the content of a chunk. Files which are bigger are split into multiple
+   * chunks, each of which contains a block of the file. Must be called before the first chunk is
+   * read; by default, each chunk contains a whole file.
+   *
+   * @param maximumChunkSize the maximum size of the chunk content in bytes
+   */
+  default void setMaximumChunkSize(final int maximumChunkSize) {}
 }
@@ -67,12 +67,28 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
-  private boolean containsChunk(final String chunkId) {
-    return Files.exists(directory.resolve(chunkId));
+  /**
+   * Returns true if the content of the given chunk was already written, e.g. because the chunk was
+   * sent again after a failed request. A file may be received in multiple chunks, each of which
+   * contains a block of the file, which is why only the range of the chunk is checked.
+   */
+  private boolean containsChunk(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
+    final var snapshotFile = directory.resolve(snapshotChunk.getChunkName());
+    if (!Files.exists(snapshotFile)) {
+      return false;
+    }
+
+    try {
+      return Files.size(snapshotFile)
+          >= snapshotChunk.getFileBlockPosition() + snapshotChunk.getContent().length;
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to determine size of snapshot file %s", snapshotFile), e);
+    }
   }
 
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
-    if (containsChunk(snapshotChunk.getChunkName())) {
+    if (containsChunk(snapshotChunk)) {
       return;
     }
 
@@ -106,24 +122,57 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
-      throw new SnapshotWriteException(
-          String.format(
-              "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
-    }
+    checkFileBlockIsValid(snapshotChunk, snapshotFile);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
+    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)
+        && isLastFileBlock(snapshotChunk)) {
       try {
-        collectMetadata(snapshotChunk.getContent());
+        collectMetadata(
+            snapshotChunk.getFileBlockPosition() == 0
+                ? snapshotChunk.getContent()
+                : Files.readAllBytes(snapshotFile));
       } catch (final IOException e) {
         throw new SnapshotWriteException("Cannot decode snapshot metadata");
       }
     }
   }
 
+  private boolean isLastFileBlock(final SnapshotChunk snapshotChunk) {
+    return snapshotChunk.getFileBlockPosition() + snapshotChunk.getContent().length
+        >= snapshotChunk.getTotalFileSize();
+  }
+
+  private void checkFileBlockIsValid(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final long fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    final long blockEnd = fileBlockPosition + snapshotChunk.getContent().length;
+    if (fileBlockPosition < 0 || blockEnd > snapshotChunk.getTotalFileSize()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected snapshot chunk %s to contain a block within the file size %d, but the block ranges from %d to %d",
+              snapshotChunk.getChunkName(),
+              snapshotChunk.getTotalFileSize(),
+              fileBlockPosition,
+              blockEnd));
+    }
+
+    try {
+      final long currentFileSize = Files.exists(snapshotFile) ? Files.size(snapshotFile) : 0;
+      if (fileBlockPosition > currentFileSize) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected snapshot chunk %s to continue at position %d, but its block starts at position %d",
+                snapshotChunk.getChunkName(), currentFileSize, fileBlockPosition));
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to determine size of snapshot file %s", snapshotFile), e);
+    }
+  }
+
   private void collectMetadata(final byte[] content) throws IOException {
     metadata = FileBasedSnapshotMetadata.decode(content);
   }
@@ -188,12 +237,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private void writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
     try (final var channel =
-        FileChannel.open(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        FileChannel.open(snapshotFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
       final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final long fileBlockPosition = snapshotChunk.getFileBlockPosition();
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.write(buffer.limit(newLimit));
+        channel.write(buffer.limit(newLimit), fileBlockPosition + buffer.position());
         buffer.limit(buffer.capacity());
       }
 
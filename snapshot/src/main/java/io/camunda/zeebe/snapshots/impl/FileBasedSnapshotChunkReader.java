@@ -28,9 +28,15 @@ import org.agrona.concurrent.UnsafeBuffer;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If a maximum chunk size is set, files which are bigger are split into multiple chunks, each of
+ * which contains a block of the file. The ID of the first chunk of a file is the file name, the IDs
+ * of the following chunks are the file name followed by the position of the block, e.g. {@code
+ * 000123.sst#4194304}.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  static final char CHUNK_ID_POSITION_SEPARATOR = '#';
 
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
@@ -41,6 +47,9 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final long snapshotChecksum;
   private final String snapshotID;
 
+  private int maximumChunkSize = Integer.MAX_VALUE;
+  private long fileBlockPosition;
+
   FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
     this.directory = directory;
     chunks = collectChunks(directory);
@@ -67,8 +76,15 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var chunkId = decodeChunkId(id).toString();
+    final var separatorIndex = chunkId.lastIndexOf(CHUNK_ID_POSITION_SEPARATOR);
+    if (separatorIndex < 0) {
+      chunksView = chunks.tailSet(chunkId, true);
+      fileBlockPosition = 0;
+    } else {
+      chunksView = chunks.tailSet(chunkId.substring(0, separatorIndex), true);
+      fileBlockPosition = Long.parseLong(chunkId.substring(separatorIndex + 1));
+    }
   }
 
   @Override
@@ -77,7 +93,17 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), fileBlockPosition);
+  }
+
+  @Override
+  public void setMaximumChunkSize(final int maximumChunkSize) {
+    if (maximumChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected maximum chunk size to be positive, but was " + maximumChunkSize);
+    }
+
+    this.maximumChunkSize = maximumChunkSize;
   }
 
   @Override
@@ -93,23 +119,37 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
+    final var chunkName = chunksView.first();
     final var path = directory.resolve(chunkName.toString());
 
+    final SnapshotChunk chunk;
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path, snapshotID, totalCount, snapshotChecksum);
+      chunk =
+          SnapshotChunkUtil.createSnapshotChunkFromFileBlock(
+              path, snapshotID, totalCount, snapshotChecksum, fileBlockPosition, maximumChunkSize);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    fileBlockPosition += chunk.getContent().length;
+    if (fileBlockPosition >= chunk.getTotalFileSize()) {
+      chunksView.pollFirst();
+      fileBlockPosition = 0;
+    }
+
+    return chunk;
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private ByteBuffer encodeChunkId(final CharSequence path, final long fileBlockPosition) {
+    final var chunkId =
+        fileBlockPosition == 0
+            ? path.toString()
+            : path.toString() + CHUNK_ID_POSITION_SEPARATOR + fileBlockPosition;
+    return ByteBuffer.wrap(chunkId.getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
   }
 
   private CharSequence decodeChunkId(final ByteBuffer id) {
@@ -8,9 +8,12 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.io.EOFException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -28,21 +31,52 @@ final class SnapshotChunkUtil {
     return new CRC32C();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
+  /**
+   * Creates a snapshot chunk from the block of the given file, which starts at the given position
+   * and is at most {@code maximumChunkSize} long. Only the block is read into memory, such that big
+   * files can be chunked without having to read them completely.
+   */
+  static SnapshotChunk createSnapshotChunkFromFileBlock(
       final Path chunkFile,
       final String snapshotId,
       final int totalCount,
-      final long snapshotChecksum)
+      final long snapshotChecksum,
+      final long fileBlockPosition,
+      final int maximumChunkSize)
       throws IOException {
-    final byte[] content = Files.readAllBytes(chunkFile);
-    final long checksum = createChecksum(content);
-    return new SnapshotChunkImpl(
-        snapshotId,
-        totalCount,
-        chunkFile.getFileName().toString(),
-        checksum,
-        content,
-        snapshotChecksum);
+    try (final var channel = FileChannel.open(chunkFile, StandardOpenOption.READ)) {
+      final long totalFileSize = channel.size();
+      final var blockLength = (int) Math.min(maximumChunkSize, totalFileSize - fileBlockPosition);
+      if (blockLength < 0) {
+        throw new IOException(
+            String.format(
+                "Expected to read block at position %d of file %s, but the file has only %d bytes",
+                fileBlockPosition, chunkFile, totalFileSize));
+      }
+
+      final byte[] content = new byte[blockLength];
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
+      while (buffer.hasRemaining()) {
+        final int read = channel.read(buffer, fileBlockPosition + buffer.position());
+        if (read < 0) {
+          throw new EOFException(
+              String.format(
+                  "Expected to read %d bytes at position %d of file %s, but reached end of file",
+                  blockLength, fileBlockPosition, chunkFile));
+        }
+      }
+
+      final long checksum = createChecksum(content);
+      return new SnapshotChunkImpl(
+          snapshotId,
+          totalCount,
+          chunkFile.getFileName().toString(),
+          checksum,
+          content,
+          snapshotChecksum,
+          fileBlockPosition,
+          totalFileSize);
+    }
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +86,8 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +95,17 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final long fileBlockPosition,
+        final long totalFileSize) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
     }
 
     @Override
@@ -97,5 +137,15 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
   }
 }
@@ -325,6 +325,74 @@ public class FileBasedReceivedSnapshotTest {
             receivedSnapshot.getPath().resolve(firstChunk.getChunkName()));
   }
 
+  @Test
+  public void shouldReceiveSnapshotWithFilesSplitIntoMultipleChunks() {
+    // given
+    final var snapshotToSend = (FileBasedSnapshot) takePersistedSnapshot(1L);
+
+    // when
+    final var receivedSnapshot = receiveSnapshot(snapshotToSend, 4);
+    final var persistedSnapshot = (FileBasedSnapshot) receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getMetadata()).isEqualTo(snapshotToSend.getMetadata());
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(persistedSnapshot.getPath().resolve(fileName))
+          .hasContent(SNAPSHOT_FILE_CONTENTS.get(fileName));
+    }
+  }
+
+  @Test
+  public void shouldIgnoreAlreadyReceivedFileBlock() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        receivedSnapshot.apply(chunk).join();
+        // the same chunk is received again, e.g. because the response to it was lost
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+
+    // then
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(fileName))
+          .hasContent(SNAPSHOT_FILE_CONTENTS.get(fileName));
+    }
+  }
+
+  @Test
+  public void shouldNotWriteFileBlockOutOfOrder() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      final var firstBlock = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstBlock).join();
+      snapshotChunkReader.next();
+
+      // when
+      final var thirdBlock = snapshotChunkReader.next();
+      final var future = receivedSnapshot.apply(thirdBlock);
+
+      // then
+      assertThatThrownBy(future::get).hasCauseInstanceOf(SnapshotWriteException.class);
+      assertThat(receivedSnapshot.getPath().resolve(firstBlock.getChunkName()))
+          .hasBinaryContent(firstBlock.getContent());
+    }
+  }
+
   @Test
   public void shouldPersistsMetadata() {
     // given
@@ -344,10 +412,16 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
+    return receiveSnapshot(persistedSnapshot, Integer.MAX_VALUE);
+  }
+
+  private ReceivedSnapshot receiveSnapshot(
+      final PersistedSnapshot persistedSnapshot, final int maximumChunkSize) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
 
     try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(maximumChunkSize);
       while (snapshotChunkReader.hasNext()) {
         receivedSnapshot.apply(snapshotChunkReader.next()).join();
       }
@@ -133,6 +133,69 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file2", "file3");
   }
 
+  @Test
+  public void shouldSplitFilesIntoChunksOfMaximumSize() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    final var snapshotChunkIds = new ArrayList<ByteBuffer>();
+
+    // when
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.nextId());
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds)
+        .containsExactly(
+            asByteBuffer("file1"),
+            asByteBuffer("file1#3"),
+            asByteBuffer("file2"),
+            asByteBuffer("file3"),
+            asByteBuffer("file3#3"),
+            asByteBuffer("file3#6"));
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file1", "file2", "file3", "file3", "file3");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getContent)
+        .extracting(String::new)
+        .containsExactly("thi", "s", "is", "con", "ten", "t");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getFileBlockPosition)
+        .containsExactly(0L, 3L, 0L, 0L, 3L, 6L);
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalFileSize)
+        .containsExactly(4L, 4L, 2L, 7L, 7L, 7L);
+    assertThat(snapshotChunks)
+        .allSatisfy(
+            chunk ->
+                assertThat(chunk.getChecksum())
+                    .isEqualTo(SnapshotChunkUtil.createChecksum(chunk.getContent())));
+  }
+
+  @Test
+  public void shouldSeekToFileBlock() throws IOException {
+    // when
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      snapshotChunkReader.seek(asByteBuffer("file3#3"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getContent)
+        .extracting(String::new)
+        .containsExactly("ten", "t");
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
@@ -105,4 +105,19 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after it rolled back the changes of the current transaction, e.g. before it
+   * calls {@link #onProcessingError(Throwable, TypedRecord, ProcessingResultBuilder)}, or before it
+   * retries to process or replay records.
+   *
+   * <p><em>Contract</em>
+   *
+   * <ul>
+   *   <li>Implementors which cache the state across records must discard the cached changes, as
+   *       they may have been rolled back
+   *   <li>Implementors must not write to the database or to the log stream
+   * </ul>
+   */
+  default void onRollback() {}
 }
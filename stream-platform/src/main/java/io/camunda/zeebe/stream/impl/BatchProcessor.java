@@ -0,0 +1,336 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.EmptyProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResponse;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.records.RecordBatchSizePredicate;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Processes a command and the follow-up commands it creates as one batch, until the command limit
+ * is reached or no more follow-up commands are created.
+ *
+ * <p>The batch processing runs for every command, which is why it reuses its buffers instead of
+ * allocating them per command: the follow-up commands and the records to write are kept in buffers
+ * which are sized for {@code maxCommandsInBatch} upfront, and the processing results are pooled via
+ * {@link #acquireResult()} and {@link #releaseResult(BatchResult)}. The processor of a command is
+ * looked up in a table indexed by its value type, which is filled on the first lookup of a value
+ * type.
+ */
+final class BatchProcessor {
+
+  private static final ValueType[] VALUE_TYPES = ValueType.values();
+
+  private final int partitionId;
+  private final int maxCommandsInBatch;
+  private final List<RecordProcessor> recordProcessors;
+  private final RecordProcessor[] processorsByValueType = new RecordProcessor[VALUE_TYPES.length];
+  private final boolean[] resolvedValueTypes = new boolean[VALUE_TYPES.length];
+  private final RecordBatchSizePredicate batchSizePredicate;
+  private final StreamProcessorMetrics metrics;
+
+  private final ArrayDeque<BatchResult> freeResults = new ArrayDeque<>();
+  private final ArrayDeque<TypedRecord<?>> pendingCommands;
+  private final List<LogAppendEntry> pendingWrites;
+  private final List<UnwrittenRecord> followUpCommands;
+  private final List<ProcessedEntry> processedEntries;
+  private int usedFollowUpCommands;
+
+  private RecordProcessor currentProcessor;
+  private int processedCommandsCount;
+
+  BatchProcessor(
+      final int partitionId,
+      final int maxCommandsInBatch,
+      final List<RecordProcessor> recordProcessors,
+      final RecordBatchSizePredicate batchSizePredicate,
+      final StreamProcessorMetrics metrics) {
+    this.partitionId = partitionId;
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    this.recordProcessors = recordProcessors;
+    this.batchSizePredicate = batchSizePredicate;
+    this.metrics = metrics;
+
+    pendingCommands = new ArrayDeque<>(maxCommandsInBatch);
+    pendingWrites = new ArrayList<>(maxCommandsInBatch);
+    followUpCommands = new ArrayList<>(maxCommandsInBatch);
+    processedEntries = new ArrayList<>(maxCommandsInBatch);
+  }
+
+  /**
+   * Processes the given command and its follow-up commands, collecting the processing result and
+   * the responses in the given batch result.
+   *
+   * <p>It might be that we reached the batch size limit during processing a command. The
+   * transaction and the processing result are then rolled back, and the processing is retried. We
+   * know that we can process until the last processed commands count, which is why it is used as
+   * the processing batch limit on the retry, in order to handle the commands afterwards as own
+   * batch.
+   *
+   * @param initialCommand the command which starts the batch
+   * @param result the result of the batch, which is reset before processing
+   */
+  void process(final TypedRecord<?> initialCommand, final BatchResult result) {
+    final var currentProcessingBatchLimit =
+        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+    processedCommandsCount = 0;
+    usedFollowUpCommands = 0;
+    pendingCommands.clear();
+    pendingWrites.clear();
+    result.reset();
+
+    final var resultBuilder = result.getResultBuilder();
+    var lastProcessingResultSize = 0;
+    pendingCommands.addLast(initialCommand);
+
+    while (!pendingCommands.isEmpty() && processedCommandsCount < currentProcessingBatchLimit) {
+      final var command = pendingCommands.removeFirst();
+
+      currentProcessor = getProcessor(command.getValueType());
+      if (currentProcessor != null) {
+        final var processingResult = currentProcessor.process(command, resultBuilder);
+        result.setProcessingResult(processingResult);
+
+        collectBatchProcessingStep(
+            processingResult,
+            lastProcessingResultSize,
+            // +1 since we already need include the current command in the calculation
+            pendingCommands.size() + processedCommandsCount + 1,
+            currentProcessingBatchLimit);
+        final var response = processingResult.getProcessingResponse();
+        if (response.isPresent()) {
+          result.addResponse(response.get());
+        }
+      }
+
+      lastProcessingResultSize = result.getProcessingResult().getRecordBatch().entries().size();
+      processedCommandsCount++;
+      metrics.commandsProcessed();
+    }
+  }
+
+  /**
+   * Collects from the given processing result the commands which should be processed further, and
+   * the records which should be written to the log.
+   *
+   * @param processingResult the processing result of the last processed command
+   * @param lastProcessingResultSize the size of the processing result before processing the last
+   *     command
+   * @param currentBatchSize the current batch size (only commands counted), includes already
+   *     processed and pending commands
+   */
+  private void collectBatchProcessingStep(
+      final ProcessingResult processingResult,
+      final int lastProcessingResultSize,
+      final int currentBatchSize,
+      final int currentProcessingBatchLimit) {
+    final var entries = processingResult.getRecordBatch().entries();
+    var commandsToProcess = 0;
+
+    // skip the entries of the previous commands, because the result builder is reused
+    for (int i = lastProcessingResultSize; i < entries.size(); i++) {
+      final var entry = entries.get(i);
+      final int potentialBatchSize = currentBatchSize + commandsToProcess;
+      if (entry.recordMetadata().getRecordType() == RecordType.COMMAND
+          && potentialBatchSize < currentProcessingBatchLimit) {
+        final var index = usedFollowUpCommands++;
+        pendingCommands.addLast(followUpCommand(index, entry));
+        pendingWrites.add(processedEntries.get(index).wrap(entry));
+        commandsToProcess++;
+      } else {
+        pendingWrites.add(entry);
+      }
+    }
+  }
+
+  private UnwrittenRecord followUpCommand(final int index, final LogAppendEntry entry) {
+    if (index == followUpCommands.size()) {
+      followUpCommands.add(new UnwrittenRecord());
+      processedEntries.add(new ProcessedEntry());
+    }
+
+    return followUpCommands
+        .get(index)
+        .wrap(entry.key(), partitionId, entry.recordValue(), entry.recordMetadata());
+  }
+
+  private RecordProcessor getProcessor(final ValueType valueType) {
+    final var index = valueType.ordinal();
+    if (!resolvedValueTypes[index]) {
+      processorsByValueType[index] =
+          recordProcessors.stream().filter(p -> p.accepts(valueType)).findFirst().orElse(null);
+      resolvedValueTypes[index] = true;
+    }
+
+    return processorsByValueType[index];
+  }
+
+  /**
+   * @return the records to write, which were collected by the last call of {@link
+   *     #process(TypedRecord, BatchResult)}; the list is reused by the next call
+   */
+  List<LogAppendEntry> getPendingWrites() {
+    return pendingWrites;
+  }
+
+  /**
+   * Copies the given entries to write, such that they can be handed to the log stream writer. The
+   * writer keeps a reference to the entries until they are serialized, which happens
+   * asynchronously, while the list of pending writes and the processed entries are reused by the
+   * next batch.
+   *
+   * @param entries the entries to write, collected by this processor or by a result builder
+   * @return a copy of the entries which isn't modified by the next batch
+   */
+  static List<LogAppendEntry> copyForWrite(final List<LogAppendEntry> entries) {
+    final List<LogAppendEntry> copy = new ArrayList<>(entries.size());
+    for (final var entry : entries) {
+      if (entry instanceof final ProcessedEntry processedEntry) {
+        copy.add(LogAppendEntry.ofProcessed(processedEntry.entry));
+      } else {
+        copy.add(entry);
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * @return the processor of the last processed command, or null if no processor accepts it
+   */
+  RecordProcessor getCurrentProcessor() {
+    return currentProcessor;
+  }
+
+  /**
+   * @return the number of commands processed so far by the current batch
+   */
+  int getProcessedCommandsCount() {
+    return processedCommandsCount;
+  }
+
+  /** Resets the processed commands count, after the processing of the batch is done. */
+  void resetProcessedCommandsCount() {
+    processedCommandsCount = 0;
+  }
+
+  /**
+   * @return a result which can be used for the next batch; it must be released via {@link
+   *     #releaseResult(BatchResult)} after the side effects of the batch were executed
+   */
+  BatchResult acquireResult() {
+    final var result = freeResults.pollFirst();
+    return result != null ? result : new BatchResult(batchSizePredicate);
+  }
+
+  void releaseResult(final BatchResult result) {
+    freeResults.addFirst(result);
+  }
+
+  /**
+   * The result of processing a batch of commands, which is kept until the side effects of the
+   * batch, i.e. the responses and the post commit tasks, are executed.
+   */
+  static final class BatchResult {
+
+    private final BufferedProcessingResultBuilder resultBuilder;
+    private final List<ProcessingResponse> responses = new ArrayList<>(2);
+    private ProcessingResult processingResult = EmptyProcessingResult.INSTANCE;
+
+    private BatchResult(final RecordBatchSizePredicate batchSizePredicate) {
+      resultBuilder = new BufferedProcessingResultBuilder(batchSizePredicate);
+    }
+
+    BufferedProcessingResultBuilder getResultBuilder() {
+      return resultBuilder;
+    }
+
+    ProcessingResult getProcessingResult() {
+      return processingResult;
+    }
+
+    void setProcessingResult(final ProcessingResult processingResult) {
+      this.processingResult = processingResult;
+    }
+
+    List<ProcessingResponse> getResponses() {
+      return responses;
+    }
+
+    /**
+     * Adds the given response, unless it was already added. The result builder is shared by the
+     * commands of the batch, so the same response is returned for all commands after the one which
+     * set it.
+     */
+    void addResponse(final ProcessingResponse response) {
+      for (final var added : responses) {
+        if (added == response) {
+          return;
+        }
+      }
+      responses.add(response);
+    }
+
+    void reset() {
+      resultBuilder.reset();
+      responses.clear();
+      processingResult = EmptyProcessingResult.INSTANCE;
+    }
+  }
+
+  /**
+   * A reusable replacement of {@link LogAppendEntry#ofProcessed(LogAppendEntry)}, which marks a
+   * follow-up command as processed, as it is processed within the batch.
+   */
+  private static final class ProcessedEntry implements LogAppendEntry {
+
+    private LogAppendEntry entry;
+
+    private ProcessedEntry wrap(final LogAppendEntry entry) {
+      this.entry = entry;
+      return this;
+    }
+
+    @Override
+    public long key() {
+      return entry.key();
+    }
+
+    @Override
+    public int sourceIndex() {
+      return entry.sourceIndex();
+    }
+
+    @Override
+    public RecordMetadata recordMetadata() {
+      return entry.recordMetadata();
+    }
+
+    @Override
+    public UnifiedRecordValue recordValue() {
+      return entry.recordValue();
+    }
+
+    @Override
+    public boolean isProcessed() {
+      return true;
+    }
+  }
+}
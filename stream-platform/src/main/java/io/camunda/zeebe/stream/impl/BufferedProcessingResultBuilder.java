@@ -29,18 +29,20 @@ import java.util.List;
 
 /**
  * Implementation of {@code ProcessingResultBuilder} that buffers the processing results. After
- * being done with processing the build can be turned into a immutable {@link ProcessingResult},
- * which allows to process the result further.
+ * being done with processing the build can be turned into a {@link ProcessingResult}, which allows
+ * to process the result further. The builder can be reused via {@link #reset()}, once its result
+ * isn't used anymore.
  */
 final class BufferedProcessingResultBuilder implements ProcessingResultBuilder {
 
   private final List<PostCommitTask> postCommitTasks = new ArrayList<>();
 
   private final RecordBatch mutableRecordBatch;
-  private ProcessingResponseImpl processingResponse;
+  private final BufferedResult result;
 
   BufferedProcessingResultBuilder(final RecordBatchSizePredicate predicate) {
     mutableRecordBatch = new RecordBatch(predicate);
+    result = new BufferedResult(mutableRecordBatch, postCommitTasks);
   }
 
   @Override
@@ -89,7 +91,7 @@ final class BufferedProcessingResultBuilder implements ProcessingResultBuilder {
             .rejectionReason(rejectionReason)
             .valueType(valueType);
     final var entry = RecordBatchEntry.createEntry(key, metadata, -1, value);
-    processingResponse = new ProcessingResponseImpl(entry, requestId, requestStreamId);
+    result.setProcessingResponse(new ProcessingResponseImpl(entry, requestId, requestStreamId));
     return this;
   }
 
@@ -107,7 +109,7 @@ final class BufferedProcessingResultBuilder implements ProcessingResultBuilder {
 
   @Override
   public ProcessingResult build() {
-    return new BufferedResult(mutableRecordBatch, processingResponse, postCommitTasks);
+    return result;
   }
 
   @Override
@@ -115,6 +117,13 @@ final class BufferedProcessingResultBuilder implements ProcessingResultBuilder {
     return mutableRecordBatch.canAppendRecordOfLength(eventLength);
   }
 
+  /** Removes the buffered records, response and post commit tasks, to reuse the builder. */
+  void reset() {
+    mutableRecordBatch.reset();
+    postCommitTasks.clear();
+    result.setProcessingResponse(null);
+  }
+
   record ProcessingResponseImpl(RecordBatchEntry responseValue, long requestId, int requestStreamId)
       implements ProcessingResponse {}
 }
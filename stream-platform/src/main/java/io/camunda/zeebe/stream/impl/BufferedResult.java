@@ -13,29 +13,33 @@ import io.camunda.zeebe.stream.api.ProcessingResult;
 import io.camunda.zeebe.stream.api.records.ImmutableRecordBatch;
 import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.impl.BufferedProcessingResultBuilder.ProcessingResponseImpl;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Implementation of {@link ProcessingResult} and {@link TaskResult} that buffers the processing and
  * taks results, which will then be written to logstream or send as response.
+ *
+ * <p>The result is a view on the buffers of the {@link BufferedProcessingResultBuilder} which
+ * created it, such that building a result doesn't allocate. It reflects the further changes of the
+ * builder, until the builder is reset to be reused.
  */
 final class BufferedResult implements ProcessingResult, TaskResult {
 
   private final List<PostCommitTask> postCommitTasks;
   private final ImmutableRecordBatch immutableRecordBatch;
-  private final ProcessingResponseImpl processingResponse;
+  private ProcessingResponseImpl processingResponse;
 
   BufferedResult(
-      final ImmutableRecordBatch immutableRecordBatch,
-      final ProcessingResponseImpl processingResponse,
-      final List<PostCommitTask> postCommitTasks) {
-    this.postCommitTasks = new ArrayList<>(postCommitTasks);
-    this.processingResponse = processingResponse;
+      final ImmutableRecordBatch immutableRecordBatch, final List<PostCommitTask> postCommitTasks) {
+    this.postCommitTasks = postCommitTasks;
     this.immutableRecordBatch = immutableRecordBatch;
   }
 
+  void setProcessingResponse(final ProcessingResponseImpl processingResponse) {
+    this.processingResponse = processingResponse;
+  }
+
   @Override
   public ImmutableRecordBatch getRecordBatch() {
     return immutableRecordBatch;
@@ -17,6 +17,7 @@ import io.camunda.zeebe.stream.api.scheduling.Task;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import java.time.Duration;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 
@@ -31,6 +32,7 @@ public class ProcessingScheduleServiceImpl
   private final Supplier<StreamProcessor.Phase> streamProcessorPhaseSupplier;
   private final BooleanSupplier abortCondition;
   private final Supplier<ActorFuture<LogStreamWriter>> writerAsyncSupplier;
+  private final Consumer<Runnable> taskRunner;
   private LogStreamWriter logStreamWriter;
   private ActorControl actorControl;
   private AbortableRetryStrategy writeRetryStrategy;
@@ -40,14 +42,27 @@ public class ProcessingScheduleServiceImpl
       final Supplier<Phase> streamProcessorPhaseSupplier,
       final BooleanSupplier abortCondition,
       final Supplier<ActorFuture<LogStreamWriter>> writerAsyncSupplier) {
+    this(streamProcessorPhaseSupplier, abortCondition, writerAsyncSupplier, Runnable::run);
+  }
+
+  /**
+   * @param taskRunner runs the due tasks; it may defer a task, e.g. until the state changes of the
+   *     commands which are processed on the same actor are committed
+   */
+  public ProcessingScheduleServiceImpl(
+      final Supplier<Phase> streamProcessorPhaseSupplier,
+      final BooleanSupplier abortCondition,
+      final Supplier<ActorFuture<LogStreamWriter>> writerAsyncSupplier,
+      final Consumer<Runnable> taskRunner) {
     this.streamProcessorPhaseSupplier = streamProcessorPhaseSupplier;
     this.abortCondition = abortCondition;
     this.writerAsyncSupplier = writerAsyncSupplier;
+    this.taskRunner = taskRunner;
   }
 
   @Override
   public void runDelayed(final Duration delay, final Runnable followUpTask) {
-    useActorControl(() -> actorControl.schedule(delay, followUpTask));
+    useActorControl(() -> actorControl.schedule(delay, () -> taskRunner.accept(followUpTask)));
   }
 
   @Override
@@ -128,7 +143,7 @@ public class ProcessingScheduleServiceImpl
         LOG.trace(
             "Not able to execute scheduled task right now. [streamProcessorPhase: {}]",
             currentStreamProcessorPhase);
-        actorControl.submit(toRunnable(task));
+        actorControl.submit(() -> taskRunner.accept(toRunnable(task)));
         return;
       }
       final var builder = new BufferedTaskResultBuilder(logStreamWriter::canWriteEvents);
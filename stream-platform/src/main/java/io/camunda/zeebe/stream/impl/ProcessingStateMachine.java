@@ -10,11 +10,13 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
@@ -28,28 +30,26 @@ import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.stream.api.MetadataFilter;
 import io.camunda.zeebe.stream.api.ProcessingResponse;
 import io.camunda.zeebe.stream.api.ProcessingResult;
-import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.BatchProcessor.BatchResult;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
 import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
-import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.prometheus.client.Histogram;
 import java.time.Duration;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -90,6 +90,24 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If group commit is enabled (i.e. {@code maxCommandsInGroupCommit > 1}), the {@code
+ * updateState()} step may be deferred: after the follow-up records of a command have been written,
+ * the transaction is kept open and the next command is processed within the same transaction. The
+ * transaction is committed once the configured number of commands, the number of written bytes or
+ * the maximum delay is reached, or when there is no further record to process right away. Responses
+ * and post commit tasks of the grouped commands are only executed after the commit.
+ *
+ * <p>Each grouped command is processed on top of its own save point, such that on a processing
+ * error only the changes of the failed command are rolled back, while the changes of the previous
+ * commands in the group (whose follow-up records are already written) are kept. If the commit of a
+ * group fails, the state can't be reconciled with the written records anymore, which is why the
+ * stream processor fails and the state is restored via replay.
+ *
+ * <p>While a group is open, no other job may use the transaction context: scheduled tasks, which
+ * run on the same actor, are deferred until the group is committed (see {@link
+ * #runOutsideOfGroup(Runnable)}), and a command which fails with a recoverable exception is rolled
+ * back to its save point and only retried after the group is committed.
  */
 public final class ProcessingStateMachine {
 
@@ -110,6 +128,12 @@ public final class ProcessingStateMachine {
       "Expected to invoke processed listener for record {} successfully, but exception was thrown.";
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RELEASE_SAVE_POINT_FAILED =
+      "Expected to release the save point of the grouped command at position %d, but exception was thrown.";
+  private static final String ERROR_MESSAGE_ROLLBACK_SAVE_POINT_FAILED =
+      "Expected to roll back to the save point of the grouped command at position %d, but exception was thrown.";
+  private static final String ERROR_MESSAGE_GROUP_COMMIT_FAILED =
+      "Expected to commit the state changes of %d grouped commands up to position %d, but exception was thrown.";
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
   private static final MetadataFilter PROCESSING_FILTER =
       recordMetadata -> recordMetadata.getRecordType() == RecordType.COMMAND;
@@ -147,24 +171,33 @@ public final class ProcessingStateMachine {
   private Histogram.Timer processingTimer;
   private boolean reachedEnd = true;
   private final StreamProcessorContext context;
+  private final BatchProcessor batchProcessor;
   private final List<RecordProcessor> recordProcessors;
+  private BatchResult currentBatchResult;
   private ProcessingResult currentProcessingResult;
   private List<LogAppendEntry> pendingWrites;
   private Collection<ProcessingResponse> pendingResponses;
 
-  private RecordProcessor currentProcessor;
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
   private final int maxCommandsInBatch;
-  private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
 
+  // group commit
+  private final int maxCommandsInGroupCommit;
+  private final long maxGroupCommitBytes;
+  private final long maxGroupCommitDelayMillis;
+  private final List<GroupedCommand> groupedCommands = new ArrayList<>();
+  private long groupedBytes;
+  private long groupCommitStartTime;
+  private long lastGroupedRecordPosition = StreamProcessor.UNSET_POSITION;
+  private final List<Runnable> tasksAwaitingGroupCommit = new ArrayList<>();
+
   public ProcessingStateMachine(
       final StreamProcessorContext context,
       final BooleanSupplier shouldProcessNext,
       final List<RecordProcessor> recordProcessors) {
     this.context = context;
-    this.recordProcessors = recordProcessors;
     actor = context.getActor();
     recordValues = context.getRecordValues();
     logStreamReader = context.getLogStreamReader();
@@ -173,17 +206,28 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxCommandsInGroupCommit = context.getMaxCommandsInGroupCommit();
+    maxGroupCommitBytes = context.getMaxGroupCommitBytes();
+    maxGroupCommitDelayMillis = context.getMaxGroupCommitDelay().toMillis();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
     updateStateRetryStrategy = new RecoverableRetryStrategy(actor);
     this.shouldProcessNext = shouldProcessNext;
+    this.recordProcessors = recordProcessors;
 
     final int partitionId = context.getLogStream().getPartitionId();
     typedCommand = new TypedRecordImpl(partitionId);
 
     metrics = new StreamProcessorMetrics(partitionId);
     streamProcessorListener = context.getStreamProcessorListener();
+    batchProcessor =
+        new BatchProcessor(
+            partitionId,
+            maxCommandsInBatch,
+            recordProcessors,
+            logStreamWriter::canWriteEvents,
+            metrics);
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
   }
@@ -221,6 +265,14 @@ public final class ProcessingStateMachine {
               && lastWrittenPosition <= previousRecord.getPosition();
     }
 
+    if (!groupedCommands.isEmpty()
+        && !inProcessing
+        && (!hasNext || !shouldProcessNext.getAsBoolean())) {
+      // nothing more to process right away, so there is no reason to hold back the commit
+      commitGroupedCommands();
+      return;
+    }
+
     if (shouldProcessNext.getAsBoolean() && hasNext && !inProcessing) {
       currentRecord = logStreamReader.next();
 
@@ -240,7 +292,7 @@ public final class ProcessingStateMachine {
    *     to being processed/applied, false otherwise
    */
   public boolean hasReachedEnd() {
-    return reachedEnd;
+    return reachedEnd && groupedCommands.isEmpty();
   }
 
   private void processCommand(final LoggedEvent loggedEvent) {
@@ -265,9 +317,10 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      setSavePointIfGrouped();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
-        processingMetrics.observeCommandCount(processedCommandsCount);
+        processingMetrics.observeCommandCount(batchProcessor.getProcessedCommandsCount());
       }
 
       finalizeCommandProcessing();
@@ -279,14 +332,21 @@ public final class ProcessingStateMachine {
           loggedEvent,
           metadata,
           recoverableException);
-      actor.schedule(PROCESSING_RETRY_DELAY, () -> processCommand(currentRecord));
+      if (groupedCommands.isEmpty()) {
+        actor.schedule(PROCESSING_RETRY_DELAY, () -> processCommand(currentRecord));
+      } else {
+        // don't keep the group open until the retry, but commit it without the failed command
+        rollbackToSavePoint();
+        commitGroupedCommands(
+            () -> actor.schedule(PROCESSING_RETRY_DELAY, () -> processCommand(currentRecord)));
+      }
     } catch (final UnrecoverableException unrecoverableException) {
       throw unrecoverableException;
     } catch (final ExceededBatchRecordSizeException exceededBatchRecordSizeException) {
-      if (processedCommandsCount > 0) {
+      if (batchProcessor.getProcessedCommandsCount() > 0) {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
-            processedCommandsCount,
+            batchProcessor.getProcessedCommandsCount(),
             maxCommandsInBatch,
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
@@ -315,7 +375,7 @@ public final class ProcessingStateMachine {
    */
   private void finalizeCommandProcessing() {
     lastProcessedPositionState.markAsProcessed(typedCommand.getPosition());
-    processedCommandsCount = 0;
+    batchProcessor.resetProcessedCommandsCount();
   }
 
   /**
@@ -324,94 +384,30 @@ public final class ProcessingStateMachine {
    * commands are created.
    */
   private void batchProcessing(final TypedRecord<?> initialCommand) {
-    final ProcessingResultBuilder processingResultBuilder =
-        new BufferedProcessingResultBuilder(logStreamWriter::canWriteEvents);
-    var lastProcessingResultSize = 0;
-
-    // It might be that we reached the batch size limit during processing a command.
-    // We rolled back the transaction and processing result and retried the processing.
-    // We know that we can process until the last processed commands count, which is why we set it
-    // as our processing batch limit, in order to handle the commands afterwards as own batch.
-    final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
-    processedCommandsCount = 0;
-    pendingWrites = new ArrayList<>();
-    pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
-    final var pendingCommands = new ArrayDeque<TypedRecord<?>>();
-    pendingCommands.addLast(initialCommand);
-
-    while (!pendingCommands.isEmpty() && processedCommandsCount < currentProcessingBatchLimit) {
-
-      final var command = pendingCommands.removeFirst();
-
-      currentProcessor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(command.getValueType()))
-              .findFirst()
-              .orElse(null);
-      if (currentProcessor != null) {
-        currentProcessingResult = currentProcessor.process(command, processingResultBuilder);
-
-        final BatchProcessingStepResult batchProcessingStepResult =
-            collectBatchProcessingStepResult(
-                currentProcessingResult,
-                lastProcessingResultSize,
-                // +1 since we already need include the current command in the calculation
-                pendingCommands.size() + processedCommandsCount + 1,
-                currentProcessingBatchLimit);
-
-        pendingCommands.addAll(batchProcessingStepResult.toProcess());
-        pendingWrites.addAll(batchProcessingStepResult.toWrite());
-        currentProcessingResult.getProcessingResponse().ifPresent(pendingResponses::add);
-      }
+    final var batchResult = acquireBatchResult();
+    batchProcessor.process(initialCommand, batchResult);
 
-      lastProcessingResultSize = currentProcessingResult.getRecordBatch().entries().size();
-      processedCommandsCount++;
-      metrics.commandsProcessed();
-    }
+    currentProcessingResult = batchResult.getProcessingResult();
+    pendingWrites = batchProcessor.getPendingWrites();
+    pendingResponses = batchResult.getResponses();
   }
 
   /**
-   * Collects from the given processing result the commands which should be processed further, and
-   * the records which should be written to the log.
-   *
-   * @param processingResult the processing result of the last processed command
-   * @param lastProcessingResultSize the size of the processing result before processing the last
-   *     command
-   * @param currentBatchSize the current batch size (only commands counted), includes already
-   *     processed and pending commands
-   * @return the result of the current batch processing step, which contains the next to processed
-   *     commands and the records which should be written to the log
+   * @return the batch result of the current command; it's kept when the processing of the command
+   *     is retried, and released after its side effects are executed
    */
-  private BatchProcessingStepResult collectBatchProcessingStepResult(
-      final ProcessingResult processingResult,
-      final int lastProcessingResultSize,
-      final int currentBatchSize,
-      final int currentProcessingBatchLimit) {
-
-    final var commandsToProcess = new ArrayList<TypedRecord<?>>();
-    final var toWriteEntries = new ArrayList<LogAppendEntry>();
-
-    processingResult.getRecordBatch().entries().stream()
-        .skip(lastProcessingResultSize) // because the result builder is reused
-        .forEachOrdered(
-            entry -> {
-              var toWriteEntry = entry;
-              final int potentialBatchSize = currentBatchSize + commandsToProcess.size();
-              if (entry.recordMetadata().getRecordType() == RecordType.COMMAND
-                  && potentialBatchSize < currentProcessingBatchLimit) {
-                commandsToProcess.add(
-                    new UnwrittenRecord(
-                        entry.key(),
-                        context.getPartitionId(),
-                        entry.recordValue(),
-                        entry.recordMetadata()));
-                toWriteEntry = LogAppendEntry.ofProcessed(entry);
-              }
-              toWriteEntries.add(toWriteEntry);
-            });
+  private BatchResult acquireBatchResult() {
+    if (currentBatchResult == null) {
+      currentBatchResult = batchProcessor.acquireResult();
+    }
+    return currentBatchResult;
+  }
 
-    return new BatchProcessingStepResult(commandsToProcess, toWriteEntries);
+  private void releaseBatchResult() {
+    if (currentBatchResult != null) {
+      batchProcessor.releaseResult(currentBatchResult);
+      currentBatchResult = null;
+    }
   }
 
   private void onError(final NextProcessingStep nextStep) {
@@ -422,7 +418,14 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              if (groupedCommands.isEmpty()) {
+                zeebeDbTransaction.rollback();
+              } else {
+                // only roll back the failed command, the previous commands of the group have
+                // already written their follow-up records
+                zeebeDbTransaction.rollbackToSavePoint();
+              }
+              recordProcessors.forEach(RecordProcessor::onRollback);
               return true;
             },
             abortCondition);
@@ -443,15 +446,20 @@ public final class ProcessingStateMachine {
 
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    setSavePointIfGrouped();
     zeebeDbTransaction.run(
         () -> {
-          final ProcessingResultBuilder processingResultBuilder =
-              new BufferedProcessingResultBuilder(logStreamWriter::canWriteEvents);
+          final var batchResult = acquireBatchResult();
+          batchResult.reset();
           currentProcessingResult =
-              currentProcessor.onProcessingError(
-                  processingException, typedCommand, processingResultBuilder);
+              batchProcessor
+                  .getCurrentProcessor()
+                  .onProcessingError(
+                      processingException, typedCommand, batchResult.getResultBuilder());
+          batchResult.setProcessingResult(currentProcessingResult);
+          currentProcessingResult.getProcessingResponse().ifPresent(batchResult::addResponse);
           pendingWrites = currentProcessingResult.getRecordBatch().entries();
-          pendingResponses = currentProcessingResult.getProcessingResponse().stream().toList();
+          pendingResponses = batchResult.getResponses();
           // we need to mark the command as processed, even if the processing failed
           // otherwise we might replay the events, which have been written during
           // #onProcessingError again on restart
@@ -473,11 +481,11 @@ public final class ProcessingStateMachine {
       // means we will not mark the record as skipped
       writeFuture = CompletableActorFuture.completed(true);
     } else {
+      final var entries = BatchProcessor.copyForWrite(pendingWrites);
       writeFuture =
           writeRetryStrategy.runWithRetry(
               () -> {
-                final var writeResult =
-                    logStreamWriter.tryWrite(pendingWrites, sourceRecordPosition);
+                final var writeResult = logStreamWriter.tryWrite(entries, sourceRecordPosition);
                 if (writeResult.isRight()) {
                   writtenPosition = writeResult.get();
                   return true;
@@ -508,7 +516,11 @@ public final class ProcessingStateMachine {
             // of written records via the lastWritten and now written position.
             final var amount = writtenPosition - lastWrittenPosition;
             metrics.recordsWritten(amount);
-            updateState();
+            if (shouldDeferCommit()) {
+              deferCommit();
+            } else {
+              updateState();
+            }
           }
         });
   }
@@ -521,6 +533,7 @@ public final class ProcessingStateMachine {
               lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
+              observeGroupCommit(groupedCommands.size() + 1);
               return true;
             },
             abortCondition);
@@ -528,7 +541,12 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
-          if (throwable != null) {
+          if (throwable != null && !groupedCommands.isEmpty()) {
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_GROUP_COMMIT_FAILED.formatted(
+                    groupedCommands.size() + 1, currentRecord.getPosition()),
+                throwable);
+          } else if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
             onError(
                 () -> {
@@ -545,26 +563,14 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
             () -> {
+              if (!executeGroupedSideEffects()) {
+                return false;
+              }
+
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(pendingResponses);
+              return executePostCommitTasks(currentProcessingResult);
             },
             abortCondition);
 
@@ -576,6 +582,8 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
+          releaseGroupedCommands();
+          releaseBatchResult();
           notifyProcessedListener(typedCommand);
 
           // observe the processing duration
@@ -587,10 +595,261 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> processingResponses) {
+    for (final var processingResponse : processingResponses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
+    }
+  }
+
+  private boolean isGroupCommitEnabled() {
+    return maxCommandsInGroupCommit > 1;
+  }
+
+  private void setSavePointIfGrouped() throws Exception {
+    if (!groupedCommands.isEmpty()) {
+      zeebeDbTransaction.setSavePoint();
+    }
+  }
+
+  /**
+   * Rolls back the changes of the current grouped command, which also removes its save point. The
+   * changes of the previous commands in the group are kept.
+   */
+  private void rollbackToSavePoint() {
+    try {
+      zeebeDbTransaction.rollbackToSavePoint();
+      recordProcessors.forEach(RecordProcessor::onRollback);
+    } catch (final Exception e) {
+      throw new UnrecoverableException(
+          ERROR_MESSAGE_ROLLBACK_SAVE_POINT_FAILED.formatted(currentRecord.getPosition()), e);
+    }
+  }
+
+  /**
+   * Releases the save point of the current grouped command, since its changes are kept from now on.
+   * Otherwise, the save points of all commands in a group would pile up until the group is
+   * committed.
+   */
+  private void releaseSavePoint() {
+    try {
+      zeebeDbTransaction.releaseSavePoint();
+    } catch (final Exception e) {
+      throw new UnrecoverableException(
+          ERROR_MESSAGE_RELEASE_SAVE_POINT_FAILED.formatted(currentRecord.getPosition()), e);
+    }
+  }
+
+  /**
+   * @return true if the commit of the current command can be deferred, such that it is committed
+   *     together with the following commands
+   */
+  private boolean shouldDeferCommit() {
+    if (!isGroupCommitEnabled()) {
+      return false;
+    }
+
+    final var groupSize = groupedCommands.size() + 1;
+    final var groupBytes = groupedBytes + pendingWritesLength();
+    final var groupDelay =
+        groupedCommands.isEmpty() ? 0 : ActorClock.currentTimeMillis() - groupCommitStartTime;
+    return groupSize < maxCommandsInGroupCommit
+        && groupBytes < maxGroupCommitBytes
+        && groupDelay < maxGroupCommitDelayMillis
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private long pendingWritesLength() {
+    long length = 0;
+    for (final var entry : pendingWrites) {
+      length += entry.getLength();
+    }
+    return length;
+  }
+
+  /**
+   * Keeps the transaction of the current command open and continues with the next record. The
+   * responses and post commit tasks of the command are executed after the group is committed.
+   */
+  private void deferCommit() {
+    if (groupedCommands.isEmpty()) {
+      groupCommitStartTime = ActorClock.currentTimeMillis();
+    } else {
+      releaseSavePoint();
     }
+
+    groupedBytes += pendingWritesLength();
+    groupedCommands.add(new GroupedCommand(copyCommand(), currentBatchResult, processingTimer));
+    // the batch result is released once the side effects of the group are executed
+    currentBatchResult = null;
+    lastGroupedRecordPosition = currentRecord.getPosition();
+    lastWrittenPosition = writtenPosition;
+
+    inProcessing = false;
+    actor.submit(this::readNextRecord);
+  }
+
+  /**
+   * Commits the state changes of all grouped commands, when there is no further command to join the
+   * group. Executes the side effects of the grouped commands afterwards.
+   */
+  private void commitGroupedCommands() {
+    commitGroupedCommands(
+        () -> {
+          inProcessing = false;
+          actor.submit(this::readNextRecord);
+        });
+  }
+
+  /**
+   * Commits the state changes of all grouped commands and executes their side effects.
+   *
+   * @param nextStep continues the processing once the side effects are executed
+   */
+  private void commitGroupedCommands(final Runnable nextStep) {
+    inProcessing = true;
+
+    final ActorFuture<Boolean> commitFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              lastSuccessfulProcessedRecordPosition = lastGroupedRecordPosition;
+              metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              observeGroupCommit(groupedCommands.size());
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        commitFuture,
+        (committed, commitFailure) -> {
+          if (commitFailure != null) {
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_GROUP_COMMIT_FAILED.formatted(
+                    groupedCommands.size(), lastGroupedRecordPosition),
+                commitFailure);
+          }
+
+          final ActorFuture<Boolean> sideEffectsFuture =
+              sideEffectsRetryStrategy.runWithRetry(
+                  this::executeGroupedSideEffects, abortCondition);
+          actor.runOnCompletion(
+              sideEffectsFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(
+                      ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED,
+                      currentRecord,
+                      metadata,
+                      throwable);
+                }
+
+                releaseGroupedCommands();
+                nextStep.run();
+              });
+        });
+  }
+
+  /**
+   * Executes the responses and post commit tasks of the grouped commands, in the order in which the
+   * commands were processed. Commands whose side effects are executed are removed from the group,
+   * such that a retry continues with the remaining ones.
+   *
+   * @return true if the side effects of all grouped commands were executed successfully
+   */
+  private boolean executeGroupedSideEffects() {
+    final var iterator = groupedCommands.iterator();
+    while (iterator.hasNext()) {
+      final var groupedCommand = iterator.next();
+      final var batchResult = groupedCommand.batchResult();
+      writeResponses(batchResult.getResponses());
+      if (!executePostCommitTasks(batchResult.getProcessingResult())) {
+        return false;
+      }
+
+      notifyProcessedListener(groupedCommand.command());
+      groupedCommand.processingTimer().close();
+      batchProcessor.releaseResult(batchResult);
+      iterator.remove();
+    }
+    return true;
+  }
+
+  /** Completes the grouped commands, whose side effects couldn't be executed. */
+  private void releaseGroupedCommands() {
+    for (final var groupedCommand : groupedCommands) {
+      notifyProcessedListener(groupedCommand.command());
+      groupedCommand.processingTimer().close();
+      batchProcessor.releaseResult(groupedCommand.batchResult());
+    }
+    groupedCommands.clear();
+    groupedBytes = 0;
+
+    tasksAwaitingGroupCommit.forEach(actor::submit);
+    tasksAwaitingGroupCommit.clear();
+  }
+
+  /**
+   * Runs the given task right away, or once the current group is committed. Other jobs of the actor
+   * must not run in the open transaction of a group, as they would see the uncommitted state of the
+   * grouped commands, and their changes would be committed or rolled back with the group.
+   */
+  void runOutsideOfGroup(final Runnable task) {
+    if (groupedCommands.isEmpty()) {
+      task.run();
+    } else {
+      tasksAwaitingGroupCommit.add(task);
+    }
+  }
+
+  private void observeGroupCommit(final int commandCount) {
+    if (isGroupCommitEnabled()) {
+      processingMetrics.observeGroupCommitCommandCount(commandCount);
+    }
+  }
+
+  /**
+   * The current command is backed by the buffer of the log stream reader, which is reused for the
+   * next record. Since the command is only completed after the group is committed, it needs to be
+   * copied.
+   */
+  private TypedRecord<?> copyCommand() {
+    final var buffer = new UnsafeBuffer(new byte[currentRecord.getLength()]);
+    currentRecord.write(buffer, 0);
+    final var event = new LoggedEventImpl();
+    event.wrap(buffer, 0);
+
+    final var commandMetadata = new RecordMetadata();
+    event.readMetadata(commandMetadata);
+    final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(commandMetadata.getValueType());
+    final UnifiedRecordValue value =
+        valueClass != null ? ReflectUtil.newInstance(valueClass) : null;
+    if (value != null) {
+      event.readValue(value);
+    }
+
+    final var command = new TypedRecordImpl(context.getPartitionId());
+    command.wrap(event, commandMetadata, value);
+    return command;
   }
 
   private void notifyProcessedListener(final TypedRecord processedRecord) {
@@ -639,8 +898,8 @@ public final class ProcessingStateMachine {
     actor.submit(this::readNextRecord);
   }
 
-  private record BatchProcessingStepResult(
-      List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
+  private record GroupedCommand(
+      TypedRecord<?> command, BatchResult batchResult, Histogram.Timer processingTimer) {}
 
   @FunctionalInterface
   private interface NextProcessingStep {
@@ -198,6 +198,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
+      recordProcessors.forEach(RecordProcessor::onRollback);
       // reading the whole batch from the beginning again
       batch.head();
     }
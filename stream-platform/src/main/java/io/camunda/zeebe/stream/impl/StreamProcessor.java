@@ -166,7 +166,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
           new ProcessingScheduleServiceImpl(
               streamProcessorContext::getStreamProcessorPhase,
               streamProcessorContext.getAbortCondition(),
-              logStream::newLogStreamWriter);
+              logStream::newLogStreamWriter,
+              this::runScheduledTask);
       asyncScheduleService =
           new ProcessingScheduleServiceImpl(
               streamProcessorContext::getStreamProcessorPhase, // this is volatile
@@ -322,6 +323,18 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     }
   }
 
+  /**
+   * Scheduled tasks run on the same actor as the processing, so they must not see the uncommitted
+   * state of grouped commands. They're deferred until the group is committed.
+   */
+  private void runScheduledTask(final Runnable task) {
+    if (processingStateMachine != null) {
+      processingStateMachine.runOutsideOfGroup(task);
+    } else {
+      task.run();
+    }
+  }
+
   private void startProcessing(final LastProcessingPositions lastProcessingPositions) {
     processingStateMachine =
         new ProcessingStateMachine(
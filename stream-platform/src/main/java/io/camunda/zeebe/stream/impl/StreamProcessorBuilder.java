@@ -14,6 +14,7 @@ import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -129,6 +130,18 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxCommandsInGroupCommit() < 1) {
+      throw new IllegalArgumentException(
+          "Group commit limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInGroupCommit()));
+    }
+    if (streamProcessorContext.getMaxGroupCommitBytes() < 1) {
+      throw new IllegalArgumentException(
+          "Group commit size limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxGroupCommitBytes()));
+    }
+    Objects.requireNonNull(
+        streamProcessorContext.getMaxGroupCommitDelay(), "No group commit delay provided.");
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -136,6 +149,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    streamProcessorContext.maxCommandsInGroupCommit(maxCommandsInGroupCommit);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxGroupCommitBytes(final long maxGroupCommitBytes) {
+    streamProcessorContext.maxGroupCommitBytes(maxGroupCommitBytes);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxGroupCommitDelay(final Duration maxGroupCommitDelay) {
+    streamProcessorContext.maxGroupCommitDelay(maxGroupCommitDelay);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -22,11 +22,15 @@ import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT = 1;
+  public static final long DEFAULT_MAX_GROUP_COMMIT_BYTES = 4 * 1024 * 1024;
+  public static final Duration DEFAULT_MAX_GROUP_COMMIT_DELAY = Duration.ofMillis(10);
   private static final StreamProcessorListener NOOP_LISTENER =
       new StreamProcessorListener() {
         @Override
@@ -56,6 +60,9 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxCommandsInGroupCommit = DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT;
+  private long maxGroupCommitBytes = DEFAULT_MAX_GROUP_COMMIT_BYTES;
+  private Duration maxGroupCommitDelay = DEFAULT_MAX_GROUP_COMMIT_DELAY;
   private boolean enableAsyncScheduledTasks = true;
 
   public StreamProcessorContext actor(final ActorControl actor) {
@@ -208,6 +215,33 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    this.maxCommandsInGroupCommit = maxCommandsInGroupCommit;
+    return this;
+  }
+
+  public int getMaxCommandsInGroupCommit() {
+    return maxCommandsInGroupCommit;
+  }
+
+  public StreamProcessorContext maxGroupCommitBytes(final long maxGroupCommitBytes) {
+    this.maxGroupCommitBytes = maxGroupCommitBytes;
+    return this;
+  }
+
+  public long getMaxGroupCommitBytes() {
+    return maxGroupCommitBytes;
+  }
+
+  public StreamProcessorContext maxGroupCommitDelay(final Duration maxGroupCommitDelay) {
+    this.maxGroupCommitDelay = maxGroupCommitDelay;
+    return this;
+  }
+
+  public Duration getMaxGroupCommitDelay() {
+    return maxGroupCommitDelay;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     this.enableAsyncScheduledTasks = enabled;
     return this;
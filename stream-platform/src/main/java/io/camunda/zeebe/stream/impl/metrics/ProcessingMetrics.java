@@ -50,16 +50,26 @@ public class ProcessingMetrics {
               "Number of times batch processing failed due to reaching batch limit and was retried")
           .labelNames(LABEL_NAME_PARTITION)
           .register();
+  private static final Histogram GROUP_COMMIT_COMMANDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_group_commit_commands")
+          .help("Records the distribution of commands committed together in one transaction")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
   private final Child batchProcessingDuration;
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Child groupCommitCommands;
 
   public ProcessingMetrics(final String partitionIdLabel) {
     batchProcessingDuration = BATCH_PROCESSING_DURATION.labels(partitionIdLabel);
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    groupCommitCommands = GROUP_COMMIT_COMMANDS.labels(partitionIdLabel);
   }
 
   public Histogram.Timer startBatchProcessingDurationTimer() {
@@ -77,4 +87,8 @@ public class ProcessingMetrics {
   public Histogram.Timer startBatchProcessingPostCommitTasksTimer() {
     return batchProcessingPostCommitTasks.startTimer();
   }
+
+  public void observeGroupCommitCommandCount(final int commandCount) {
+    groupCommitCommands.observe(commandCount);
+  }
 }
@@ -25,6 +25,8 @@ import java.util.function.Consumer;
 public final class RecordBatch implements MutableRecordBatch {
 
   final List<RecordBatchEntry> recordBatchEntries = new ArrayList<>();
+  private final List<LogAppendEntry> unmodifiableEntries =
+      Collections.unmodifiableList(recordBatchEntries);
   private int batchSize;
   private final RecordBatchSizePredicate recordBatchSizePredicate;
 
@@ -66,6 +68,12 @@ public final class RecordBatch implements MutableRecordBatch {
     return batchSize;
   }
 
+  /** Removes all records from the batch, such that it can be reused. */
+  public void reset() {
+    recordBatchEntries.clear();
+    batchSize = 0;
+  }
+
   @Override
   public Iterator<RecordBatchEntry> iterator() {
     return recordBatchEntries.iterator();
@@ -83,6 +91,6 @@ public final class RecordBatch implements MutableRecordBatch {
 
   @Override
   public List<LogAppendEntry> entries() {
-    return Collections.unmodifiableList(recordBatchEntries);
+    return unmodifiableEntries;
   }
 }
@@ -19,19 +19,35 @@ import java.util.Map;
 public final class RecordValues {
 
   private final Map<ValueType, UnifiedRecordValue> eventCache;
+  private final boolean readLazily;
 
   public RecordValues() {
+    this(false);
+  }
+
+  /**
+   * @param readLazily if true, the properties of a value are only decoded when they are accessed,
+   *     see {@link UnifiedRecordValue#wrapLazily}. This pays off for consumers which access only a
+   *     few properties of a value before writing it again, but an invalid property is only detected
+   *     on access, and the value must not be used after the event's buffer was reused.
+   */
+  public RecordValues(final boolean readLazily) {
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
     TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
 
     eventCache = Collections.unmodifiableMap(cache);
+    this.readLazily = readLazily;
   }
 
   public UnifiedRecordValue readRecordValue(final LoggedEvent event, final ValueType valueType) {
     final UnifiedRecordValue value = eventCache.get(valueType);
     if (value != null) {
-      value.reset();
-      event.readValue(value);
+      if (readLazily) {
+        value.wrapLazily(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+      } else {
+        value.reset();
+        event.readValue(value);
+      }
     }
     return value;
   }
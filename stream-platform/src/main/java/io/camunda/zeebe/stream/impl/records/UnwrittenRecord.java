@@ -16,20 +16,32 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 
 public class UnwrittenRecord implements TypedRecord {
-  private final long key;
-  private final int partitionId;
-  private final UnifiedRecordValue value;
-  private final RecordMetadata metadata;
+  private long key;
+  private int partitionId;
+  private UnifiedRecordValue value;
+  private RecordMetadata metadata;
+
+  /** Creates an empty record, which can be reused via {@link #wrap}. */
+  public UnwrittenRecord() {}
 
   public UnwrittenRecord(
       final long key,
       int partitionId,
       final UnifiedRecordValue value,
       final RecordMetadata metadata) {
+    wrap(key, partitionId, value, metadata);
+  }
+
+  public UnwrittenRecord wrap(
+      final long key,
+      final int partitionId,
+      final UnifiedRecordValue value,
+      final RecordMetadata metadata) {
     this.key = key;
     this.partitionId = partitionId;
     this.value = value;
     this.metadata = metadata;
+    return this;
   }
 
   @Override
@@ -0,0 +1,288 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.ProcessingResponse;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.ImmutableRecordBatch;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import io.camunda.zeebe.stream.impl.records.RecordBatchEntry;
+import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the batch processing loop, i.e. processing a command and its follow-up commands.
+ *
+ * <p>The allocations are measured with a record processor which returns pre-built results, such
+ * that only the allocations of the loop itself are measured. The write path, where the processor
+ * appends the records to the result builder and the pending writes are copied for the log stream
+ * writer, is measured separately. It still allocates per record, since every appended record is
+ * copied into its own buffer and value, and the copy for the writer outlives the batch.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BatchProcessorPerformanceTest {
+
+  private static final int COMMANDS_IN_BATCH = 10;
+
+  // some slack for allocations of the JIT which can't always be eliminated, e.g. of optionals;
+  // allocating the buffers of the batch instead takes hundreds of bytes
+  private static final int MAX_ALLOCATED_BYTES_PER_BATCH = 64;
+
+  private final ChainedCommandsProcessor processor = new ChainedCommandsProcessor();
+  private final AppendingCommandsProcessor appendingProcessor = new AppendingCommandsProcessor();
+  private BatchProcessor batchProcessor;
+  private BatchProcessor appendingBatchProcessor;
+  private TypedRecord<?> command;
+
+  @Setup
+  public void setup() {
+    batchProcessor =
+        new BatchProcessor(
+            1,
+            COMMANDS_IN_BATCH,
+            List.of(processor),
+            (count, size) -> true,
+            new StreamProcessorMetrics(1));
+    appendingBatchProcessor =
+        new BatchProcessor(
+            1,
+            COMMANDS_IN_BATCH,
+            List.of(appendingProcessor),
+            (count, size) -> true,
+            new StreamProcessorMetrics(1));
+    command =
+        new UnwrittenRecord(
+            1, 1, Records.processInstance(1), metadata(RecordType.COMMAND, ACTIVATE_ELEMENT));
+  }
+
+  @Benchmark
+  public int measureBatchProcessing() {
+    processor.reset();
+
+    final var result = batchProcessor.acquireResult();
+    batchProcessor.process(command, result);
+    final var writtenRecords = batchProcessor.getPendingWrites().size();
+    batchProcessor.resetProcessedCommandsCount();
+    batchProcessor.releaseResult(result);
+
+    return writtenRecords;
+  }
+
+  @Benchmark
+  public List<LogAppendEntry> measureBatchProcessingWithWrites() {
+    appendingProcessor.reset();
+
+    final var result = appendingBatchProcessor.acquireResult();
+    appendingBatchProcessor.process(command, result);
+    final var entries = BatchProcessor.copyForWrite(appendingBatchProcessor.getPendingWrites());
+    appendingBatchProcessor.resetProcessedCommandsCount();
+    appendingBatchProcessor.releaseResult(result);
+
+    return entries;
+  }
+
+  @JMHTest("measureBatchProcessing")
+  void shouldNotAllocateInBatchProcessingLoop(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.withOptions(o -> o.addProfiler(GCProfiler.class)).run();
+
+    // then
+    assertResult.allocatesAtMost(MAX_ALLOCATED_BYTES_PER_BATCH);
+  }
+
+  @JMHTest("measureBatchProcessingWithWrites")
+  void shouldProcessBatchWithWritesWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 100_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  private static RecordMetadata metadata(final RecordType recordType, final Intent intent) {
+    return new RecordMetadata()
+        .recordType(recordType)
+        .intent(intent)
+        .valueType(ValueType.PROCESS_INSTANCE)
+        .rejectionType(RejectionType.NULL_VAL)
+        .rejectionReason("");
+  }
+
+  /**
+   * Processes a chain of commands, where each command results in an event and the next command of
+   * the chain, until the end of the chain is reached. Like the result builder of the batch, the
+   * result of a command includes the records of all previous commands of the batch.
+   */
+  private static final class ChainedCommandsProcessor implements RecordProcessor {
+
+    private final List<PrebuiltResult> results = new ArrayList<>();
+    private int processedCommands;
+
+    private ChainedCommandsProcessor() {
+      final List<LogAppendEntry> entries = new ArrayList<>();
+      for (int i = 0; i < COMMANDS_IN_BATCH; i++) {
+        entries.add(entry(RecordType.EVENT, ELEMENT_ACTIVATING));
+        if (i < COMMANDS_IN_BATCH - 1) {
+          entries.add(entry(RecordType.COMMAND, ACTIVATE_ELEMENT));
+        }
+        results.add(new PrebuiltResult(List.copyOf(entries)));
+      }
+    }
+
+    private static LogAppendEntry entry(final RecordType recordType, final Intent intent) {
+      return RecordBatchEntry.createEntry(
+          1, metadata(recordType, intent), -1, Records.processInstance(1));
+    }
+
+    private void reset() {
+      processedCommands = 0;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return valueType == ValueType.PROCESS_INSTANCE;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      return results.get(processedCommands++);
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      throw new UnsupportedOperationException("Expected processing to succeed");
+    }
+  }
+
+  /**
+   * Processes the same chain of commands as {@link ChainedCommandsProcessor}, but appends the
+   * records of each command to the result builder, as the engine does.
+   */
+  private static final class AppendingCommandsProcessor implements RecordProcessor {
+
+    private final RecordMetadata eventMetadata = metadata(RecordType.EVENT, ELEMENT_ACTIVATING);
+    private final RecordMetadata commandMetadata = metadata(RecordType.COMMAND, ACTIVATE_ELEMENT);
+    private final ProcessInstanceRecord value = Records.processInstance(1);
+    private int processedCommands;
+
+    private void reset() {
+      processedCommands = 0;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return valueType == ValueType.PROCESS_INSTANCE;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      processingResultBuilder.appendRecord(1, value, eventMetadata);
+      if (++processedCommands < COMMANDS_IN_BATCH) {
+        processingResultBuilder.appendRecord(1, value, commandMetadata);
+      }
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      throw new UnsupportedOperationException("Expected processing to succeed");
+    }
+  }
+
+  private record PrebuiltResult(List<LogAppendEntry> entries)
+      implements ProcessingResult, ImmutableRecordBatch {
+
+    @Override
+    public ImmutableRecordBatch getRecordBatch() {
+      return this;
+    }
+
+    @Override
+    public Optional<ProcessingResponse> getProcessingResponse() {
+      return Optional.empty();
+    }
+
+    @Override
+    public boolean executePostCommitTasks() {
+      return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<RecordBatchEntry> iterator() {
+      return (Iterator<RecordBatchEntry>) (Iterator<?>) entries.iterator();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return entries.isEmpty();
+    }
+  }
+}
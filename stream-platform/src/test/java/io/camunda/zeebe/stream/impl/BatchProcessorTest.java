@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class BatchProcessorTest {
+
+  private final BatchProcessor batchProcessor =
+      new BatchProcessor(
+          1,
+          2,
+          List.of(new FollowUpCommandProcessor()),
+          (count, size) -> true,
+          new StreamProcessorMetrics(1));
+
+  @Test
+  void shouldCollectFollowUpCommandsAsProcessed() {
+    // when
+    batchProcessor.process(command(1), batchProcessor.acquireResult());
+
+    // then
+    assertThat(batchProcessor.getPendingWrites())
+        .extracting(LogAppendEntry::key, LogAppendEntry::isProcessed)
+        .containsExactly(tuple(1L, false), tuple(2L, true), tuple(2L, false), tuple(3L, false));
+  }
+
+  @Test
+  void shouldNotModifyCopiedWritesWhenProcessingNextBatch() {
+    // given
+    batchProcessor.process(command(1), batchProcessor.acquireResult());
+    final var writes = BatchProcessor.copyForWrite(batchProcessor.getPendingWrites());
+    batchProcessor.resetProcessedCommandsCount();
+
+    // when
+    batchProcessor.process(command(10), batchProcessor.acquireResult());
+
+    // then
+    assertThat(writes)
+        .extracting(LogAppendEntry::key, LogAppendEntry::isProcessed)
+        .containsExactly(tuple(1L, false), tuple(2L, true), tuple(2L, false), tuple(3L, false));
+  }
+
+  private static TypedRecord<?> command(final long key) {
+    return new UnwrittenRecord(
+        key,
+        1,
+        Records.processInstance(1),
+        metadata(RecordType.COMMAND, ProcessInstanceIntent.ACTIVATE_ELEMENT));
+  }
+
+  private static RecordMetadata metadata(
+      final RecordType recordType, final ProcessInstanceIntent intent) {
+    return new RecordMetadata()
+        .recordType(recordType)
+        .intent(intent)
+        .valueType(ValueType.PROCESS_INSTANCE)
+        .rejectionType(RejectionType.NULL_VAL)
+        .rejectionReason("");
+  }
+
+  /**
+   * Writes for every command an event with the key of the command, and a command with the next key.
+   */
+  private static final class FollowUpCommandProcessor implements RecordProcessor {
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {}
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return valueType == ValueType.PROCESS_INSTANCE;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      final var key = record.getKey();
+      return processingResultBuilder
+          .appendRecord(
+              key,
+              Records.processInstance(1),
+              metadata(RecordType.EVENT, ProcessInstanceIntent.ELEMENT_ACTIVATING))
+          .appendRecord(
+              key + 1,
+              Records.processInstance(1),
+              metadata(RecordType.COMMAND, ProcessInstanceIntent.ACTIVATE_ELEMENT))
+          .build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      throw new UnsupportedOperationException("Expected processing to succeed");
+    }
+  }
+}
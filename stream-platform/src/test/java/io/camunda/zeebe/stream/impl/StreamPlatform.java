@@ -66,6 +66,8 @@ public final class StreamPlatform {
   private boolean snapshotWasTaken = false;
   private final StreamProcessorMode defaultStreamProcessorMode = StreamProcessorMode.PROCESSING;
   private List<RecordProcessor> recordProcessors;
+  private int maxCommandsInGroupCommit =
+      StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_GROUP_COMMIT;
   private final RecordProcessor defaultMockedRecordProcessor;
   private final ZeebeDbFactory zeebeDbFactory;
   private final StreamProcessorLifecycleAware mockProcessorLifecycleAware;
@@ -208,6 +210,11 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withMaxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    this.maxCommandsInGroupCommit = maxCommandsInGroupCommit;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -259,6 +266,7 @@ public final class StreamPlatform {
             .recordProcessors(recordProcessors)
             .streamProcessorMode(processorMode)
             .listener(mockStreamProcessorListener)
+            .maxCommandsInGroupCommit(maxCommandsInGroupCommit)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
     builder.addLifecycleListener(mockProcessorLifecycleAware);
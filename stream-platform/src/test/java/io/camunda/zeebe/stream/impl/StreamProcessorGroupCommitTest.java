@@ -0,0 +1,294 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorGroupCommitTest {
+
+  private static final VerificationWithTimeout TIMEOUT = timeout(2_000L);
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldCommitStateOfAllGroupedCommands() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    streamPlatform
+        .withMaxCommandsInGroupCommit(10)
+        .withRecordProcessors(List.of(processor))
+        .startStreamProcessor();
+    final var keyGenerator = newKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    final var lastPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 4);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(lastPosition);
+  }
+
+  @Test
+  void shouldOnlyRollbackFailedCommandOfGroup() {
+    // given
+    final var processor = new KeyGeneratingProcessor(2);
+    streamPlatform
+        .withMaxCommandsInGroupCommit(10)
+        .withRecordProcessors(List.of(processor))
+        .startStreamProcessor();
+    final var keyGenerator = newKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(processor.onErrorCount.get()).isOne();
+    assertThat(processor.rollbackCount.get()).isOne();
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 3);
+  }
+
+  @Test
+  void shouldWriteResponsesOfGroupedCommandsAfterCommit() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    streamPlatform
+        .withMaxCommandsInGroupCommit(10)
+        .withRecordProcessors(List.of(processor))
+        .startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    final var commandResponseWriter = streamPlatform.getMockCommandResponseWriter();
+    verify(commandResponseWriter, TIMEOUT.times(2)).tryWriteResponse(anyInt(), anyLong());
+    final var inOrder = inOrder(commandResponseWriter);
+    inOrder.verify(commandResponseWriter).key(1);
+    inOrder.verify(commandResponseWriter).key(2);
+  }
+
+  @Test
+  void shouldNotGroupMoreThanConfiguredCommands() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    streamPlatform
+        .withMaxCommandsInGroupCommit(2)
+        .withRecordProcessors(List.of(processor))
+        .startStreamProcessor();
+    final var keyGenerator = newKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(5)).onProcessed(any());
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 6);
+  }
+
+  @Test
+  void shouldRollbackGroupedCommandBeforeRetryingRecoverableFailure() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    processor.recoverableFailingCommand = 2;
+    streamPlatform
+        .withMaxCommandsInGroupCommit(10)
+        .withRecordProcessors(List.of(processor))
+        .startStreamProcessor();
+    final var keyGenerator = newKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    final var lastPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then - the key of the failed attempt is rolled back, the keys of the other commands are kept
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(processor.processedCount.get()).isEqualTo(4);
+    assertThat(processor.rollbackCount.get()).isOne();
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 4);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(lastPosition);
+  }
+
+  @Test
+  void shouldRunScheduledTasksAfterGroupIsCommitted() {
+    // given
+    final var processor = new KeyGeneratingProcessor(-1);
+    processor.schedulingCommand = 2;
+    streamPlatform
+        .withMaxCommandsInGroupCommit(10)
+        .withRecordProcessors(List.of(processor))
+        .startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then - the task saw no processed command whose changes weren't committed yet
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    await().until(() -> processor.observedByTask.get() != null);
+    final var observed = processor.observedByTask.get();
+    assertThat(observed.committedCount()).isEqualTo(observed.processedCount());
+  }
+
+  private DbKeyGenerator newKeyGenerator(final KeyGeneratingProcessor processor) {
+    final var zeebeDb = processor.recordProcessorContext.getZeebeDb();
+    return new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+  }
+
+  /**
+   * Generates a key for each processed command and responds with it. Fails the processing of the
+   * n-th command after generating its key, if configured. A command fails recoverably only on its
+   * first attempt.
+   */
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+
+    private final AtomicInteger processedCount = new AtomicInteger();
+    private final AtomicInteger committedCount = new AtomicInteger();
+    private final AtomicInteger onErrorCount = new AtomicInteger();
+    private final AtomicInteger rollbackCount = new AtomicInteger();
+    private final AtomicReference<TaskObservation> observedByTask = new AtomicReference<>();
+    private final int failingCommand;
+    private int recoverableFailingCommand = -1;
+    private int schedulingCommand = -1;
+    private RecordProcessorContext recordProcessorContext;
+    private DbKeyGenerator keyGenerator;
+
+    private KeyGeneratingProcessor(final int failingCommand) {
+      this.failingCommand = failingCommand;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      this.recordProcessorContext = recordProcessorContext;
+      keyGenerator =
+          new DbKeyGenerator(
+              1,
+              recordProcessorContext.getZeebeDb(),
+              recordProcessorContext.getTransactionContext());
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      keyGenerator.nextKey();
+      final var count = processedCount.incrementAndGet();
+      if (count == failingCommand) {
+        throw new RuntimeException("expected");
+      }
+      if (count == recoverableFailingCommand) {
+        throw new RecoverableException("expected");
+      }
+      if (count == schedulingCommand) {
+        recordProcessorContext
+            .getScheduleService()
+            .runDelayed(
+                Duration.ZERO,
+                () ->
+                    observedByTask.set(
+                        new TaskObservation(processedCount.get(), committedCount.get())));
+      }
+
+      return processingResultBuilder
+          .appendPostCommitTask(
+              () -> {
+                committedCount.incrementAndGet();
+                return true;
+              })
+          .withResponse(
+              RecordType.EVENT,
+              count,
+              ELEMENT_ACTIVATING,
+              Records.processInstance(1),
+              ValueType.PROCESS_INSTANCE,
+              RejectionType.NULL_VAL,
+              "",
+              1,
+              count)
+          .build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      onErrorCount.incrementAndGet();
+      return processingResultBuilder.appendPostCommitTask(() -> true).build();
+    }
+
+    @Override
+    public void onRollback() {
+      rollbackCount.incrementAndGet();
+    }
+  }
+
+  private record TaskObservation(int processedCount, int committedCount) {}
+}
@@ -303,6 +303,7 @@ final class StreamProcessorReplayTest {
     inOrder.verify(processorWhichFails, TIMEOUT).init(any());
     inOrder.verify(processorWhichFails, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(processorWhichFails, TIMEOUT).process(any(), any());
+    inOrder.verify(processorWhichFails, TIMEOUT).onRollback();
     inOrder.verify(processorWhichFails, TIMEOUT).onProcessingError(any(), any(), any());
     inOrder.verifyNoMoreInteractions();
   }
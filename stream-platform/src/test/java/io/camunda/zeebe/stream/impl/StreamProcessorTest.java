@@ -183,6 +183,7 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
@@ -1379,12 +1380,48 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldCallOnRollbackBeforeRetryingBatchWithFewerCommands() {
+    // given - the follow-up command of the first command exceeds the batch size
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var resultBuilderCaptor = ArgumentCaptor.forClass(ProcessingResultBuilder.class);
+    when(defaultRecordProcessor.process(any(), resultBuilderCaptor.capture()))
+        .thenAnswer(
+            (invocation) -> {
+              final var resultBuilder = resultBuilderCaptor.getValue();
+              resultBuilder.appendRecordReturnEither(
+                  1,
+                  Records.processInstance(1),
+                  new RecordMetadata()
+                      .recordType(RecordType.COMMAND)
+                      .intent(ACTIVATE_ELEMENT)
+                      .rejectionType(RejectionType.NULL_VAL)
+                      .rejectionReason(""));
+              return resultBuilder.build();
+            })
+        .thenThrow(new ExceededBatchRecordSizeException(mock(RecordBatchEntry.class), 10, 1, 1))
+        .thenAnswer((invocation) -> resultBuilderCaptor.getValue().build());
+    streamPlatform.startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then - the batch is rolled back before the first command is processed again on its own
+    final var inOrder = inOrder(defaultRecordProcessor);
+    inOrder.verify(defaultRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    verify(defaultRecordProcessor, never()).onProcessingError(any(), any(), any());
+  }
+
   private static final class TestProcessor implements RecordProcessor {
 
     ProcessingResult processingResult = EmptyProcessingResult.INSTANCE;
@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import static io.camunda.zeebe.test.util.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads an encoded record value, gets two of its properties and writes it to another buffer. With
+ * {@code read=lazy} the value is wrapped like {@link RecordValues} does when it's created to read
+ * lazily: only the two accessed properties are decoded, and the others are copied as they are.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordValuesPerformanceTest {
+
+  @Param({"PROCESS_INSTANCE", "JOB", "VARIABLE"})
+  public String valueType;
+
+  @Param({"eager", "lazy"})
+  public String read;
+
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer encodedValue;
+  private UnifiedRecordValue value;
+  private ToLongFunction<UnifiedRecordValue> accessedProperties;
+
+  @Setup
+  public void setup() {
+    final UnifiedRecordValue record;
+    switch (valueType) {
+      case "PROCESS_INSTANCE" -> {
+        record = processInstance();
+        value = new ProcessInstanceRecord();
+        accessedProperties =
+            v -> {
+              final var processInstance = (ProcessInstanceRecord) v;
+              return processInstance.getProcessInstanceKey()
+                  + processInstance.getBpmnElementType().ordinal();
+            };
+      }
+      case "JOB" -> {
+        record = job();
+        value = new JobRecord();
+        accessedProperties =
+            v -> {
+              final var job = (JobRecord) v;
+              return job.getDeadline() + job.getTypeBuffer().capacity();
+            };
+      }
+      case "VARIABLE" -> {
+        record = variable();
+        value = new VariableRecord();
+        accessedProperties =
+            v -> {
+              final var variable = (VariableRecord) v;
+              return variable.getScopeKey() + variable.getNameBuffer().capacity();
+            };
+      }
+      default -> throw new IllegalArgumentException("Unknown value type: " + valueType);
+    }
+
+    final var buffer = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(buffer, 0);
+    encodedValue = buffer;
+  }
+
+  @Benchmark
+  public long measureReadAccessAndWrite() {
+    if ("lazy".equals(read)) {
+      value.wrapLazily(encodedValue, 0, encodedValue.capacity());
+    } else {
+      value.wrap(encodedValue, 0, encodedValue.capacity());
+    }
+
+    final long accessed = accessedProperties.applyAsLong(value);
+    value.write(writeBuffer, 0);
+
+    return accessed + value.getLength();
+  }
+
+  @JMHTest("measureReadAccessAndWrite")
+  void shouldReadProcessInstanceWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, to be confirmed in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 3_000_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(o -> o.param("valueType", "PROCESS_INSTANCE").param("read", "lazy"))
+            .run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.2);
+  }
+
+  private static ProcessInstanceRecord processInstance() {
+    return new ProcessInstanceRecord()
+        .setBpmnProcessId("order-process")
+        .setVersion(3)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setFlowScopeKey(2251799813685251L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+        .setBpmnEventType(BpmnEventType.UNSPECIFIED)
+        .setParentProcessInstanceKey(-1L)
+        .setParentElementInstanceKey(-1L);
+  }
+
+  private static JobRecord job() {
+    return new JobRecord()
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setDeadline(1_700_000_000_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionVersion(3)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setElementInstanceKey(2251799813685260L)
+        .setCustomHeaders(asMsgPack("{\"priority\": \"high\", \"region\": \"eu\"}"))
+        .setVariables(asMsgPack("{\"orderId\": \"order-4711\", \"total\": 129, \"paid\": false}"));
+  }
+
+  private static VariableRecord variable() {
+    return new VariableRecord()
+        .setName(wrapString("order"))
+        .setValue(asMsgPack("{\"id\": \"order-4711\", \"status\": \"paid\", \"total\": 129}"))
+        .setScopeKey(2251799813685251L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setBpmnProcessId(wrapString("order-process"));
+  }
+}
@@ -10,12 +10,15 @@ package io.camunda.zeebe.test.util.jmh;
 import java.text.DecimalFormat;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.error.BasicErrorMessageFactory;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.RunResult;
 
 /** Convenience class to assert results of a JMH test (via {@link RunResult}. */
 public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
   private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.000");
+  // the secondary result of the GC profiler with the allocated bytes per operation
+  private static final String ALLOCATION_RATE_NORM = "gc.alloc.rate.norm";
 
   /**
    * @param actual the actual results
@@ -58,4 +61,33 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the benchmark allocates at most the given number of bytes per operation. The
+   * benchmark must be run with the {@link GCProfiler}, e.g. via {@code testCase.withOptions(o ->
+   * o.addProfiler(GCProfiler.class))}.
+   *
+   * @param maxBytesPerOperation the maximum number of allocated bytes per operation
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert allocatesAtMost(final double maxBytesPerOperation) {
+    final var allocation = actual.getSecondaryResults().get(ALLOCATION_RATE_NORM);
+    if (allocation == null) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected the allocation rate to be measured, but no %s result was found; make sure to run the benchmark with the GC profiler",
+              ALLOCATION_RATE_NORM));
+    }
+
+    final double allocatedBytes = allocation.getScore();
+    if (allocatedBytes > maxBytesPerOperation) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected to allocate at most %s bytes per operation, but allocated %s bytes",
+              DECIMAL_FORMAT.format(maxBytesPerOperation), DECIMAL_FORMAT.format(allocatedBytes)));
+    }
+
+    return myself;
+  }
 }
@@ -24,4 +24,18 @@ public interface ClientStreamConsumer {
    * @param payload the data to be consumed by the client
    */
   CompletableFuture<Void> push(DirectBuffer payload);
+
+  /**
+   * Returns how many more payloads the consumer is currently ready to accept. Payloads are only
+   * pushed to consumers with credits left, and the credits of all consumers of a stream are
+   * announced to the server, which in turn prefers streams with credits when pushing.
+   *
+   * <p>NOTE: this is called from the thread of the {@link ClientStreamService}, so it should be
+   * cheap and thread-safe. By default, a consumer has unlimited credits.
+   *
+   * @return the number of payloads the consumer is ready to accept, or 0 if it is busy
+   */
+  default int credits() {
+    return Integer.MAX_VALUE;
+  }
 }
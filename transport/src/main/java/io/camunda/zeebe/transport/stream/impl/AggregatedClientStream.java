@@ -16,10 +16,10 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
@@ -131,12 +131,49 @@ final class AggregatedClientStream<M extends BufferWriter> {
               .formatted(logicalId));
     }
 
-    final var targets = new ArrayList<>(streams);
-    final var index = ThreadLocalRandom.current().nextInt(streams.size());
+    // only push to clients which are ready to accept more payloads, starting with the one which
+    // has the most credits left; shuffle first so that clients with equal credits share the load
+    final var targets = new ArrayList<ClientStreamImpl<M>>(streams.size());
+    for (final var stream : streams) {
+      if (stream.credits() > 0) {
+        targets.add(stream);
+      }
+    }
+
+    if (targets.isEmpty()) {
+      throw new StreamExhaustedException(
+          "Cannot forward remote payload as no client of aggregated stream %s has credits left"
+              .formatted(logicalId));
+    }
+
+    Collections.shuffle(targets);
+    int index = 0;
+    int maxCredits = 0;
+    for (int i = 0; i < targets.size(); i++) {
+      final int credits = targets.get(i).credits();
+      if (credits > maxCredits) {
+        index = i;
+        maxCredits = credits;
+      }
+    }
 
     tryPush(targets, index, 1, buffer, future, executor);
   }
 
+  /**
+   * Returns the sum of the credits of all clients, i.e. how many more payloads this stream is
+   * currently ready to accept. This is announced to the server which pushed a payload, so it can
+   * prefer other streams if this one is exhausted.
+   */
+  int credits() {
+    long credits = 0;
+    for (final var clientStream : clientStreams.values()) {
+      credits += clientStream.credits();
+    }
+
+    return (int) Math.min(credits, Integer.MAX_VALUE);
+  }
+
   private void tryPush(
       final ArrayList<ClientStreamImpl<M>> targets,
       final int index,
@@ -144,7 +181,7 @@ final class AggregatedClientStream<M extends BufferWriter> {
       final DirectBuffer buffer,
       final ActorFuture<Void> future,
       final ConcurrencyControl executor) {
-    // Try with clients in a round-robin starting from the randomly picked startIndex
+    // Try with clients in a round-robin starting from the client with the most credits
     final var clientStream = targets.get(index);
 
     LOGGER.trace("Pushing data from stream [{}] to client [{}]", streamId, clientStream.streamId());
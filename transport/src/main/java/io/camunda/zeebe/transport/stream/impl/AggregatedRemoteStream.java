@@ -9,26 +9,88 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
 /**
- * Keep tracks of {@link StreamConsumer}s which are logically similar.
+ * Keep tracks of {@link StreamConsumer}s which are logically similar, and of the credits each of
+ * them last announced, i.e. how many more payloads the consumer was ready to accept.
+ *
+ * <p>An announcement is only trusted for {@link #CREDITS_TTL}. A consumer which announced that it
+ * is exhausted would otherwise never be picked again as long as other consumers have credits, as
+ * only a push to it can renew its announcement. Once the announcement expired, the consumer is
+ * assumed to have credits again, so the next push probes it.
  *
  * @param <M> type of the properties
  */
-record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>> streamConsumers)
+record AggregatedRemoteStream<M>(
+    LogicalId<M> logicalId,
+    List<StreamConsumer<M>> streamConsumers,
+    Map<StreamId, Credits> streamCredits)
     implements RemoteStreamInfo<M> {
 
+  static final Duration CREDITS_TTL = Duration.ofSeconds(1);
+
+  AggregatedRemoteStream(
+      final LogicalId<M> logicalId, final List<StreamConsumer<M>> streamConsumers) {
+    this(logicalId, streamConsumers, new ConcurrentHashMap<>());
+  }
+
   void addConsumer(final StreamConsumer<M> consumer) {
     streamConsumers.add(consumer);
   }
 
   void removeConsumer(final StreamConsumer<M> consumer) {
     streamConsumers.remove(consumer);
+    streamCredits.remove(consumer.id());
+  }
+
+  /**
+   * Records the credits announced by the given consumer after a payload was pushed to it.
+   *
+   * @param consumer id of the consumer
+   * @param credits how many more payloads the consumer is ready to accept
+   * @param nowMillis the current time in milliseconds, when the credits were announced
+   */
+  void updateCredits(final StreamId consumer, final int credits, final long nowMillis) {
+    // avoid keeping the credits of a consumer which was removed in the meantime
+    if (streamConsumers.stream().anyMatch(c -> c.id().equals(consumer))) {
+      streamCredits.put(consumer, new Credits(credits, nowMillis + CREDITS_TTL.toMillis()));
+    }
+  }
+
+  /**
+   * Returns true if the consumer has credits left. Consumers which never announced any credits,
+   * e.g. because nothing was pushed to them yet, or whose announcement expired, are assumed to have
+   * credits.
+   *
+   * @param consumer the consumer to check
+   * @param nowMillis the current time in milliseconds
+   */
+  boolean hasCredits(final StreamConsumer<M> consumer, final long nowMillis) {
+    final var credits = streamCredits.get(consumer.id());
+    return credits == null || credits.credits() > 0 || credits.expiresAtMillis() <= nowMillis;
+  }
+
+  /**
+   * Returns true if any of the consumers has credits left.
+   *
+   * @param nowMillis the current time in milliseconds
+   */
+  boolean hasCredits(final long nowMillis) {
+    for (final var consumer : streamConsumers) {
+      if (hasCredits(consumer, nowMillis)) {
+        return true;
+      }
+    }
+
+    return false;
   }
 
   @Override
@@ -62,4 +124,12 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
    * @param receiver
    */
   record StreamId(UUID streamId, MemberId receiver) implements RemoteStreamId {}
+
+  /**
+   * The credits a consumer announced, and until when the announcement is trusted.
+   *
+   * @param credits how many more payloads the consumer was ready to accept
+   * @param expiresAtMillis the time in milliseconds after which the announcement is ignored
+   */
+  record Credits(int credits, long expiresAtMillis) {}
 }
@@ -35,6 +35,15 @@ record ClientStreamImpl<M extends BufferWriter>(
     return result;
   }
 
+  /** Returns the credits of the consumer, or 0 if they cannot be determined. */
+  int credits() {
+    try {
+      return Math.max(0, clientStreamConsumer.credits());
+    } catch (final Exception e) {
+      return 0;
+    }
+  }
+
   @Override
   public Set<MemberId> liveConnections() {
     return serverStream().liveConnections();
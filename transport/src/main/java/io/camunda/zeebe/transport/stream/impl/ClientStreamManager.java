@@ -18,6 +18,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +86,16 @@ final class ClientStreamManager<M extends BufferWriter> {
     requestManager.removeAll(servers);
   }
 
+  /**
+   * Returns the credits of the given aggregated stream, i.e. how many more payloads its clients are
+   * ready to accept, or 0 if there is no such stream.
+   *
+   * @param streamId id of the aggregated stream
+   */
+  int credits(final UUID streamId) {
+    return registry.get(streamId).map(AggregatedClientStream::credits).orElse(0);
+  }
+
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest,
       final ActorFuture<Void> responseFuture,
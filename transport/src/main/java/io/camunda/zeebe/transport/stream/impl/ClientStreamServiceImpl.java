@@ -61,7 +61,7 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         StreamTopics.PUSH.topic(),
         MessageUtil::parsePushRequest,
         request -> {
-          final CompletableFuture<Void> responseFuture = new CompletableFuture<>();
+          final CompletableFuture<Integer> responseFuture = new CompletableFuture<>();
           actor.run(
               () -> {
                 try {
@@ -70,7 +70,12 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
                   payloadPushed.onComplete(
                       (ok, error) -> {
                         if (error == null) {
-                          responseFuture.complete(null);
+                          // announce the remaining credits of the stream, so the server can
+                          // prefer other streams if this one is exhausted
+                          actor.run(
+                              () ->
+                                  responseFuture.complete(
+                                      clientStreamManager.credits(request.streamId())));
                         } else {
                           responseFuture.completeExceptionally(error);
                         }
@@ -81,7 +86,7 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
               });
           return responseFuture;
         },
-        ignore -> SUCCESS_RESPONSE);
+        MessageUtil::encodeCredits);
 
     communicationService.replyTo(
         StreamTopics.RESTART_STREAMS.topic(),
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.transport.stream.impl;
 
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,14 +29,24 @@ public final class RemoteStreamImpl<M extends BufferReader, P extends BufferWrit
   private final AggregatedRemoteStream<M> stream;
   private final RemoteStreamPusher<P> streamer;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final LongSupplier clock;
 
   public RemoteStreamImpl(
       final AggregatedRemoteStream<M> stream,
       final RemoteStreamPusher<P> streamer,
       final RemoteStreamErrorHandler<P> errorHandler) {
+    this(stream, streamer, errorHandler, ActorClock::currentTimeMillis);
+  }
+
+  RemoteStreamImpl(
+      final AggregatedRemoteStream<M> stream,
+      final RemoteStreamPusher<P> streamer,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final LongSupplier clock) {
     this.stream = stream;
     this.streamer = streamer;
     this.errorHandler = errorHandler;
+    this.clock = clock;
   }
 
   @Override
@@ -55,11 +67,43 @@ public final class RemoteStreamImpl<M extends BufferReader, P extends BufferWrit
     }
 
     final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    pushAsync(payload, retryHandler, initialConsumer);
+  }
+
+  private void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamConsumer<M> consumer) {
+    // a consumer which failed to accept the payload is treated as exhausted until its announcement
+    // expires, so that retries and further pushes prefer other consumers meanwhile
+    streamer.pushAsync(
+        payload,
+        (error, data) -> {
+          stream.updateCredits(consumer.id(), 0, clock.getAsLong());
+          errorHandler.handleError(error, data);
+        },
+        consumer.id(),
+        credits -> stream.updateCredits(consumer.id(), credits, clock.getAsLong()));
   }
 
   private StreamConsumer<M> pickInitialConsumer() {
     final var consumers = stream.streamConsumers();
+    final long now = clock.getAsLong();
+
+    // prefer consumers with credits left, so load follows the actual throughput of the consumers;
+    // if all are exhausted, pick any, as they may have freed up since they announced their credits
+    final var consumersWithCredits = new ArrayList<StreamConsumer<M>>(consumers.size());
+    for (final var consumer : consumers) {
+      if (stream.hasCredits(consumer, now)) {
+        consumersWithCredits.add(consumer);
+      }
+    }
+
+    if (!consumersWithCredits.isEmpty()) {
+      return consumersWithCredits.get(
+          ThreadLocalRandom.current().nextInt(consumersWithCredits.size()));
+    }
+
     var size = consumers.size();
 
     // since we can get concurrent modifications of the stream consumers list, we have to handle the
@@ -100,7 +144,20 @@ public final class RemoteStreamImpl<M extends BufferReader, P extends BufferWrit
 
       consumers.remove(initialConsumer);
       Collections.shuffle(consumers);
-      final var iterator = consumers.iterator();
+
+      // retry with the consumers which have credits left first
+      final var retryOrder = new ArrayList<StreamConsumer<M>>(consumers.size());
+      final var exhaustedConsumers = new ArrayList<StreamConsumer<M>>();
+      final long now = clock.getAsLong();
+      for (final var consumer : consumers) {
+        if (stream.hasCredits(consumer, now)) {
+          retryOrder.add(consumer);
+        } else {
+          exhaustedConsumers.add(consumer);
+        }
+      }
+      retryOrder.addAll(exhaustedConsumers);
+      final var iterator = retryOrder.iterator();
       retry(error, data, iterator);
     }
 
@@ -114,7 +171,7 @@ public final class RemoteStreamImpl<M extends BufferReader, P extends BufferWrit
 
       final var client = iterator.next();
       LOGGER.debug("Failed to push payload {}, retrying with next stream", payload);
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      pushAsync(payload, (error, data) -> retry(error, data, iterator), client);
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
@@ -16,6 +16,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,11 +41,33 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
   public void pushAsync(
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    pushAsync(payload, errorHandler, streamId, credits -> {});
+  }
+
+  /**
+   * Pushes the payload asynchronously to the given stream.
+   *
+   * @param payload the payload to push
+   * @param errorHandler called if the push fails
+   * @param streamId the stream to push to
+   * @param creditsListener called with the credits the receiver announced after a successful push
+   */
+  public void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final IntConsumer creditsListener) {
     Objects.requireNonNull(payload, "must specify a payload");
     Objects.requireNonNull(errorHandler, "must specify a error handler");
+    Objects.requireNonNull(creditsListener, "must specify a credits listener");
 
     executor.execute(
-        () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+        () ->
+            push(
+                payload,
+                instrumentingErrorHandler(errorHandler, streamId),
+                streamId,
+                creditsListener));
   }
 
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
@@ -59,12 +82,17 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   }
 
   private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final IntConsumer creditsListener) {
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
       transport
           .send(request, streamId.receiver())
-          .whenCompleteAsync((ok, error) -> onPush(payload, errorHandler, error), executor);
+          .whenCompleteAsync(
+              (credits, error) -> onPush(payload, errorHandler, creditsListener, credits, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
       errorHandler.handleError(e, payload);
@@ -72,11 +100,18 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   }
 
   private void onPush(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final Throwable error) {
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final IntConsumer creditsListener,
+      final Integer credits,
+      final Throwable error) {
     if (error != null) {
       errorHandler.handleError(error, payload);
     } else {
       metrics.pushSucceeded();
+      if (credits != null) {
+        creditsListener.accept(credits);
+      }
     }
   }
 
@@ -93,11 +128,11 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      *
      * @param request the request to send
      * @param receiver the expected target
-     * @return a future which is completed when the request has been acknowledged by the receiver,
-     *     or an error occurred
+     * @return a future which is completed with the credits announced by the receiver (or null if it
+     *     announced none) when the request has been acknowledged, or an error occurred
      * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
      */
-    CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver)
+    CompletableFuture<Integer> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
   }
 }
@@ -10,10 +10,12 @@ package io.camunda.zeebe.transport.stream.impl;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferReader;
@@ -75,16 +77,25 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    // prefer streams which have consumers with credits left; if all are exhausted, still pick one,
+    // as its consumers may have freed up since they last announced their credits
+    AggregatedRemoteStream<M> exhaustedTarget = null;
+    final long now = ActorClock.currentTimeMillis();
     for (final var target : targets) {
       if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+        if (target.hasCredits(now)) {
+          return Optional.of(target);
+        }
+
+        exhaustedTarget = exhaustedTarget == null ? target : exhaustedTarget;
       }
     }
 
-    return Optional.empty();
+    return Optional.ofNullable(exhaustedTarget);
   }
 
-  private CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver) {
+  private CompletableFuture<Integer> send(
+      final PushStreamRequest request, final MemberId receiver) {
     return transport
         .send(
             StreamTopics.PUSH.topic(),
@@ -93,6 +104,6 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
             Function.identity(),
             receiver,
             REQUEST_TIMEOUT)
-        .thenApply(ok -> null);
+        .thenApply(MessageUtil::parseCredits);
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.transport.stream.impl.messages;
 
 import io.camunda.zeebe.util.buffer.BufferReader;
+import java.nio.ByteOrder;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class MessageUtil {
@@ -28,6 +29,30 @@ public final class MessageUtil {
     return parseRequest(bytes, new AddStreamRequest());
   }
 
+  /**
+   * Encodes the credits a client announces to the server in the response to a push request, i.e.
+   * how many more payloads the stream is ready to accept.
+   */
+  public static byte[] encodeCredits(final int credits) {
+    final var bytes = new byte[Integer.BYTES];
+    new UnsafeBuffer(bytes).putInt(0, credits, ByteOrder.LITTLE_ENDIAN);
+    return bytes;
+  }
+
+  /**
+   * Decodes the credits announced in the response to a push request.
+   *
+   * @return the announced credits, or {@code null} if the response contains none, e.g. because the
+   *     client doesn't support credits
+   */
+  public static Integer parseCredits(final byte[] bytes) {
+    if (bytes == null || bytes.length < Integer.BYTES) {
+      return null;
+    }
+
+    return new UnsafeBuffer(bytes).getInt(0, ByteOrder.LITTLE_ENDIAN);
+  }
+
   private static <R extends BufferReader> R parseRequest(final byte[] bytes, final R request) {
     final var buffer = new UnsafeBuffer(bytes);
     request.wrap(buffer, 0, buffer.capacity());
@@ -8,11 +8,13 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -21,6 +23,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +83,50 @@ class AggregatedClientStreamTest {
     assertThat(pushSucceeded.get()).isTrue();
   }
 
+  @Test
+  void shouldPushToClientWithMostCredits() {
+    // given
+    final List<ClientStreamId> executedClients = new ArrayList<>();
+    addClientWithCredits(1, executedClients::add);
+    final var expected = addClientWithCredits(5, executedClients::add);
+    addClientWithCredits(2, executedClients::add);
+
+    // when
+    final TestActorFuture<Void> future = new TestActorFuture<>();
+    stream.push(null, future, executor);
+
+    // then
+    assertThat(future).succeedsWithin(Duration.ofMillis(100));
+    assertThat(executedClients).containsExactly(expected);
+  }
+
+  @Test
+  void shouldNotPushToClientsWithoutCredits() {
+    // given
+    final List<ClientStreamId> executedClients = new ArrayList<>();
+    addClientWithCredits(0, executedClients::add);
+    addClientWithCredits(0, executedClients::add);
+
+    // when - then
+    assertThatThrownBy(() -> stream.push(null, new TestActorFuture<>(), executor))
+        .isInstanceOf(StreamExhaustedException.class);
+    assertThat(executedClients).isEmpty();
+  }
+
+  @Test
+  void shouldSumCreditsOfAllClients() {
+    // given
+    addClientWithCredits(1, s -> {});
+    addClientWithCredits(0, s -> {});
+    addClientWithCredits(5, s -> {});
+
+    // when
+    final var credits = stream.credits();
+
+    // then
+    assertThat(credits).isEqualTo(6);
+  }
+
   @Test
   void shouldReportStreamCountOnAdd() {
     // given
@@ -121,6 +168,26 @@ class AggregatedClientStreamTest {
     return streamId;
   }
 
+  private ClientStreamId addClientWithCredits(
+      final int credits, final Consumer<ClientStreamId> consumer) {
+    final ClientStreamIdImpl streamId = getNextStreamId();
+    addClient(
+        streamId,
+        new ClientStreamConsumer() {
+          @Override
+          public CompletableFuture<Void> push(final DirectBuffer payload) {
+            consumer.accept(streamId);
+            return CompletableFuture.completedFuture(null);
+          }
+
+          @Override
+          public int credits() {
+            return credits;
+          }
+        });
+    return streamId;
+  }
+
   private void addClient(final ClientStreamIdImpl streamId, final ClientStreamConsumer consumer) {
     stream.addClient(new ClientStreamImpl<>(streamId, stream, streamType, metadata, consumer));
   }
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import org.agrona.collections.MutableLong;
 import org.agrona.collections.MutableReference;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,8 +41,10 @@ class RemoteStreamImplTest {
   private final RemoteStreamPusher<TestSerializableData> pusher =
       new RemoteStreamPusher<>(transport, executor, RemoteStreamMetrics.noop());
   private RemoteStreamErrorHandler<TestSerializableData> errorHandler = (e, d) -> {};
+  private final MutableLong clock = new MutableLong();
   private final RemoteStreamImpl<TestSerializableData, TestSerializableData> remoteStream =
-      new RemoteStreamImpl<>(aggregatedStream, pusher, (e, d) -> errorHandler.handleError(e, d));
+      new RemoteStreamImpl<>(
+          aggregatedStream, pusher, (e, d) -> errorHandler.handleError(e, d), clock::get);
 
   @BeforeEach
   void setup() {
@@ -82,6 +85,117 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).hasSize(2);
   }
 
+  @Test
+  void shouldPushToConsumerWithCredits() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    aggregatedStream.updateCredits(consumers.get(0).id(), 0, clock.get());
+    aggregatedStream.updateCredits(consumers.get(1).id(), 0, clock.get());
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(consumers.get(2).id().streamId());
+  }
+
+  @Test
+  void shouldRetryWithConsumersWithCreditsFirst() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    aggregatedStream.updateCredits(consumers.get(0).id(), 0, clock.get());
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams)
+        .hasSize(3)
+        .last()
+        .isEqualTo(consumers.get(0).id().streamId());
+  }
+
+  @Test
+  void shouldPushToExhaustedConsumerIfNoneHasCredits() {
+    // given
+    aggregatedStream
+        .streamConsumers()
+        .forEach(c -> aggregatedStream.updateCredits(c.id(), 0, clock.get()));
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).hasSize(1);
+  }
+
+  @Test
+  void shouldUpdateCreditsAnnouncedOnPush() {
+    // given
+    transport.succeedAfterAttempts(0);
+    transport.announcedCredits = 0;
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(aggregatedStream.streamConsumers())
+        .filteredOn(c -> c.id().streamId().equals(transport.attemptedStreams.get(0)))
+        .allMatch(c -> !aggregatedStream.hasCredits(c, clock.get()));
+    assertThat(aggregatedStream.hasCredits(clock.get())).isTrue();
+  }
+
+  @Test
+  void shouldTreatConsumerAsExhaustedIfPushFails() {
+    // given
+    transport.succeedAfterAttempts(1);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    final var failedStream = transport.attemptedStreams.get(0);
+    assertThat(aggregatedStream.streamConsumers())
+        .filteredOn(c -> c.id().streamId().equals(failedStream))
+        .allMatch(c -> !aggregatedStream.hasCredits(c, clock.get()));
+  }
+
+  @Test
+  void shouldPushToExhaustedConsumerAgainOnceItsCreditsExpired() {
+    // given - the first consumer was exhausted a while ago, the others just now
+    final var consumers = aggregatedStream.streamConsumers();
+    aggregatedStream.updateCredits(consumers.get(0).id(), 0, clock.get());
+    clock.set(AggregatedRemoteStream.CREDITS_TTL.toMillis());
+    aggregatedStream.updateCredits(consumers.get(1).id(), 0, clock.get());
+    aggregatedStream.updateCredits(consumers.get(2).id(), 0, clock.get());
+    transport.succeedAfterAttempts(0);
+    transport.announcedCredits = 5;
+
+    // when
+    remoteStream.push(payload);
+
+    // then - it is probed again and recovers with the credits it announced
+    assertThat(transport.attemptedStreams).containsExactly(consumers.get(0).id().streamId());
+    assertThat(aggregatedStream.hasCredits(consumers.get(0), clock.get())).isTrue();
+    assertThat(aggregatedStream.hasCredits(consumers.get(1), clock.get())).isFalse();
+  }
+
+  @Test
+  void shouldKeepExhaustedConsumerUntilItsCreditsExpired() {
+    // given
+    final var consumer = aggregatedStream.streamConsumers().get(0);
+    aggregatedStream.updateCredits(consumer.id(), 0, clock.get());
+
+    // when
+    final var expiresAt = clock.get() + AggregatedRemoteStream.CREDITS_TTL.toMillis();
+
+    // then
+    assertThat(aggregatedStream.hasCredits(consumer, expiresAt - 1)).isFalse();
+    assertThat(aggregatedStream.hasCredits(consumer, expiresAt)).isTrue();
+  }
+
   @Test
   void shouldFailIfNoConsumersOnPush() {
     // given
@@ -102,6 +216,7 @@ class RemoteStreamImplTest {
     private final List<UUID> attemptedStreams = new ArrayList<>();
 
     private int succeedAfterAttempt = Integer.MAX_VALUE;
+    private Integer announcedCredits;
     private int attempt = 0;
 
     void succeedAfterAttempts(final int attempt) {
@@ -109,14 +224,14 @@ class RemoteStreamImplTest {
     }
 
     @Override
-    public CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver)
+    public CompletableFuture<Integer> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception {
       attemptedStreams.add(request.streamId());
       attempt++;
       if (attempt <= succeedAfterAttempt) {
         return CompletableFuture.failedFuture(new RuntimeException("force fail"));
       }
-      return CompletableFuture.completedFuture(null);
+      return CompletableFuture.completedFuture(announcedCredits);
     }
   }
 }
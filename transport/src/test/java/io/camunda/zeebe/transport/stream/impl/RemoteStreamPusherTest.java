@@ -88,6 +88,33 @@ final class RemoteStreamPusherTest {
         .containsExactly(payload, failure);
   }
 
+  @Test
+  void shouldNotifyAnnouncedCredits() {
+    // given
+    final var payload = new Payload(1);
+    final var announcedCredits = new ArrayList<Integer>();
+    transport.response = CompletableFuture.completedFuture(5);
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId, announcedCredits::add);
+
+    // then
+    assertThat(announcedCredits).containsExactly(5);
+  }
+
+  @Test
+  void shouldNotNotifyCreditsIfNoneAnnounced() {
+    // given
+    final var payload = new Payload(1);
+    final var announcedCredits = new ArrayList<Integer>();
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId, announcedCredits::add);
+
+    // then
+    assertThat(announcedCredits).isEmpty();
+  }
+
   @Test
   void shouldFailOnNullPayload() {
     // given
@@ -136,12 +163,12 @@ final class RemoteStreamPusherTest {
   }
 
   private static final class TestTransport implements Transport {
-    private CompletableFuture<Void> response = CompletableFuture.completedFuture(null);
+    private CompletableFuture<Integer> response = CompletableFuture.completedFuture(null);
     private Message message;
     private Exception synchronousException;
 
     @Override
-    public CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver)
+    public CompletableFuture<Integer> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception {
       if (synchronousException != null) {
         throw synchronousException;
@@ -38,4 +38,34 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction. A later call of {@link #rollbackToSavePoint()}
+   * discards only the changes which have been made after this save point, while changes made before
+   * it are kept. All save points are released when the transaction is committed or rolled back.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest save point, discards all changes made since then and
+   * removes the save point.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown, or if
+   *     no save point was set
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavePoint() throws Exception;
+
+  /**
+   * Removes the latest save point without rolling back any changes. The changes made since then
+   * belong to the previous save point, or to the transaction if there is none.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown, or if
+   *     no save point was set
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void releaseSavePoint() throws Exception;
 }